@@ -0,0 +1,178 @@
+package shop.kokodo.orderservice.admission;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import shop.kokodo.orderservice.message.ExceptionMessage;
+import shop.kokodo.orderservice.service.utils.LruCache;
+
+/**
+ * 주문 API 입장 제어
+ * API(name)마다 토큰 버킷(초당 요청 수) + 동시 처리 수 제한을 두고, 넘는 요청은 대기실 순번과 함께 바로 429 로 돌려보낸다.
+ * Tomcat 스레드/DB 커넥션을 잡고 기다리지 않으므로 포화 상태에서도 처리량이 유지된다.
+ * 인기 상품은 상품별 토큰 버킷으로 따로 제한한다. (대기실 없이 429)
+ * 설정 (name 별, 없으면 기본값)
+ * - order.admission.{name}.rate-per-second / burst / max-concurrent
+ * - order.admission.product.rate-per-second (0 이면 상품별 제한 없음) / burst
+ * - order.admission.waiting-room.token-ttl-seconds
+ * - 건수: order.admission (name, outcome 태그)
+ */
+@Component
+@Slf4j
+public class AdmissionController {
+
+    // 429 응답으로 받은 대기실 토큰을 재요청 시 그대로 보내는 헤더
+    public static final String WAITING_ROOM_TOKEN_HEADER = "Waiting-Room-Token";
+
+    private static final String METRIC = "order.admission";
+    private static final int PRODUCT_BUCKETS = 10_000;
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final double productRatePerSecond;
+    private final int productBurst;
+    private final long tokenTtlSeconds;
+
+    private final Map<String, Gate> gates = new ConcurrentHashMap<>();
+    private final LruCache<Long, TokenBucket> productBuckets;
+
+    @Autowired
+    public AdmissionController(Environment environment,
+        ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${order.admission.product.rate-per-second:0}") double productRatePerSecond,
+        @Value("${order.admission.product.burst:20}") int productBurst,
+        @Value("${order.admission.waiting-room.token-ttl-seconds:30}") long tokenTtlSeconds) {
+        this(environment, meterRegistry.getIfAvailable(SimpleMeterRegistry::new), System::nanoTime,
+            productRatePerSecond, productBurst, tokenTtlSeconds);
+    }
+
+    AdmissionController(Environment environment, MeterRegistry meterRegistry, LongSupplier nanoClock,
+        double productRatePerSecond, int productBurst, long tokenTtlSeconds) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+        this.productRatePerSecond = productRatePerSecond;
+        this.productBurst = productBurst;
+        this.tokenTtlSeconds = tokenTtlSeconds;
+        // 한동안 요청이 없던 상품의 버킷은 가득 찬 상태와 같으므로 버려도 된다.
+        this.productBuckets = new LruCache<>(PRODUCT_BUCKETS, Duration.ofMinutes(10));
+    }
+
+    /**
+     * @param productId 상품별 제한 대상 (없으면 null)
+     * @param waitingRoomToken 이전 429 응답으로 받은 대기실 토큰 (없으면 null)
+     * @return 처리가 끝나면 반드시 닫아야 하는 입장권
+     * @throws AdmissionRejectedException 용량 초과
+     */
+    public Permit admit(String name, Long productId, String waitingRoomToken) {
+        Gate gate = gates.computeIfAbsent(name, this::newGate);
+
+        if (productId != null && productRatePerSecond > 0) {
+            TokenBucket productBucket = productBucket(productId);
+            if (!productBucket.tryAcquire()) {
+                count(name, "rejected_product");
+                throw new AdmissionRejectedException(ExceptionMessage.PRODUCT_ADMISSION_REJECTED,
+                    Math.max(1, productBucket.secondsUntilAvailable()), null);
+            }
+        }
+
+        // 이미 입장한 토큰은 positionOf 가 null 을 돌려주므로 새 요청으로 취급한다.
+        Long position = gate.waitingRoom.positionOf(waitingRoomToken);
+        if (position != null) {
+            // 대기실에서 차례가 된 요청은 대기실이 이미 속도를 맞췄으므로 동시 처리 수만 확인한다.
+            if (gate.waitingRoom.isReleased(position) && gate.concurrency.tryAcquire()) {
+                // 같은 토큰으로 동시에 들어온 요청은 하나만 입장
+                if (gate.waitingRoom.admit(position)) {
+                    count(name, "admitted_from_queue");
+                    return new Permit(gate.concurrency);
+                }
+                gate.concurrency.release();
+                return admitNew(name, gate);
+            }
+            count(name, "queued");
+            throw new AdmissionRejectedException(ExceptionMessage.ADMISSION_REJECTED,
+                gate.waitingRoom.secondsUntilReleased(position), waitingRoomToken);
+        }
+        return admitNew(name, gate);
+    }
+
+    private Permit admitNew(String name, Gate gate) {
+        if (gate.waitingRoom.isEmpty() && gate.rate.tryAcquire()) {
+            if (gate.concurrency.tryAcquire()) {
+                count(name, "admitted");
+                return new Permit(gate.concurrency);
+            }
+        }
+
+        long joined = gate.waitingRoom.join();
+        count(name, "queued");
+        throw new AdmissionRejectedException(ExceptionMessage.ADMISSION_REJECTED,
+            gate.waitingRoom.secondsUntilReleased(joined), gate.waitingRoom.tokenOf(joined));
+    }
+
+    private TokenBucket productBucket(Long productId) {
+        synchronized (productBuckets) {
+            TokenBucket bucket = productBuckets.get(productId);
+            if (bucket == null) {
+                bucket = new TokenBucket(productRatePerSecond, productBurst, nanoClock);
+                productBuckets.put(productId, bucket);
+            }
+            return bucket;
+        }
+    }
+
+    private Gate newGate(String name) {
+        String prefix = "order.admission." + name + ".";
+        double ratePerSecond = environment.getProperty(prefix + "rate-per-second", Double.class, 50.0);
+        int burst = environment.getProperty(prefix + "burst", Integer.class, 100);
+        int maxConcurrent = environment.getProperty(prefix + "max-concurrent", Integer.class, 50);
+        log.info("[AdmissionController] 입장 제어: name={}, rate={}/s, burst={}, max-concurrent={}",
+            name, ratePerSecond, burst, maxConcurrent);
+        return new Gate(new TokenBucket(ratePerSecond, burst, nanoClock), new Semaphore(maxConcurrent),
+            new WaitingRoom(ratePerSecond, tokenTtlSeconds, nanoClock));
+    }
+
+    private void count(String name, String outcome) {
+        meterRegistry.counter(METRIC, "name", name, "outcome", outcome).increment();
+    }
+
+    private static class Gate {
+        private final TokenBucket rate;
+        private final Semaphore concurrency;
+        private final WaitingRoom waitingRoom;
+
+        private Gate(TokenBucket rate, Semaphore concurrency, WaitingRoom waitingRoom) {
+            this.rate = rate;
+            this.concurrency = concurrency;
+            this.waitingRoom = waitingRoom;
+        }
+    }
+
+    public static class Permit implements AutoCloseable {
+        private final Semaphore concurrency;
+        private boolean released;
+
+        private Permit(Semaphore concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                concurrency.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package shop.kokodo.orderservice.admission;
+
+/**
+ * 용량 초과로 입장 거절 (429)
+ * retryAfterSeconds 뒤에 다시 요청하고, 대기실 토큰이 있으면 함께 보내야 순번이 유지된다.
+ */
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+    private final String waitingRoomToken;
+
+    public AdmissionRejectedException(String message, long retryAfterSeconds, String waitingRoomToken) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.waitingRoomToken = waitingRoomToken;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public String getWaitingRoomToken() {
+        return waitingRoomToken;
+    }
+}
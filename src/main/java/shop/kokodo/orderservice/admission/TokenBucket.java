@@ -0,0 +1,51 @@
+package shop.kokodo.orderservice.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷
+ * 초당 ratePerSecond 개씩 최대 burst 개까지 토큰이 찬다. 토큰이 없으면 기다리지 않고 바로 실패한다.
+ */
+public class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double burst;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(double ratePerSecond, int burst, LongSupplier nanoClock) {
+        this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /* 다음 토큰이 찰 때까지 남은 시간 (초, 올림) */
+    public synchronized long secondsUntilAvailable() {
+        refill();
+        if (tokens >= 1) {
+            return 0;
+        }
+        double nanos = (1 - tokens) / tokensPerNano;
+        return (long) Math.ceil(nanos / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(burst, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+}
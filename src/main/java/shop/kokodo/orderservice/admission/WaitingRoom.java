@@ -0,0 +1,132 @@
+package shop.kokodo.orderservice.admission;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 대기실 (FIFO)
+ * 용량을 넘은 요청에 순번을 발급하고, 초당 ratePerSecond 개씩 앞 순번부터 입장시킨다.
+ * 대기자가 있는 동안 새 요청은 줄 맨 뒤에 선다. (먼저 온 요청이 먼저 들어간다)
+ * 순번 토큰은 순번 + HMAC 서명이라 위조할 수 없고, 입장 차례가 지난 뒤 token-ttl 이 지나면 무효이다.
+ * 순번은 한 번만 입장할 수 있다. 입장한 순번은 token-ttl 동안만 기억하면 되므로 (그 뒤에는 만료) 최대 rate * ttl 개이다.
+ * 서명 키는 인스턴스마다 달라서 다른 인스턴스에서 받은 토큰은 새 요청으로 취급한다.
+ */
+public class WaitingRoom {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final double positionsPerNano;
+    private final double expireAfterPositions;
+    private final LongSupplier nanoClock;
+    private final SecretKeySpec signingKey;
+
+    private long issued;   // 마지막으로 발급한 순번
+    private double served; // 입장 차례가 된 순번
+    private long lastAdvance;
+    private final TreeSet<Long> admitted = new TreeSet<>(); // 만료 전에 이미 입장한 순번
+
+    public WaitingRoom(double ratePerSecond, long tokenTtlSeconds, LongSupplier nanoClock) {
+        this.positionsPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.expireAfterPositions = ratePerSecond * tokenTtlSeconds;
+        this.nanoClock = nanoClock;
+        this.lastAdvance = nanoClock.getAsLong();
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.signingKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    public synchronized boolean isEmpty() {
+        advance();
+        return served >= issued;
+    }
+
+    /* 줄 맨 뒤에 서서 순번 발급 */
+    public synchronized long join() {
+        advance();
+        return ++issued;
+    }
+
+    public synchronized boolean isReleased(long position) {
+        advance();
+        return position <= served;
+    }
+
+    /* 입장 차례까지 남은 시간 (초, 최소 1) */
+    public synchronized long secondsUntilReleased(long position) {
+        advance();
+        double nanos = (position - served) / positionsPerNano;
+        return Math.max(1, (long) Math.ceil(nanos / TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    /**
+     * 차례가 된 순번으로 입장 (순번마다 한 번)
+     * @return 처음 입장하면 true, 이미 입장한 순번이면 false
+     */
+    public synchronized boolean admit(long position) {
+        advance();
+        return admitted.add(position);
+    }
+
+    public String tokenOf(long position) {
+        return position + "." + sign(position);
+    }
+
+    /**
+     * @return 유효한 토큰의 순번 (없거나 위조/만료/이미 입장한 토큰이면 null)
+     */
+    public Long positionOf(String token) {
+        if (token == null) {
+            return null;
+        }
+        int separator = token.indexOf('.');
+        if (separator <= 0) {
+            return null;
+        }
+        long position;
+        try {
+            position = Long.parseLong(token.substring(0, separator));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        byte[] expected = sign(position).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(separator + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return null;
+        }
+        synchronized (this) {
+            advance();
+            if (position > issued || served - position > expireAfterPositions || admitted.contains(position)) {
+                return null;
+            }
+        }
+        return position;
+    }
+
+    private void advance() {
+        long now = nanoClock.getAsLong();
+        served = Math.min(issued, served + (now - lastAdvance) * positionsPerNano);
+        lastAdvance = now;
+        // 만료된 순번은 positionOf 에서 걸러지므로 입장 기록도 필요 없다.
+        admitted.headSet((long) Math.ceil(served - expireAfterPositions)).clear();
+    }
+
+    private String sign(long position) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            byte[] signature = mac.doFinal(ByteBuffer.allocate(Long.BYTES).putLong(position).array());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
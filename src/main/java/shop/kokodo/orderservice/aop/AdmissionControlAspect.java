@@ -0,0 +1,56 @@
+package shop.kokodo.orderservice.aop;
+
+import java.util.Arrays;
+import javax.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import shop.kokodo.orderservice.admission.AdmissionController;
+import shop.kokodo.orderservice.admission.AdmissionController.Permit;
+import shop.kokodo.orderservice.dto.request.SingleProductOrderDto;
+
+/**
+ * 입장 제어 (order.admission.enabled=true 일 때만 적용)
+ * 다른 검사(회원 정보 확인 등)의 외부 호출보다 먼저 거절하도록 가장 바깥에서 실행한다.
+ */
+@Aspect
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "order.admission.enabled", havingValue = "true")
+public class AdmissionControlAspect {
+
+    private final AdmissionController admissionController;
+
+    public AdmissionControlAspect(AdmissionController admissionController) {
+        this.admissionController = admissionController;
+    }
+
+    @Around(value = "@annotation(admissionControlled)")
+    public Object admissionControl(ProceedingJoinPoint joinPoint, AdmissionControlled admissionControlled) throws Throwable {
+        ServletRequestAttributes requestAttributes =
+            (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        HttpServletRequest request = requestAttributes.getRequest();
+
+        Long productId = admissionControlled.perProduct() ? productIdOf(joinPoint.getArgs()) : null;
+        try (Permit permit = admissionController.admit(admissionControlled.value(), productId,
+            request.getHeader(AdmissionController.WAITING_ROOM_TOKEN_HEADER))) {
+            return joinPoint.proceed();
+        }
+    }
+
+    private Long productIdOf(Object[] args) {
+        return Arrays.stream(args)
+            .filter(SingleProductOrderDto.class::isInstance)
+            .map(arg -> ((SingleProductOrderDto) arg).getProductId())
+            .findFirst()
+            .orElse(null);
+    }
+}
@@ -0,0 +1,22 @@
+package shop.kokodo.orderservice.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 입장 제어 대상 API
+ * value: 제한을 공유하는 이름 (order.admission.{value}.* 설정)
+ * perProduct: 요청 본문의 상품 아이디별로도 제한
+ */
+@Inherited
+@Retention(value = RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface AdmissionControlled {
+
+    String value();
+
+    boolean perProduct() default false;
+}
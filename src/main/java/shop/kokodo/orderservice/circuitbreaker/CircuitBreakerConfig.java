@@ -27,6 +27,8 @@ public class CircuitBreakerConfig {
     io.github.resilience4j.circuitbreaker.CircuitBreakerConfig circuitBreakerConfig = io.github.resilience4j.circuitbreaker.CircuitBreakerConfig.custom()
             .failureRateThreshold(4)
             .waitDurationInOpenState(Duration.ofMillis(1000))
+            // 요청이 없어도 대기 후 HALF_OPEN 으로 전환 (상품 last-known-good 재검증 시점)
+            .automaticTransitionFromOpenToHalfOpenEnabled(true)
             .slidingWindowType(io.github.resilience4j.circuitbreaker.CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
             .slidingWindowSize(2)
             .build();
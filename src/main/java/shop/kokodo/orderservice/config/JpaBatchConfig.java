@@ -0,0 +1,40 @@
+package shop.kokodo.orderservice.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import shop.kokodo.orderservice.entity.id.SnowflakeIdGenerator;
+import shop.kokodo.orderservice.entity.id.SnowflakeIdentifierGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 주문/주문상품 INSERT 를 JDBC 배치로 묶기 위한 Hibernate 설정
+ * spring.jpa.properties 로 직접 지정한 값이 있으면 그 값을 우선한다.
+ * 엔티티 아이디는 {@link SnowflakeIdentifierGenerator} 가 발급하며, 노드 아이디(order.id.node-id)는 인스턴스마다 달라야 한다.
+ * 노드 아이디는 5비트(0~31)라 동시에 띄울 수 있는 인스턴스는 최대 32개이고, 기본값이 없어서 지정하지 않으면 기동하지 않는다.
+ * MySQL 은 JDBC URL 에 rewriteBatchedStatements=true 를 주어야 multi-row INSERT 로 전송된다.
+ * IN (...) 파라미터 개수는 2의 거듭제곱으로 채워서 리스트 길이마다 실행 계획이 새로 생기지 않도록 한다.
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(
+        @Value("${order.jpa.batch-size:100}") int batchSize,
+        @Value("${order.id.node-id:#{null}}") Integer nodeId) {
+        // 모든 인스턴스가 같은 기본 노드 아이디로 뜨면 같은 기본키를 발급하므로 기본값을 두지 않는다.
+        if (nodeId == null) {
+            throw new IllegalStateException("order.id.node-id 가 설정되지 않음 (인스턴스마다 0~"
+                + SnowflakeIdGenerator.MAX_NODE_ID + " 사이의 서로 다른 값 필요)");
+        }
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(batchSize));
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, "true");
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, "true");
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, "true");
+            properties.putIfAbsent(AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, "true");
+            properties.putIfAbsent(SnowflakeIdentifierGenerator.NODE_ID_SETTING, String.valueOf(nodeId));
+        };
+    }
+}
@@ -2,11 +2,23 @@ package shop.kokodo.orderservice.config;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import shop.kokodo.orderservice.datasource.MemberShardInterceptor;
+import shop.kokodo.orderservice.datasource.ReadYourWritesInterceptor;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final MemberShardInterceptor memberShardInterceptor;
+    private final ReadYourWritesInterceptor readYourWritesInterceptor;
+
+    public WebConfig(MemberShardInterceptor memberShardInterceptor,
+        ReadYourWritesInterceptor readYourWritesInterceptor) {
+        this.memberShardInterceptor = memberShardInterceptor;
+        this.readYourWritesInterceptor = readYourWritesInterceptor;
+    }
+
     // TODO: 테스트용 CORS 설정, 배포시 변경 필요
     @Override
     public void addCorsMappings(CorsRegistry registry) {
@@ -16,5 +28,11 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*");
 //                .allowCredentials(true);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(memberShardInterceptor);
+        registry.addInterceptor(readYourWritesInterceptor);
+    }
 }
 
@@ -6,15 +6,20 @@ import javax.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
+import shop.kokodo.orderservice.aop.AdmissionControlled;
 import shop.kokodo.orderservice.aop.MemberInfoCheck;
 import shop.kokodo.orderservice.dto.request.CartOrderDto;
 import shop.kokodo.orderservice.dto.request.SingleProductOrderDto;
 import shop.kokodo.orderservice.controller.response.Response;
 import shop.kokodo.orderservice.dto.response.OrderDetailInformationDto;
 import shop.kokodo.orderservice.dto.response.OrderInformationDto;
+import shop.kokodo.orderservice.dto.response.OrderQuoteDto;
+import shop.kokodo.orderservice.dto.response.OrderStatusHistoryDto;
 import shop.kokodo.orderservice.dto.response.PagingOrderInformationDto;
+import shop.kokodo.orderservice.dto.response.ProductSalesDto;
 import shop.kokodo.orderservice.entity.Order;
 import shop.kokodo.orderservice.message.MessageFormat;
+import shop.kokodo.orderservice.service.interfaces.IdempotencyService;
 import shop.kokodo.orderservice.service.interfaces.OrderService;
 
 @Slf4j
@@ -22,29 +27,48 @@ import shop.kokodo.orderservice.service.interfaces.OrderService;
 @RequestMapping("/orders")
 public class OrderController {
 
+    // 클라이언트 재시도 시 중복 주문 방지를 위한 헤더
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
 
     @Autowired
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService,
+        IdempotencyService idempotencyService) {
         this.orderService = orderService;
+        this.idempotencyService = idempotencyService;
     }
 
     /* 단일 상품 주문 API */
+    @AdmissionControlled(value = "order-single-product", perProduct = true)
     @MemberInfoCheck
     @PostMapping("/singleProduct")
-    public Response orderSingleProduct(@Valid @RequestBody SingleProductOrderDto req) {
-        Order order = orderService.orderSingleProduct(req);
+    public Response orderSingleProduct(@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                       @Valid @RequestBody SingleProductOrderDto req) {
+        Order order = idempotencyService.execute(idempotencyKey, req.getMemberId(),
+            () -> orderService.orderSingleProduct(req));
         return Response.success(MessageFormat.CREATE_ORDER_SUCCESS);
     }
 
     /* 장바구니 주문 API */
+    @AdmissionControlled("order-cart")
     @MemberInfoCheck
     @PostMapping("/cart")
-    public Response orderCartProduct(@Valid @RequestBody CartOrderDto req) {
-        Order order = orderService.orderCartProducts(req);
+    public Response orderCartProduct(@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                     @Valid @RequestBody CartOrderDto req) {
+        Order order = idempotencyService.execute(idempotencyKey, req.getMemberId(),
+            () -> orderService.orderCartProducts(req));
         return Response.success(MessageFormat.CREATE_ORDER_SUCCESS);
     }
 
+    /* 장바구니 주문 견적 API */
+    @PostMapping("/cart/quote")
+    public Response quoteCartProduct(@Valid @RequestBody CartOrderDto req) {
+        OrderQuoteDto quote = orderService.quoteCartProducts(req);
+        return Response.success(quote);
+    }
+
     /**
      * nativeQuery 사용한 주문 내역 조회
      * @param memberId
@@ -79,6 +103,18 @@ public class OrderController {
         return orderDetailInformationDtoList;
     }
 
+    /**
+     * 주문 상태 변경 이력 조회 API
+     * @param memberId
+     * @param orderId
+     * @return 주문 상태 변경 이력 (오래된 순)
+     */
+    @GetMapping("/{orderId}/status-history")
+    public Response orderStatusHistory(@RequestHeader Long memberId, @PathVariable("orderId") Long orderId) {
+        List<OrderStatusHistoryDto> orderStatusHistory = orderService.getOrderStatusHistory(memberId, orderId);
+        return Response.success(orderStatusHistory);
+    }
+
     /**
      * productId로 가격과 갯수를 조회하는 API
      * @param productIdList
@@ -89,6 +125,16 @@ public class OrderController {
         return orderService.getProductAllPrice(productIdList);
     }
 
+    /**
+     * productId별 금주 판매 수량, 판매 금액, 주문 건수를 조회하는 API
+     * @param productIdList
+     * @return 상품별 판매 집계 리스트
+     */
+    @GetMapping("/feign/product/sales")
+    public List<ProductSalesDto> findWeeklyProductSales(@RequestParam List<Long> productIdList) {
+        return orderService.getWeeklyProductSales(productIdList);
+    }
+
     /**
      * 사용자가 상품을 주문한 적이 있는지 확인하는 API
      * @param memberId
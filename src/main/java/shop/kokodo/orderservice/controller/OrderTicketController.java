@@ -0,0 +1,62 @@
+package shop.kokodo.orderservice.controller;
+
+import javax.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import shop.kokodo.orderservice.aop.MemberInfoCheck;
+import shop.kokodo.orderservice.controller.response.Response;
+import shop.kokodo.orderservice.dto.request.CartOrderDto;
+import shop.kokodo.orderservice.dto.request.SingleProductOrderDto;
+import shop.kokodo.orderservice.dto.response.OrderTicketDto;
+import shop.kokodo.orderservice.service.interfaces.OrderTicketService;
+
+/**
+ * 비동기 주문 API
+ * 주문을 접수만 하고 202 와 티켓을 반환한다. 결과는 티켓 조회 API 로 확인한다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/orders/async")
+@ConditionalOnProperty(name = "order.async-checkout.enabled", havingValue = "true")
+public class OrderTicketController {
+
+    private final OrderTicketService orderTicketService;
+
+    @Autowired
+    public OrderTicketController(OrderTicketService orderTicketService) {
+        this.orderTicketService = orderTicketService;
+    }
+
+    /* 단일 상품 주문 접수 API */
+    @MemberInfoCheck
+    @PostMapping("/singleProduct")
+    public ResponseEntity<Response> orderSingleProduct(@RequestHeader(value = OrderController.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                       @Valid @RequestBody SingleProductOrderDto req) {
+        OrderTicketDto ticket = orderTicketService.enqueueSingleProduct(idempotencyKey, req);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Response.success(ticket));
+    }
+
+    /* 장바구니 주문 접수 API */
+    @MemberInfoCheck
+    @PostMapping("/cart")
+    public ResponseEntity<Response> orderCartProduct(@RequestHeader(value = OrderController.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                     @Valid @RequestBody CartOrderDto req) {
+        OrderTicketDto ticket = orderTicketService.enqueueCartProducts(idempotencyKey, req);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Response.success(ticket));
+    }
+
+    /**
+     * 주문 접수 결과 조회 API
+     * @param memberId
+     * @param ticketId
+     * @return 접수 상태 (SUCCESS 이면 주문 아이디, FAILED 이면 실패 사유)
+     */
+    @GetMapping("/tickets/{ticketId}")
+    public Response orderTicket(@RequestHeader Long memberId, @PathVariable("ticketId") Long ticketId) {
+        return Response.success(orderTicketService.getTicket(memberId, ticketId));
+    }
+}
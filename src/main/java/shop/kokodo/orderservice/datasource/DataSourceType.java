@@ -0,0 +1,6 @@
+package shop.kokodo.orderservice.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
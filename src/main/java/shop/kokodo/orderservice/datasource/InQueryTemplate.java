@@ -0,0 +1,120 @@
+package shop.kokodo.orderservice.datasource;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 큰 IN (...) 조회를 고정 크기 묶음으로 나눠서 실행하고 결과를 이어 붙인다.
+ * 중복 아이디는 제거하고, 묶음 크기는 2의 거듭제곱으로 맞춘다.
+ * (마지막 묶음은 Hibernate in_clause_parameter_padding 이 2의 거듭제곱 개수로 채워서 실행 계획이 재사용된다)
+ * 트랜잭션 밖에서는 묶음을 제한된 스레드풀에서 병렬로 실행한다. (샤드 지정, 프라이머리 고정은 그대로 전달)
+ * 트랜잭션 안에서는 같은 영속성 컨텍스트를 써야 하므로 순서대로 실행한다.
+ * 묶음마다 결과를 합치기만 하므로 GROUP BY 집계는 호출하는 쪽에서 다시 합쳐야 한다.
+ */
+@Slf4j
+@Component
+public class InQueryTemplate implements DisposableBean {
+
+    private final int chunkSize;
+    private final ExecutorService executor;
+
+    @Autowired
+    public InQueryTemplate(
+        @Value("${order.in-query.chunk-size:512}") int chunkSize,
+        @Value("${order.in-query.parallelism:4}") int parallelism) {
+        this.chunkSize = Integer.highestOneBit(Math.max(1, chunkSize));
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "in-query");
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @param ids IN 조건 값 (null 이나 빈 리스트면 조회하지 않는다)
+     * @param query 묶음 하나를 조회하는 쿼리
+     * @return 묶음 순서대로 이어 붙인 결과
+     */
+    public <T, R> List<R> query(List<T> ids, Function<List<T>, List<R>> query) {
+        if (ids == null || ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<List<T>> chunks = partition(ids, chunkSize);
+        if (chunks.size() == 1) {
+            return new ArrayList<>(query.apply(chunks.get(0)));
+        }
+
+        List<R> result = new ArrayList<>();
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            chunks.forEach(chunk -> result.addAll(query.apply(chunk)));
+            return result;
+        }
+
+        Integer shard = ShardContext.current();
+        boolean primaryForced = ReplicationRoutingDataSource.isPrimaryForced();
+        List<CompletableFuture<List<R>>> futures = new ArrayList<>(chunks.size());
+        for (List<T> chunk : chunks) {
+            futures.add(CompletableFuture.supplyAsync(() -> callWithContext(shard, primaryForced, () -> query.apply(chunk)), executor));
+        }
+        try {
+            futures.forEach(future -> result.addAll(future.join()));
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        log.debug("[InQueryTemplate] IN 조회 분할 실행: ids={}, chunks={}", ids.size(), chunks.size());
+        return result;
+    }
+
+    /* 중복 제거 후 chunkSize 개씩 분할 */
+    static <T> List<List<T>> partition(List<T> ids, int chunkSize) {
+        List<T> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        List<List<T>> chunks = new ArrayList<>((distinct.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            chunks.add(distinct.subList(from, Math.min(from + chunkSize, distinct.size())));
+        }
+        return chunks;
+    }
+
+    private static <R> R callWithContext(Integer shard, boolean primaryForced, Supplier<R> action) {
+        if (shard != null) {
+            ShardContext.set(shard);
+        }
+        if (primaryForced) {
+            ReplicationRoutingDataSource.forcePrimary();
+        }
+        try {
+            return action.get();
+        } finally {
+            ShardContext.clear();
+            ReplicationRoutingDataSource.clearPrimaryForced();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
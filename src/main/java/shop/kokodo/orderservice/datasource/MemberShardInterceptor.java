@@ -0,0 +1,63 @@
+package shop.kokodo.orderservice.datasource;
+
+import java.util.Map;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 회원 요청을 회원이 속한 샤드로 고정
+ * memberId 헤더(없으면 경로 변수 memberId) 기준이며, 회원 정보가 없는 요청은 서비스에서 샤드를 지정한다.
+ */
+@Slf4j
+@Component
+public class MemberShardInterceptor implements HandlerInterceptor {
+
+    private static final String MEMBER_ID = "memberId";
+
+    private final ShardTemplate shardTemplate;
+
+    public MemberShardInterceptor(ShardTemplate shardTemplate) {
+        this.shardTemplate = shardTemplate;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!shardTemplate.isSharded()) {
+            return true;
+        }
+
+        Long memberId = getMemberId(request);
+        if (memberId != null) {
+            ShardContext.set(shardTemplate.shardOf(memberId));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ShardContext.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Long getMemberId(HttpServletRequest request) {
+        String memberId = request.getHeader(MEMBER_ID);
+        if (memberId == null) {
+            Map<String, String> pathVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            memberId = (pathVariables == null) ? null : pathVariables.get(MEMBER_ID);
+        }
+        if (memberId == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(memberId);
+        } catch (NumberFormatException e) {
+            log.debug("[MemberShardInterceptor] 잘못된 memberId: {}", memberId);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package shop.kokodo.orderservice.datasource;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * memberId 헤더 기준으로 read-your-writes 보장
+ * - 성공한 변경 요청(POST/PUT/PATCH/DELETE)은 회원을 최근 변경 목록에 기록
+ * - 최근 변경한 회원의 요청은 요청이 끝날 때까지 프라이머리에서 읽음
+ */
+@Slf4j
+@Component
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private static final String MEMBER_ID_HEADER = "memberId";
+
+    private final ReadYourWritesWindow readYourWritesWindow;
+
+    public ReadYourWritesInterceptor(ReadYourWritesWindow readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (readYourWritesWindow.isRecentWriter(getMemberId(request))) {
+            ReplicationRoutingDataSource.forcePrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReplicationRoutingDataSource.clearPrimaryForced();
+
+        if (ex == null && response.getStatus() < 400 && isWriteMethod(request.getMethod())) {
+            readYourWritesWindow.recordWrite(getMemberId(request));
+        }
+    }
+
+    private boolean isWriteMethod(String method) {
+        return !HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method) && !HttpMethod.OPTIONS.matches(method);
+    }
+
+    private Long getMemberId(HttpServletRequest request) {
+        String memberId = request.getHeader(MEMBER_ID_HEADER);
+        if (memberId == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(memberId);
+        } catch (NumberFormatException e) {
+            log.debug("[ReadYourWritesInterceptor] 잘못된 memberId 헤더: {}", memberId);
+            return null;
+        }
+    }
+}
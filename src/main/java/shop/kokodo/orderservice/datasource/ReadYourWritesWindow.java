@@ -0,0 +1,34 @@
+package shop.kokodo.orderservice.datasource;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import shop.kokodo.orderservice.service.utils.LruCache;
+
+/**
+ * 최근에 데이터를 변경한 회원 목록
+ * 주문/장바구니 변경 직후에는 레플리카에 아직 반영되지 않았을 수 있으므로
+ * 윈도우(기본 5초) 동안 해당 회원의 조회는 프라이머리에서 처리한다.
+ * 인스턴스 로컬 정보라 다른 인스턴스로 간 요청은 보장하지 않는다. (게이트웨이 sticky 라우팅 전제)
+ */
+@Component
+public class ReadYourWritesWindow {
+
+    private final LruCache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesWindow(
+        @Value("${order.datasource.read-your-writes.window-ms:5000}") long windowMillis,
+        @Value("${order.datasource.read-your-writes.max-members:100000}") int maxMembers) {
+        this.recentWriters = new LruCache<>(maxMembers, Duration.ofMillis(windowMillis));
+    }
+
+    public void recordWrite(Long memberId) {
+        if (memberId != null) {
+            recentWriters.put(memberId, Boolean.TRUE);
+        }
+    }
+
+    public boolean isRecentWriter(Long memberId) {
+        return memberId != null && recentWriters.get(memberId) != null;
+    }
+}
@@ -0,0 +1,49 @@
+package shop.kokodo.orderservice.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 프라이머리/레플리카 커넥션 풀 구성
+ * order.datasource.replica.jdbc-url 이 있을 때만 활성화되고, 없으면 기본 단일 DataSource 를 그대로 사용한다.
+ * 샤딩(order.datasource.sharding.enabled=true)을 켜면 비활성화된다.
+ * - 프라이머리: spring.datasource.* (+ spring.datasource.hikari.*)
+ * - 레플리카: order.datasource.replica.* (HikariConfig 프로퍼티: jdbc-url, username, password, maximum-pool-size ...)
+ * 두 풀 모두 빈으로 등록하므로 actuator 가 풀 이름(primary/replica) 별로 hikaricp.* / jdbc.connections.* 메트릭을 남긴다.
+ */
+@Configuration
+@ConditionalOnExpression("'${order.datasource.replica.jdbc-url:}' != '' && !${order.datasource.sharding.enabled:false}")
+public class ReplicationDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("order.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+        @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(primaryDataSource, replicaDataSource));
+    }
+}
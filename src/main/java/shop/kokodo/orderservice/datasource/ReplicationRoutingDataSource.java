@@ -0,0 +1,57 @@
+package shop.kokodo.orderservice.datasource;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 레플리카, 그 외(쓰기 트랜잭션, 트랜잭션 없음)는 프라이머리로 보내는 DataSource
+ * 트랜잭션 속성이 정해진 뒤에 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ * 방금 쓴 데이터를 읽어야 하는 요청은 forcePrimary 로 레플리카 지연과 무관하게 프라이머리에서 읽는다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(DataSourceType.PRIMARY, primary, DataSourceType.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !isPrimaryForced()) {
+            return DataSourceType.REPLICA;
+        }
+        return DataSourceType.PRIMARY;
+    }
+
+    /* 현재 스레드의 읽기를 프라이머리로 고정 (요청 종료 시 clearPrimaryForced 호출 필요) */
+    public static void forcePrimary() {
+        PRIMARY_FORCED.set(Boolean.TRUE);
+    }
+
+    public static void clearPrimaryForced() {
+        PRIMARY_FORCED.remove();
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get() != null;
+    }
+
+    /* 작업 하나만 프라이머리에서 실행 (이미 고정된 상태였다면 그대로 유지) */
+    public static <T> T onPrimary(Supplier<T> supplier) {
+        if (isPrimaryForced()) {
+            return supplier.get();
+        }
+        forcePrimary();
+        try {
+            return supplier.get();
+        } finally {
+            clearPrimaryForced();
+        }
+    }
+}
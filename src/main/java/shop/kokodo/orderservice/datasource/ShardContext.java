@@ -0,0 +1,25 @@
+package shop.kokodo.orderservice.datasource;
+
+/**
+ * 현재 스레드가 사용할 샤드 번호
+ * 트랜잭션이 커넥션을 얻기 전에 지정해야 하며, 지정되지 않으면 기본 샤드(0)를 사용한다.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static void set(int shard) {
+        CURRENT.set(shard);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
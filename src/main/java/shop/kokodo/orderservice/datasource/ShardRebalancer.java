@@ -0,0 +1,111 @@
+package shop.kokodo.orderservice.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 샤드 수 변경 후 회원 데이터를 새 샤드로 옮기는 도구
+ * 회원 단위로 (대상 샤드에 복사 -> 원본 샤드에서 삭제) 하며, 중간에 실패해도 다시 실행하면 이어서 처리된다.
+ * (대상 샤드에 남은 이전 복사본은 지우고 다시 넣는다.)
+ * 이동 중인 회원의 쓰기는 막아야 하므로 점검 시간에 실행한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order.datasource.sharding", name = "enabled", havingValue = "true")
+public class ShardRebalancer {
+
+    // 부모 테이블부터 (삭제는 역순)
+    static final List<String> MEMBER_TABLES = List.of(
+        "orders", "order_product", "orders_archive", "order_product_archive", "cart", "idempotency_key",
+        "order_status_event", "order_ticket");
+
+    private final ShardTemplate shardTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ShardRebalancer(ShardTemplate shardTemplate, DataSource dataSource,
+        PlatformTransactionManager transactionManager) {
+        this.shardTemplate = shardTemplate;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @return 이동한 회원 수
+     */
+    public int rebalance() {
+        int moved = 0;
+        for (int shard = 0; shard < shardTemplate.getShardCount(); shard++) {
+            moved += rebalanceShard(shard);
+        }
+        log.info("[ShardRebalancer] 재분배 완료: shards={}, moved_members={}", shardTemplate.getShardCount(), moved);
+        return moved;
+    }
+
+    int rebalanceShard(int source) {
+        List<Long> memberIds = shardTemplate.callOnShard(source, () -> jdbcTemplate.queryForList(
+            MEMBER_TABLES.stream()
+                .map(table -> "SELECT member_id FROM " + table + " WHERE member_id IS NOT NULL")
+                .collect(Collectors.joining(" UNION ")),
+            Long.class));
+
+        int moved = 0;
+        for (Long memberId : memberIds) {
+            int target = shardTemplate.shardOf(memberId);
+            if (target != source) {
+                moveMember(memberId, source, target);
+                moved++;
+            }
+        }
+        return moved;
+    }
+
+    private void moveMember(Long memberId, int source, int target) {
+        List<List<Map<String, Object>>> rows = shardTemplate.callOnShard(source, () -> MEMBER_TABLES.stream()
+            .map(table -> jdbcTemplate.queryForList("SELECT * FROM " + table + " WHERE member_id = ?", memberId))
+            .collect(Collectors.toList()));
+
+        shardTemplate.callOnShard(target, () -> transactionTemplate.execute(status -> {
+            deleteMember(memberId);
+            for (int i = 0; i < MEMBER_TABLES.size(); i++) {
+                insertRows(MEMBER_TABLES.get(i), rows.get(i));
+            }
+            return null;
+        }));
+
+        shardTemplate.callOnShard(source, () -> transactionTemplate.execute(status -> {
+            deleteMember(memberId);
+            return null;
+        }));
+        log.debug("[ShardRebalancer] 회원 이동: member_id={}, {} -> {}", memberId, source, target);
+    }
+
+    private void deleteMember(Long memberId) {
+        for (int i = MEMBER_TABLES.size() - 1; i >= 0; i--) {
+            jdbcTemplate.update("DELETE FROM " + MEMBER_TABLES.get(i) + " WHERE member_id = ?", memberId);
+        }
+    }
+
+    private void insertRows(String table, List<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<String> columns = new ArrayList<>(rows.get(0).keySet());
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+            + columns.stream().map(column -> "?").collect(Collectors.joining(", ")) + ")";
+        List<Object[]> args = rows.stream()
+            .map(row -> columns.stream().map(row::get).toArray())
+            .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(sql, args);
+    }
+}
@@ -0,0 +1,52 @@
+package shop.kokodo.orderservice.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * {@link ShardContext} 의 샤드 번호로 커넥션을 얻는 DataSource
+ * 샤드가 지정되지 않은 작업(스키마 생성, 초기 데이터 등)은 기본 샤드(0)로 보낸다.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    public static final int DEFAULT_SHARD = 0;
+
+    private final List<DataSource> shards;
+
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("샤드 DataSource 가 하나 이상 필요합니다.");
+        }
+        this.shards = List.copyOf(shards);
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            targetDataSources.put(shard, shards.get(shard));
+        }
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(shards.get(DEFAULT_SHARD));
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = ShardContext.current();
+        return (shard == null) ? DEFAULT_SHARD : shard;
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    @Override
+    public void close() {
+        shards.stream()
+            .filter(HikariDataSource.class::isInstance)
+            .forEach(dataSource -> ((HikariDataSource) dataSource).close());
+    }
+}
@@ -0,0 +1,124 @@
+package shop.kokodo.orderservice.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 샤드 지정 실행 / 전체 샤드 분산 조회(scatter-gather)
+ * 샤딩이 꺼져 있으면 샤드 1개로 동작하므로 호출하는 쪽은 샤딩 여부를 신경쓰지 않아도 된다.
+ * 샤드 번호는 트랜잭션이 커넥션을 얻기 전에 정해져야 하므로 트랜잭션 밖에서 호출해야 한다.
+ */
+@Component
+public class ShardTemplate implements DisposableBean {
+
+    private final int shardCount;
+    private final ExecutorService executor;
+
+    @Autowired
+    public ShardTemplate(ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource) {
+        this(shardRoutingDataSource.stream().mapToInt(ShardRoutingDataSource::getShardCount).findFirst().orElse(1));
+    }
+
+    ShardTemplate(int shardCount) {
+        this.shardCount = shardCount;
+        this.executor = (shardCount > 1) ? Executors.newFixedThreadPool(shardCount, runnable -> {
+            Thread thread = new Thread(runnable, "shard-scatter");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    /* 회원이 속한 샤드 */
+    public int shardOf(Long memberId) {
+        return shardOf(memberId, shardCount);
+    }
+
+    /**
+     * Jump Consistent Hash
+     * 샤드 수를 N -> N+1 로 늘릴 때 전체 회원의 1/(N+1) 만 새 샤드로 이동한다.
+     */
+    public static int shardOf(long memberId, int shardCount) {
+        long key = memberId;
+        long bucket = -1;
+        long jump = 0;
+        while (jump < shardCount) {
+            bucket = jump;
+            key = key * 2862933555777941757L + 1;
+            jump = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) bucket;
+    }
+
+    /* 지정한 샤드에서 실행 (이전 샤드 지정은 실행 후 복원) */
+    public <T> T callOnShard(int shard, Supplier<T> action) {
+        Integer previous = ShardContext.current();
+        ShardContext.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                ShardContext.clear();
+            } else {
+                ShardContext.set(previous);
+            }
+        }
+    }
+
+    public <T> T callOnMemberShard(Long memberId, Supplier<T> action) {
+        return callOnShard(shardOf(memberId), action);
+    }
+
+    /**
+     * 모든 샤드에서 같은 작업을 병렬로 실행
+     * @return 샤드 번호 순서의 부분 결과
+     */
+    public <T> List<T> scatter(Supplier<T> action) {
+        if (!isSharded()) {
+            List<T> result = new ArrayList<>(1);
+            result.add(callOnShard(ShardRoutingDataSource.DEFAULT_SHARD, action));
+            return result;
+        }
+
+        List<CompletableFuture<T>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> callOnShard(target, action), executor));
+        }
+        return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    }
+
+    /**
+     * 데이터가 있는 샤드 찾기 (샤딩이 꺼져 있으면 조회 없이 기본 샤드)
+     * @return 샤드 번호, 없으면 -1
+     */
+    public int findShard(Supplier<Boolean> exists) {
+        if (!isSharded()) {
+            return ShardRoutingDataSource.DEFAULT_SHARD;
+        }
+        return scatter(exists).indexOf(Boolean.TRUE);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
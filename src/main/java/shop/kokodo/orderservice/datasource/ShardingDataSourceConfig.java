@@ -0,0 +1,49 @@
+package shop.kokodo.orderservice.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 회원 기준 샤딩 DataSource 구성 (order.datasource.sharding.enabled=true 일 때만 활성화)
+ * 회원 데이터(orders, order_product, 각 보관 테이블, cart, idempotency_key)는 회원이 속한 샤드에 함께 저장된다.
+ * 각 샤드의 스키마는 샤드마다 별도로 관리해야 한다. (ddl-auto 는 기본 샤드에만 적용됨)
+ * 레플리카 라우팅(order.datasource.replica.*)과는 함께 사용할 수 없다.
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+@ConditionalOnProperty(prefix = "order.datasource.sharding", name = "enabled", havingValue = "true")
+public class ShardingDataSourceConfig {
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(ShardingProperties properties,
+        ObjectProvider<MeterRegistry> meterRegistry) {
+        List<DataSource> shards = new ArrayList<>();
+        for (int shard = 0; shard < properties.getShards().size(); shard++) {
+            HikariConfig config = properties.getShards().get(shard);
+            if (config.getPoolName() == null) {
+                config.setPoolName("shard-" + shard);
+            }
+            meterRegistry.ifAvailable(registry -> config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            shards.add(new HikariDataSource(config));
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+}
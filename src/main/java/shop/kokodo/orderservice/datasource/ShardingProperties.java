@@ -0,0 +1,24 @@
+package shop.kokodo.orderservice.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * order.datasource.sharding.enabled=true
+ * order.datasource.sharding.shards[0].jdbc-url=...
+ * order.datasource.sharding.shards[0].username=...
+ * (shards[n] 에는 HikariConfig 프로퍼티를 그대로 사용한다.)
+ */
+@Getter
+@Setter
+@ConfigurationProperties("order.datasource.sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+
+    private List<HikariConfig> shards = new ArrayList<>();
+}
@@ -29,4 +29,11 @@ public class CartOrderDto {
     @NotNull(message = DtoValidationMessage.FIX_COUPON_IDS_NULL)
     private List<Long> fixCouponIds;
 
+    // 견적 토큰 (선택, 유효하면 견적 금액으로 주문)
+    private String quoteToken;
+
+    public CartOrderDto(Long memberId, List<Long> cartIds, List<Long> rateCouponIds, List<Long> fixCouponIds) {
+        this(memberId, cartIds, rateCouponIds, fixCouponIds, null);
+    }
+
 }
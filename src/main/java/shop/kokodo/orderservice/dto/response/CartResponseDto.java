@@ -17,24 +17,29 @@ public class CartResponseDto {
     private Integer qty;
     private Integer unitPrice;
     private Long sellerId;
+    // 상품 서비스 장애로 마지막으로 조회한 상품 정보를 사용했는지
+    private boolean stale;
 
 
     public static CartResponseDto create (Cart cart, CartProductDto cartProductDto) {
         return new CartResponseDto(cart, cartProductDto);
     }
 
+    public static CartResponseDto create (Cart cart, CartProductDto cartProductDto, boolean stale) {
+        CartResponseDto cartResponseDto = new CartResponseDto(cart, cartProductDto);
+        cartResponseDto.stale = stale;
+        return cartResponseDto;
+    }
+
+    // 상품 정보를 얻지 못한 상품은 장바구니 정보만 채우고 상품명/썸네일/가격/판매자는 비워둔다.
     @Builder
     public CartResponseDto(Cart cart, CartProductDto cartProductDto) {
-        if (cartProductDto == null) {
-            this.cartId = cart.getId();
-            this.productId = -1L;
-        }
-        else {
-            this.cartId = cart.getId();
-            this.productId = cartProductDto.getId();
+        this.cartId = cart.getId();
+        this.productId = cart.getProductId();
+        this.qty = cart.getQty();
+        if (cartProductDto != null) {
             this.productThumbnail = cartProductDto.getThumbnail();
             this.productName = cartProductDto.getName();
-            this.qty = cart.getQty();
             this.unitPrice = cartProductDto.getPrice();
             this.sellerId = cartProductDto.getSellerId();
         }
@@ -22,4 +22,7 @@ public class OrderDetailInformationDto {
 
     private OrderStatus orderStatus;
 
+    // 상품 서비스 장애로 마지막으로 조회한 상품 정보를 사용했는지
+    private boolean stale;
+
 }
@@ -0,0 +1,10 @@
+package shop.kokodo.orderservice.dto.response;
+
+/**
+ * 주문 요약(주문상품 개수, 대표상품) 채우기용 주문상품 행
+ */
+public interface OrderLineDto {
+    Long getOrderId();
+
+    Long getProductId();
+}
@@ -0,0 +1,22 @@
+package shop.kokodo.orderservice.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 판매자 주문상품 내보내기(CSV/NDJSON) 한 행
+ */
+public interface OrderProductExportDto {
+    Long getOrderId();
+
+    Long getOrderProductId();
+
+    Long getProductId();
+
+    Long getMemberId();
+
+    Integer getQty();
+
+    Integer getUnitPrice();
+
+    LocalDateTime getOrderDate();
+}
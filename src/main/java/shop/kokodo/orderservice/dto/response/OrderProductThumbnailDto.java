@@ -1,9 +0,0 @@
-package shop.kokodo.orderservice.dto.response;
-
-public interface OrderProductThumbnailDto {
-    Long getOrderId();
-
-    Long getProductId();
-
-    Long getCount();
-}
@@ -0,0 +1,21 @@
+package shop.kokodo.orderservice.dto.response;
+
+import lombok.*;
+
+/**
+ * 장바구니 주문 견적
+ * 주문 요청에 quoteToken 을 담으면 유효 시간 동안 상품/할인 재조회 없이 견적 금액으로 주문한다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class OrderQuoteDto {
+
+    private String quoteToken;
+
+    private Integer totalPrice;
+
+    private Long expiresInSeconds;
+}
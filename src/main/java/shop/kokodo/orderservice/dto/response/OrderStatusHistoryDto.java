@@ -0,0 +1,25 @@
+package shop.kokodo.orderservice.dto.response;
+
+import lombok.*;
+import shop.kokodo.orderservice.entity.OrderStatusEvent;
+import shop.kokodo.orderservice.entity.enums.status.OrderStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class OrderStatusHistoryDto {
+
+    private OrderStatus fromStatus;
+
+    private OrderStatus toStatus;
+
+    private LocalDateTime occurredAt;
+
+    public static OrderStatusHistoryDto from(OrderStatusEvent event) {
+        return new OrderStatusHistoryDto(event.getFromStatus(), event.getToStatus(), event.getOccurredAt());
+    }
+}
@@ -0,0 +1,25 @@
+package shop.kokodo.orderservice.dto.response;
+
+import lombok.*;
+import shop.kokodo.orderservice.entity.OrderTicket;
+import shop.kokodo.orderservice.entity.enums.status.OrderTicketStatus;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class OrderTicketDto {
+
+    private Long ticketId;
+
+    private OrderTicketStatus status;
+
+    private Long orderId;
+
+    private String error;
+
+    public static OrderTicketDto from(OrderTicket ticket) {
+        return new OrderTicketDto(ticket.getId(), ticket.getStatus(), ticket.getOrderId(), ticket.getError());
+    }
+}
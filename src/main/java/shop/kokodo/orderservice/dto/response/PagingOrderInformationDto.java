@@ -24,9 +24,13 @@ public class PagingOrderInformationDto {
 
     List<OrderInformationDto> orderInformationDtoList;
 
+    // 상품 서비스 장애로 마지막으로 조회한 상품 정보를 사용했는지
+    boolean stale;
+
     @Builder
-    public PagingOrderInformationDto(long totalCount, List<OrderInformationDto> orderInformationDtoList) {
+    public PagingOrderInformationDto(long totalCount, List<OrderInformationDto> orderInformationDtoList, boolean stale) {
         this.totalCount = totalCount;
         this.orderInformationDtoList = orderInformationDtoList;
+        this.stale = stale;
     }
 }
@@ -0,0 +1,30 @@
+package shop.kokodo.orderservice.dto.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 상품별 주간 판매 집계
+ * DB 에서 GROUP BY 로 계산한 값을 생성자 표현식으로 바로 받는다.
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+public class ProductSalesDto {
+
+    private long productId;
+
+    private long totalQty; // 판매 수량 합계
+
+    private long totalPrice; // 판매 금액 합계 (수량 * 단가)
+
+    private long orderCount; // 주문 건수
+
+    public ProductSalesDto(Long productId, Long totalQty, Long totalPrice, Long orderCount) {
+        this.productId = productId;
+        this.totalQty = totalQty;
+        this.totalPrice = totalPrice;
+        this.orderCount = orderCount;
+    }
+}
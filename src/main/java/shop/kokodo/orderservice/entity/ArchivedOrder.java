@@ -0,0 +1,52 @@
+package shop.kokodo.orderservice.entity;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import shop.kokodo.orderservice.entity.enums.status.OrderStatus;
+
+/**
+ * 보관 기간이 지난 주문 (orders_archive)
+ * 보관 작업이 orders 에서 그대로 옮겨오므로 아이디는 원래 주문 아이디를 사용한다.
+ * 운영 DB 에서는 ROW_FORMAT=COMPRESSED 로 생성한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "orders_archive", indexes = {
+    @Index(name = "idx_orders_archive_member_date", columnList = "member_id, order_date")
+})
+public class ArchivedOrder extends Base implements OrderHistory {
+
+    @Id
+    @Column(name = "order_id")
+    private Long id;
+
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+
+    private String deliveryMemberName;
+    private String deliveryMemberAddress;
+
+    private Integer totalPrice;
+
+    private LocalDateTime orderDate; // 주문 일자
+
+    private Integer lineCount;      // 주문상품 개수
+    private Long leadProductId;     // 대표상품 (첫 번째 주문상품)
+
+    // 요약 컬럼 추가 이전 보관 주문 채우기
+    public void summarizeLines(Integer lineCount, Long leadProductId) {
+        this.lineCount = lineCount;
+        this.leadProductId = leadProductId;
+    }
+}
@@ -0,0 +1,36 @@
+package shop.kokodo.orderservice.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관 기간이 지난 주문상품 (order_product_archive)
+ * 보관 주문과는 연관관계 없이 order_id 값만 가진다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "order_product_archive", indexes = {
+    @Index(name = "idx_order_product_archive_order", columnList = "order_id"),
+    @Index(name = "idx_order_product_archive_member_product", columnList = "member_id, product_id")
+})
+public class ArchivedOrderProduct extends Base {
+
+    @Id
+    @Column(name = "order_product_id")
+    private Long id;
+
+    @Column(name = "order_id")
+    private Long orderId;
+
+    private Long memberId;
+    private Long productId;
+
+    private Integer qty;
+    private Integer unitPrice;
+}
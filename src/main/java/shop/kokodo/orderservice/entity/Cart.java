@@ -5,13 +5,14 @@ import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 import shop.kokodo.orderservice.entity.enums.status.CartStatus;
+import shop.kokodo.orderservice.entity.id.SnowflakeIdentifierGenerator;
 
 @Builder
 @Entity
@@ -21,7 +22,8 @@ import shop.kokodo.orderservice.entity.enums.status.CartStatus;
 public class Cart extends Base {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "cart_id_generator")
+    @GenericGenerator(name = "cart_id_generator", strategy = SnowflakeIdentifierGenerator.STRATEGY)
     @Column(name = "cart_id")
     private Long id;
 
@@ -0,0 +1,86 @@
+package shop.kokodo.orderservice.entity;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+import shop.kokodo.orderservice.entity.enums.status.IdempotencyKeyStatus;
+
+/**
+ * 주문 요청 중복 방지 키
+ * 주문을 만들기 전에 PENDING 으로 먼저 저장해서 선점하고(기본키 중복으로 한 요청만 성공),
+ * 주문 트랜잭션 안에서 선점 토큰이 그대로일 때만 COMPLETED 와 주문 아이디를 기록한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "idempotency_key")
+public class IdempotencyKey extends Base implements Persistable<String> {
+
+    public static final int MAX_KEY_LENGTH = 64;
+
+    @Id
+    @Column(name = "idempotency_key", length = MAX_KEY_LENGTH)
+    private String id;
+
+    private Long memberId;
+
+    private Long orderId;
+
+    @Enumerated(EnumType.STRING)
+    private IdempotencyKeyStatus status;
+
+    // 선점한 요청 식별 (선점 시간이 지나 다른 요청이 다시 선점하면 바뀐다)
+    @Column(length = 36)
+    private String claimToken;
+
+    private LocalDateTime claimedAt;
+
+    private IdempotencyKey(String id, Long memberId, String claimToken, LocalDateTime claimedAt) {
+        this.id = id;
+        this.memberId = memberId;
+        this.status = IdempotencyKeyStatus.PENDING;
+        this.claimToken = claimToken;
+        this.claimedAt = claimedAt;
+    }
+
+    public static IdempotencyKey claim(String id, Long memberId, String claimToken, LocalDateTime now) {
+        return new IdempotencyKey(id, memberId, claimToken, now);
+    }
+
+    public boolean isCompleted() {
+        return status == IdempotencyKeyStatus.COMPLETED;
+    }
+
+    public boolean isClaimedBy(String claimToken) {
+        return status == IdempotencyKeyStatus.PENDING && this.claimToken.equals(claimToken);
+    }
+
+    // 처리하던 인스턴스가 종료되어 완료되지 못한 키
+    public boolean isAbandoned(LocalDateTime staleBefore) {
+        return status == IdempotencyKeyStatus.PENDING && claimedAt.isBefore(staleBefore);
+    }
+
+    public void reclaim(String claimToken, LocalDateTime now) {
+        this.claimToken = claimToken;
+        this.claimedAt = now;
+    }
+
+    public void complete(Long orderId) {
+        this.status = IdempotencyKeyStatus.COMPLETED;
+        this.orderId = orderId;
+    }
+
+    // 키를 직접 할당하므로 저장 전 SELECT(merge) 가 일어나지 않도록 생성일자로 신규 여부 판단
+    @Override
+    public boolean isNew() {
+        return getCreatedDate() == null;
+    }
+}
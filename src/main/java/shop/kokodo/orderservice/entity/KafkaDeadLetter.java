@@ -0,0 +1,57 @@
+package shop.kokodo.orderservice.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import shop.kokodo.orderservice.entity.id.SnowflakeIdentifierGenerator;
+
+/**
+ * 재시도 후에도 발행에 실패한 Kafka 메시지
+ * 직렬화된 값을 그대로 보관하므로 같은 토픽/키로 다시 발행할 수 있다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "kafka_dead_letter")
+public class KafkaDeadLetter extends Base {
+
+    public static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(generator = "kafka_dead_letter_id_generator")
+    @GenericGenerator(name = "kafka_dead_letter_id_generator", strategy = SnowflakeIdentifierGenerator.STRATEGY)
+    @Column(name = "kafka_dead_letter_id")
+    private Long id;
+
+    private String topic;
+
+    private String messageKey;
+
+    @Lob
+    private byte[] payload;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String error;
+
+    private KafkaDeadLetter(String topic, String messageKey, byte[] payload, String error) {
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.payload = payload;
+        this.error = error;
+    }
+
+    public static KafkaDeadLetter create(String topic, String messageKey, byte[] payload, Throwable cause) {
+        String error = String.valueOf(cause);
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        return new KafkaDeadLetter(topic, messageKey, payload, error);
+    }
+}
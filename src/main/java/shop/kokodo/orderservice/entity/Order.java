@@ -9,23 +9,32 @@ import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 import shop.kokodo.orderservice.entity.enums.status.OrderStatus;
+import shop.kokodo.orderservice.entity.id.SnowflakeIdentifierGenerator;
 
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "orders")
-public class Order extends Base {
+@Table(name = "orders", indexes = {
+    // 보관 대상(오래된 주문) 조회용
+    @Index(name = "idx_orders_order_date", columnList = "order_date"),
+    // 회원 주문 내역 페이지 조회용
+    @Index(name = "idx_orders_member_date", columnList = "member_id, order_date")
+})
+public class Order extends Base implements OrderHistory {
 
+    // DB 왕복 없이 애플리케이션에서 시간순 아이디 발급 (persist 시점에 아이디 확정, INSERT 배치 가능)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "order_id_generator")
+    @GenericGenerator(name = "order_id_generator", strategy = SnowflakeIdentifierGenerator.STRATEGY)
     @Column(name = "order_id")
     private Long id;
 
@@ -41,6 +50,10 @@ public class Order extends Base {
 
     private LocalDateTime orderDate; // 주문 일자
 
+    // 주문 내역 목록용 요약 (주문상품 GROUP BY 없이 "대표상품 외 N건" 표시)
+    private Integer lineCount;      // 주문상품 개수
+    private Long leadProductId;     // 대표상품 (첫 번째 주문상품)
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
     private List<OrderProduct> orderProducts = new ArrayList<>();
 
@@ -57,6 +70,8 @@ public class Order extends Base {
             .orderStatus(OrderStatus.ORDER_SUCCESS)
             .memberId(memberId)
             .orderProducts(orderProducts)
+            .lineCount(orderProducts.size())
+            .leadProductId(orderProducts.isEmpty() ? null : orderProducts.get(0).getProductId())
             .build();
         orderProducts.forEach(orderProduct -> orderProduct.setOrder(order));
         return order;
@@ -69,7 +84,9 @@ public class Order extends Base {
                             Integer totalPrice,
                             LocalDateTime orderDate,
                             OrderStatus orderStatus,
-                            List<OrderProduct> orderProducts) {
+                            List<OrderProduct> orderProducts,
+                            Integer lineCount,
+                            Long leadProductId) {
 
         this.memberId = memberId;
         this.deliveryMemberName = deliveryMemberName;
@@ -78,9 +95,20 @@ public class Order extends Base {
         this.orderStatus = orderStatus;
         this.totalPrice = totalPrice;
         this.orderProducts = orderProducts;
+        this.lineCount = lineCount;
+        this.leadProductId = leadProductId;
+    }
+
+    // 요약 컬럼 추가 이전 주문 채우기
+    public void summarizeLines(Integer lineCount, Long leadProductId) {
+        this.lineCount = lineCount;
+        this.leadProductId = leadProductId;
     }
 
-    public void changeOrderState(OrderStatus orderStatus) {
+    // 상태를 바꾸고 변경 이력을 반환 (이력은 호출한 쪽에서 같은 트랜잭션으로 저장)
+    public OrderStatusEvent changeOrderState(OrderStatus orderStatus) {
+        OrderStatus fromStatus = this.orderStatus;
         this.orderStatus = orderStatus;
+        return OrderStatusEvent.create(this, fromStatus);
     }
 }
@@ -0,0 +1,24 @@
+package shop.kokodo.orderservice.entity;
+
+import java.time.LocalDateTime;
+import shop.kokodo.orderservice.entity.enums.status.OrderStatus;
+
+/**
+ * 주문 내역 조회에 필요한 주문 정보 (운영 주문 / 보관 주문 공통)
+ */
+public interface OrderHistory {
+
+    Long getId();
+
+    OrderStatus getOrderStatus();
+
+    Integer getTotalPrice();
+
+    LocalDateTime getOrderDate();
+
+    /* 주문상품 개수 (요약 컬럼 추가 이전 주문은 채워지기 전까지 null) */
+    Integer getLineCount();
+
+    /* 대표상품 아이디 */
+    Long getLeadProductId();
+}
@@ -13,7 +13,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
 import shop.kokodo.orderservice.dto.request.SingleProductOrderDto;
+import shop.kokodo.orderservice.entity.id.SnowflakeIdentifierGenerator;
 import shop.kokodo.orderservice.feign.response.OrderProductDto;
 
 
@@ -24,10 +26,15 @@ import shop.kokodo.orderservice.feign.response.OrderProductDto;
 @NoArgsConstructor
 @Builder
 @ToString
+@Table(indexes = {
+    // 구매 이력 확인(member_id, product_id) 용 커버링 인덱스
+    @Index(name = "idx_order_product_member_product", columnList = "member_id, product_id")
+})
 public class OrderProduct extends Base {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "order_product_id_generator")
+    @GenericGenerator(name = "order_product_id_generator", strategy = SnowflakeIdentifierGenerator.STRATEGY)
     @Column(name = "order_product_id")
     private Long id;
 
@@ -0,0 +1,62 @@
+package shop.kokodo.orderservice.entity;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import shop.kokodo.orderservice.entity.enums.status.OrderStatus;
+import shop.kokodo.orderservice.entity.id.SnowflakeIdentifierGenerator;
+
+/**
+ * 주문 상태 변경 이력 (추가만 하고 수정/삭제하지 않는다)
+ * 아이디가 시간순이라 아이디 순서가 곧 변경 순서이다.
+ * orders.order_status 는 이 이력의 마지막 상태를 담은 스냅샷이다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "order_status_event", indexes = {
+    @Index(name = "idx_order_status_event_order_id", columnList = "order_id")
+})
+public class OrderStatusEvent {
+
+    @Id
+    @GeneratedValue(generator = "order_status_event_id_generator")
+    @GenericGenerator(name = "order_status_event_id_generator", strategy = SnowflakeIdentifierGenerator.STRATEGY)
+    @Column(name = "order_status_event_id")
+    private Long id;
+
+    @Column(name = "order_id")
+    private Long orderId;
+
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus fromStatus; // 주문 생성 이벤트면 null
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus toStatus;
+
+    private LocalDateTime occurredAt;
+
+    private OrderStatusEvent(Long orderId, Long memberId, OrderStatus fromStatus, OrderStatus toStatus) {
+        this.orderId = orderId;
+        this.memberId = memberId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public static OrderStatusEvent create(Order order, OrderStatus fromStatus) {
+        return new OrderStatusEvent(order.getId(), order.getMemberId(), fromStatus, order.getOrderStatus());
+    }
+}
@@ -0,0 +1,90 @@
+package shop.kokodo.orderservice.entity;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import shop.kokodo.orderservice.entity.enums.status.OrderTicketStatus;
+import shop.kokodo.orderservice.entity.enums.status.OrderTicketType;
+import shop.kokodo.orderservice.entity.id.SnowflakeIdentifierGenerator;
+
+/**
+ * 비동기 주문 접수 티켓 (주문 대기열)
+ * 주문 요청 본문을 그대로 보관하고, 워커가 처리한 뒤 결과(주문 아이디 또는 실패 사유)를 기록한다.
+ * 워커는 선점할 때마다 새 선점 토큰을 기록하고, 결과는 토큰이 그대로일 때만 기록한다. (OrderTicketRepository)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "order_ticket", indexes = {
+    @Index(name = "idx_order_ticket_status", columnList = "status")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_order_ticket_member_id_idempotency_key", columnNames = {"member_id", "idempotency_key"})
+})
+public class OrderTicket extends Base {
+
+    public static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(generator = "order_ticket_id_generator")
+    @GenericGenerator(name = "order_ticket_id_generator", strategy = SnowflakeIdentifierGenerator.STRATEGY)
+    @Column(name = "order_ticket_id")
+    private Long id;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "idempotency_key", length = IdempotencyKey.MAX_KEY_LENGTH)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    private OrderTicketType type;
+
+    @Lob
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    private OrderTicketStatus status;
+
+    private LocalDateTime claimedAt;
+
+    @Column(length = 36)
+    private String claimToken;
+
+    private Long orderId;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String error;
+
+    private OrderTicket(Long memberId, String idempotencyKey, OrderTicketType type, String payload) {
+        this.memberId = memberId;
+        this.idempotencyKey = idempotencyKey;
+        this.type = type;
+        this.payload = payload;
+        this.status = OrderTicketStatus.PENDING;
+    }
+
+    public static OrderTicket create(Long memberId, String idempotencyKey, OrderTicketType type, String payload) {
+        return new OrderTicket(memberId, idempotencyKey, type, payload);
+    }
+
+    // 주문 중복 방지 키 (클라이언트가 보내지 않았으면 티켓 아이디로 만든다)
+    public String getOrderIdempotencyKey() {
+        return (idempotencyKey != null) ? idempotencyKey : "ticket-" + id;
+    }
+
+    public static String truncateError(String error) {
+        return (error != null && error.length() > MAX_ERROR_LENGTH) ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
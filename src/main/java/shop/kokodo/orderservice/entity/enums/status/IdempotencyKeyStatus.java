@@ -0,0 +1,25 @@
+package shop.kokodo.orderservice.entity.enums.status;
+
+import shop.kokodo.orderservice.entity.enums.EnumType;
+
+public enum IdempotencyKeyStatus implements EnumType {
+
+    PENDING("주문 처리 중"),
+    COMPLETED("주문 완료");
+
+    private String value;
+
+    IdempotencyKeyStatus(String value){
+        this.value = value;
+    }
+
+    @Override
+    public String getKey() {
+        return name();
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+}
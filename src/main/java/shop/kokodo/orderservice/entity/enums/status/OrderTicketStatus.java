@@ -0,0 +1,27 @@
+package shop.kokodo.orderservice.entity.enums.status;
+
+import shop.kokodo.orderservice.entity.enums.EnumType;
+
+public enum OrderTicketStatus implements EnumType {
+
+    PENDING("주문 대기"),
+    PROCESSING("주문 처리 중"),
+    SUCCESS("주문 완료"),
+    FAILED("주문 실패");
+
+    private String value;
+
+    OrderTicketStatus(String value){
+        this.value = value;
+    }
+
+    @Override
+    public String getKey() {
+        return name();
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,25 @@
+package shop.kokodo.orderservice.entity.enums.status;
+
+import shop.kokodo.orderservice.entity.enums.EnumType;
+
+public enum OrderTicketType implements EnumType {
+
+    SINGLE_PRODUCT("단일 상품 주문"),
+    CART("장바구니 주문");
+
+    private String value;
+
+    OrderTicketType(String value){
+        this.value = value;
+    }
+
+    @Override
+    public String getKey() {
+        return name();
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,93 @@
+package shop.kokodo.orderservice.entity.id;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import shop.kokodo.orderservice.datasource.ShardTemplate;
+
+/**
+ * 기동 시 시계 역행 확인
+ * 이 노드가 현재 시각 이후 타임스탬프로 발급한 아이디가 이미 저장되어 있으면
+ * (이전 실행보다 시계가 뒤로 간 상태) 같은 아이디를 다시 발급할 수 있으므로 기동하지 않는다.
+ * 현재 시각 이후 아이디만 기본키 범위로 조회하므로 평소에는 빈 결과다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class SnowflakeClockGuard implements InitializingBean {
+
+    // Snowflake 아이디를 쓰는 테이블과 기본키 (보관 테이블은 운영 테이블 아이디를 그대로 가진다)
+    static final List<String[]> ID_COLUMNS = List.of(
+        new String[]{"orders", "order_id"},
+        new String[]{"orders_archive", "order_id"},
+        new String[]{"order_product", "order_product_id"},
+        new String[]{"order_product_archive", "order_product_id"},
+        new String[]{"cart", "cart_id"},
+        new String[]{"order_status_event", "order_status_event_id"},
+        new String[]{"order_ticket", "order_ticket_id"},
+        new String[]{"kafka_dead_letter", "kafka_dead_letter_id"});
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    // (SQL, 하한 아이디) -> 모든 샤드에서 조회한 아이디
+    private final BiFunction<String, Long, List<Long>> idQuery;
+
+    @Autowired
+    public SnowflakeClockGuard(DataSource dataSource, ShardTemplate shardTemplate,
+        @Value("${order.id.node-id}") long nodeId) {
+        this(nodeId, System::currentTimeMillis, new JdbcTemplate(dataSource), shardTemplate);
+    }
+
+    private SnowflakeClockGuard(long nodeId, LongSupplier clock, JdbcTemplate jdbcTemplate, ShardTemplate shardTemplate) {
+        this(nodeId, clock, (sql, lowerBound) -> {
+            List<Long> ids = new ArrayList<>();
+            shardTemplate.scatter(() -> jdbcTemplate.queryForList(sql, Long.class, lowerBound)).forEach(ids::addAll);
+            return ids;
+        });
+    }
+
+    SnowflakeClockGuard(long nodeId, LongSupplier clock, BiFunction<String, Long, List<Long>> idQuery) {
+        this.nodeId = nodeId;
+        this.clock = clock;
+        this.idQuery = idQuery;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        long now = clock.getAsLong();
+        long lowerBound = (now - SnowflakeIdGenerator.EPOCH) << (SnowflakeIdGenerator.NODE_BITS + SnowflakeIdGenerator.SEQUENCE_BITS);
+
+        long lastIssued = -1;
+        for (String[] idColumn : ID_COLUMNS) {
+            String sql = "SELECT " + idColumn[1] + " FROM " + idColumn[0] + " WHERE " + idColumn[1] + " >= ?";
+            List<Long> ids;
+            try {
+                ids = idQuery.apply(sql, lowerBound);
+            } catch (DataAccessException e) {
+                log.debug("[SnowflakeClockGuard] 조회 생략: table={}", idColumn[0], e);
+                continue;
+            }
+            for (Long id : ids) {
+                if (SnowflakeIdGenerator.extractNodeId(id) == nodeId) {
+                    lastIssued = Math.max(lastIssued, SnowflakeIdGenerator.extractTimestamp(id));
+                }
+            }
+        }
+
+        if (lastIssued >= now) {
+            throw new IllegalStateException(String.format(
+                "시계가 마지막 발급 시각보다 뒤에 있음: node_id=%d, now=%d, last_issued=%d (%dms 후 다시 기동)",
+                nodeId, now, lastIssued, lastIssued - now + 1));
+        }
+    }
+}
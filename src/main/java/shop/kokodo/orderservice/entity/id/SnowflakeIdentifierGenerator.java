@@ -0,0 +1,40 @@
+package shop.kokodo.orderservice.entity.id;
+
+import java.io.Serializable;
+import java.util.Properties;
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * 엔티티 아이디를 DB 왕복 없이 {@link SnowflakeIdGenerator} 로 발급하는 Hibernate 생성기
+ * persist 시점에 아이디가 정해지므로 flush 전에 아이디를 알 수 있고 INSERT 를 배치로 묶을 수 있다.
+ * 노드 아이디는 Hibernate 설정 {@link #NODE_ID_SETTING} 으로 받는다. (인스턴스마다 달라야 하며 기본값 없음)
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String STRATEGY = "shop.kokodo.orderservice.entity.id.SnowflakeIdentifierGenerator";
+    public static final String NODE_ID_SETTING = "kokodo.id.node_id";
+
+    private SnowflakeIdGenerator snowflakeIdGenerator;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        Integer nodeId = serviceRegistry.getService(ConfigurationService.class)
+            .getSetting(NODE_ID_SETTING, StandardConverters.INTEGER);
+        if (nodeId == null) {
+            throw new MappingException("노드 아이디 설정 없음: " + NODE_ID_SETTING);
+        }
+        snowflakeIdGenerator = new SnowflakeIdGenerator(nodeId);
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+        return snowflakeIdGenerator.nextId();
+    }
+}
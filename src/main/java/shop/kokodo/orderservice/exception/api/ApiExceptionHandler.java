@@ -1,10 +1,13 @@
 package shop.kokodo.orderservice.exception.api;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import shop.kokodo.orderservice.admission.AdmissionController;
+import shop.kokodo.orderservice.admission.AdmissionRejectedException;
 
 @RestControllerAdvice
 @Slf4j
@@ -20,4 +23,21 @@ public class ApiExceptionHandler {
         );
     }
 
+    // 용량 초과: 기다리지 않고 바로 429 + Retry-After (대기실 토큰이 있으면 함께 반환)
+    @ExceptionHandler(value = { AdmissionRejectedException.class })
+    public ResponseEntity<Object> handleAdmissionRejectedException(AdmissionRejectedException e) {
+        ApiException apiException = new ApiException(e.getMessage(), null);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        if (e.getWaitingRoomToken() != null) {
+            headers.set(AdmissionController.WAITING_ROOM_TOKEN_HEADER, e.getWaitingRoomToken());
+        }
+        return new ResponseEntity<>(
+            apiException,
+            headers,
+            HttpStatus.TOO_MANY_REQUESTS
+        );
+    }
+
 }
@@ -1,23 +1,32 @@
 package shop.kokodo.orderservice.feign.controller;
 
+import java.io.IOException;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import shop.kokodo.orderservice.feign.dto.ExportFormat;
 import shop.kokodo.orderservice.feign.response.OrderCountResponseDto;
 import shop.kokodo.orderservice.feign.response.ProductIdResponseDto;
 import shop.kokodo.orderservice.feign.service.interfaces.DashboardService;
+import shop.kokodo.orderservice.feign.service.interfaces.OrderExportService;
 
 @RestController
 @RequestMapping("/orders/feign/seller")
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final OrderExportService orderExportService;
 
     public DashboardController(
-        DashboardService dashboardService) {
+        DashboardService dashboardService,
+        OrderExportService orderExportService) {
         this.dashboardService = dashboardService;
+        this.orderExportService = orderExportService;
     }
 
     /**
@@ -37,4 +46,22 @@ public class DashboardController {
         Long[] monthlyOrderCount = dashboardService.getMonthlyOrderCount(sellerId);
         return ResponseEntity.ok(monthlyOrderCount);
     }
+
+    /**
+     * 판매자 주문상품 내보내기 API (csv, ndjson)
+     * 응답 길이를 정하지 않고 행 단위로 바로 기록하므로 chunked 로 전송된다.
+     */
+    @GetMapping("/{sellerId}/orders/export")
+    public void exportOrderProducts(@PathVariable Long sellerId,
+                                    @RequestParam(defaultValue = "csv") String format,
+                                    HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.of(format);
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"orders-" + sellerId + "." + exportFormat.getExtension() + "\"");
+
+        orderExportService.exportOrderProducts(sellerId, exportFormat, response.getWriter());
+    }
 }
@@ -0,0 +1,82 @@
+package shop.kokodo.orderservice.feign.dto;
+
+import java.util.Arrays;
+import shop.kokodo.orderservice.dto.response.OrderProductExportDto;
+import shop.kokodo.orderservice.exception.api.ApiRequestException;
+import shop.kokodo.orderservice.message.ExceptionMessage;
+
+/**
+ * 주문상품 내보내기 형식
+ * 모든 컬럼이 숫자/날짜라 별도 이스케이프 없이 한 행씩 바로 문자열로 만든다.
+ */
+public enum ExportFormat {
+
+    CSV("text/csv", "csv") {
+        @Override
+        public String header() {
+            return "orderId,orderProductId,productId,memberId,qty,unitPrice,orderDate\n";
+        }
+
+        @Override
+        public String row(OrderProductExportDto dto) {
+            return new StringBuilder(96)
+                .append(dto.getOrderId()).append(',')
+                .append(dto.getOrderProductId()).append(',')
+                .append(dto.getProductId()).append(',')
+                .append(dto.getMemberId()).append(',')
+                .append(dto.getQty()).append(',')
+                .append(dto.getUnitPrice()).append(',')
+                .append(dto.getOrderDate())
+                .append('\n')
+                .toString();
+        }
+    },
+
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        public String header() {
+            return "";
+        }
+
+        @Override
+        public String row(OrderProductExportDto dto) {
+            return new StringBuilder(160)
+                .append("{\"orderId\":").append(dto.getOrderId())
+                .append(",\"orderProductId\":").append(dto.getOrderProductId())
+                .append(",\"productId\":").append(dto.getProductId())
+                .append(",\"memberId\":").append(dto.getMemberId())
+                .append(",\"qty\":").append(dto.getQty())
+                .append(",\"unitPrice\":").append(dto.getUnitPrice())
+                .append(",\"orderDate\":").append(dto.getOrderDate() == null ? "null" : "\"" + dto.getOrderDate() + "\"")
+                .append("}\n")
+                .toString();
+        }
+    };
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public abstract String header();
+
+    public abstract String row(OrderProductExportDto dto);
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat of(String format) {
+        return Arrays.stream(values())
+            .filter(exportFormat -> exportFormat.extension.equalsIgnoreCase(format))
+            .findFirst()
+            .orElseThrow(() -> new ApiRequestException(ExceptionMessage.INVALID_EXPORT_FORMAT));
+    }
+}
@@ -0,0 +1,53 @@
+package shop.kokodo.orderservice.feign.hedge;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.cloud.client.ServiceInstance;
+
+/**
+ * 헤지 요청의 시도 하나 (시도를 실행하는 스레드에 연결된다)
+ * 로드밸런서는 시도가 간 인스턴스를 서비스별로 기록하고,
+ * 두 번째 시도를 보낼 때는 첫 시도가 간 인스턴스를 빼고 고른다. (PeakEwmaLoadBalancer)
+ */
+public class HedgeAttempt {
+
+    private static final ThreadLocal<HedgeAttempt> CURRENT = new ThreadLocal<>();
+
+    private final HedgeAttempt primary; // 첫 시도면 null
+    private final Map<String, ServiceInstance> routed = new ConcurrentHashMap<>();
+
+    HedgeAttempt(HedgeAttempt primary) {
+        this.primary = primary;
+    }
+
+    /* 현재 스레드에서 실행 중인 시도 (헤지 대상이 아니면 null) */
+    public static HedgeAttempt current() {
+        return CURRENT.get();
+    }
+
+    public void routedTo(String serviceId, ServiceInstance instance) {
+        routed.put(serviceId, instance);
+    }
+
+    /* 두 번째 시도면 같은 서비스에서 첫 시도가 간 인스턴스, 아니면 null */
+    public ServiceInstance avoid(String serviceId) {
+        return (primary == null) ? null : primary.routed.get(serviceId);
+    }
+
+    <T> Supplier<T> bind(Supplier<T> request) {
+        return () -> {
+            HedgeAttempt previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                return request.get();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package shop.kokodo.orderservice.feign.hedge;
+
+/**
+ * 헤지 요청 예산
+ * 요청마다 ratio 만큼 적립하고 헤지 요청 하나에 1 을 쓴다. (추가 부하는 최대 ratio 비율)
+ * 적립은 maxTokens 까지만 해서 한가할 때 모인 예산이 장애 시 한꺼번에 쓰이지 않도록 한다.
+ */
+public class HedgeBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    public HedgeBudget(double ratio, double maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+    }
+
+    public synchronized void onRequest() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
@@ -0,0 +1,205 @@
+package shop.kokodo.orderservice.feign.hedge;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 헤지 요청 (멱등 GET 전용)
+ * 요청이 대상별 최근 p95 응답 시간 안에 끝나지 않으면 같은 요청을 한 번 더 보내고 먼저 성공한 응답을 쓴다.
+ * 두 번째 요청은 첫 요청이 간 인스턴스를 빼고 고르도록 로드밸런서에 알린다. (HedgeAttempt → PeakEwmaLoadBalancer)
+ * 인스턴스가 하나뿐이거나 나머지가 모두 제외된 경우, 응답 시간 기반 로드밸런서를 끈 경우에는 같은 인스턴스로 갈 수 있다.
+ * 추가 요청은 대상별 예산(budget-ratio) 안에서만 보내고, 스레드가 모자라면 헤지 없이 호출한다.
+ * order.hedge.enabled=false(기본)이면 호출한 스레드에서 그대로 실행한다.
+ */
+@Slf4j
+@Component
+public class HedgedExecutor implements DisposableBean {
+
+    private static final int LATENCY_SAMPLES = 1000;
+    private static final double HEDGE_PERCENTILE = 0.95;
+
+    private final boolean enabled;
+    private final double budgetRatio;
+    private final double budgetMaxTokens;
+    private final long minDelayNanos;
+    private final long initialDelayNanos;
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Target> targets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public HedgedExecutor(ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${order.hedge.enabled:false}") boolean enabled,
+        @Value("${order.hedge.budget-ratio:0.05}") double budgetRatio,
+        @Value("${order.hedge.budget-max-tokens:10}") double budgetMaxTokens,
+        @Value("${order.hedge.min-delay-ms:5}") long minDelayMillis,
+        @Value("${order.hedge.initial-delay-ms:100}") long initialDelayMillis,
+        @Value("${order.hedge.max-threads:64}") int maxThreads) {
+        this(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), enabled, budgetRatio, budgetMaxTokens,
+            minDelayMillis, initialDelayMillis, maxThreads);
+    }
+
+    HedgedExecutor(MeterRegistry meterRegistry, boolean enabled, double budgetRatio, double budgetMaxTokens,
+        long minDelayMillis, long initialDelayMillis, int maxThreads) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.budgetRatio = budgetRatio;
+        this.budgetMaxTokens = budgetMaxTokens;
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelayMillis);
+        this.initialDelayNanos = TimeUnit.MILLISECONDS.toNanos(initialDelayMillis);
+        this.executor = enabled ? new ThreadPoolExecutor(0, maxThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "hedged-request");
+                thread.setDaemon(true);
+                return thread;
+            }) : null;
+    }
+
+    /* 헤지 없이 바로 호출 (테스트, 헤지 대상이 아닌 생성자용) */
+    public static HedgedExecutor direct() {
+        return new HedgedExecutor(new SimpleMeterRegistry(), false, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * @param name 대상 이름 (응답 시간 분포와 예산을 따로 관리)
+     * @param request 멱등 요청 (두 번 실행될 수 있다)
+     */
+    public <T> T call(String name, Supplier<T> request) {
+        if (!enabled) {
+            return request.get();
+        }
+        Target target = targets.computeIfAbsent(name, key -> new Target());
+        target.budget.onRequest();
+
+        HedgeAttempt primaryAttempt = new HedgeAttempt(null);
+        CompletableFuture<T> primary;
+        try {
+            primary = submit(primaryAttempt.bind(request), target);
+        } catch (RejectedExecutionException e) {
+            return request.get();
+        }
+
+        try {
+            return primary.get(Math.max(minDelayNanos, target.latency.percentileNanos()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return hedge(name, target, request, primary, primaryAttempt);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("헤지 요청 대기 중단: " + name, e);
+        }
+    }
+
+    private <T> T hedge(String name, Target target, Supplier<T> request, CompletableFuture<T> primary,
+        HedgeAttempt primaryAttempt) {
+        if (!target.budget.tryAcquire()) {
+            count(name, "budget_exhausted");
+            return join(name, primary);
+        }
+
+        CompletableFuture<T> secondary;
+        try {
+            secondary = submit(new HedgeAttempt(primaryAttempt).bind(request), target);
+        } catch (RejectedExecutionException e) {
+            count(name, "rejected");
+            return join(name, primary);
+        }
+        count(name, "hedged");
+
+        // 먼저 성공한 응답 사용 (둘 다 실패하면 나중 실패)
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<T>> first = new AtomicReference<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (CompletableFuture<T> attempt : List.of(primary, secondary)) {
+            attempt.whenComplete((value, throwable) -> {
+                if (throwable == null) {
+                    if (first.compareAndSet(null, attempt)) {
+                        winner.complete(value);
+                    }
+                } else if (failures.incrementAndGet() == 2) {
+                    winner.completeExceptionally(throwable);
+                }
+            });
+        }
+        T result = join(name, winner);
+        if (first.get() == secondary) {
+            count(name, "hedge_won");
+        }
+        return result;
+    }
+
+    // 응답 시간은 응답이 쓰였는지와 무관하게 모든 요청에서 기록한다.
+    private <T> CompletableFuture<T> submit(Supplier<T> request, Target target) {
+        long start = System.nanoTime();
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(request, executor);
+        future.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                target.latency.record(System.nanoTime() - start);
+            }
+        });
+        return future;
+    }
+
+    private <T> T join(String name, CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("헤지 요청 대기 중단: " + name, e);
+        }
+    }
+
+    private RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private void count(String name, String result) {
+        meterRegistry.counter("order.hedge", "target", name, "result", result).increment();
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private class Target {
+        private final LatencyTracker latency = new LatencyTracker(LATENCY_SAMPLES, HEDGE_PERCENTILE, initialDelayNanos);
+        private final HedgeBudget budget = new HedgeBudget(budgetRatio, budgetMaxTokens);
+    }
+}
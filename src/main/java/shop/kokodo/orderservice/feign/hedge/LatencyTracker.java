@@ -0,0 +1,42 @@
+package shop.kokodo.orderservice.feign.hedge;
+
+import java.util.Arrays;
+
+/**
+ * 최근 응답 시간 분포
+ * 최근 sampleSize 개 응답 시간을 링 버퍼에 보관하고, 백분위 값은 일정 개수마다 다시 계산해 둔다.
+ * 표본이 모이기 전에는 initialNanos 를 사용한다.
+ */
+public class LatencyTracker {
+
+    private static final int RECOMPUTE_INTERVAL = 50;
+
+    private final long[] samples;
+    private final double percentile;
+    private int next;
+    private int count;
+    private long recorded;
+    private long percentileNanos;
+
+    public LatencyTracker(int sampleSize, double percentile, long initialNanos) {
+        this.samples = new long[sampleSize];
+        this.percentile = percentile;
+        this.percentileNanos = initialNanos;
+    }
+
+    public synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+        if (++recorded % RECOMPUTE_INTERVAL == 0) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * count) - 1;
+            percentileNanos = sorted[Math.max(0, index)];
+        }
+    }
+
+    public synchronized long percentileNanos() {
+        return percentileNanos;
+    }
+}
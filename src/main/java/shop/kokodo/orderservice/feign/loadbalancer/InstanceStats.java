@@ -0,0 +1,99 @@
+package shop.kokodo.orderservice.feign.loadbalancer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인스턴스별 응답 시간(peak EWMA), 처리 중인 요청 수, 연속 실패, 일시 제외 상태
+ * EWMA 는 느려질 때 바로 따라가고(peak) 빨라질 때는 decay 시간에 걸쳐 천천히 내려온다.
+ * 읽을 때도 마지막 응답 이후 지난 시간만큼 0 을 향해 감쇠한다. (Finagle PeakEwma 와 같은 방식)
+ * 한 번 느렸던 인스턴스도 요청을 받지 않는 동안 점수가 내려가서 다시 선택되고 새 표본을 얻는다.
+ * 제외 기간이 끝나면 응답 시간 기록을 지우고 처음 보는 인스턴스처럼 다시 시험한다.
+ */
+public class InstanceStats {
+
+    private final long decayNanos;
+    private final long initialNanos;
+
+    private double ewmaNanos;
+    private long lastUpdate;
+    private long samples;
+    private int outstanding;
+    private int consecutiveFailures;
+    private int ejections;
+    private long ejectedUntil;
+
+    public InstanceStats(long decayNanos, long initialNanos) {
+        this.decayNanos = decayNanos;
+        this.initialNanos = initialNanos;
+    }
+
+    public synchronized void start() {
+        outstanding++;
+    }
+
+    public synchronized void complete(long latencyNanos, boolean failure, long now) {
+        outstanding = Math.max(0, outstanding - 1);
+        if (failure) {
+            consecutiveFailures++;
+            return;
+        }
+        consecutiveFailures = 0;
+        double weight = weight(now);
+        if (samples == 0 || latencyNanos > ewmaNanos * weight) {
+            ewmaNanos = latencyNanos;
+        } else {
+            ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+        }
+        lastUpdate = now;
+        samples++;
+    }
+
+    /* 점수가 낮을수록 우선 (응답 시간 x (처리 중인 요청 + 1)) */
+    public synchronized double score(long now) {
+        return latencyNanos(now) * (outstanding + 1);
+    }
+
+    public synchronized double latencyNanos(long now) {
+        return (samples == 0) ? initialNanos : ewmaNanos * weight(now);
+    }
+
+    // 마지막 응답 이후 지난 시간에 대한 감쇠 가중치
+    private double weight(long now) {
+        return Math.exp(-(double) Math.max(0, now - lastUpdate) / decayNanos);
+    }
+
+    public synchronized long getSamples() {
+        return samples;
+    }
+
+    public synchronized int getOutstanding() {
+        return outstanding;
+    }
+
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public synchronized boolean isEjected(long now) {
+        if (ejectedUntil != 0 && now - ejectedUntil >= 0) {
+            // 제외 기간이 끝나면 기록을 지우고 다시 시험
+            ejectedUntil = 0;
+            samples = 0;
+            consecutiveFailures = 0;
+        }
+        return ejectedUntil != 0;
+    }
+
+    /* 제외 시간은 제외될 때마다 base 의 배수로 늘어난다 (최대 10배) */
+    public synchronized void eject(long now, long baseEjectionNanos) {
+        ejections = Math.min(ejections + 1, 10);
+        ejectedUntil = now + baseEjectionNanos * ejections;
+        if (ejectedUntil == 0) {
+            ejectedUntil = 1;
+        }
+    }
+
+    public synchronized double latencyMillis(long now) {
+        return latencyNanos(now) / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
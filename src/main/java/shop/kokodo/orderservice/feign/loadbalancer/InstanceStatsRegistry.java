@@ -0,0 +1,137 @@
+package shop.kokodo.orderservice.feign.loadbalancer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feign 대상 인스턴스 통계 (서비스별 로드밸런서와 요청 수명주기 콜백이 함께 사용)
+ * 인스턴스마다 응답 시간, 처리 중인 요청 수, 제외 여부를 게이지로 노출한다.
+ *   order.loadbalancer.instance.latency / outstanding / ejected {service, instance}
+ * 서비스 인스턴스 목록에서 빠진 인스턴스는 통계와 게이지를 함께 지운다. (재배포마다 쌓이지 않도록)
+ */
+@Component
+public class InstanceStatsRegistry {
+
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final long decayNanos;
+    private final long initialNanos;
+    private final long baseEjectionNanos;
+    private final int consecutiveFailures;
+    private final double slowFactor;
+    private final long minSamples;
+
+    // [key] 서비스 아이디 → [key] host:port
+    private final Map<String, Map<String, Registration>> stats = new ConcurrentHashMap<>();
+
+    @Autowired
+    public InstanceStatsRegistry(ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${order.loadbalancer.ewma-decay-ms:10000}") long decayMillis,
+        @Value("${order.loadbalancer.initial-latency-ms:100}") long initialLatencyMillis,
+        @Value("${order.loadbalancer.outlier.base-ejection-ms:30000}") long baseEjectionMillis,
+        @Value("${order.loadbalancer.outlier.consecutive-failures:5}") int consecutiveFailures,
+        @Value("${order.loadbalancer.outlier.slow-factor:5}") double slowFactor,
+        @Value("${order.loadbalancer.outlier.min-samples:20}") long minSamples) {
+        this(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), System::nanoTime, decayMillis, initialLatencyMillis,
+            baseEjectionMillis, consecutiveFailures, slowFactor, minSamples);
+    }
+
+    InstanceStatsRegistry(MeterRegistry meterRegistry, LongSupplier nanoClock, long decayMillis, long initialLatencyMillis,
+        long baseEjectionMillis, int consecutiveFailures, double slowFactor, long minSamples) {
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+        this.decayNanos = TimeUnit.MILLISECONDS.toNanos(decayMillis);
+        this.initialNanos = TimeUnit.MILLISECONDS.toNanos(initialLatencyMillis);
+        this.baseEjectionNanos = TimeUnit.MILLISECONDS.toNanos(baseEjectionMillis);
+        this.consecutiveFailures = consecutiveFailures;
+        this.slowFactor = slowFactor;
+        this.minSamples = minSamples;
+    }
+
+    public InstanceStats get(String serviceId, ServiceInstance instance) {
+        return stats.computeIfAbsent(serviceId, k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(instanceKey(instance), key -> register(serviceId, key))
+            .stats;
+    }
+
+    /**
+     * 현재 인스턴스 목록에 없는 인스턴스의 통계와 게이지 삭제
+     * 통계는 목록에 있는 인스턴스로만 늘어나므로 개수가 목록보다 많을 때만 비교한다. (조회마다 집합을 만들지 않는다)
+     */
+    public void retain(String serviceId, List<ServiceInstance> instances) {
+        Map<String, Registration> registrations = stats.get(serviceId);
+        if (registrations == null || registrations.size() <= instances.size()) {
+            return;
+        }
+        Set<String> current = instances.stream().map(InstanceStatsRegistry::instanceKey).collect(Collectors.toSet());
+        registrations.entrySet().removeIf(entry -> {
+            if (current.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().meters.forEach(meterRegistry::remove);
+            return true;
+        });
+    }
+
+    private Registration register(String serviceId, String instance) {
+        InstanceStats instanceStats = new InstanceStats(decayNanos, initialNanos);
+        List<Meter> meters = List.of(
+            Gauge.builder("order.loadbalancer.instance.latency", instanceStats, s -> s.latencyMillis(nanoClock.getAsLong()))
+                .tag("service", serviceId).tag("instance", instance).baseUnit("milliseconds").register(meterRegistry),
+            Gauge.builder("order.loadbalancer.instance.outstanding", instanceStats, InstanceStats::getOutstanding)
+                .tag("service", serviceId).tag("instance", instance).register(meterRegistry),
+            Gauge.builder("order.loadbalancer.instance.ejected", instanceStats, s -> s.isEjected(nanoClock.getAsLong()) ? 1 : 0)
+                .tag("service", serviceId).tag("instance", instance).register(meterRegistry));
+        return new Registration(instanceStats, meters);
+    }
+
+    static String instanceKey(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    public long now() {
+        return nanoClock.getAsLong();
+    }
+
+    /* 응답 기록 후 연속 실패가 기준을 넘으면 제외 */
+    public void complete(InstanceStats instanceStats, long latencyNanos, boolean failure) {
+        long now = now();
+        instanceStats.complete(latencyNanos, failure, now);
+        if (failure && instanceStats.getConsecutiveFailures() >= consecutiveFailures) {
+            instanceStats.eject(now, baseEjectionNanos);
+        }
+    }
+
+    /* 표본이 충분하고 다른 인스턴스 중앙값보다 slowFactor 배 이상 느리면 느린 인스턴스 */
+    public boolean isSlow(InstanceStats instanceStats, double medianLatencyNanos) {
+        return instanceStats.getSamples() >= minSamples && instanceStats.latencyNanos(now()) > medianLatencyNanos * slowFactor;
+    }
+
+    public void eject(InstanceStats instanceStats) {
+        instanceStats.eject(now(), baseEjectionNanos);
+    }
+
+    private static class Registration {
+        private final InstanceStats stats;
+        private final List<Meter> meters;
+
+        private Registration(InstanceStats stats, List<Meter> meters) {
+            this.stats = stats;
+            this.meters = meters;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package shop.kokodo.orderservice.feign.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * 서비스별 로드밸런서 자식 컨텍스트 설정 (@LoadBalancerClient configuration 으로만 사용)
+ * 컴포넌트 스캔 대상이 되지 않도록 @Configuration 을 붙이지 않는다.
+ */
+public class LatencyAwareLoadBalancerConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> peakEwmaLoadBalancer(Environment environment,
+        LoadBalancerClientFactory loadBalancerClientFactory, InstanceStatsRegistry instanceStatsRegistry) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new PeakEwmaLoadBalancer(serviceId,
+            loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class), instanceStatsRegistry);
+    }
+
+    @Bean
+    public InstanceStatsLifecycle instanceStatsLifecycle(Environment environment,
+        InstanceStatsRegistry instanceStatsRegistry) {
+        return new InstanceStatsLifecycle(environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME),
+            instanceStatsRegistry);
+    }
+}
@@ -0,0 +1,20 @@
+package shop.kokodo.orderservice.feign.loadbalancer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * product / member / promotion 서비스 호출에 응답 시간 기반 로드밸런서 적용
+ * order.loadbalancer.latency-aware.enabled=false 이면 기본 round robin 으로 동작한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "order.loadbalancer.latency-aware.enabled", havingValue = "true", matchIfMissing = true)
+@LoadBalancerClients({
+    @LoadBalancerClient(name = "product-service", configuration = LatencyAwareLoadBalancerConfiguration.class),
+    @LoadBalancerClient(name = "member-service", configuration = LatencyAwareLoadBalancerConfiguration.class),
+    @LoadBalancerClient(name = "promotion-service", configuration = LatencyAwareLoadBalancerConfiguration.class)
+})
+public class LoadBalancerConfig {
+}
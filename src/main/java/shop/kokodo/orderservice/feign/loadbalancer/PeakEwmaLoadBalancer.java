@@ -0,0 +1,143 @@
+package shop.kokodo.orderservice.feign.loadbalancer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+import shop.kokodo.orderservice.feign.hedge.HedgeAttempt;
+
+/**
+ * 응답 시간 기반 로드밸런서 (power of two choices)
+ * 제외되지 않은 인스턴스 중 두 개를 무작위로 골라 점수(peak EWMA 응답 시간 x (처리 중인 요청 + 1))가 낮은 쪽을 선택한다.
+ * 다른 인스턴스 중앙값보다 크게 느린 인스턴스는 일시적으로 제외한다. (전체의 절반까지만)
+ * 모든 인스턴스가 제외된 경우에는 제외 여부와 관계없이 선택한다.
+ * 목록에서 빠진 인스턴스(재배포 등)의 통계와 게이지는 정리한다.
+ * 헤지 요청의 두 번째 시도는 첫 시도가 간 인스턴스를 빼고 고른다. (다른 후보가 있을 때만)
+ */
+@Slf4j
+public class PeakEwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final String serviceId;
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final InstanceStatsRegistry registry;
+
+    public PeakEwmaLoadBalancer(String serviceId, ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+        InstanceStatsRegistry registry) {
+        this.serviceId = serviceId;
+        this.supplierProvider = supplierProvider;
+        this.registry = registry;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        // 인스턴스 목록은 다른 스레드에서 올 수 있으므로 시도 정보는 호출한 스레드에서 미리 꺼낸다.
+        HedgeAttempt attempt = HedgeAttempt.current();
+        return supplier.get(request).next().map(instances -> choose(instances, attempt));
+    }
+
+    Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        return choose(instances, null);
+    }
+
+    Response<ServiceInstance> choose(List<ServiceInstance> instances, HedgeAttempt attempt) {
+        if (instances.isEmpty()) {
+            log.warn("[PeakEwmaLoadBalancer] 사용 가능한 인스턴스 없음: service={}", serviceId);
+            return new EmptyResponse();
+        }
+        registry.retain(serviceId, instances);
+        ServiceInstance chosen = pick(instances, attempt);
+        if (attempt != null) {
+            attempt.routedTo(serviceId, chosen);
+        }
+        return new DefaultResponse(chosen);
+    }
+
+    private ServiceInstance pick(List<ServiceInstance> instances, HedgeAttempt attempt) {
+        if (instances.size() == 1) {
+            return instances.get(0);
+        }
+
+        List<ServiceInstance> candidates = exclude(available(instances), (attempt == null) ? null : attempt.avoid(serviceId));
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        long now = registry.now();
+        return registry.get(serviceId, a).score(now) <= registry.get(serviceId, b).score(now) ? a : b;
+    }
+
+    // 첫 시도가 간 인스턴스 빼기 (빼고 남는 후보가 없으면 그대로)
+    private List<ServiceInstance> exclude(List<ServiceInstance> candidates, ServiceInstance avoid) {
+        if (avoid == null) {
+            return candidates;
+        }
+        String avoidKey = InstanceStatsRegistry.instanceKey(avoid);
+        List<ServiceInstance> others = new ArrayList<>(candidates.size());
+        for (ServiceInstance candidate : candidates) {
+            if (!avoidKey.equals(InstanceStatsRegistry.instanceKey(candidate))) {
+                others.add(candidate);
+            }
+        }
+        return others.isEmpty() ? candidates : others;
+    }
+
+    private List<ServiceInstance> available(List<ServiceInstance> instances) {
+        long now = registry.now();
+        List<ServiceInstance> available = new ArrayList<>(instances.size());
+        for (ServiceInstance instance : instances) {
+            if (!registry.get(serviceId, instance).isEjected(now)) {
+                available.add(instance);
+            }
+        }
+        ejectSlow(available, instances.size());
+        return available.isEmpty() ? instances : available;
+    }
+
+    // 가장 느린 인스턴스 하나를 중앙값과 비교해서 제외 (제외 후에도 절반 이상 남을 때만)
+    private void ejectSlow(List<ServiceInstance> available, int total) {
+        if (available.size() < 3 || (available.size() - 1) * 2 < total) {
+            return;
+        }
+        long now = registry.now();
+        double[] latencies = new double[available.size()];
+        int slowest = 0;
+        for (int i = 0; i < available.size(); i++) {
+            latencies[i] = registry.get(serviceId, available.get(i)).latencyNanos(now);
+            if (latencies[i] > latencies[slowest]) {
+                slowest = i;
+            }
+        }
+        double[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        double median = sorted[sorted.length / 2];
+
+        InstanceStats slowestStats = registry.get(serviceId, available.get(slowest));
+        if (registry.isSlow(slowestStats, median)) {
+            registry.eject(slowestStats);
+            log.info("[PeakEwmaLoadBalancer] 느린 인스턴스 일시 제외: service={}, instance={}, latency={}ms",
+                serviceId, InstanceStatsRegistry.instanceKey(available.get(slowest)), slowestStats.latencyMillis(now));
+            available.remove(slowest);
+        }
+    }
+}
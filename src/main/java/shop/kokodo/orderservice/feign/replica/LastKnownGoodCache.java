@@ -0,0 +1,64 @@
+package shop.kokodo.orderservice.feign.replica;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import shop.kokodo.orderservice.service.utils.LruCache;
+
+/**
+ * 마지막으로 성공한 Feign 응답 (last-known-good)
+ * 성공 응답마다 항목을 갱신하고, 서킷브레이커 fallback 에서는 저장된 항목을 오래된(stale) 응답으로 돌려준다.
+ * fallback 으로 응답한 아이디는 재검증 대상으로 모아 두었다가 서킷이 반쯤 열릴 때 다시 조회한다.
+ */
+public class LastKnownGoodCache<V> {
+
+    private final LruCache<Long, V> entries;
+    private final Set<Long> staleIds = ConcurrentHashMap.newKeySet();
+    private final int maxStaleIds;
+
+    public LastKnownGoodCache(int maxSize, Duration maxAge) {
+        this.entries = new LruCache<>(maxSize, maxAge);
+        this.maxStaleIds = maxSize;
+    }
+
+    /* 성공 응답 저장 */
+    public Snapshot<Map<Long, V>> refresh(Map<Long, V> fresh) {
+        fresh.forEach((id, value) -> {
+            if (value != null) {
+                entries.put(id, value);
+            }
+        });
+        staleIds.removeAll(fresh.keySet());
+        return Snapshot.fresh(fresh);
+    }
+
+    /* fallback: 저장된 항목만 돌려주고 재검증 대상으로 등록 */
+    public Snapshot<Map<Long, V>> fallback(List<Long> ids) {
+        Map<Long, V> cached = new HashMap<>();
+        for (Long id : ids) {
+            V value = entries.get(id);
+            if (value != null) {
+                cached.put(id, value);
+            }
+            if (staleIds.size() < maxStaleIds) {
+                staleIds.add(id);
+            }
+        }
+        return Snapshot.stale(cached);
+    }
+
+    /* 재검증할 아이디 (최대 max 개) */
+    public List<Long> staleIds(int max) {
+        List<Long> ids = new ArrayList<>(Math.min(max, staleIds.size()));
+        Iterator<Long> iterator = staleIds.iterator();
+        while (iterator.hasNext() && ids.size() < max) {
+            ids.add(iterator.next());
+        }
+        return ids;
+    }
+}
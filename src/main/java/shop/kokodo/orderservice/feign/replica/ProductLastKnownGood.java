@@ -0,0 +1,134 @@
+package shop.kokodo.orderservice.feign.replica;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker.State;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
+import org.springframework.stereotype.Component;
+import shop.kokodo.orderservice.feign.client.ProductServiceClient;
+import shop.kokodo.orderservice.feign.hedge.HedgedExecutor;
+import shop.kokodo.orderservice.feign.response.CartProductDto;
+import shop.kokodo.orderservice.feign.response.ProductThumbnailDto;
+
+/**
+ * 상품 조회 (서킷브레이커 + last-known-good)
+ * product-service 장애 시 빈 맵 대신 마지막으로 성공한 상품 정보를 stale 표시와 함께 돌려준다.
+ * 서킷이 반쯤 열리면(HALF_OPEN) fallback 으로 응답했던 상품을 백그라운드에서 다시 조회해서 갱신한다.
+ * (재검증 호출도 같은 서킷을 지나므로 성공하면 서킷이 닫힌다)
+ */
+@Slf4j
+@Component
+public class ProductLastKnownGood implements DisposableBean {
+
+    // 주문 내역/상세, 장바구니 목록이 사용하던 서킷브레이커
+    static final String THUMBNAIL_CIRCUIT_BREAKER = "circuitbreaker";
+    static final String CART_PRODUCT_CIRCUIT_BREAKER = "getProductOfCartCB";
+
+    private final ProductServiceClient productServiceClient;
+    private final HedgedExecutor hedgedExecutor;
+    private final CircuitBreakerFactory circuitBreakerFactory;
+    private final LastKnownGoodCache<ProductThumbnailDto> thumbnails;
+    private final LastKnownGoodCache<CartProductDto> cartProducts;
+    private final int revalidateBatchSize;
+    private final ExecutorService revalidateExecutor;
+
+    @Autowired
+    public ProductLastKnownGood(ProductServiceClient productServiceClient,
+        HedgedExecutor hedgedExecutor,
+        CircuitBreakerFactory circuitBreakerFactory,
+        ObjectProvider<CircuitBreakerRegistry> circuitBreakerRegistry,
+        @Value("${order.product-fallback.cache-size:50000}") int cacheSize,
+        @Value("${order.product-fallback.max-age-hours:24}") long maxAgeHours,
+        @Value("${order.product-fallback.revalidate-batch-size:500}") int revalidateBatchSize) {
+        this.productServiceClient = productServiceClient;
+        this.hedgedExecutor = hedgedExecutor;
+        this.circuitBreakerFactory = circuitBreakerFactory;
+        this.thumbnails = new LastKnownGoodCache<>(cacheSize, Duration.ofHours(maxAgeHours));
+        this.cartProducts = new LastKnownGoodCache<>(cacheSize, Duration.ofHours(maxAgeHours));
+        this.revalidateBatchSize = revalidateBatchSize;
+        this.revalidateExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(2),
+            runnable -> {
+                Thread thread = new Thread(runnable, "product-revalidate");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+
+        circuitBreakerRegistry.ifAvailable(registry -> {
+            registry.getAllCircuitBreakers().forEach(this::watch);
+            registry.getEventPublisher().onEntryAdded(event -> watch(event.getAddedEntry()));
+        });
+    }
+
+    /* 주문 내역/상세용 상품 썸네일 */
+    public Snapshot<Map<Long, ProductThumbnailDto>> getProductListMap(List<Long> productIds) {
+        return load(THUMBNAIL_CIRCUIT_BREAKER, thumbnails, this::getProductListMapHedged, productIds);
+    }
+
+    /* 장바구니 목록용 상품 정보 */
+    public Snapshot<Map<Long, CartProductDto>> getOrderProducts(List<Long> productIds) {
+        return load(CART_PRODUCT_CIRCUIT_BREAKER, cartProducts, productServiceClient::getOrderProducts, productIds);
+    }
+
+    private Map<Long, ProductThumbnailDto> getProductListMapHedged(List<Long> productIds) {
+        return hedgedExecutor.call("product.product-list-map", () -> productServiceClient.getProductListMap(productIds));
+    }
+
+    private <V> Snapshot<Map<Long, V>> load(String circuitBreakerId, LastKnownGoodCache<V> cache,
+        Function<List<Long>, Map<Long, V>> call, List<Long> productIds) {
+        return circuitBreakerFactory.create(circuitBreakerId).run(
+            () -> cache.refresh(call.apply(productIds)),
+            throwable -> {
+                log.warn("[ProductLastKnownGood] 상품 조회 실패, 마지막 응답 사용: circuit_breaker={}, products={}, cause={}",
+                    circuitBreakerId, productIds.size(), throwable.toString());
+                return cache.fallback(productIds);
+            });
+    }
+
+    private void watch(io.github.resilience4j.circuitbreaker.CircuitBreaker circuitBreaker) {
+        String name = circuitBreaker.getName();
+        if (!THUMBNAIL_CIRCUIT_BREAKER.equals(name) && !CART_PRODUCT_CIRCUIT_BREAKER.equals(name)) {
+            return;
+        }
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            if (event.getStateTransition().getToState() == State.HALF_OPEN) {
+                revalidateExecutor.execute(() -> revalidate(name));
+            }
+        });
+    }
+
+    void revalidate(String circuitBreakerId) {
+        if (THUMBNAIL_CIRCUIT_BREAKER.equals(circuitBreakerId)) {
+            revalidate(circuitBreakerId, thumbnails, this::getProductListMapHedged);
+        } else {
+            revalidate(circuitBreakerId, cartProducts, productServiceClient::getOrderProducts);
+        }
+    }
+
+    private <V> void revalidate(String circuitBreakerId, LastKnownGoodCache<V> cache, Function<List<Long>, Map<Long, V>> call) {
+        List<Long> staleIds = cache.staleIds(revalidateBatchSize);
+        if (staleIds.isEmpty()) {
+            return;
+        }
+        circuitBreakerFactory.create(circuitBreakerId).run(
+            () -> cache.refresh(call.apply(staleIds)),
+            throwable -> null);
+        log.info("[ProductLastKnownGood] 상품 재검증: circuit_breaker={}, products={}", circuitBreakerId, staleIds.size());
+    }
+
+    @Override
+    public void destroy() {
+        revalidateExecutor.shutdown();
+    }
+}
@@ -0,0 +1,220 @@
+package shop.kokodo.orderservice.feign.replica;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import shop.kokodo.orderservice.feign.client.PromotionServiceClient;
+import shop.kokodo.orderservice.feign.hedge.HedgedExecutor;
+import shop.kokodo.orderservice.feign.response.RateDiscountPolicyDto;
+
+/**
+ * 할인 정책 로컬 복제본
+ * - 상품 아이디 → 비율할인정책, 판매자 아이디 → 고정할인정책 적용 여부를 메모리에 들고 있다.
+ * - 기동 시 compacted changelog 토픽을 처음부터 읽어서 채우고, 이후 변경도 changelog 로 받는다. (PromotionPolicyChangelogConsumer)
+ * - 변경은 ConcurrentHashMap 에 아이디별로 반영한다. (changelog 한 배치마다 맵 전체를 복사하지 않는다)
+ * - 복제본에 없는 아이디만 promotion-service 에서 한 번에 조회해서 채운다. (정책 없음도 저장)
+ * - 조회 결과는 조회를 시작한 뒤에 changelog 로 바뀐 항목을 덮어쓰지 않는다. (조회 결과가 더 오래된 값일 수 있다)
+ * 신선도
+ * - 항목의 나이는 max(항목을 반영한 시점, changelog 를 끝까지 따라잡은 마지막 시점) 부터 잰다.
+ *   changelog 를 계속 따라잡고 있으면 바뀌지 않은 정책도 최신이므로 다시 조회하지 않는다.
+ *   consumer 가 멈추거나 밀리면 그 시점부터 나이가 늘어난다.
+ * - refresh-after-ms 가 지난 항목은 기존 값으로 응답하고 백그라운드에서 다시 조회한다.
+ * - max-staleness-ms 가 지난 항목은 다시 조회해야 사용한다. (조회 실패 시 주문 실패)
+ */
+@Component
+@Slf4j
+public class PromotionPolicyReplica {
+
+    private final PromotionServiceClient promotionServiceClient;
+    private final HedgedExecutor hedgedExecutor;
+    private final LongSupplier clock;
+    private final Executor refreshExecutor;
+    private final long refreshAfterMillis;
+    private final long maxStalenessMillis;
+
+    private final Map<Long, Entry<RateDiscountPolicyDto>> ratePolicies = new ConcurrentHashMap<>();
+    private final Map<Long, Entry<Boolean>> fixPolicies = new ConcurrentHashMap<>();
+    // changelog 를 끝까지 따라잡은 마지막 시점 (한 번도 따라잡지 못했으면 Long.MIN_VALUE)
+    private volatile long changelogCaughtUpAt = Long.MIN_VALUE;
+    // 같은 아이디를 백그라운드에서 중복 조회하지 않도록 조회 중인 아이디
+    private final Set<Long> refreshingProducts = ConcurrentHashMap.newKeySet();
+    private final Set<Long> refreshingSellers = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public PromotionPolicyReplica(PromotionServiceClient promotionServiceClient,
+        HedgedExecutor hedgedExecutor,
+        @Value("${order.promotion-replica.refresh-after-ms:60000}") long refreshAfterMillis,
+        @Value("${order.promotion-replica.max-staleness-ms:600000}") long maxStalenessMillis) {
+        this(promotionServiceClient, hedgedExecutor, System::currentTimeMillis, newRefreshExecutor(), refreshAfterMillis, maxStalenessMillis);
+    }
+
+    PromotionPolicyReplica(PromotionServiceClient promotionServiceClient, LongSupplier clock, Executor refreshExecutor,
+        long refreshAfterMillis, long maxStalenessMillis) {
+        this(promotionServiceClient, HedgedExecutor.direct(), clock, refreshExecutor, refreshAfterMillis, maxStalenessMillis);
+    }
+
+    PromotionPolicyReplica(PromotionServiceClient promotionServiceClient, HedgedExecutor hedgedExecutor, LongSupplier clock,
+        Executor refreshExecutor, long refreshAfterMillis, long maxStalenessMillis) {
+        this.promotionServiceClient = promotionServiceClient;
+        this.hedgedExecutor = hedgedExecutor;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshAfterMillis = refreshAfterMillis;
+        this.maxStalenessMillis = maxStalenessMillis;
+    }
+
+    /* [key] 상품 아이디 [value] 상품에 적용된 비율할인정책 (정책이 없는 상품은 제외) */
+    public Map<Long, RateDiscountPolicyDto> getRateDiscountPolicy(List<Long> productIds) {
+        long now = clock.getAsLong();
+        Lookup lookup = lookup(ratePolicies, productIds, now);
+        if (!lookup.required.isEmpty()) {
+            loadRatePolicies(lookup.required, now);
+        }
+        if (!lookup.refresh.isEmpty()) {
+            refreshAsync(lookup.refresh, refreshingProducts, ids -> loadRatePolicies(ids, clock.getAsLong()));
+        }
+        return present(ratePolicies, productIds);
+    }
+
+    /* [key] 판매자 아이디 [value] 판매자의 고정할인정책 적용 유무 */
+    public Map<Long, Boolean> getFixDiscountPolicyStatus(List<Long> productIds, List<Long> sellerIds) {
+        long now = clock.getAsLong();
+        Lookup lookup = lookup(fixPolicies, sellerIds, now);
+        if (!lookup.required.isEmpty()) {
+            loadFixPolicies(productIds, lookup.required, now);
+        }
+        if (!lookup.refresh.isEmpty()) {
+            refreshAsync(lookup.refresh, refreshingSellers, ids -> loadFixPolicies(productIds, ids, clock.getAsLong()));
+        }
+        return present(fixPolicies, sellerIds);
+    }
+
+    /* changelog 반영 (값이 null 이면 정책 삭제) */
+    public void applyRatePolicyChanges(Map<Long, RateDiscountPolicyDto> changes) {
+        apply(ratePolicies, changes, clock.getAsLong());
+    }
+
+    public void applyFixPolicyChanges(Map<Long, Boolean> changes) {
+        apply(fixPolicies, changes, clock.getAsLong());
+    }
+
+    /* changelog consumer 가 토픽 끝까지 따라잡았을 때 호출 (lag 0 또는 idle) */
+    public void markChangelogCaughtUp() {
+        changelogCaughtUpAt = clock.getAsLong();
+    }
+
+    public int size() {
+        return ratePolicies.size() + fixPolicies.size();
+    }
+
+    /* now: 조회 시작 시점 */
+    private void loadRatePolicies(List<Long> productIds, long now) {
+        Map<Long, RateDiscountPolicyDto> loaded = hedgedExecutor.call("promotion.rate-discount-policy",
+            () -> promotionServiceClient.getRateDiscountPolicy(productIds));
+        Map<Long, RateDiscountPolicyDto> changes = new HashMap<>();
+        productIds.forEach(productId -> changes.put(productId, loaded.get(productId)));
+        applyLoaded(ratePolicies, changes, now);
+    }
+
+    private void loadFixPolicies(List<Long> productIds, List<Long> sellerIds, long now) {
+        Map<Long, Boolean> loaded = promotionServiceClient.getFixDiscountPolicyStatusForFeign(productIds, sellerIds);
+        Map<Long, Boolean> changes = new HashMap<>();
+        sellerIds.forEach(sellerId -> changes.put(sellerId, loaded.get(sellerId)));
+        applyLoaded(fixPolicies, changes, now);
+    }
+
+    private <V> Lookup lookup(Map<Long, Entry<V>> policies, List<Long> ids, long now) {
+        long caughtUpAt = changelogCaughtUpAt;
+        Lookup lookup = new Lookup();
+        for (Long id : ids) {
+            Entry<V> entry = policies.get(id);
+            long age = (entry == null) ? Long.MAX_VALUE : now - Math.max(entry.loadedAt, caughtUpAt);
+            if (age > maxStalenessMillis) {
+                lookup.required.add(id);
+            } else if (age > refreshAfterMillis) {
+                lookup.refresh.add(id);
+            }
+        }
+        return lookup;
+    }
+
+    private void refreshAsync(List<Long> ids, Set<Long> refreshing, Consumer<List<Long>> loader) {
+        List<Long> claimed = new ArrayList<>();
+        ids.stream().filter(refreshing::add).forEach(claimed::add);
+        if (claimed.isEmpty()) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    loader.accept(claimed);
+                } catch (RuntimeException e) {
+                    log.warn("[PromotionPolicyReplica] 할인 정책 갱신 실패, 기존 값 유지: ids={}", claimed, e);
+                } finally {
+                    claimed.forEach(refreshing::remove);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 갱신 대기열이 가득 차면 이번에는 건너뛰고 다음 조회 때 다시 시도
+            claimed.forEach(refreshing::remove);
+        }
+    }
+
+    private static <V> void apply(Map<Long, Entry<V>> policies, Map<Long, V> changes, long now) {
+        changes.forEach((id, value) -> policies.put(id, new Entry<>(value, now)));
+    }
+
+    /* 조회 결과 반영 (조회를 시작한 뒤 changelog 로 반영된 항목은 그대로 둔다) */
+    private static <V> void applyLoaded(Map<Long, Entry<V>> policies, Map<Long, V> loaded, long loadStartedAt) {
+        loaded.forEach((id, value) -> policies.compute(id, (key, current) ->
+            (current != null && current.loadedAt > loadStartedAt) ? current : new Entry<>(value, loadStartedAt)));
+    }
+
+    private static <V> Map<Long, V> present(Map<Long, Entry<V>> policies, List<Long> ids) {
+        Map<Long, V> result = new HashMap<>();
+        for (Long id : ids) {
+            Entry<V> entry = policies.get(id);
+            if (entry != null && entry.value != null) {
+                result.put(id, entry.value);
+            }
+        }
+        return result;
+    }
+
+    private static Executor newRefreshExecutor() {
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(100),
+            runnable -> {
+                Thread thread = new Thread(runnable, "promotion-policy-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    private static class Lookup {
+        private final List<Long> required = new ArrayList<>();
+        private final List<Long> refresh = new ArrayList<>();
+    }
+
+    private static class Entry<V> {
+        private final V value; // null 이면 정책 없음
+        private final long loadedAt;
+
+        private Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package shop.kokodo.orderservice.feign.replica;
+
+import lombok.Getter;
+
+/**
+ * 조회 결과와 오래된(stale) 응답 여부
+ * stale 이면 원격 서비스 장애로 마지막으로 성공한 응답을 대신 사용한 것이다.
+ */
+@Getter
+public class Snapshot<T> {
+
+    private final T value;
+    private final boolean stale;
+
+    private Snapshot(T value, boolean stale) {
+        this.value = value;
+        this.stale = stale;
+    }
+
+    public static <T> Snapshot<T> fresh(T value) {
+        return new Snapshot<>(value, false);
+    }
+
+    public static <T> Snapshot<T> stale(T value) {
+        return new Snapshot<>(value, true);
+    }
+}
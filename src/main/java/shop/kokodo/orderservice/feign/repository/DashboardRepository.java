@@ -31,4 +31,8 @@ public interface DashboardRepository extends CrudRepository<OrderProduct, Long>
     @Query("SELECT function('date_format', op.createdDate, '%Y-%m') AS yearMonth, COUNT(*) AS count FROM OrderProduct op WHERE op.productId IN :productIds GROUP BY yearMonth")
     <T> List<T> findMonthlyOrderCount(List<Long> productIds, Class<T> type);
 
+    /* 보관 주문상품 월별 주문 개수 */
+    @Query("SELECT function('date_format', op.createdDate, '%Y-%m') AS yearMonth, COUNT(*) AS count FROM ArchivedOrderProduct op WHERE op.productId IN :productIds GROUP BY yearMonth")
+    <T> List<T> findArchivedMonthlyOrderCount(List<Long> productIds, Class<T> type);
+
 }
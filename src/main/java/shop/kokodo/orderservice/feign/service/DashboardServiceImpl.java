@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
@@ -11,6 +12,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.kokodo.orderservice.datasource.InQueryTemplate;
+import shop.kokodo.orderservice.datasource.ShardTemplate;
 import shop.kokodo.orderservice.feign.client.ProductServiceClient;
 import shop.kokodo.orderservice.feign.dto.ProductCountDto;
 import shop.kokodo.orderservice.feign.repository.DashboardRepository;
@@ -25,28 +30,41 @@ public class DashboardServiceImpl implements DashboardService {
 
     private final DashboardRepository dashboardRepository;
     private final ProductServiceClient productServiceClient;
+    private final ShardTemplate shardTemplate;
+    private final InQueryTemplate inQueryTemplate;
+    private final TransactionTemplate readOnlyTransaction;
 
     public DashboardServiceImpl(
         DashboardRepository dashboardRepository,
-        ProductServiceClient productServiceClient) {
+        ProductServiceClient productServiceClient,
+        ShardTemplate shardTemplate,
+        InQueryTemplate inQueryTemplate,
+        PlatformTransactionManager transactionManager) {
         this.dashboardRepository = dashboardRepository;
         this.productServiceClient = productServiceClient;
+        this.shardTemplate = shardTemplate;
+        this.inQueryTemplate = inQueryTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
+    // 판매자 주문은 여러 회원 샤드에 흩어져 있으므로 샤드별 부분 집계를 모아서 합친다.
+    // 샤드 번호가 정해진 뒤에 커넥션을 얻도록 트랜잭션은 샤드별 작업 안에서 시작한다. (읽기 전용 -> 레플리카)
     @Override
     public OrderCountResponseDto getOrderCount(Long sellerId) {
         // 당일 주문상품 아이디리스트 조회
-        List<ProductCountDto> todayOrderProductCounts = dashboardRepository.findTodayOrderProductCountMap(ProductCountDto.class);
+        Map<Long, Integer> todayOrderProductCountMap = mergeProductCounts(
+            shardTemplate.scatter(() -> readOnlyTransaction.execute(
+                status -> dashboardRepository.findTodayOrderProductCountMap(ProductCountDto.class))));
 
         LocalDateTime start = LocalDateTime.of(LocalDate.now().minusDays(1), LocalTime.of(0,0,0)); // 어제 00:00:00
         LocalDateTime end = LocalDateTime.of(LocalDate.now().minusDays(1), LocalTime.of(23,59,59)); // 어제 23:59:59
-        List<ProductCountDto> yesterdayOrderProductCounts = dashboardRepository.findYesterdayOrderProductCountMap(start, end, ProductCountDto.class);
+        Map<Long, Integer> yesterdayOrderProductCountMap = mergeProductCounts(
+            shardTemplate.scatter(() -> readOnlyTransaction.execute(
+                status -> dashboardRepository.findYesterdayOrderProductCountMap(start, end, ProductCountDto.class))));
 
-        Map<Long, Integer> todayOrderProductCountMap = todayOrderProductCounts.stream().collect(Collectors.toMap(ProductCountDto::getId, ProductCountDto::getCount));
-        Map<Long, Integer> yesterdayOrderProductCountMap = yesterdayOrderProductCounts.stream().collect(Collectors.toMap(ProductCountDto::getId, ProductCountDto::getCount));
-
-        List<Long> todayOrderProductIds = todayOrderProductCounts.stream().map(ProductCountDto::getId).collect(Collectors.toList());
-        List<Long> yesterdayOrderProductIds = yesterdayOrderProductCounts.stream().map(ProductCountDto::getId).collect(Collectors.toList());
+        List<Long> todayOrderProductIds = new ArrayList<>(todayOrderProductCountMap.keySet());
+        List<Long> yesterdayOrderProductIds = new ArrayList<>(yesterdayOrderProductCountMap.keySet());
 
         ProductIdResponseDto productIdResponseDto = productServiceClient.getOrderCount(new OrderCountRequestDto(sellerId, todayOrderProductIds, yesterdayOrderProductIds));
 
@@ -61,11 +79,26 @@ public class DashboardServiceImpl implements DashboardService {
     @Override
     public Long[] getMonthlyOrderCount(Long sellerId) {
         List<Long> productIds = productServiceClient.getSellerProductIds(sellerId);
-        List<MonthCountDto> monthlyOrderCount = dashboardRepository.findMonthlyOrderCount(productIds, MonthCountDto.class);
+        // 올해 주문 중 보관 기간이 지난 주문은 보관 테이블에 있으므로 함께 집계한다.
+        // 상품 아이디 묶음별 월 집계는 getMonthCountArray 에서 월마다 더해진다.
+        List<MonthCountDto> monthlyOrderCount = shardTemplate.scatter(() -> readOnlyTransaction.execute(status -> {
+                List<MonthCountDto> counts = inQueryTemplate.query(productIds,
+                    ids -> dashboardRepository.findMonthlyOrderCount(ids, MonthCountDto.class));
+                counts.addAll(inQueryTemplate.query(productIds,
+                    ids -> dashboardRepository.findArchivedMonthlyOrderCount(ids, MonthCountDto.class)));
+                return counts;
+            }))
+            .stream().flatMap(List::stream).collect(Collectors.toList());
 
         return getMonthCountArray(monthlyOrderCount);
     }
 
+    private Map<Long, Integer> mergeProductCounts(List<List<ProductCountDto>> shardCounts) {
+        return shardCounts.stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toMap(ProductCountDto::getId, ProductCountDto::getCount, Integer::sum));
+    }
+
 
     private Long[] getMonthCountArray(List<MonthCountDto> monthlyOrderCount) {
         // 현재 년도의 월별 주문개수 필터링
@@ -78,7 +111,7 @@ public class DashboardServiceImpl implements DashboardService {
             String year = yearMonth.substring(0, 4);
             String month = yearMonth.substring(5);
             if (year.equals(curYear)) {
-                countOfMonth[Integer.parseInt(month) - 1] = monthCount.getCount();
+                countOfMonth[Integer.parseInt(month) - 1] += monthCount.getCount();
             }
         });
 
@@ -0,0 +1,81 @@
+package shop.kokodo.orderservice.feign.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.kokodo.orderservice.datasource.ShardTemplate;
+import shop.kokodo.orderservice.dto.response.OrderProductExportDto;
+import shop.kokodo.orderservice.feign.client.ProductServiceClient;
+import shop.kokodo.orderservice.feign.dto.ExportFormat;
+import shop.kokodo.orderservice.feign.service.interfaces.OrderExportService;
+import shop.kokodo.orderservice.feign.service.utils.OrderExportWriter;
+import shop.kokodo.orderservice.repository.interfaces.ArchivedOrderProductRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderProductRepository;
+
+@Service
+@Slf4j
+public class OrderExportServiceImpl implements OrderExportService {
+
+    private final OrderProductRepository orderProductRepository;
+    private final ArchivedOrderProductRepository archivedOrderProductRepository;
+    private final ProductServiceClient productServiceClient;
+    private final ShardTemplate shardTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public OrderExportServiceImpl(
+        OrderProductRepository orderProductRepository,
+        ArchivedOrderProductRepository archivedOrderProductRepository,
+        ProductServiceClient productServiceClient,
+        ShardTemplate shardTemplate,
+        PlatformTransactionManager transactionManager) {
+        this.orderProductRepository = orderProductRepository;
+        this.archivedOrderProductRepository = archivedOrderProductRepository;
+        this.productServiceClient = productServiceClient;
+        this.shardTemplate = shardTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // 샤드를 차례로 읽어서 이어 붙인다. (스트림은 샤드별 읽기 전용 트랜잭션 안에서만 유효)
+    // 샤드마다 운영 주문상품 다음에 보관 주문상품을 기록한다.
+    @Override
+    public long exportOrderProducts(Long sellerId, ExportFormat format, Writer writer) throws IOException {
+        List<Long> productIds = productServiceClient.getSellerProductIds(sellerId);
+        if (productIds.isEmpty()) {
+            writer.write(format.header());
+            writer.flush();
+            return 0;
+        }
+
+        writer.write(format.header());
+        long count = 0;
+        try {
+            for (int shard = 0; shard < shardTemplate.getShardCount(); shard++) {
+                count += shardTemplate.callOnShard(shard,
+                    () -> readOnlyTransaction.execute(status -> writeRows(productIds, format, writer)));
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+
+        log.info("[OrderExportServiceImpl] 주문상품 내보내기 완료: seller_id={}, rows={}", sellerId, count);
+        return count;
+    }
+
+    private long writeRows(List<Long> productIds, ExportFormat format, Writer writer) {
+        try (Stream<OrderProductExportDto> rows = orderProductRepository.streamAllByProductIdIn(productIds);
+             Stream<OrderProductExportDto> archivedRows = archivedOrderProductRepository.streamAllByProductIdIn(productIds)) {
+            return OrderExportWriter.writeRows(rows, format, writer)
+                + OrderExportWriter.writeRows(archivedRows, format, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package shop.kokodo.orderservice.feign.service.interfaces;
+
+import java.io.IOException;
+import java.io.Writer;
+import shop.kokodo.orderservice.feign.dto.ExportFormat;
+
+public interface OrderExportService {
+
+    /* 판매자 주문상품 내보내기 */
+    long exportOrderProducts(Long sellerId, ExportFormat format, Writer writer) throws IOException;
+}
@@ -0,0 +1,46 @@
+package shop.kokodo.orderservice.feign.service.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import shop.kokodo.orderservice.dto.response.OrderProductExportDto;
+import shop.kokodo.orderservice.feign.dto.ExportFormat;
+
+/**
+ * 주문상품 행 스트림을 응답에 바로 기록
+ * 행을 모아두지 않고 일정 개수마다 flush 해서 chunked 전송되도록 한다.
+ */
+public class OrderExportWriter {
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private OrderExportWriter() {
+    }
+
+    /**
+     * @return 기록한 행 개수 (헤더 제외)
+     */
+    public static long write(Stream<OrderProductExportDto> rows, ExportFormat format, Writer writer) throws IOException {
+        writer.write(format.header());
+        return writeRows(rows, format, writer);
+    }
+
+    /**
+     * 헤더 없이 행만 기록 (여러 샤드의 결과를 이어서 기록할 때 사용)
+     * @return 기록한 행 개수
+     */
+    public static long writeRows(Stream<OrderProductExportDto> rows, ExportFormat format, Writer writer) throws IOException {
+        long count = 0;
+        Iterator<OrderProductExportDto> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            writer.write(format.row(iterator.next()));
+            if (++count % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+
+        return count;
+    }
+}
@@ -0,0 +1,87 @@
+package shop.kokodo.orderservice.feign.transport;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Feign 클라이언트 HTTP 전송 계층 (Apache HttpClient 커넥션 풀)
+ * 기본 HttpURLConnection 은 keep-alive 캐시가 목적지별 5개라서 동시 호출이 많으면 연결을 계속 새로 맺고 닫는다. (TIME_WAIT 누적)
+ * 대상 인스턴스(host:port)별로 연결 수를 제한한 풀에서 연결을 재사용하고, 서버가 먼저 끊기 전에 유휴 연결을 정리한다.
+ * 응답이 gzip/deflate 로 압축되어 오면 HttpClient 가 풀어서 전달한다. (Accept-Encoding 자동 추가)
+ * 풀 크기와 연결 수명은 Spring Cloud OpenFeign 표준 설정을 따른다.
+ * - feign.httpclient.max-connections (기본 200), max-connections-per-route (기본 50)
+ * - feign.httpclient.time-to-live / time-to-live-unit (기본 900초)
+ * 리다이렉트는 따라가지 않으므로 feign.httpclient.follow-redirects 는 적용하지 않는다.
+ * 커넥션 풀 상태는 httpcomponents.httpclient.pool.* {httpclient=feign} 으로 노출한다.
+ * feign.httpclient.enabled=false 이면 기본 클라이언트로 동작한다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(value = "feign.httpclient.enabled", matchIfMissing = true)
+public class FeignHttpClientConfig {
+
+    @Bean
+    public PoolingHttpClientConnectionManager feignConnectionManager(FeignHttpClientProperties httpClientProperties,
+        @Value("${order.feign.http.validate-after-inactivity-ms:2000}") int validateAfterInactivityMillis) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+            httpClientProperties.getTimeToLive(), httpClientProperties.getTimeToLiveUnit());
+        connectionManager.setMaxTotal(httpClientProperties.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(httpClientProperties.getMaxConnectionsPerRoute());
+        connectionManager.setValidateAfterInactivity(validateAfterInactivityMillis);
+
+        log.info("[FeignHttpClientConfig] Feign 커넥션 풀: max={}, per-route={}, ttl={} {}",
+            httpClientProperties.getMaxConnections(), httpClientProperties.getMaxConnectionsPerRoute(),
+            httpClientProperties.getTimeToLive(), httpClientProperties.getTimeToLiveUnit());
+        return connectionManager;
+    }
+
+    // 연결/응답 타임아웃은 요청마다 Feign 옵션으로 덮어쓰고, 풀에서 연결을 기다리는 시간만 여기서 정한다.
+    @Bean
+    public CloseableHttpClient feignHttpClient(PoolingHttpClientConnectionManager feignConnectionManager,
+        @Value("${order.feign.http.keep-alive-seconds:15}") long keepAliveSeconds,
+        @Value("${order.feign.http.idle-timeout-seconds:10}") long idleTimeoutSeconds,
+        @Value("${order.feign.http.connection-request-timeout-ms:1000}") int connectionRequestTimeoutMillis) {
+        RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectionRequestTimeout(connectionRequestTimeoutMillis)
+            .build();
+
+        return HttpClients.custom()
+            .setConnectionManager(feignConnectionManager)
+            .setKeepAliveStrategy(keepAliveStrategy(TimeUnit.SECONDS.toMillis(keepAliveSeconds)))
+            .setDefaultRequestConfig(requestConfig)
+            .evictExpiredConnections()
+            .evictIdleConnections(idleTimeoutSeconds, TimeUnit.SECONDS)
+            .disableCookieManagement()
+            .disableRedirectHandling()
+            .build();
+    }
+
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(PoolingHttpClientConnectionManager feignConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(feignConnectionManager, "feign");
+    }
+
+    /**
+     * 서버가 Keep-Alive 헤더로 알려준 시간과 설정값 중 짧은 쪽만큼 연결 유지
+     * (헤더가 없으면 설정값, 서버 keep-alive timeout 보다 짧게 잡아서 끊긴 연결을 재사용하지 않도록)
+     */
+    static ConnectionKeepAliveStrategy keepAliveStrategy(long maxKeepAliveMillis) {
+        return (response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return (serverKeepAlive > 0) ? Math.min(serverKeepAlive, maxKeepAliveMillis) : maxKeepAliveMillis;
+        };
+    }
+}
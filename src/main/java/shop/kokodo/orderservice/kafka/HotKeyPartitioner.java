@@ -0,0 +1,75 @@
+package shop.kokodo.orderservice.kafka;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.producer.Partitioner;
+import org.apache.kafka.clients.producer.internals.DefaultPartitioner;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.utils.Utils;
+
+/**
+ * 인기 키 분산 파티셔너
+ * 일반 키는 기본 파티셔너와 같이 키 해시로 항상 같은 파티션에 보낸다.
+ * 설정된 인기 키(인기 상품 등)는 키 해시 파티션부터 연속된 spread 개 파티션에 돌아가며 보내서
+ * 한 파티션/컨슈머에 몰리지 않게 한다.
+ * 재고 감소 수량은 더하기만 하므로 인기 키의 파티션 간 순서가 달라져도 합계는 같다.
+ * 다른 토픽(쿠폰 상태, 주문 상태 변경 이력 등)은 키 순서가 중요하고 키 공간도 달라서
+ * 인기 키와 같은 값의 키라도 나누지 않고 키 해시 파티션으로만 보낸다.
+ */
+public class HotKeyPartitioner implements Partitioner {
+
+    public static final String HOT_KEYS_CONFIG = "order.partitioner.hot-keys";
+    public static final String HOT_KEY_SPREAD_CONFIG = "order.partitioner.hot-key-spread";
+
+    private static final int DEFAULT_SPREAD = 4;
+    // 순서가 바뀌어도 되는 토픽만 인기 키를 나눠 보낸다.
+    private static final Set<String> SPREAD_TOPICS = Set.of(KafkaTopic.PRODUCT_DECREASE_STOCK);
+
+    private final DefaultPartitioner defaultPartitioner = new DefaultPartitioner();
+    private final AtomicInteger counter = new AtomicInteger();
+    private Set<String> hotKeys = Collections.emptySet();
+    private int spread = DEFAULT_SPREAD;
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        defaultPartitioner.configure(configs);
+
+        Object keys = configs.get(HOT_KEYS_CONFIG);
+        if (keys != null) {
+            hotKeys = Arrays.stream(keys.toString().split(","))
+                .map(String::trim)
+                .filter(key -> !key.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        }
+        Object configuredSpread = configs.get(HOT_KEY_SPREAD_CONFIG);
+        if (configuredSpread != null) {
+            spread = Math.max(1, Integer.parseInt(configuredSpread.toString()));
+        }
+    }
+
+    @Override
+    public int partition(String topic, Object key, byte[] keyBytes, Object value, byte[] valueBytes, Cluster cluster) {
+        if (keyBytes == null || !SPREAD_TOPICS.contains(topic) || !hotKeys.contains(String.valueOf(key))) {
+            return defaultPartitioner.partition(topic, key, keyBytes, value, valueBytes, cluster);
+        }
+
+        int numPartitions = cluster.partitionsForTopic(topic).size();
+        int base = Utils.toPositive(Utils.murmur2(keyBytes)) % numPartitions;
+        int offset = Utils.toPositive(counter.getAndIncrement()) % Math.min(spread, numPartitions);
+        return (base + offset) % numPartitions;
+    }
+
+    @Override
+    public void onNewBatch(String topic, Cluster cluster, int prevPartition) {
+        defaultPartitioner.onNewBatch(topic, cluster, prevPartition);
+    }
+
+    @Override
+    public void close() {
+        defaultPartitioner.close();
+    }
+}
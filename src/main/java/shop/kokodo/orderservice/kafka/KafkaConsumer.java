@@ -1,25 +1,83 @@
 package shop.kokodo.orderservice.kafka;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 import shop.kokodo.orderservice.kafka.handler.OrderStatusHandler;
 
+/**
+ * 주문 상태 이벤트 소비
+ * 리스너 스레드는 메시지를 주문 아이디별 레인에 넘기기만 하고, 레인에서 처리를 마치면 ack 한다.
+ * ack 는 순서가 뒤섞여도 컨테이너가 앞쪽 오프셋이 모두 처리된 지점까지만 커밋한다. (asyncAcks)
+ * 처리에 실패한 메시지는 재시도 토픽(또는 DLT)으로 넘기고 ack 해서 뒤 메시지를 막지 않는다.
+ */
 @Service
 @Slf4j
 public class KafkaConsumer {
 
+    // 처리 시각 전인 재시도 메시지가 있으면 파티션을 멈추는 최대 시간 (max.poll.interval.ms 보다 짧게)
+    private static final long MAX_RETRY_PAUSE_MS = 10_000;
+
     private final OrderStatusHandler orderStatusHandler;
+    private final KeyOrderedExecutor keyOrderedExecutor;
+    private final KafkaRetryRouter kafkaRetryRouter;
 
-    public KafkaConsumer(OrderStatusHandler orderStatusHandler) {
+    public KafkaConsumer(OrderStatusHandler orderStatusHandler,
+        KeyOrderedExecutor keyOrderedExecutor,
+        KafkaRetryRouter kafkaRetryRouter) {
         this.orderStatusHandler = orderStatusHandler;
+        this.keyOrderedExecutor = keyOrderedExecutor;
+        this.kafkaRetryRouter = kafkaRetryRouter;
+    }
+
+
+    @KafkaListener(topics = KafkaTopic.ORDER_ID)
+    public void decreaseStock(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        String message = record.value();
+        log.info("[KafkaConsumer] consume message: partition={}, offset={}, message={}",
+            record.partition(), record.offset(), message);
+
+        // 메시지 값이 주문 아이디 (발행하는 쪽이 키를 지정하지 않는다)
+        keyOrderedExecutor.execute(message, () -> {
+            try {
+                handle(record);
+            } finally {
+                ack.acknowledge();
+            }
+        });
     }
 
+    /**
+     * 재시도 토픽 소비
+     * 토픽마다 대기 시간이 같아서 앞 메시지가 처리 시각 전이면 뒤 메시지도 처리 시각 전이다.
+     * 처리 시각 전이면 nack 으로 해당 메시지부터 다시 읽도록 하고 잠시 멈춘다.
+     * 토픽마다 컨테이너를 따로 두어서 긴 대기 단계가 짧은 대기 단계를 막지 않게 한다.
+     */
+    @KafkaListener(topics = KafkaTopic.ORDER_ID_RETRY_0, containerFactory = "retryKafkaListenerContainerFactory")
+    @KafkaListener(topics = KafkaTopic.ORDER_ID_RETRY_1, containerFactory = "retryKafkaListenerContainerFactory")
+    @KafkaListener(topics = KafkaTopic.ORDER_ID_RETRY_2, containerFactory = "retryKafkaListenerContainerFactory")
+    public void retryOrderStatus(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        long waitMs = KafkaRetryRouter.dueAtOf(record) - System.currentTimeMillis();
+        if (waitMs > 0) {
+            ack.nack(Math.min(waitMs, MAX_RETRY_PAUSE_MS));
+            return;
+        }
 
-    @KafkaListener(topics = "order-id-topic")
-    public void decreaseStock(String message) {
-        log.info("[KafkaConsumer] consume message: {}", message);
+        log.info("[KafkaConsumer] retry message: topic={}, attempt={}, message={}",
+            record.topic(), KafkaRetryRouter.attemptOf(record), record.value());
+        handle(record);
+        ack.acknowledge();
+    }
 
-        orderStatusHandler.handle(message);
+    private void handle(ConsumerRecord<String, String> record) {
+        try {
+            orderStatusHandler.handle(record.value());
+        } catch (RuntimeException e) {
+            log.error("[KafkaConsumer] 처리 실패: topic={}, partition={}, offset={}",
+                record.topic(), record.partition(), record.offset(), e);
+            kafkaRetryRouter.route(record, e);
+        }
     }
 }
@@ -1,37 +1,87 @@
 package shop.kokodo.orderservice.kafka;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
 
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * 주문 이벤트 컨슈머 설정
+ * - 메시지는 KeyOrderedExecutor 레인에서 처리하고 처리가 끝난 뒤 수동 ack 한다.
+ * - asyncAcks 로 순서가 뒤섞인 ack 를 받아서 빈 오프셋이 채워진 지점까지만 커밋한다.
+ *   (이전 poll 의 ack 가 모두 끝날 때까지 컨슈머를 멈추므로 레인 대기열과 함께 backpressure 역할)
+ * - 재시도 토픽은 순서대로 한 건씩 처리하고, 처리 시각 전이면 nack 으로 멈추므로 asyncAcks 를 쓰지 않는다.
+ * - 할인 정책 changelog 는 한 번에 여러 건을 받아서 복제본에 한 번에 반영한다. (batch listener)
+ *   변경이 없을 때는 idle 이벤트로 consumer 가 따라잡은 상태임을 알린다.
+ * - 컨슈머 지표(records-lag-max 등)는 Micrometer 로 내보낸다.
+ */
 @EnableKafka
 @Configuration
 public class KafkaConsumerConfig {
 
     @Bean
-    public ConsumerFactory<String, String> consumerFactory() {
+    public ConsumerFactory<String, String> consumerFactory(
+        @Value("${order.kafka.bootstrap-servers:127.0.0.1:9092}") String bootstrapServers,
+        @Value("${order.kafka.consumer.max-poll-records:500}") int maxPollRecords,
+        ObjectProvider<MeterRegistry> meterRegistry) {
         Map<String, Object> properties = new HashMap<>();
-        properties.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, "127.0.0.1:9092");
+        properties.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         properties.put(ConsumerConfig.GROUP_ID_CONFIG, "calculate");
         properties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
 
-        return new DefaultKafkaConsumerFactory<>(properties);
+        DefaultKafkaConsumerFactory<String, String> consumerFactory = new DefaultKafkaConsumerFactory<>(properties);
+        meterRegistry.ifAvailable(registry -> consumerFactory.addListener(new MicrometerConsumerListener<>(registry)));
+        return consumerFactory;
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory(
+        ConsumerFactory<String, String> consumerFactory) {
         ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory
             = new ConcurrentKafkaListenerContainerFactory<>();
-        kafkaListenerContainerFactory.setConsumerFactory(consumerFactory());
+        kafkaListenerContainerFactory.setConsumerFactory(consumerFactory);
+        kafkaListenerContainerFactory.getContainerProperties().setAckMode(AckMode.MANUAL);
+        kafkaListenerContainerFactory.getContainerProperties().setAsyncAcks(true);
+
+        return kafkaListenerContainerFactory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> retryKafkaListenerContainerFactory(
+        ConsumerFactory<String, String> consumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory
+            = new ConcurrentKafkaListenerContainerFactory<>();
+        kafkaListenerContainerFactory.setConsumerFactory(consumerFactory);
+        kafkaListenerContainerFactory.getContainerProperties().setAckMode(AckMode.MANUAL);
+
+        return kafkaListenerContainerFactory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> changelogKafkaListenerContainerFactory(
+        ConsumerFactory<String, String> consumerFactory,
+        @Value("${order.promotion-replica.changelog.idle-event-interval-ms:5000}") long idleEventIntervalMillis) {
+        ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory
+            = new ConcurrentKafkaListenerContainerFactory<>();
+        kafkaListenerContainerFactory.setConsumerFactory(consumerFactory);
+        kafkaListenerContainerFactory.setBatchListener(true);
+        // 새 변경이 없어도 poll 이 살아있음을 알 수 있도록 idle 이벤트 발행 (복제본 신선도 기준)
+        kafkaListenerContainerFactory.getContainerProperties().setIdleEventInterval(idleEventIntervalMillis);
 
         return kafkaListenerContainerFactory;
     }
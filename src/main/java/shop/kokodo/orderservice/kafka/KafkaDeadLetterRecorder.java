@@ -0,0 +1,58 @@
+package shop.kokodo.orderservice.kafka;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import shop.kokodo.orderservice.entity.KafkaDeadLetter;
+import shop.kokodo.orderservice.repository.interfaces.KafkaDeadLetterRepository;
+
+/**
+ * 발행 실패 메시지를 kafka_dead_letter 테이블에 저장
+ * 발행 콜백은 프로듀서 I/O 스레드에서 호출되므로 DB 저장은 별도 스레드로 넘긴다.
+ * 대기열이 가득 차면 저장하지 못한 메시지를 로그로 남긴다.
+ */
+@Component
+@Slf4j
+public class KafkaDeadLetterRecorder implements DisposableBean {
+
+    private final KafkaDeadLetterRepository kafkaDeadLetterRepository;
+    private final ThreadPoolExecutor executor;
+
+    public KafkaDeadLetterRecorder(KafkaDeadLetterRepository kafkaDeadLetterRepository,
+        @Value("${order.kafka.dead-letter.queue-size:10000}") int queueSize) {
+        this.kafkaDeadLetterRepository = kafkaDeadLetterRepository;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueSize),
+            runnable -> {
+                Thread thread = new Thread(runnable, "kafka-dead-letter");
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    public void record(String topic, String key, byte[] payload, Throwable cause) {
+        try {
+            executor.execute(() -> save(topic, key, payload, cause));
+        } catch (RuntimeException e) {
+            log.error("[KafkaDeadLetterRecorder] 대기열 초과로 저장 실패: topic={}, key={}", topic, key, cause);
+        }
+    }
+
+    private void save(String topic, String key, byte[] payload, Throwable cause) {
+        try {
+            kafkaDeadLetterRepository.save(KafkaDeadLetter.create(topic, key, payload, cause));
+        } catch (RuntimeException e) {
+            log.error("[KafkaDeadLetterRecorder] 저장 실패: topic={}, key={}", topic, key, e);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,114 @@
+package shop.kokodo.orderservice.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.concurrent.ListenableFuture;
+
+/**
+ * DLT 메시지 재처리 (POST /actuator/kafkadlt?maxRecords=..&batchSize=..)
+ * 원인을 해결한 뒤 DLT 메시지를 원래 토픽으로 다시 보낸다. (재시도 횟수는 초기화)
+ * batchSize 건씩 읽어서 보내고, 발행이 끝난 만큼만 재처리용 컨슈머 그룹 오프셋을 커밋하므로
+ * 도중에 실패해도 다음 실행 때 이어서 재처리한다.
+ * - 건수: order.kafka.consumer.replay
+ */
+@Component
+@Endpoint(id = "kafkadlt")
+@Slf4j
+public class KafkaDltReplayEndpoint {
+
+    static final String REPLAY_GROUP_ID = "calculate-dlt-replay";
+
+    private static final String REPLAY_METRIC = "order.kafka.consumer.replay";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final long SEND_TIMEOUT_SECONDS = 30;
+
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public KafkaDltReplayEndpoint(ConsumerFactory<String, String> consumerFactory,
+        KafkaTemplate<String, byte[]> kafkaTemplate,
+        ObjectProvider<MeterRegistry> meterRegistry) {
+        this.consumerFactory = consumerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    @WriteOperation
+    public Map<String, Object> replay(int maxRecords, int batchSize) {
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchSize);
+
+        long replayed = 0;
+        try (Consumer<String, String> consumer = consumerFactory.createConsumer(REPLAY_GROUP_ID, "dlt-replay", null, overrides)) {
+            // 그룹 참여를 기다리지 않도록 DLT 의 모든 파티션을 직접 할당한다.
+            consumer.assign(consumer.partitionsFor(KafkaTopic.ORDER_ID_DLT).stream()
+                .map(partition -> new TopicPartition(partition.topic(), partition.partition()))
+                .collect(Collectors.toList()));
+
+            while (replayed < maxRecords) {
+                ConsumerRecords<String, String> records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    break;
+                }
+                replayed += replayBatch(consumer, records, maxRecords - replayed);
+            }
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("[KafkaDltReplayEndpoint] 재처리 중 발행 실패: replayed={}", replayed, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        log.info("[KafkaDltReplayEndpoint] DLT 재처리: replayed={}", replayed);
+        return Map.of("replayed", replayed);
+    }
+
+    private long replayBatch(Consumer<String, String> consumer, ConsumerRecords<String, String> records, long limit)
+        throws ExecutionException, InterruptedException, TimeoutException {
+        List<ListenableFuture<?>> futures = new ArrayList<>();
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (ConsumerRecord<String, String> record : records) {
+            if (futures.size() >= limit) {
+                break;
+            }
+            futures.add(kafkaTemplate.send(new ProducerRecord<>(KafkaTopic.ORDER_ID, record.key(),
+                record.value() == null ? null : record.value().getBytes(StandardCharsets.UTF_8))));
+            offsets.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+        }
+
+        for (ListenableFuture<?> future : futures) {
+            future.get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        consumer.commitSync(offsets);
+        meterRegistry.counter(REPLAY_METRIC).increment(futures.size());
+        return futures.size();
+    }
+}
@@ -17,11 +17,14 @@ public class KafkaMessageParser {
     }
 
     public <T> T readMessageValue(String message, TypeReference<T> typeRef) {
+        if (message == null) {
+            throw new PoisonPillException("빈 메시지", null);
+        }
         try {
             return objectMapper.readValue(message, typeRef);
         } catch (JsonProcessingException ex) {
-            ex.printStackTrace();
-            throw new IllegalArgumentException("");
+            log.error("[KafkaMessageParser] 메시지 형식 오류: {}", message);
+            throw new PoisonPillException("메시지 형식 오류: " + message, ex);
         }
     }
 
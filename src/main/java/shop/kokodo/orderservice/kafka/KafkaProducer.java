@@ -2,32 +2,140 @@ package shop.kokodo.orderservice.kafka;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import shop.kokodo.orderservice.entity.OrderStatusEvent;
+import shop.kokodo.orderservice.kafka.codec.EventCodec;
+import shop.kokodo.orderservice.kafka.codec.EventCodecs;
+import shop.kokodo.orderservice.kafka.codec.EventFormat;
+import shop.kokodo.orderservice.kafka.dto.CouponNameDto;
+import shop.kokodo.orderservice.kafka.dto.OrderStatusChangelogDto;
 
+/**
+ * 주문 이벤트 발행
+ * 공용 ObjectMapper 로 바로 바이트 직렬화하고, 발행 결과는 비동기 콜백으로 받는다.
+ * 키가 있는 메시지는 같은 키끼리 같은 파티션으로 가서 컨슈머가 키별 순서대로 처리/집계할 수 있다.
+ * - 재고 감소: 상품 아이디 키, 여러 상품이면 상품별 메시지로 나눠 보낸다.
+ * - 쿠폰 상태 변경: 회원 아이디 키
+ * - 주문 상태 변경 이력: 주문 아이디 키
+ * 재고 감소/쿠폰 상태 변경/주문 상태 변경 이력은 트랜잭션 안에서 호출되면 커밋 후에 발행한다. (롤백된 주문의 이벤트가 나가지 않도록)
+ * order.kafka.event-format=binary 이면 바이너리 스키마가 있는 토픽은 바이너리로 보낸다. (content-type 헤더로 구분)
+ * - 성공/실패 건수: order.kafka.send (topic, result 태그)
+ * - 프로듀서 재시도(delivery.timeout.ms) 후에도 실패한 메시지는 kafka_dead_letter 에 저장
+ */
 @Service
 @Slf4j
 public class KafkaProducer {
-    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private static final String SEND_METRIC = "order.kafka.send";
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final KafkaDeadLetterRecorder kafkaDeadLetterRecorder;
+    private final MeterRegistry meterRegistry;
+    private final EventFormat eventFormat;
 
     @Autowired
-    public KafkaProducer(KafkaTemplate<String, String> kafkaTemplate) {
+    public KafkaProducer(KafkaTemplate<String, byte[]> kafkaTemplate,
+        ObjectMapper objectMapper,
+        KafkaDeadLetterRecorder kafkaDeadLetterRecorder,
+        ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${order.kafka.event-format:json}") String eventFormat) {
         this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.kafkaDeadLetterRecorder = kafkaDeadLetterRecorder;
+        this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.eventFormat = EventFormat.of(eventFormat);
     }
 
     public <T> void send(String topic, T dto) {
-        log.info("[KafkaProducer] produce message: {}", dto);
+        send(topic, null, dto);
+    }
+
+    /* 상품별 재고 감소 (상품 아이디 키) */
+    public void sendStockDecrease(Map<Long, Integer> productIdQtyMap) {
+        productIdQtyMap.forEach((productId, qty) ->
+            sendAfterCommit(KafkaTopic.PRODUCT_DECREASE_STOCK, String.valueOf(productId), Map.of(productId, qty)));
+    }
+
+    /* 쿠폰 상태 변경 (회원 아이디 키) */
+    public void sendCouponStatus(CouponNameDto couponNameDto) {
+        sendAfterCommit(KafkaTopic.PROMOTION_COUPON_STATUS, String.valueOf(couponNameDto.getMemberId()), couponNameDto);
+    }
+
+    /* 주문 상태 변경 이력 (주문 아이디 키) */
+    public void sendOrderStatusChangelog(OrderStatusEvent event) {
+        sendAfterCommit(KafkaTopic.ORDER_STATUS_CHANGELOG, String.valueOf(event.getOrderId()), OrderStatusChangelogDto.from(event));
+    }
+
+    public <T> void send(String topic, String key, T dto) {
+        publish(toRecord(topic, key, dto));
+    }
 
-        ObjectMapper mapper = new ObjectMapper();
-        String jsonInString = "";
+    /**
+     * 트랜잭션 안이면 커밋 후 발행 (롤백되면 발행하지 않음), 트랜잭션 밖이면 바로 발행
+     * 직렬화는 호출 시점에 해서 직렬화 실패가 트랜잭션을 롤백시키도록 한다.
+     */
+    private <T> void sendAfterCommit(String topic, String key, T dto) {
+        ProducerRecord<String, byte[]> record = toRecord(topic, key, dto);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(record);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(record);
+            }
+        });
+    }
+
+    private <T> ProducerRecord<String, byte[]> toRecord(String topic, String key, T dto) {
+        log.debug("[KafkaProducer] produce message: topic={}, key={}, message={}", topic, key, dto);
+
+        EventCodec<T> codec = (eventFormat == EventFormat.BINARY) ? EventCodecs.forTopic(topic) : null;
+        EventFormat format = (codec == null) ? EventFormat.JSON : EventFormat.BINARY;
+        byte[] payload = (codec == null) ? serialize(topic, dto) : codec.encode(dto);
+
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, key, payload);
+        record.headers().add(EventFormat.CONTENT_TYPE_HEADER, format.getContentType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private void publish(ProducerRecord<String, byte[]> record) {
+        String topic = record.topic();
+        String key = record.key();
+        kafkaTemplate.send(record).addCallback(
+            result -> counter(topic, "success").increment(),
+            ex -> {
+                counter(topic, "failure").increment();
+                log.error("[KafkaProducer] 발행 실패: topic={}, key={}", topic, key, ex);
+                kafkaDeadLetterRecorder.record(topic, key, record.value(), ex);
+            });
+    }
+
+    private <T> byte[] serialize(String topic, T dto) {
         try {
-            jsonInString = mapper.writeValueAsString(dto);
+            return objectMapper.writeValueAsBytes(dto);
         } catch (JsonProcessingException ex) {
-            ex.printStackTrace();
+            // 빈 메시지를 보내지 않도록 직렬화 실패는 호출한 쪽에 알린다.
+            throw new IllegalArgumentException("Kafka 메시지 직렬화 실패: topic=" + topic, ex);
         }
+    }
 
-        kafkaTemplate.send(topic, jsonInString);
+    private Counter counter(String topic, String result) {
+        return meterRegistry.counter(SEND_METRIC, "topic", topic, "result", result);
     }
 }
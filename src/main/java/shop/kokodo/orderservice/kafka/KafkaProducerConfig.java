@@ -1,32 +1,64 @@
 package shop.kokodo.orderservice.kafka;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
 
+/**
+ * 주문 이벤트 프로듀서 설정
+ * - 값은 KafkaProducer 에서 바이트로 직렬화해서 보낸다. (JSON UTF-8 이라 기존 문자열 메시지와 동일)
+ * - linger/batch 로 여러 주문의 이벤트를 한 요청으로 묶고 압축해서 보낸다.
+ * - acks=all + idempotence 로 재시도 중 중복/순서 뒤바뀜 없이 보낸다.
+ * - 키가 있는 메시지는 키 해시 파티션으로 보내고, 설정된 인기 키만 여러 파티션에 나눠 보낸다. (HotKeyPartitioner)
+ */
 @EnableKafka
 @Configuration
 public class KafkaProducerConfig {
 
     @Bean
-    public ProducerFactory<String, String> producerFactory() {
+    public ProducerFactory<String, byte[]> producerFactory(
+        @Value("${order.kafka.bootstrap-servers:127.0.0.1:9092}") String bootstrapServers,
+        @Value("${order.kafka.producer.linger-ms:5}") int lingerMs,
+        @Value("${order.kafka.producer.batch-size:65536}") int batchSize,
+        @Value("${order.kafka.producer.compression-type:lz4}") String compressionType,
+        @Value("${order.kafka.producer.delivery-timeout-ms:120000}") int deliveryTimeoutMs,
+        @Value("${order.kafka.producer.hot-keys:}") String hotKeys,
+        @Value("${order.kafka.producer.hot-key-spread:4}") int hotKeySpread,
+        ObjectProvider<MeterRegistry> meterRegistry) {
         Map<String, Object> properties = new HashMap<>();
-        properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "127.0.0.1:9092");
+        properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         properties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        properties.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        properties.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        properties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        properties.put(ProducerConfig.ACKS_CONFIG, "all");
+        properties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        properties.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        properties.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, deliveryTimeoutMs);
+        properties.put(ProducerConfig.PARTITIONER_CLASS_CONFIG, HotKeyPartitioner.class);
+        properties.put(HotKeyPartitioner.HOT_KEYS_CONFIG, hotKeys);
+        properties.put(HotKeyPartitioner.HOT_KEY_SPREAD_CONFIG, hotKeySpread);
 
-        return new DefaultKafkaProducerFactory<>(properties);
+        DefaultKafkaProducerFactory<String, byte[]> producerFactory = new DefaultKafkaProducerFactory<>(properties);
+        meterRegistry.ifAvailable(registry -> producerFactory.addListener(new MicrometerProducerListener<>(registry)));
+        return producerFactory;
     }
 
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public KafkaTemplate<String, byte[]> kafkaTemplate(ProducerFactory<String, byte[]> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
     }
 }
@@ -0,0 +1,119 @@
+package shop.kokodo.orderservice.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 처리에 실패한 주문 상태 이벤트를 다음 재시도 토픽 또는 DLT 로 보낸다.
+ * - n 번째 재시도는 initial-delay * multiplier^n 뒤에 처리된다. (처리 시각은 헤더로 전달)
+ * - 형식 오류 등 다시 처리해도 실패할 메시지(PoisonPillException)는 바로 DLT 로 보낸다.
+ * - 발행까지 기다린 뒤 반환하므로 반환 후 원래 메시지를 ack 해도 유실되지 않는다.
+ *   발행도 실패하면 kafka_dead_letter 테이블에 남긴다.
+ * - 건수: order.kafka.consumer.retry (topic, outcome 태그)
+ */
+@Component
+@Slf4j
+public class KafkaRetryRouter {
+
+    public static final String ATTEMPT_HEADER = "kokodo-retry-attempt";
+    public static final String DUE_AT_HEADER = "kokodo-retry-due-at";
+    public static final String ERROR_HEADER = "kokodo-retry-error";
+
+    static final List<String> RETRY_TOPICS = List.of(
+        KafkaTopic.ORDER_ID_RETRY_0, KafkaTopic.ORDER_ID_RETRY_1, KafkaTopic.ORDER_ID_RETRY_2);
+
+    private static final String RETRY_METRIC = "order.kafka.consumer.retry";
+    private static final int ERROR_HEADER_LENGTH = 200;
+    private static final long SEND_TIMEOUT_SECONDS = 10;
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final KafkaDeadLetterRecorder kafkaDeadLetterRecorder;
+    private final MeterRegistry meterRegistry;
+    private final long initialDelayMs;
+    private final int multiplier;
+
+    @Autowired
+    public KafkaRetryRouter(KafkaTemplate<String, byte[]> kafkaTemplate,
+        KafkaDeadLetterRecorder kafkaDeadLetterRecorder,
+        ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${order.kafka.retry.initial-delay-ms:1000}") long initialDelayMs,
+        @Value("${order.kafka.retry.multiplier:4}") int multiplier) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.kafkaDeadLetterRecorder = kafkaDeadLetterRecorder;
+        this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.initialDelayMs = initialDelayMs;
+        this.multiplier = multiplier;
+    }
+
+    public void route(ConsumerRecord<String, String> record, Throwable cause) {
+        int attempt = attemptOf(record);
+        boolean poisonPill = cause instanceof PoisonPillException;
+        String target = (poisonPill || attempt >= RETRY_TOPICS.size()) ? KafkaTopic.ORDER_ID_DLT : RETRY_TOPICS.get(attempt);
+        String outcome = poisonPill ? "poison_pill" : target.equals(KafkaTopic.ORDER_ID_DLT) ? "dead_letter" : "retry";
+
+        byte[] payload = record.value() == null ? null : record.value().getBytes(StandardCharsets.UTF_8);
+        ProducerRecord<String, byte[]> next = new ProducerRecord<>(target, record.key(), payload);
+        next.headers().add(ATTEMPT_HEADER, ByteBuffer.allocate(Integer.BYTES).putInt(attempt + 1).array());
+        next.headers().add(ERROR_HEADER, errorOf(cause).getBytes(StandardCharsets.UTF_8));
+        if (!target.equals(KafkaTopic.ORDER_ID_DLT)) {
+            long dueAt = System.currentTimeMillis() + delayOf(attempt);
+            next.headers().add(DUE_AT_HEADER, ByteBuffer.allocate(Long.BYTES).putLong(dueAt).array());
+        }
+
+        try {
+            kafkaTemplate.send(next).get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            meterRegistry.counter(RETRY_METRIC, "topic", record.topic(), "outcome", outcome).increment();
+            log.warn("[KafkaRetryRouter] {}: {} -> {}, attempt={}, message={}", outcome, record.topic(), target, attempt + 1, record.value());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recordDeadLetter(record, payload, e);
+        } catch (ExecutionException | TimeoutException e) {
+            recordDeadLetter(record, payload, e);
+        }
+    }
+
+    long delayOf(int attempt) {
+        long delay = initialDelayMs;
+        for (int i = 0; i < attempt; i++) {
+            delay *= multiplier;
+        }
+        return delay;
+    }
+
+    // 재시도 토픽에서 처리할 시각 (헤더가 없으면 바로 처리)
+    public static long dueAtOf(ConsumerRecord<?, ?> record) {
+        Header header = record.headers().lastHeader(DUE_AT_HEADER);
+        return header == null ? 0 : ByteBuffer.wrap(header.value()).getLong();
+    }
+
+    public static int attemptOf(ConsumerRecord<?, ?> record) {
+        Header header = record.headers().lastHeader(ATTEMPT_HEADER);
+        return header == null ? 0 : ByteBuffer.wrap(header.value()).getInt();
+    }
+
+    private void recordDeadLetter(ConsumerRecord<String, String> record, byte[] payload, Exception e) {
+        meterRegistry.counter(RETRY_METRIC, "topic", record.topic(), "outcome", "send_failure").increment();
+        log.error("[KafkaRetryRouter] 재시도 토픽 발행 실패: topic={}, message={}", record.topic(), record.value(), e);
+        kafkaDeadLetterRecorder.record(record.topic(), record.key(), payload, e);
+    }
+
+    private static String errorOf(Throwable cause) {
+        String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        return error.length() > ERROR_HEADER_LENGTH ? error.substring(0, ERROR_HEADER_LENGTH) : error;
+    }
+}
@@ -0,0 +1,23 @@
+package shop.kokodo.orderservice.kafka;
+
+public final class KafkaTopic {
+
+    public static final String PRODUCT_DECREASE_STOCK = "product-decrease-stock";
+    public static final String PROMOTION_COUPON_STATUS = "promotion-coupon-status";
+    public static final String ORDER_ID = "order-id-topic";
+    // 주문 상태 이벤트 재시도 (단계마다 대기 시간이 늘어난다) / 재시도 후에도 실패한 메시지
+    public static final String ORDER_ID_RETRY_0 = "order-id-topic-retry-0";
+    public static final String ORDER_ID_RETRY_1 = "order-id-topic-retry-1";
+    public static final String ORDER_ID_RETRY_2 = "order-id-topic-retry-2";
+    public static final String ORDER_ID_DLT = "order-id-topic-dlt";
+    // 주문 상태 변경 이력 (주문 아이디 키, cleanup.policy=compact 로 주문별 마지막 상태만 유지)
+    public static final String ORDER_STATUS_CHANGELOG = "order-status-changelog";
+
+    // 할인 정책 변경 (promotion-service 발행, compacted, 값이 null 이면 삭제)
+    // 비율할인정책: 상품 아이디 키 / 고정할인정책 적용 여부: 판매자 아이디 키
+    public static final String PROMOTION_RATE_DISCOUNT_CHANGELOG = "promotion-rate-discount-changelog";
+    public static final String PROMOTION_FIX_DISCOUNT_CHANGELOG = "promotion-fix-discount-changelog";
+
+    private KafkaTopic() {
+    }
+}
@@ -0,0 +1,105 @@
+package shop.kokodo.orderservice.kafka;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키 순서 보장 병렬 실행기
+ * 키 해시로 단일 스레드 레인을 골라 실행하므로 같은 키(주문 아이디)는 받은 순서대로,
+ * 다른 키는 레인 수만큼 동시에 처리된다. (파티션 수보다 많이 병렬 처리 가능)
+ * 레인 대기열이 가득 차면 자리가 날 때까지 호출한 스레드(리스너)를 막아서 더 가져오지 않게 한다.
+ * - 대기 건수: order.kafka.consumer.pending
+ * - 처리 시간: order.kafka.consumer.process
+ */
+@Component
+@Slf4j
+public class KeyOrderedExecutor implements DisposableBean {
+
+    private static final String PENDING_METRIC = "order.kafka.consumer.pending";
+    private static final String PROCESS_METRIC = "order.kafka.consumer.process";
+
+    private final ThreadPoolExecutor[] lanes;
+    private final Timer processTimer;
+
+    @Autowired
+    public KeyOrderedExecutor(
+        @Value("${order.kafka.consumer.workers:8}") int laneCount,
+        @Value("${order.kafka.consumer.queue-capacity:1000}") int queueCapacity,
+        ObjectProvider<MeterRegistry> meterRegistry) {
+        this(laneCount, queueCapacity, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    KeyOrderedExecutor(int laneCount, int queueCapacity, MeterRegistry meterRegistry) {
+        this.lanes = IntStream.range(0, laneCount)
+            .mapToObj(lane -> newLane(lane, queueCapacity))
+            .toArray(ThreadPoolExecutor[]::new);
+        this.processTimer = meterRegistry.timer(PROCESS_METRIC);
+        Gauge.builder(PENDING_METRIC, this, KeyOrderedExecutor::getPendingCount)
+            .register(meterRegistry);
+    }
+
+    public void execute(Object key, Runnable task) {
+        lanes[laneOf(key)].execute(() -> processTimer.record(task));
+    }
+
+    public int getPendingCount() {
+        int pending = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            pending += lane.getQueue().size() + lane.getActiveCount();
+        }
+        return pending;
+    }
+
+    private int laneOf(Object key) {
+        return Math.floorMod(key == null ? 0 : key.hashCode(), lanes.length);
+    }
+
+    private static ThreadPoolExecutor newLane(int lane, int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "kafka-consumer-lane-" + lane);
+                thread.setDaemon(true);
+                return thread;
+            },
+            (runnable, self) -> {
+                // 대기열이 가득 차면 버리지 않고 자리가 날 때까지 기다린다. (backpressure)
+                if (self.isShutdown()) {
+                    throw new RejectedExecutionException("종료된 레인: " + lane);
+                }
+                try {
+                    self.getQueue().put(runnable);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException("레인 대기 중 인터럽트: " + lane, e);
+                }
+            });
+        executor.prestartAllCoreThreads();
+        return executor;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("[KeyOrderedExecutor] 처리 중인 메시지를 남기고 종료: pending={}", lane.getQueue().size());
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package shop.kokodo.orderservice.kafka;
+
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import shop.kokodo.orderservice.service.interfaces.OrderStatusReplayService;
+
+/**
+ * 주문 상태 이력 재생 (POST /actuator/orderstatuschangelog?batchSize=..)
+ * 상태 스냅샷을 이력 기준으로 복구하고 changelog 토픽을 다시 채운다.
+ */
+@Component
+@Endpoint(id = "orderstatuschangelog")
+public class OrderStatusChangelogEndpoint {
+
+    private final OrderStatusReplayService orderStatusReplayService;
+
+    public OrderStatusChangelogEndpoint(OrderStatusReplayService orderStatusReplayService) {
+        this.orderStatusReplayService = orderStatusReplayService;
+    }
+
+    @WriteOperation
+    public Map<String, Object> replay(int batchSize) {
+        return Map.of("replayed", orderStatusReplayService.replay(batchSize));
+    }
+}
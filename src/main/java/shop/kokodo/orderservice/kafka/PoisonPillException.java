@@ -0,0 +1,12 @@
+package shop.kokodo.orderservice.kafka;
+
+/**
+ * 다시 처리해도 성공할 수 없는 메시지 (형식 오류 등)
+ * 재시도 토픽을 거치지 않고 바로 DLT 로 보낸다.
+ */
+public class PoisonPillException extends IllegalArgumentException {
+
+    public PoisonPillException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
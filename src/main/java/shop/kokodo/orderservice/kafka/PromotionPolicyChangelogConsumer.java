@@ -0,0 +1,88 @@
+package shop.kokodo.orderservice.kafka;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.stereotype.Service;
+import shop.kokodo.orderservice.feign.replica.PromotionPolicyReplica;
+import shop.kokodo.orderservice.feign.response.RateDiscountPolicyDto;
+
+/**
+ * 할인 정책 changelog 소비 → PromotionPolicyReplica 반영
+ * 인스턴스마다 복제본 전체가 필요하므로 인스턴스마다 다른 그룹으로 모든 파티션을 처음부터 읽는다.
+ * (compacted 토픽이라 처음부터 읽으면 아이디별 마지막 값으로 복제본이 채워진다)
+ * 배치 처리 후 모든 파티션의 lag 이 0 이거나, 새 변경 없이 idle 이벤트가 오면 복제본에 따라잡았다고 알린다.
+ * (복제본은 이 시점을 기준으로 신선도를 판단한다)
+ */
+@Service
+@Slf4j
+public class PromotionPolicyChangelogConsumer {
+
+    static final String LISTENER_ID = "promotion-policy-changelog";
+
+    private final PromotionPolicyReplica promotionPolicyReplica;
+    private final KafkaMessageParser parser;
+
+    public PromotionPolicyChangelogConsumer(PromotionPolicyReplica promotionPolicyReplica,
+        KafkaMessageParser parser) {
+        this.promotionPolicyReplica = promotionPolicyReplica;
+        this.parser = parser;
+    }
+
+    @KafkaListener(
+        id = LISTENER_ID,
+        topics = {KafkaTopic.PROMOTION_RATE_DISCOUNT_CHANGELOG, KafkaTopic.PROMOTION_FIX_DISCOUNT_CHANGELOG},
+        groupId = "order-promotion-replica-#{T(java.util.UUID).randomUUID()}",
+        properties = "auto.offset.reset=earliest",
+        containerFactory = "changelogKafkaListenerContainerFactory",
+        autoStartup = "${order.promotion-replica.changelog.enabled:true}")
+    public void consume(List<ConsumerRecord<String, String>> records, Consumer<?, ?> consumer) {
+        Map<Long, RateDiscountPolicyDto> rateChanges = new HashMap<>();
+        Map<Long, Boolean> fixChanges = new HashMap<>();
+        for (ConsumerRecord<String, String> record : records) {
+            try {
+                Long id = Long.valueOf(record.key());
+                if (KafkaTopic.PROMOTION_RATE_DISCOUNT_CHANGELOG.equals(record.topic())) {
+                    rateChanges.put(id, record.value() == null ? null
+                        : parser.readMessageValue(record.value(), new TypeReference<RateDiscountPolicyDto>() {}));
+                } else {
+                    fixChanges.put(id, record.value() == null ? null
+                        : parser.readMessageValue(record.value(), new TypeReference<Boolean>() {}));
+                }
+            } catch (IllegalArgumentException e) {
+                // 잘못된 변경 한 건 때문에 나머지 변경을 막지 않는다. (해당 아이디는 기존 값/조회로 처리)
+                log.error("[PromotionPolicyChangelogConsumer] 잘못된 변경 무시: topic={}, key={}", record.topic(), record.key(), e);
+            }
+        }
+
+        promotionPolicyReplica.applyRatePolicyChanges(rateChanges);
+        promotionPolicyReplica.applyFixPolicyChanges(fixChanges);
+        log.debug("[PromotionPolicyChangelogConsumer] 할인 정책 반영: rate={}, fix={}", rateChanges.size(), fixChanges.size());
+
+        if (isCaughtUp(consumer)) {
+            promotionPolicyReplica.markChangelogCaughtUp();
+        }
+    }
+
+    /* 새 변경 없이 idle-event-interval 동안 poll 했으면 토픽 끝까지 따라잡은 상태 */
+    @EventListener
+    public void onIdle(ListenerContainerIdleEvent event) {
+        if (event.getListenerId().startsWith(LISTENER_ID)) {
+            promotionPolicyReplica.markChangelogCaughtUp();
+        }
+    }
+
+    /* 할당된 모든 파티션의 lag 이 0 (lag 을 아직 모르는 파티션이 있으면 따라잡지 못한 것으로 본다) */
+    static boolean isCaughtUp(Consumer<?, ?> consumer) {
+        return consumer.assignment().stream()
+            .map(consumer::currentLag)
+            .allMatch(lag -> lag.isPresent() && lag.getAsLong() == 0);
+    }
+}
@@ -0,0 +1,72 @@
+package shop.kokodo.orderservice.kafka.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link BinaryEventWriter} 로 기록한 이벤트 읽기
+ */
+public class BinaryEventReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    private final int schemaId;
+    private final int schemaVersion;
+
+    public BinaryEventReader(byte[] buffer) {
+        this.buffer = buffer;
+        if (buffer.length < 3 || buffer[0] != BinaryEventWriter.MAGIC) {
+            throw new IllegalArgumentException("바이너리 이벤트 형식이 아닙니다.");
+        }
+        this.schemaId = buffer[1];
+        this.schemaVersion = buffer[2];
+        this.position = 3;
+    }
+
+    public int getSchemaId() {
+        return schemaId;
+    }
+
+    public int getSchemaVersion() {
+        return schemaVersion;
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("잘못된 varint");
+    }
+
+    public long readSignedVarLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public int readLength() {
+        long length = readVarLong();
+        if (length < 0 || length > buffer.length - position) {
+            throw new IllegalArgumentException("잘못된 길이: " + length);
+        }
+        return (int) length;
+    }
+
+    public String readString() {
+        int length = readLength();
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    private byte readByte() {
+        if (position >= buffer.length) {
+            throw new IllegalArgumentException("이벤트 데이터가 잘렸습니다.");
+        }
+        return buffer[position++];
+    }
+}
@@ -0,0 +1,62 @@
+package shop.kokodo.orderservice.kafka.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 이벤트 바이너리 인코딩
+ * [magic 1byte][schema id 1byte][schema version 1byte][body]
+ * body 의 정수는 varint(LEB128), 부호 있는 정수는 zigzag 후 varint, 문자열은 길이(varint) + UTF-8 로 기록한다.
+ */
+public class BinaryEventWriter {
+
+    static final byte MAGIC = 0x4B;
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryEventWriter(int schemaId, int schemaVersion, int expectedSize) {
+        this.buffer = new byte[Math.max(16, expectedSize)];
+        writeByte(MAGIC);
+        writeByte(schemaId);
+        writeByte(schemaVersion);
+    }
+
+    public BinaryEventWriter writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public BinaryEventWriter writeSignedVarLong(long value) {
+        return writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public BinaryEventWriter writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+        return this;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    private void ensureCapacity(int size) {
+        if (position + size > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + size));
+        }
+    }
+}
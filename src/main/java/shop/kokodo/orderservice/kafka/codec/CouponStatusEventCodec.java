@@ -0,0 +1,60 @@
+package shop.kokodo.orderservice.kafka.codec;
+
+import java.util.ArrayList;
+import java.util.List;
+import shop.kokodo.orderservice.kafka.dto.CouponNameDto;
+
+/**
+ * promotion-coupon-status (회원 아이디, 고정쿠폰 아이디 목록, 비율쿠폰 이름 목록)
+ * v1: [회원 아이디][고정쿠폰 수][고정쿠폰 아이디]...[비율쿠폰 수][비율쿠폰 이름]...
+ */
+public class CouponStatusEventCodec implements EventCodec<CouponNameDto> {
+
+    @Override
+    public int schemaId() {
+        return 2;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    public byte[] encode(CouponNameDto event) {
+        BinaryEventWriter writer = new BinaryEventWriter(schemaId(), schemaVersion(), 64);
+        writer.writeVarLong(event.getMemberId());
+
+        List<Long> fixCouponIds = nullToEmpty(event.getFixCouponIdList());
+        writer.writeVarLong(fixCouponIds.size());
+        fixCouponIds.forEach(writer::writeVarLong);
+
+        List<String> rateCouponNames = nullToEmpty(event.getRateCouponNames());
+        writer.writeVarLong(rateCouponNames.size());
+        rateCouponNames.forEach(writer::writeString);
+        return writer.toByteArray();
+    }
+
+    @Override
+    public CouponNameDto decode(byte[] payload) {
+        BinaryEventReader reader = EventCodecs.open(payload, this);
+        long memberId = reader.readVarLong();
+
+        int fixCouponCount = reader.readLength();
+        List<Long> fixCouponIds = new ArrayList<>(fixCouponCount);
+        for (int i = 0; i < fixCouponCount; i++) {
+            fixCouponIds.add(reader.readVarLong());
+        }
+
+        int rateCouponCount = reader.readLength();
+        List<String> rateCouponNames = new ArrayList<>(rateCouponCount);
+        for (int i = 0; i < rateCouponCount; i++) {
+            rateCouponNames.add(reader.readString());
+        }
+        return new CouponNameDto(memberId, fixCouponIds, rateCouponNames);
+    }
+
+    private <E> List<E> nullToEmpty(List<E> list) {
+        return (list == null) ? List.of() : list;
+    }
+}
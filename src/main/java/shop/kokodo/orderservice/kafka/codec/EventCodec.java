@@ -0,0 +1,16 @@
+package shop.kokodo.orderservice.kafka.codec;
+
+/**
+ * 토픽별 바이너리 스키마
+ * 필드를 추가할 때는 버전을 올리고, 이전 버전도 계속 읽을 수 있어야 한다.
+ */
+public interface EventCodec<T> {
+
+    int schemaId();
+
+    int schemaVersion();
+
+    byte[] encode(T event);
+
+    T decode(byte[] payload);
+}
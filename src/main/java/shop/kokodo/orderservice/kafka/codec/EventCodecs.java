@@ -0,0 +1,32 @@
+package shop.kokodo.orderservice.kafka.codec;
+
+import java.util.Map;
+import shop.kokodo.orderservice.kafka.KafkaTopic;
+
+/**
+ * 토픽별 바이너리 코덱 (임베디드 스키마 레지스트리 역할)
+ */
+public final class EventCodecs {
+
+    private static final Map<String, EventCodec<?>> CODECS = Map.of(
+        KafkaTopic.PRODUCT_DECREASE_STOCK, new StockDecreaseEventCodec(),
+        KafkaTopic.PROMOTION_COUPON_STATUS, new CouponStatusEventCodec());
+
+    private EventCodecs() {
+    }
+
+    /* 바이너리 스키마가 없는 토픽이면 null */
+    @SuppressWarnings("unchecked")
+    public static <T> EventCodec<T> forTopic(String topic) {
+        return (EventCodec<T>) CODECS.get(topic);
+    }
+
+    static BinaryEventReader open(byte[] payload, EventCodec<?> codec) {
+        BinaryEventReader reader = new BinaryEventReader(payload);
+        if (reader.getSchemaId() != codec.schemaId() || reader.getSchemaVersion() > codec.schemaVersion()) {
+            throw new IllegalArgumentException("지원하지 않는 스키마: id=" + reader.getSchemaId()
+                + ", version=" + reader.getSchemaVersion());
+        }
+        return reader;
+    }
+}
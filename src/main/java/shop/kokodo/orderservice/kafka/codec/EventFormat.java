@@ -0,0 +1,32 @@
+package shop.kokodo.orderservice.kafka.codec;
+
+import java.util.Arrays;
+
+/**
+ * 발행 메시지 형식 (content-type 헤더로 전달)
+ * 소비하는 서비스가 BINARY 를 지원하기 전까지는 JSON 을 기본으로 사용한다.
+ */
+public enum EventFormat {
+
+    JSON("application/json"),
+    BINARY("application/vnd.kokodo.event+binary");
+
+    public static final String CONTENT_TYPE_HEADER = "content-type";
+
+    private final String contentType;
+
+    EventFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static EventFormat of(String format) {
+        return Arrays.stream(values())
+            .filter(eventFormat -> eventFormat.name().equalsIgnoreCase(format))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 이벤트 형식: " + format));
+    }
+}
@@ -0,0 +1,40 @@
+package shop.kokodo.orderservice.kafka.codec;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * product-decrease-stock (상품 아이디 -> 감소 수량)
+ * v1: [상품 수][상품 아이디, 수량(zigzag)]...
+ */
+public class StockDecreaseEventCodec implements EventCodec<Map<Long, Integer>> {
+
+    @Override
+    public int schemaId() {
+        return 1;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    public byte[] encode(Map<Long, Integer> event) {
+        BinaryEventWriter writer = new BinaryEventWriter(schemaId(), schemaVersion(), 4 + event.size() * 8);
+        writer.writeVarLong(event.size());
+        event.forEach((productId, qty) -> writer.writeVarLong(productId).writeSignedVarLong(qty));
+        return writer.toByteArray();
+    }
+
+    @Override
+    public Map<Long, Integer> decode(byte[] payload) {
+        BinaryEventReader reader = EventCodecs.open(payload, this);
+        int size = reader.readLength();
+        Map<Long, Integer> event = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            event.put(reader.readVarLong(), (int) reader.readSignedVarLong());
+        }
+        return event;
+    }
+}
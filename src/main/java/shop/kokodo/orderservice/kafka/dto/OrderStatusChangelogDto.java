@@ -0,0 +1,26 @@
+package shop.kokodo.orderservice.kafka.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import shop.kokodo.orderservice.entity.OrderStatusEvent;
+import shop.kokodo.orderservice.entity.enums.status.OrderStatus;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusChangelogDto {
+
+    long eventId;
+    long orderId;
+    Long memberId;
+    OrderStatus orderStatus;
+    LocalDateTime occurredAt;
+
+    public static OrderStatusChangelogDto from(OrderStatusEvent event) {
+        return new OrderStatusChangelogDto(event.getId(), event.getOrderId(), event.getMemberId(),
+            event.getToStatus(), event.getOccurredAt());
+    }
+}
@@ -1,48 +1,72 @@
 package shop.kokodo.orderservice.kafka.handler;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
-import shop.kokodo.orderservice.entity.Order;
+import shop.kokodo.orderservice.datasource.ShardTemplate;
 import shop.kokodo.orderservice.entity.enums.status.OrderStatus;
 import shop.kokodo.orderservice.kafka.KafkaMessageParser;
 import shop.kokodo.orderservice.repository.interfaces.OrderRepository;
 
 /**
- * '주문취소' 시 상품 재고 증가
+ * '구매 확정' 시 주문 상태 변경
+ * 상태 변경과 이력 저장은 OrderStatusTransitionBatcher 가 다른 주문과 묶어서 처리하고, 커밋될 때까지 기다린다.
  */
 @Component
 @Slf4j
 public class OrderStatusHandler implements KafkaMessageHandler {
 
+    private static final long TRANSITION_TIMEOUT_SECONDS = 30;
+
     private final OrderRepository orderRepository;
 
     private final KafkaMessageParser parser;
 
+    private final ShardTemplate shardTemplate;
+
+    private final OrderStatusTransitionBatcher transitionBatcher;
+
     @Autowired
     public OrderStatusHandler(
         OrderRepository orderRepository,
-        KafkaMessageParser parser) {
+        KafkaMessageParser parser,
+        ShardTemplate shardTemplate,
+        OrderStatusTransitionBatcher transitionBatcher) {
         this.orderRepository = orderRepository;
         this.parser = parser;
+        this.shardTemplate = shardTemplate;
+        this.transitionBatcher = transitionBatcher;
     }
 
     @Override
     public void handle(String message) {
         Long orderId = parser.readMessageValue(message, new TypeReference<Long>() {});
         log.info(message);
-        // TODO: NULL 처리
-        Optional<Order> order = orderRepository.findById(orderId);
-        if (order.isEmpty()) {
+        // 주문 아이디만으로는 샤드를 알 수 없으므로 주문이 있는 샤드를 찾아서 처리
+        int shard = shardTemplate.findShard(() -> orderRepository.existsById(orderId));
+        if (shard < 0) {
             log.error("유효하지 않은 주문 아이디: {}", orderId);
             throw new IllegalArgumentException("유효하지 않은 주문 아이디 " + orderId);
         }
 
-        Order findOrder = order.get();
-        findOrder.changeOrderState(OrderStatus.PURCHASE_CONFIRM);
-        orderRepository.save(findOrder);
+        try {
+            transitionBatcher.submit(shard, orderId, OrderStatus.PURCHASE_CONFIRM)
+                .get(TRANSITION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("주문 상태 변경 시간 초과 " + orderId, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주문 상태 변경 중 인터럽트 " + orderId, e);
+        }
     }
 
 
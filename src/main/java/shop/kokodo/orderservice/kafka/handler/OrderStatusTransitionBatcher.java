@@ -0,0 +1,163 @@
+package shop.kokodo.orderservice.kafka.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.kokodo.orderservice.datasource.ShardTemplate;
+import shop.kokodo.orderservice.entity.Order;
+import shop.kokodo.orderservice.entity.OrderStatusEvent;
+import shop.kokodo.orderservice.entity.enums.status.OrderStatus;
+import shop.kokodo.orderservice.kafka.KafkaProducer;
+import shop.kokodo.orderservice.repository.interfaces.OrderRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderStatusEventRepository;
+
+/**
+ * 주문 상태 변경 묶음 처리 (group commit)
+ * 여러 컨슈머 레인에서 들어온 상태 변경을 모아서 샤드별로 한 트랜잭션에 처리한다.
+ * - 주문 조회 1번 + 상태 UPDATE/이력 INSERT 배치 + 커밋 1번으로 건당 DB 왕복을 줄인다.
+ * - 상태 스냅샷(orders.order_status)과 이력은 같은 트랜잭션에 저장된다.
+ * - 커밋 후 변경 이력을 changelog 토픽으로 발행하고, 요청한 쪽에 결과를 알린다.
+ * 모으는 시간은 max-wait-ms 이내이며, 레인마다 결과를 기다리므로 같은 주문이 한 묶음에 두 번 들어오지 않는다.
+ */
+@Component
+@Slf4j
+public class OrderStatusTransitionBatcher implements DisposableBean {
+
+    private final OrderRepository orderRepository;
+    private final OrderStatusEventRepository orderStatusEventRepository;
+    private final KafkaProducer kafkaProducer;
+    private final ShardTemplate shardTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long maxWaitMs;
+
+    private final BlockingQueue<Transition> queue = new LinkedBlockingQueue<>();
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    @Autowired
+    public OrderStatusTransitionBatcher(
+        OrderRepository orderRepository,
+        OrderStatusEventRepository orderStatusEventRepository,
+        KafkaProducer kafkaProducer,
+        ShardTemplate shardTemplate,
+        TransactionTemplate transactionTemplate,
+        @Value("${order.status-event.batch-size:100}") int batchSize,
+        @Value("${order.status-event.max-wait-ms:5}") long maxWaitMs) {
+        this.orderRepository = orderRepository;
+        this.orderStatusEventRepository = orderStatusEventRepository;
+        this.kafkaProducer = kafkaProducer;
+        this.shardTemplate = shardTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxWaitMs = maxWaitMs;
+        this.flusher = new Thread(this::run, "order-status-batcher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * @return 커밋되면 완료 (이미 같은 상태면 이력 없이 완료, 주문이 없으면 IllegalArgumentException)
+     */
+    public CompletableFuture<Void> submit(int shard, Long orderId, OrderStatus orderStatus) {
+        Transition transition = new Transition(shard, orderId, orderStatus);
+        if (!running) {
+            transition.result.completeExceptionally(new IllegalStateException("종료 중"));
+            return transition.result;
+        }
+        queue.add(transition);
+        return transition.result;
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Transition first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<Transition> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+                while (batch.size() < batchSize) {
+                    Transition next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                batch.stream()
+                    .collect(Collectors.groupingBy(transition -> transition.shard))
+                    .forEach(this::flush);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void flush(int shard, List<Transition> transitions) {
+        try {
+            List<OrderStatusEvent> events = shardTemplate.callOnShard(shard,
+                () -> transactionTemplate.execute(status -> apply(transitions)));
+            events.forEach(kafkaProducer::sendOrderStatusChangelog);
+            transitions.forEach(transition -> transition.result.complete(null));
+        } catch (RuntimeException e) {
+            log.error("[OrderStatusTransitionBatcher] 상태 변경 실패: shard={}, size={}", shard, transitions.size(), e);
+            transitions.forEach(transition -> transition.result.completeExceptionally(e));
+        }
+    }
+
+    private List<OrderStatusEvent> apply(List<Transition> transitions) {
+        Map<Long, Order> orders = orderRepository.findAllById(transitions.stream()
+                .map(transition -> transition.orderId)
+                .collect(Collectors.toList()))
+            .stream()
+            .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        List<OrderStatusEvent> events = new ArrayList<>();
+        for (Transition transition : transitions) {
+            Order order = orders.get(transition.orderId);
+            if (order == null) {
+                // 다른 주문은 계속 처리하고 이 주문만 실패로 알린다.
+                transition.result.completeExceptionally(
+                    new IllegalArgumentException("유효하지 않은 주문 아이디 " + transition.orderId));
+            } else if (order.getOrderStatus() != transition.orderStatus) {
+                events.add(order.changeOrderState(transition.orderStatus));
+            }
+        }
+        return orderStatusEventRepository.saveAll(events);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private static class Transition {
+        private final int shard;
+        private final Long orderId;
+        private final OrderStatus orderStatus;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private Transition(int shard, Long orderId, OrderStatus orderStatus) {
+            this.shard = shard;
+            this.orderId = orderId;
+            this.orderStatus = orderStatus;
+        }
+    }
+}
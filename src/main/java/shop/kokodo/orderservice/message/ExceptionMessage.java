@@ -7,6 +7,14 @@ public class ExceptionMessage {
     public static final String CART_QTY_CANNOT_BE_NEGATIVE = "유효하지 않은 상품 수량 (수량 < 0)";
     public static final String CANNOT_BE_ATTEMPTED_COMMUNICATION = "잠시 후 다시 시도해주시거나, 관리자에게 문의하세요 🥹";
     public static final String NOT_REGISTERED_MEMBER_INFO = "배송정보 미등록";
+    public static final String INVALID_IDEMPOTENCY_KEY = "유효하지 않은 Idempotency-Key (최대 64자)";
+    public static final String IDEMPOTENCY_KEY_CONFLICT = "다른 회원의 주문 요청에 사용된 Idempotency-Key";
+    public static final String IDEMPOTENCY_KEY_IN_PROGRESS = "같은 Idempotency-Key 로 처리 중인 주문이 있습니다. 잠시 후 다시 시도해주세요";
+    public static final String ORDER_NOT_FOUNDED = "유효하지 않은 주문 아이디";
+    public static final String ORDER_TICKET_NOT_FOUNDED = "유효하지 않은 주문 접수 아이디";
+    public static final String ADMISSION_REJECTED = "주문이 몰려 대기 중입니다. 잠시 후 다시 시도해주세요";
+    public static final String PRODUCT_ADMISSION_REJECTED = "해당 상품 주문이 몰려 있습니다. 잠시 후 다시 시도해주세요";
+    public static final String INVALID_EXPORT_FORMAT = "지원하지 않는 내보내기 형식 (csv, ndjson)";
     /* 상품 재고 부족 메시지 생성 */
     // msg: 상품 재고 부족: product_id '상품아이디'
     public static String createProductOutOfStockMsg(Integer availableQty) {
@@ -0,0 +1,52 @@
+package shop.kokodo.orderservice.repository.interfaces;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+import shop.kokodo.orderservice.dto.response.OrderLineDto;
+import shop.kokodo.orderservice.dto.response.OrderProductExportDto;
+import shop.kokodo.orderservice.entity.ArchivedOrderProduct;
+
+@Repository
+public interface ArchivedOrderProductRepository extends CrudRepository<ArchivedOrderProduct, Long> {
+
+    List<ArchivedOrderProduct> findAllByOrderIdAndMemberId(Long orderId, Long memberId);
+
+    /* 보관 주문 요약 채우기용 주문상품 (주문상품 아이디 순) */
+    @Query(value = "SELECT op.orderId AS orderId, op.productId AS productId FROM ArchivedOrderProduct op " +
+        "WHERE op.orderId IN (:orderIds) ORDER BY op.id")
+    List<OrderLineDto> findLinesByOrderIdIn(List<Long> orderIds);
+
+    boolean existsByMemberIdAndProductId(Long memberId, Long productId);
+
+    /* 주문상품을 보관 테이블로 복사 (INSERT ... SELECT) */
+    @Modifying
+    @Query(value = "INSERT INTO ArchivedOrderProduct (id, createdDate, lastModifiedDate, orderId, memberId, " +
+            "productId, qty, unitPrice) " +
+            "SELECT op.id, op.createdDate, op.lastModifiedDate, op.order.id, op.memberId, " +
+            "op.productId, op.qty, op.unitPrice " +
+            "FROM OrderProduct op WHERE op.order.id IN (:orderIds)")
+    int archiveAllByOrderIdIn(List<Long> orderIds);
+
+    /* 판매자 주문상품 내보내기용 전방향 커서 조회 (보관분) */
+    @QueryHints(value = {
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query(value = "SELECT op.orderId AS orderId, op.id AS orderProductId, op.productId AS productId, " +
+            "op.memberId AS memberId, op.qty AS qty, op.unitPrice AS unitPrice, o.orderDate AS orderDate " +
+            "FROM ArchivedOrderProduct op, ArchivedOrder o " +
+            "WHERE o.id = op.orderId AND op.productId IN (:productIdList) " +
+            "ORDER BY op.id")
+    Stream<OrderProductExportDto> streamAllByProductIdIn(List<Long> productIdList);
+}
@@ -0,0 +1,28 @@
+package shop.kokodo.orderservice.repository.interfaces;
+
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+import shop.kokodo.orderservice.entity.ArchivedOrder;
+
+@Repository
+public interface ArchivedOrderRepository extends CrudRepository<ArchivedOrder, Long> {
+
+    long countByMemberId(Long memberId);
+
+    /* 주문을 보관 테이블로 복사 (INSERT ... SELECT) */
+    @Modifying
+    @Query(value = "INSERT INTO ArchivedOrder (id, createdDate, lastModifiedDate, memberId, orderStatus, " +
+            "deliveryMemberName, deliveryMemberAddress, totalPrice, orderDate, lineCount, leadProductId) " +
+            "SELECT o.id, o.createdDate, o.lastModifiedDate, o.memberId, o.orderStatus, " +
+            "o.deliveryMemberName, o.deliveryMemberAddress, o.totalPrice, o.orderDate, o.lineCount, o.leadProductId " +
+            "FROM Order o WHERE o.id IN (:orderIds)")
+    int archiveAllByIdIn(List<Long> orderIds);
+
+    /* 요약 컬럼이 비어 있는 보관 주문 아이디 */
+    @Query("SELECT o.id FROM ArchivedOrder o WHERE o.lineCount IS NULL ORDER BY o.id")
+    List<Long> findIdsByLineCountIsNull(Pageable pageable);
+}
@@ -0,0 +1,19 @@
+package shop.kokodo.orderservice.repository.interfaces;
+
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import shop.kokodo.orderservice.entity.IdempotencyKey;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    // 선점 토큰 확인/변경은 행 잠금 후 처리 (재선점과 완료가 동시에 일어나지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT k FROM IdempotencyKey k WHERE k.id = :id")
+    Optional<IdempotencyKey> findForUpdate(@Param("id") String id);
+}
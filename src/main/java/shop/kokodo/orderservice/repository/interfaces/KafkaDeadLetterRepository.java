@@ -0,0 +1,9 @@
+package shop.kokodo.orderservice.repository.interfaces;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+import shop.kokodo.orderservice.entity.KafkaDeadLetter;
+
+@Repository
+public interface KafkaDeadLetterRepository extends CrudRepository<KafkaDeadLetter, Long> {
+}
@@ -1,23 +1,32 @@
 package shop.kokodo.orderservice.repository.interfaces;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import javax.persistence.QueryHint;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
-import shop.kokodo.orderservice.dto.response.OrderProductThumbnailDto;
+import shop.kokodo.orderservice.dto.response.OrderLineDto;
+import shop.kokodo.orderservice.dto.response.OrderProductExportDto;
+import shop.kokodo.orderservice.dto.response.ProductSalesDto;
 import shop.kokodo.orderservice.entity.Order;
 import shop.kokodo.orderservice.entity.OrderProduct;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderProductRepository extends CrudRepository<OrderProduct, Long> {
 
-    @Query(value = "SELECT product_id AS ProductId, COUNT(*) AS count, order_id AS OrderId " +
-        "FROM order_product as OrderProduct " +
-        "WHERE order_id IN :orderId " +
-        "GROUP BY order_id", nativeQuery = true)
-    List<OrderProductThumbnailDto> findAllByOrderIdIn(List<Long> orderId);
+    /* 주문 요약 채우기용 주문상품 (주문상품 아이디 순, 주문별 첫 행이 대표상품) */
+    @Query(value = "SELECT op.order.id AS orderId, op.productId AS productId FROM OrderProduct op " +
+        "WHERE op.order.id IN (:orderIds) ORDER BY op.id")
+    List<OrderLineDto> findLinesByOrderIdIn(List<Long> orderIds);
 
     @Query(value = "SELECT op FROM OrderProduct AS op " +
             " WHERE op.memberId = :memberId" +
@@ -25,13 +34,36 @@ public interface OrderProductRepository extends CrudRepository<OrderProduct, Lon
             " ORDER BY op.order.orderDate DESC")
     List<OrderProduct> findAllByIdAndMemberId(Long memberId, Long orderId);
 
-    @Query(value = "SELECT op FROM OrderProduct op WHERE " +
+    /* 기간 내 상품별 판매 수량/금액/주문건수 집계 */
+    @Query(value = "SELECT new shop.kokodo.orderservice.dto.response.ProductSalesDto(" +
+            "op.productId, SUM(op.qty), SUM(op.qty * op.unitPrice), COUNT(DISTINCT op.order.id)) " +
+            "FROM OrderProduct op WHERE " +
             "op.order.orderDate BETWEEN :startDate AND :endDate AND " +
-            "op.productId IN (:productIdList)")
-    List<OrderProduct> findByProductIdListAndSellerId(List<Long> productIdList, LocalDateTime startDate, LocalDateTime endDate);
+            "op.productId IN (:productIdList) " +
+            "GROUP BY op.productId")
+    List<ProductSalesDto> findProductSalesByProductIdIn(List<Long> productIdList, LocalDateTime startDate, LocalDateTime endDate);
+
+    @Modifying
+    @Query(value = "DELETE FROM OrderProduct op WHERE op.order.id IN (:orderIds)")
+    int deleteAllByOrderIdIn(List<Long> orderIds);
+
+    /* 구매 이력 존재 여부 (member_id, product_id 인덱스 단건 조회, LIMIT 1) */
+    boolean existsByMemberIdAndProductId(Long memberId, Long productId);
 
-    @Query(value = "SELECT op FROM OrderProduct op WHERE " +
-            "op.order.memberId = :memberId AND " +
-            "op.productId = :productId")
-    List<OrderProduct> findByMemberIdAndProductId(Long memberId, Long productId);
+    /**
+     * 판매자 주문상품 내보내기용 전방향 커서 조회
+     * 결과를 한 번에 적재하지 않고 fetch size 단위로 읽어온다. (MySQL 은 useCursorFetch=true 필요)
+     * 반드시 트랜잭션 안에서 사용하고 Stream 을 닫아야 한다.
+     */
+    @QueryHints(value = {
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query(value = "SELECT op.order.id AS orderId, op.id AS orderProductId, op.productId AS productId, " +
+            "op.memberId AS memberId, op.qty AS qty, op.unitPrice AS unitPrice, op.order.orderDate AS orderDate " +
+            "FROM OrderProduct op " +
+            "WHERE op.productId IN (:productIdList) " +
+            "ORDER BY op.id")
+    Stream<OrderProductExportDto> streamAllByProductIdIn(List<Long> productIdList);
 }
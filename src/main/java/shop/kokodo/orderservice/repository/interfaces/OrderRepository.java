@@ -3,13 +3,28 @@ package shop.kokodo.orderservice.repository.interfaces;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import shop.kokodo.orderservice.entity.Order;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
-    Page<Order> findAllByMemberId(Long memberId, Pageable pageable);
+    /* 회원 주문 내역 (최근 주문부터, idx_orders_member_date) */
+    Page<Order> findAllByMemberIdOrderByOrderDateDesc(Long memberId, Pageable pageable);
+
+    /* 요약 컬럼(lineCount, leadProductId)이 비어 있는 주문 아이디 */
+    @Query("SELECT o.id FROM Order o WHERE o.lineCount IS NULL ORDER BY o.id")
+    List<Long> findIdsByLineCountIsNull(Pageable pageable);
+
+    /* 보관 대상 주문 아이디 (아이디가 시간순이므로 오래된 주문부터) */
+    @Query("SELECT o.id FROM Order o WHERE o.orderDate < :orderDate ORDER BY o.id")
+    List<Long> findIdsByOrderDateBefore(LocalDateTime orderDate, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Order o WHERE o.id IN (:orderIds)")
+    int deleteAllByIdIn(List<Long> orderIds);
 }
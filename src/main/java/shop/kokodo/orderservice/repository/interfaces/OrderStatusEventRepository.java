@@ -0,0 +1,22 @@
+package shop.kokodo.orderservice.repository.interfaces;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import shop.kokodo.orderservice.entity.OrderStatusEvent;
+
+@Repository
+public interface OrderStatusEventRepository extends JpaRepository<OrderStatusEvent, Long> {
+
+    List<OrderStatusEvent> findAllByOrderIdAndMemberIdOrderByIdAsc(Long orderId, Long memberId);
+
+    // 재생용: 아이디(발생 순서) 커서 이후 이력을 순서대로 조회
+    List<OrderStatusEvent> findAllByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 재생용: 주문별 마지막 이력 아이디 (order_id 인덱스)
+    @Query(value = "SELECT MAX(e.id) FROM OrderStatusEvent e WHERE e.orderId IN (:orderIds) GROUP BY e.orderId")
+    List<Long> findLatestIdsByOrderIdIn(Collection<Long> orderIds);
+}
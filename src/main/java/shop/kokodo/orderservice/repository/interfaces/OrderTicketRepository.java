@@ -0,0 +1,52 @@
+package shop.kokodo.orderservice.repository.interfaces;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import shop.kokodo.orderservice.entity.OrderTicket;
+import shop.kokodo.orderservice.entity.enums.status.OrderTicketStatus;
+
+@Repository
+public interface OrderTicketRepository extends JpaRepository<OrderTicket, Long> {
+
+    Optional<OrderTicket> findByIdAndMemberId(Long id, Long memberId);
+
+    Optional<OrderTicket> findFirstByMemberIdAndIdempotencyKey(Long memberId, String idempotencyKey);
+
+    // 처리할 티켓: 대기 중이거나, 처리 중 상태로 오래 멈춘 티켓 (처리하던 인스턴스 종료)
+    @Query("SELECT t.id FROM OrderTicket t"
+        + " WHERE t.status = :pending OR (t.status = :processing AND t.claimedAt < :staleBefore)"
+        + " ORDER BY t.id")
+    List<Long> findClaimableIds(@Param("pending") OrderTicketStatus pending,
+        @Param("processing") OrderTicketStatus processing,
+        @Param("staleBefore") LocalDateTime staleBefore,
+        Pageable pageable);
+
+    // 조건부 UPDATE 로 선점 (다른 인스턴스가 먼저 선점하면 0 반환)
+    @Modifying
+    @Query("UPDATE OrderTicket t SET t.status = :processing, t.claimedAt = :now, t.claimToken = :claimToken"
+        + " WHERE t.id = :id AND (t.status = :pending OR (t.status = :processing AND t.claimedAt < :staleBefore))")
+    int claim(@Param("id") Long id,
+        @Param("pending") OrderTicketStatus pending,
+        @Param("processing") OrderTicketStatus processing,
+        @Param("claimToken") String claimToken,
+        @Param("now") LocalDateTime now,
+        @Param("staleBefore") LocalDateTime staleBefore);
+
+    // 선점 토큰이 그대로일 때만 결과 기록 (선점 시간이 지나 다른 워커가 다시 선점했으면 0 반환)
+    @Modifying
+    @Query("UPDATE OrderTicket t SET t.status = :result, t.orderId = :orderId, t.error = :error"
+        + " WHERE t.id = :id AND t.status = :processing AND t.claimToken = :claimToken")
+    int complete(@Param("id") Long id,
+        @Param("processing") OrderTicketStatus processing,
+        @Param("claimToken") String claimToken,
+        @Param("result") OrderTicketStatus result,
+        @Param("orderId") Long orderId,
+        @Param("error") String error);
+}
@@ -13,6 +13,7 @@ import org.springframework.cloud.client.circuitbreaker.CircuitBreaker;
 import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import shop.kokodo.orderservice.datasource.InQueryTemplate;
 import shop.kokodo.orderservice.dto.request.CartRequestDto;
 import shop.kokodo.orderservice.dto.response.CartAvailableQtyDto;
 import shop.kokodo.orderservice.dto.request.CartQtyDto;
@@ -21,6 +22,8 @@ import shop.kokodo.orderservice.entity.Cart;
 import shop.kokodo.orderservice.entity.enums.status.CartStatus;
 import shop.kokodo.orderservice.exception.api.ApiRequestException;
 import shop.kokodo.orderservice.feign.client.ProductServiceClient;
+import shop.kokodo.orderservice.feign.replica.ProductLastKnownGood;
+import shop.kokodo.orderservice.feign.replica.Snapshot;
 import shop.kokodo.orderservice.feign.response.CartProductDto;
 import shop.kokodo.orderservice.feign.response.ProductStockDto;
 import shop.kokodo.orderservice.message.ExceptionMessage;
@@ -38,14 +41,22 @@ public class CartServiceImpl implements CartService {
 
     private final CircuitBreakerFactory circuitBreakerFactory;
 
+    private final InQueryTemplate inQueryTemplate;
+
+    private final ProductLastKnownGood productLastKnownGood;
+
 
     @Autowired
     public CartServiceImpl(CartRepository cartRepository,
         ProductServiceClient productServiceClient,
-        CircuitBreakerFactory circuitBreakerFactory) {
+        CircuitBreakerFactory circuitBreakerFactory,
+        InQueryTemplate inQueryTemplate,
+        ProductLastKnownGood productLastKnownGood) {
         this.cartRepository = cartRepository;
         this.productServiceClient = productServiceClient;
         this.circuitBreakerFactory = circuitBreakerFactory;
+        this.inQueryTemplate = inQueryTemplate;
+        this.productLastKnownGood = productLastKnownGood;
     }
 
     @Transactional
@@ -69,10 +80,12 @@ public class CartServiceImpl implements CartService {
         List<Cart> carts = cartRepository.findAllByMemberIdAndCartStatus(memberId, CartStatus.IN_CART);
         List<Long> productIds = carts.stream().map(Cart::getProductId).collect(Collectors.toList());
 
-        Map<Long, CartProductDto> cartProductMap = runCircuitBreaker("getProductOfCartCB",
-            () -> productServiceClient.getOrderProducts(productIds), throwable -> new HashMap<Long, CartProductDto>());
+        // 상품 서비스 장애 시 마지막으로 조회한 상품 정보 사용 (stale 표시)
+        Snapshot<Map<Long, CartProductDto>> cartProducts = productLastKnownGood.getOrderProducts(productIds);
+        Map<Long, CartProductDto> cartProductMap = cartProducts.getValue();
 
-        List<CartResponseDto> allCartResponseDto = carts.stream().map(cart -> CartResponseDto.create(cart, cartProductMap.get(cart.getProductId())))
+        List<CartResponseDto> allCartResponseDto = carts.stream()
+            .map(cart -> CartResponseDto.create(cart, cartProductMap.get(cart.getProductId()), cartProducts.isStale()))
             .collect(Collectors.toList());
 
         Map<Long, List<CartResponseDto>> sellerCartListMap = new HashMap<>();
@@ -92,7 +105,7 @@ public class CartServiceImpl implements CartService {
     @Transactional(readOnly = false)
     @Override
     public String deleteCarts(List<Long> cartIds) {
-        List<Cart> carts = cartRepository.findByIdIn(cartIds);
+        List<Cart> carts = inQueryTemplate.query(cartIds, cartRepository::findByIdIn);
         carts.forEach((cart) -> cart.changeStatus(CartStatus.DELETED));
         cartRepository.saveAll(carts);
         return MessageFormat.DELETE_CART_SUCCESS;
@@ -0,0 +1,160 @@
+package shop.kokodo.orderservice.service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.kokodo.orderservice.entity.IdempotencyKey;
+import shop.kokodo.orderservice.entity.Order;
+import shop.kokodo.orderservice.exception.api.ApiRequestException;
+import shop.kokodo.orderservice.message.ExceptionMessage;
+import shop.kokodo.orderservice.repository.interfaces.IdempotencyKeyRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderRepository;
+import shop.kokodo.orderservice.service.interfaces.IdempotencyService;
+import shop.kokodo.orderservice.service.utils.LruCache;
+
+/**
+ * 주문 API 재시도로 인한 중복 주문/중복 재고감소 방지
+ * - 주문을 만들기 전에 키를 별도 트랜잭션으로 PENDING 저장해서 선점한다. (기본키 중복이므로 인스턴스가 달라도 한 요청만 성공)
+ * - 선점한 요청만 주문을 만들고, 주문 트랜잭션 안에서 선점 토큰이 그대로일 때만 COMPLETED 로 바꾼다.
+ * - 재고 감소/쿠폰 이벤트는 주문 트랜잭션 커밋 후에 발행된다. (KafkaProducer)
+ * - 처리 중인 키로 다시 요청하면 처리 중 오류, 완료된 키는 최초 주문을 반환한다.
+ * - 선점 후 pending-timeout 이 지나도록 완료되지 않은 키(처리하던 인스턴스 종료)는 다시 선점할 수 있다.
+ */
+@Service
+@Slf4j
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate claimTransaction;
+    private final long pendingTimeoutSeconds;
+
+    // 완료된 키만 저장 (완료된 키는 바뀌지 않는다)
+    private final LruCache<String, IdempotencyKey> completedKeys;
+
+    @Autowired
+    public IdempotencyServiceImpl(IdempotencyKeyRepository idempotencyKeyRepository,
+        OrderRepository orderRepository,
+        TransactionTemplate transactionTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${order.idempotency.cache-size:10000}") int cacheSize,
+        @Value("${order.idempotency.pending-timeout-seconds:60}") long pendingTimeoutSeconds) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.orderRepository = orderRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.claimTransaction = new TransactionTemplate(transactionManager);
+        this.claimTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.pendingTimeoutSeconds = pendingTimeoutSeconds;
+        this.completedKeys = new LruCache<>(cacheSize);
+    }
+
+    @Override
+    public Order execute(String idempotencyKey, Long memberId, Supplier<Order> orderSupplier) {
+        // 키 없이 들어온 요청은 기존과 동일하게 처리
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return orderSupplier.get();
+        }
+        if (idempotencyKey.length() > IdempotencyKey.MAX_KEY_LENGTH) {
+            throw new ApiRequestException(ExceptionMessage.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        IdempotencyKey cached = completedKeys.get(idempotencyKey);
+        if (cached != null) {
+            return replay(cached, memberId);
+        }
+
+        String claimToken = UUID.randomUUID().toString();
+        IdempotencyKey existing = claim(idempotencyKey, memberId, claimToken);
+        if (existing != null) {
+            if (!existing.getMemberId().equals(memberId)) {
+                log.error("[IdempotencyServiceImpl] 다른 회원의 키 재사용: key={}, memberId={}", idempotencyKey, memberId);
+                throw new ApiRequestException(ExceptionMessage.IDEMPOTENCY_KEY_CONFLICT);
+            }
+            if (!existing.isCompleted()) {
+                log.info("[IdempotencyServiceImpl] 처리 중인 키로 재요청: key={}", idempotencyKey);
+                throw new ApiRequestException(ExceptionMessage.IDEMPOTENCY_KEY_IN_PROGRESS);
+            }
+            completedKeys.put(idempotencyKey, existing);
+            return replay(existing, memberId);
+        }
+
+        try {
+            IdempotencyKey[] completed = new IdempotencyKey[1];
+            Order order = transactionTemplate.execute(status -> {
+                Order created = orderSupplier.get();
+                // 선점 시간이 지나 다른 요청이 다시 선점했다면 이 주문은 롤백
+                IdempotencyKey claimed = idempotencyKeyRepository.findForUpdate(idempotencyKey)
+                    .filter(key -> key.isClaimedBy(claimToken))
+                    .orElseThrow(() -> new ApiRequestException(ExceptionMessage.IDEMPOTENCY_KEY_IN_PROGRESS));
+                claimed.complete(created.getId());
+                completed[0] = claimed;
+                return created;
+            });
+            completedKeys.put(idempotencyKey, completed[0]);
+            return order;
+        } catch (RuntimeException e) {
+            // 주문이 롤백되었으므로 선점을 풀어서 같은 키로 다시 시도할 수 있게 한다.
+            release(idempotencyKey, claimToken);
+            throw e;
+        }
+    }
+
+    /**
+     * 키 선점
+     * @return 선점에 성공하면 null, 다른 요청이 선점(또는 완료)한 키면 저장된 키
+     */
+    private IdempotencyKey claim(String idempotencyKey, Long memberId, String claimToken) {
+        try {
+            claimTransaction.executeWithoutResult(status -> idempotencyKeyRepository.saveAndFlush(
+                IdempotencyKey.claim(idempotencyKey, memberId, claimToken, LocalDateTime.now())));
+            return null;
+        } catch (DataIntegrityViolationException e) {
+            return claimTransaction.execute(status -> {
+                IdempotencyKey existing = idempotencyKeyRepository.findForUpdate(idempotencyKey)
+                    .orElseThrow(() -> new ApiRequestException(ExceptionMessage.IDEMPOTENCY_KEY_IN_PROGRESS));
+                LocalDateTime now = LocalDateTime.now();
+                if (existing.getMemberId().equals(memberId) && existing.isAbandoned(now.minusSeconds(pendingTimeoutSeconds))) {
+                    log.warn("[IdempotencyServiceImpl] 완료되지 않은 키 재선점: key={}, claimed_at={}", idempotencyKey, existing.getClaimedAt());
+                    existing.reclaim(claimToken, now);
+                    return null;
+                }
+                return existing;
+            });
+        }
+    }
+
+    private void release(String idempotencyKey, String claimToken) {
+        try {
+            claimTransaction.executeWithoutResult(status -> idempotencyKeyRepository.findForUpdate(idempotencyKey)
+                .filter(key -> key.isClaimedBy(claimToken))
+                .ifPresent(idempotencyKeyRepository::delete));
+        } catch (RuntimeException e) {
+            // 풀지 못한 키는 pending-timeout 뒤 다시 선점할 수 있다.
+            log.error("[IdempotencyServiceImpl] 키 선점 해제 실패: key={}", idempotencyKey, e);
+        }
+    }
+
+    private Order replay(IdempotencyKey processed, Long memberId) {
+        if (!processed.getMemberId().equals(memberId)) {
+            log.error("[IdempotencyServiceImpl] 다른 회원의 키 재사용: key={}, memberId={}", processed.getId(), memberId);
+            throw new ApiRequestException(ExceptionMessage.IDEMPOTENCY_KEY_CONFLICT);
+        }
+
+        log.info("[IdempotencyServiceImpl] 중복 주문 요청: key={}, order_id={}", processed.getId(), processed.getOrderId());
+        return findOrder(processed.getOrderId());
+    }
+
+    private Order findOrder(Long orderId) {
+        return orderRepository.findById(orderId)
+            .orElseThrow(() -> new ApiRequestException(ExceptionMessage.ORDER_NOT_FOUNDED));
+    }
+}
@@ -0,0 +1,109 @@
+package shop.kokodo.orderservice.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.kokodo.orderservice.datasource.ShardTemplate;
+import shop.kokodo.orderservice.repository.interfaces.ArchivedOrderProductRepository;
+import shop.kokodo.orderservice.repository.interfaces.ArchivedOrderRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderProductRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderRepository;
+import shop.kokodo.orderservice.service.interfaces.OrderArchiveService;
+
+/**
+ * 오래된 주문 보관
+ * 보관 기간(order.archive.retention-days)이 지난 주문을 청크 단위로 보관 테이블에 복사하고 운영 테이블에서 삭제한다.
+ * 청크마다 짧은 트랜잭션으로 끝내고 잠시 쉬어서 락 점유와 복제 지연을 줄인다.
+ * 스케줄(order.archive.cron)은 기본 비활성("-")이며, 한 인스턴스에서만 켠다.
+ */
+@Service
+@Slf4j
+public class OrderArchiveServiceImpl implements OrderArchiveService {
+
+    private final OrderRepository orderRepository;
+    private final OrderProductRepository orderProductRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final ArchivedOrderProductRepository archivedOrderProductRepository;
+    private final ShardTemplate shardTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final long retentionDays;
+    private final int chunkSize;
+    private final long chunkPauseMillis;
+
+    @Autowired
+    public OrderArchiveServiceImpl(OrderRepository orderRepository,
+        OrderProductRepository orderProductRepository,
+        ArchivedOrderRepository archivedOrderRepository,
+        ArchivedOrderProductRepository archivedOrderProductRepository,
+        ShardTemplate shardTemplate,
+        TransactionTemplate transactionTemplate,
+        @Value("${order.archive.retention-days:180}") long retentionDays,
+        @Value("${order.archive.chunk-size:500}") int chunkSize,
+        @Value("${order.archive.chunk-pause-ms:100}") long chunkPauseMillis) {
+        this.orderRepository = orderRepository;
+        this.orderProductRepository = orderProductRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.archivedOrderProductRepository = archivedOrderProductRepository;
+        this.shardTemplate = shardTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMillis = chunkPauseMillis;
+    }
+
+    @Scheduled(cron = "${order.archive.cron:-}")
+    public void scheduledArchive() {
+        archiveOrders();
+    }
+
+    @Override
+    public long archiveOrders() {
+        LocalDateTime horizon = LocalDateTime.now().minusDays(retentionDays);
+
+        long archived = 0;
+        for (int shard = 0; shard < shardTemplate.getShardCount(); shard++) {
+            archived += shardTemplate.callOnShard(shard, () -> archiveBefore(horizon));
+        }
+        log.info("[OrderArchiveServiceImpl] 주문 보관 완료: before={}, orders={}", horizon, archived);
+        return archived;
+    }
+
+    private long archiveBefore(LocalDateTime horizon) {
+        long archived = 0;
+        while (true) {
+            // 대상 조회도 쓰기 트랜잭션에서 해야 레플리카 지연으로 이미 옮긴 주문을 다시 고르지 않는다.
+            List<Long> orderIds = transactionTemplate.execute(status -> {
+                List<Long> ids = orderRepository.findIdsByOrderDateBefore(horizon, PageRequest.of(0, chunkSize));
+                if (!ids.isEmpty()) {
+                    archivedOrderRepository.archiveAllByIdIn(ids);
+                    archivedOrderProductRepository.archiveAllByOrderIdIn(ids);
+                    orderProductRepository.deleteAllByOrderIdIn(ids);
+                    orderRepository.deleteAllByIdIn(ids);
+                }
+                return ids;
+            });
+
+            archived += orderIds.size();
+            if (orderIds.size() < chunkSize) {
+                return archived;
+            }
+            pause();
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(chunkPauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주문 보관 작업 중단", e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package shop.kokodo.orderservice.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.kokodo.orderservice.datasource.ShardTemplate;
+import shop.kokodo.orderservice.dto.response.OrderLineDto;
+import shop.kokodo.orderservice.entity.ArchivedOrder;
+import shop.kokodo.orderservice.entity.Order;
+import shop.kokodo.orderservice.repository.interfaces.ArchivedOrderProductRepository;
+import shop.kokodo.orderservice.repository.interfaces.ArchivedOrderRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderProductRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderRepository;
+import shop.kokodo.orderservice.service.interfaces.OrderLineSummaryBackfillService;
+
+/**
+ * 주문 요약 컬럼 채우기
+ * 컬럼 추가 이전 주문(lineCount IS NULL)의 주문상품 개수와 대표상품을 청크 단위로 계산해서 저장한다.
+ * 청크마다 짧은 트랜잭션으로 끝내고 잠시 쉬어서 락 점유와 복제 지연을 줄인다. (UPDATE 는 JDBC 배치로 전송)
+ * 주문상품이 없는 주문은 lineCount 0 으로 채워서 다시 고르지 않는다.
+ * 스케줄(order.line-summary.backfill-cron)은 기본 비활성("-")이며, 채울 주문이 없어지면 다시 끈다.
+ */
+@Service
+@Slf4j
+public class OrderLineSummaryBackfillServiceImpl implements OrderLineSummaryBackfillService {
+
+    private final OrderRepository orderRepository;
+    private final OrderProductRepository orderProductRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final ArchivedOrderProductRepository archivedOrderProductRepository;
+    private final ShardTemplate shardTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize;
+    private final long chunkPauseMillis;
+
+    @Autowired
+    public OrderLineSummaryBackfillServiceImpl(OrderRepository orderRepository,
+        OrderProductRepository orderProductRepository,
+        ArchivedOrderRepository archivedOrderRepository,
+        ArchivedOrderProductRepository archivedOrderProductRepository,
+        ShardTemplate shardTemplate,
+        TransactionTemplate transactionTemplate,
+        @Value("${order.line-summary.chunk-size:500}") int chunkSize,
+        @Value("${order.line-summary.chunk-pause-ms:100}") long chunkPauseMillis) {
+        this.orderRepository = orderRepository;
+        this.orderProductRepository = orderProductRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.archivedOrderProductRepository = archivedOrderProductRepository;
+        this.shardTemplate = shardTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMillis = chunkPauseMillis;
+    }
+
+    @Scheduled(cron = "${order.line-summary.backfill-cron:-}")
+    public void scheduledBackfill() {
+        backfill();
+    }
+
+    @Override
+    public long backfill() {
+        long filled = 0;
+        for (int shard = 0; shard < shardTemplate.getShardCount(); shard++) {
+            filled += shardTemplate.callOnShard(shard, () -> backfillChunks(this::fillOrders));
+            filled += shardTemplate.callOnShard(shard, () -> backfillChunks(this::fillArchivedOrders));
+        }
+        log.info("[OrderLineSummaryBackfillServiceImpl] 주문 요약 채우기 완료: orders={}", filled);
+        return filled;
+    }
+
+    private long backfillChunks(Supplier<Integer> fillChunk) {
+        long filled = 0;
+        while (true) {
+            // 대상 조회도 쓰기 트랜잭션에서 해야 레플리카 지연으로 이미 채운 주문을 다시 고르지 않는다.
+            int count = transactionTemplate.execute(status -> fillChunk.get());
+
+            filled += count;
+            if (count < chunkSize) {
+                return filled;
+            }
+            pause();
+        }
+    }
+
+    private int fillOrders() {
+        List<Long> orderIds = orderRepository.findIdsByLineCountIsNull(PageRequest.of(0, chunkSize));
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        Map<Long, List<Long>> lines = groupByOrder(orderProductRepository.findLinesByOrderIdIn(orderIds));
+        for (Order order : orderRepository.findAllById(orderIds)) {
+            List<Long> productIds = lines.getOrDefault(order.getId(), List.of());
+            order.summarizeLines(productIds.size(), productIds.isEmpty() ? null : productIds.get(0));
+        }
+        return orderIds.size();
+    }
+
+    private int fillArchivedOrders() {
+        List<Long> orderIds = archivedOrderRepository.findIdsByLineCountIsNull(PageRequest.of(0, chunkSize));
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        Map<Long, List<Long>> lines = groupByOrder(archivedOrderProductRepository.findLinesByOrderIdIn(orderIds));
+        for (ArchivedOrder order : archivedOrderRepository.findAllById(orderIds)) {
+            List<Long> productIds = lines.getOrDefault(order.getId(), List.of());
+            order.summarizeLines(productIds.size(), productIds.isEmpty() ? null : productIds.get(0));
+        }
+        return orderIds.size();
+    }
+
+    // 주문상품 아이디 순서를 유지하므로 주문별 첫 상품이 대표상품
+    private Map<Long, List<Long>> groupByOrder(List<OrderLineDto> lines) {
+        return lines.stream().collect(Collectors.groupingBy(OrderLineDto::getOrderId,
+            Collectors.mapping(OrderLineDto::getProductId, Collectors.toList())));
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(chunkPauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주문 요약 채우기 작업 중단", e);
+        }
+    }
+}
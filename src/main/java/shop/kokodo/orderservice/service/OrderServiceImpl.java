@@ -1,33 +1,51 @@
 package shop.kokodo.orderservice.service;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 
 import java.util.stream.Collectors;
 
-import com.querydsl.core.QueryResults;
-import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cloud.client.circuitbreaker.CircuitBreaker;
-import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import shop.kokodo.orderservice.dto.request.CartOrderDto;
 import shop.kokodo.orderservice.dto.request.SingleProductOrderDto;
+import shop.kokodo.orderservice.datasource.InQueryTemplate;
+import shop.kokodo.orderservice.datasource.ReadYourWritesWindow;
+import shop.kokodo.orderservice.datasource.ReplicationRoutingDataSource;
+import shop.kokodo.orderservice.datasource.ShardTemplate;
 import shop.kokodo.orderservice.dto.response.*;
+import shop.kokodo.orderservice.entity.ArchivedOrder;
+import shop.kokodo.orderservice.entity.ArchivedOrderProduct;
 import shop.kokodo.orderservice.entity.Cart;
 import shop.kokodo.orderservice.entity.Order;
+import shop.kokodo.orderservice.entity.OrderHistory;
 import shop.kokodo.orderservice.entity.OrderProduct;
-import shop.kokodo.orderservice.entity.QOrderProduct;
+import shop.kokodo.orderservice.entity.OrderStatusEvent;
+import shop.kokodo.orderservice.entity.QArchivedOrder;
 import shop.kokodo.orderservice.entity.enums.status.CartStatus;
 import shop.kokodo.orderservice.feign.client.MemberServiceClient;
 import shop.kokodo.orderservice.feign.client.ProductServiceClient;
 import shop.kokodo.orderservice.feign.client.PromotionServiceClient;
+import shop.kokodo.orderservice.feign.hedge.HedgedExecutor;
+import shop.kokodo.orderservice.feign.replica.ProductLastKnownGood;
+import shop.kokodo.orderservice.feign.replica.PromotionPolicyReplica;
+import shop.kokodo.orderservice.feign.replica.Snapshot;
 import shop.kokodo.orderservice.feign.response.OrderMemberDto;
 import shop.kokodo.orderservice.feign.response.OrderProductDto;
 import shop.kokodo.orderservice.feign.response.ProductThumbnailDto;
@@ -35,38 +53,75 @@ import shop.kokodo.orderservice.feign.response.RateCouponDto;
 import shop.kokodo.orderservice.feign.response.RateDiscountPolicyDto;
 import shop.kokodo.orderservice.kafka.KafkaProducer;
 import shop.kokodo.orderservice.kafka.dto.CouponNameDto;
+import shop.kokodo.orderservice.repository.interfaces.ArchivedOrderProductRepository;
+import shop.kokodo.orderservice.repository.interfaces.ArchivedOrderRepository;
 import shop.kokodo.orderservice.repository.interfaces.CartRepository;
 import shop.kokodo.orderservice.repository.interfaces.OrderProductRepository;
 import shop.kokodo.orderservice.repository.interfaces.OrderRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderStatusEventRepository;
 import shop.kokodo.orderservice.service.interfaces.OrderService;
+import shop.kokodo.orderservice.service.utils.LruCache;
+import shop.kokodo.orderservice.service.utils.OrderQuoteStore;
+import shop.kokodo.orderservice.service.utils.OrderQuoteStore.Quote;
 import shop.kokodo.orderservice.service.utils.ProductPriceCalculator;
 
 @Slf4j
 @Service
 public class OrderServiceImpl implements OrderService {
 
-
+    private static final int ORDER_PAGE_SIZE = 5;
 
     private final OrderRepository orderRepository;
     private final CartRepository cartRepository;
     private final OrderProductRepository orderProductRepository;
 
+    // 보관 주문 (운영 테이블에 없을 때만 조회)
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final ArchivedOrderProductRepository archivedOrderProductRepository;
+    private final OrderStatusEventRepository orderStatusEventRepository;
+
     private final ProductPriceCalculator productPriceCalculator;
+    // 장바구니 주문 견적 (견적 조회 후 주문 시 재조회 생략)
+    private final OrderQuoteStore orderQuoteStore;
 
     // Feign Service
     private final ProductServiceClient productServiceClient;
     private final MemberServiceClient memberServiceClient;
     private final PromotionServiceClient promotionServiceClient;
-
-    //CircuitBreaker
-    private final CircuitBreakerFactory circuitBreakerFactory;
+    // 할인 정책은 로컬 복제본에서 조회 (쿠폰만 promotion-service 호출)
+    private final PromotionPolicyReplica promotionPolicyReplica;
+    // 상품 썸네일은 장애 시 마지막으로 조회한 값으로 응답
+    private final ProductLastKnownGood productLastKnownGood;
+    // 멱등 조회는 느린 인스턴스 대신 다른 인스턴스에 헤지 요청
+    private final HedgedExecutor hedgedExecutor;
 
     //Kafka
     private final KafkaProducer kafkaProducer;
 
     //queryDSL
     private final JPAQueryFactory jpaQueryFactory;
-    private static QOrderProduct orderProduct = QOrderProduct.orderProduct;
+    private static final QArchivedOrder archivedOrder = QArchivedOrder.archivedOrder;
+
+    // 주간 집계 기준 시간대
+    private final ZoneId reportZoneId;
+
+    // 구매 이력 확인 결과 캐시 (구매 이력은 사라지지 않으므로 '구매함' 결과만 저장)
+    private final LruCache<String, Boolean> purchasedCache;
+
+    // 회원별 보관 주문 수 캐시 (보관 작업 주기보다 짧게 두고, 마지막 페이지 조회 시 갱신)
+    private final LruCache<Long, Long> archivedCountCache;
+
+    // 주문 직후 레플리카 지연으로 구매 이력이 누락되지 않도록 확인
+    private final ReadYourWritesWindow readYourWritesWindow;
+
+    // 상품 기준 집계는 모든 회원 샤드를 조회해서 합친다.
+    private final ShardTemplate shardTemplate;
+
+    // 큰 IN (...) 조회 분할 실행
+    private final InQueryTemplate inQueryTemplate;
+
+    // 샤드 분산 조회용 읽기 전용 트랜잭션
+    private final TransactionTemplate readOnlyTransaction;
 
     @Autowired
     public OrderServiceImpl(
@@ -75,22 +130,51 @@ public class OrderServiceImpl implements OrderService {
             ProductServiceClient productServiceClient,
             MemberServiceClient memberServiceClient,
             OrderProductRepository orderProductRepository,
+            ArchivedOrderRepository archivedOrderRepository,
+            ArchivedOrderProductRepository archivedOrderProductRepository,
+            OrderStatusEventRepository orderStatusEventRepository,
             PromotionServiceClient promotionServiceClient,
+            PromotionPolicyReplica promotionPolicyReplica,
+            ProductLastKnownGood productLastKnownGood,
+            HedgedExecutor hedgedExecutor,
             ProductPriceCalculator productPriceCalculator,
-            CircuitBreakerFactory circuitBreakerFactory,
+            OrderQuoteStore orderQuoteStore,
             JPAQueryFactory jpaQueryFactory,
-            KafkaProducer kafkaProducer) {
+            KafkaProducer kafkaProducer,
+            ReadYourWritesWindow readYourWritesWindow,
+            ShardTemplate shardTemplate,
+            InQueryTemplate inQueryTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${order.report.zone-id:Asia/Seoul}") ZoneId reportZoneId,
+            @Value("${order.purchase-check.cache-size:10000}") int purchasedCacheSize,
+            @Value("${order.purchase-check.cache-ttl-seconds:600}") long purchasedCacheTtlSeconds,
+            @Value("${order.archive.count-cache-size:10000}") int archivedCountCacheSize,
+            @Value("${order.archive.count-cache-ttl-seconds:600}") long archivedCountCacheTtlSeconds) {
 
         this.orderRepository = orderRepository;
         this.cartRepository = cartRepository;
         this.productPriceCalculator = productPriceCalculator;
+        this.orderQuoteStore = orderQuoteStore;
         this.orderProductRepository = orderProductRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.archivedOrderProductRepository = archivedOrderProductRepository;
+        this.orderStatusEventRepository = orderStatusEventRepository;
         this.productServiceClient = productServiceClient;
         this.memberServiceClient = memberServiceClient;
         this.promotionServiceClient = promotionServiceClient;
-        this.circuitBreakerFactory = circuitBreakerFactory;
+        this.promotionPolicyReplica = promotionPolicyReplica;
+        this.productLastKnownGood = productLastKnownGood;
+        this.hedgedExecutor = hedgedExecutor;
         this.jpaQueryFactory = jpaQueryFactory;
         this.kafkaProducer = kafkaProducer;
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.shardTemplate = shardTemplate;
+        this.inQueryTemplate = inQueryTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.reportZoneId = reportZoneId;
+        this.purchasedCache = new LruCache<>(purchasedCacheSize, Duration.ofSeconds(purchasedCacheTtlSeconds));
+        this.archivedCountCache = new LruCache<>(archivedCountCacheSize, Duration.ofSeconds(archivedCountCacheTtlSeconds));
     }
 
     @Transactional(readOnly = false)
@@ -108,11 +192,11 @@ public class OrderServiceImpl implements OrderService {
         // 사용자 이름, 주소
         OrderMemberDto orderMemberDto = memberServiceClient.getOrderMember(dto.getMemberId());
 
-        // [promotion-service feign]
-        // 비율할인정책, 고정할인정책, 비율쿠폰, 고정쿠폰 조회
+        // 비율할인정책, 고정할인정책: 로컬 복제본
+        // [promotion-service feign] 비율쿠폰, 고정쿠폰 조회
         Long sellerId = dto.getSellerId();
-        Map<Long, RateDiscountPolicyDto> rateDiscountPolicyMap = promotionServiceClient.getRateDiscountPolicy(List.of(productId));
-        Map<Long, Boolean> fixDiscountPolicySellerMap = promotionServiceClient.getFixDiscountPolicyStatusForFeign(List.of(productId), List.of(sellerId));
+        Map<Long, RateDiscountPolicyDto> rateDiscountPolicyMap = promotionPolicyReplica.getRateDiscountPolicy(List.of(productId));
+        Map<Long, Boolean> fixDiscountPolicySellerMap = promotionPolicyReplica.getFixDiscountPolicyStatus(List.of(productId), List.of(sellerId));
 
         // TODO: ID 가 NULL 일 경우 처리
         Long rateCouponId = dto.getRateCouponId();
@@ -128,15 +212,14 @@ public class OrderServiceImpl implements OrderService {
         // 주문 생성
         Order order = Order.createOrder(memberId, orderMemberDto.getName(), orderMemberDto.getAddress(), totalPrice, orderProducts);
         orderRepository.save(order);
+        kafkaProducer.sendOrderStatusChangelog(orderStatusEventRepository.save(OrderStatusEvent.create(order, null)));
 
-        kafkaProducer.send("product-decrease-stock", new LinkedHashMap<>() {{
-            put(productId, qty);
-        }});
+        kafkaProducer.sendStockDecrease(Map.of(productId, qty));
 
         // 쿠폰 상태 변경
         CouponNameDto couponNameDto = getValidCouponNameDto(memberId, rateCouponId, fixCouponId, rateCouponMap);
         if (couponNameDto != null) {
-            kafkaProducer.send("promotion-coupon-status", couponNameDto);
+            kafkaProducer.sendCouponStatus(couponNameDto);
         }
 
         return order;
@@ -145,45 +228,37 @@ public class OrderServiceImpl implements OrderService {
     @Transactional(readOnly = false)
     public Order orderCartProducts(CartOrderDto dto) {
 
+        Long memberId = dto.getMemberId();
         List<Long> rateCouponIds = dto.getRateCouponIds();
         List<Long> fixCouponIds = dto.getFixCouponIds();
 
         // '장바구니상품' 조회
-        List<Cart> carts = cartRepository.findByIdIn(dto.getCartIds());
+        List<Cart> carts = inQueryTemplate.query(dto.getCartIds(), cartRepository::findByIdIn);
 
-        List<Long> cartProductIds = carts.stream().map(Cart::getProductId).collect(Collectors.toList());
-        Map<Long, OrderProductDto> orderProductDtoMap = productServiceClient.getCartOrderProduct(cartProductIds);
+        // 견적 이후 장바구니, 쿠폰이 바뀌지 않았다면 견적 재사용 (상품, 할인 재조회 생략)
+        // 쿠폰은 견적 이후 사용/만료될 수 있으므로 다시 조회해서 견적 당시와 다르면 새로 계산
+        Quote quote = orderQuoteStore.take(dto.getQuoteToken(), memberId, carts, rateCouponIds, fixCouponIds);
+        if (quote != null && !couponsUnchanged(quote, rateCouponIds, fixCouponIds)) {
+            quote = null;
+        }
+        if (quote == null) {
+            quote = quoteCarts(memberId, carts, rateCouponIds, fixCouponIds);
+        }
+        Map<Long, OrderProductDto> orderProductDtoMap = quote.getOrderProductDtoMap();
+        Map<Long, RateCouponDto> rateCouponMap = quote.getRateCouponMap();
+        Integer totalPrice = quote.getTotalPrice();
 
         // 주문 상품 생성
         List<OrderProduct> orderProducts = carts.stream()
             .map((cart) -> OrderProduct.createOrderProduct(cart, orderProductDtoMap.get(cart.getProductId())))
             .collect(Collectors.toList());
 
-        Map<Long, Long> productSellerMap = orderProductDtoMap.values().stream()
-            .collect(Collectors.toMap(OrderProductDto::getId, OrderProductDto::getSellerId, (product1, product2) -> product1));
-        List<Long> productIds = new ArrayList<>();
-        List<Long> sellerIds = new ArrayList<>();
-        productSellerMap.keySet().forEach((productId) -> {
-            productIds.add(productId);
-            sellerIds.add(productSellerMap.get(productId));
-        });
-
-        // [promotion-service feign]
-        // 비율할인정책, 고정할인정책, 비율쿠폰, 고정쿠폰 조회
-        Map<Long, RateDiscountPolicyDto> rateDiscountPolicyMap = promotionServiceClient.getRateDiscountPolicy(productIds);
-        Map<Long, Boolean> fixDiscountPolicySellerMap = promotionServiceClient.getFixDiscountPolicyStatusForFeign(productIds, sellerIds);
-        Map<Long, RateCouponDto> rateCouponMap = promotionServiceClient.findRateCouponByCouponIdList(rateCouponIds);
-        List<Long> fixCouponSellerIds = promotionServiceClient.findFixCouponByCouponIdList(fixCouponIds);
-
-        // 주문 총 가격 계산
-        Integer totalPrice = productPriceCalculator.calcTotalPrice(orderProducts, productSellerMap, rateDiscountPolicyMap, fixDiscountPolicySellerMap, rateCouponMap, fixCouponSellerIds);
-
         // 사용자 이름, 주소
-        Long memberId = dto.getMemberId();
         OrderMemberDto orderMemberDto = memberServiceClient.getOrderMember(memberId);
 
         Order order = Order.createOrder(memberId, orderMemberDto.getName(), orderMemberDto.getAddress(), totalPrice, orderProducts);
         orderRepository.save(order);
+        kafkaProducer.sendOrderStatusChangelog(orderStatusEventRepository.save(OrderStatusEvent.create(order, null)));
 
         // 장바구니 상태 업데이트
         carts.forEach((cart -> cart.changeStatus(CartStatus.ORDER_PROCESS)));
@@ -192,16 +267,66 @@ public class OrderServiceImpl implements OrderService {
         // 상품 재고 감소
         Map<Long, Integer> productIdQtyMap = carts.stream()
                 .collect(Collectors.toMap(Cart::getProductId, Cart::getQty, Integer::sum));
-        kafkaProducer.send("product-decrease-stock", productIdQtyMap);
+        kafkaProducer.sendStockDecrease(productIdQtyMap);
 
         // 쿠폰 상태 변경
         CouponNameDto couponNameDto = getValidCouponNameDto(memberId, rateCouponIds, fixCouponIds, rateCouponMap);
         if (couponNameDto != null) {
-            kafkaProducer.send("promotion-coupon-status", couponNameDto);
+            kafkaProducer.sendCouponStatus(couponNameDto);
         }
         return order;
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public OrderQuoteDto quoteCartProducts(CartOrderDto dto) {
+        List<Cart> carts = inQueryTemplate.query(dto.getCartIds(), cartRepository::findByIdIn);
+        Quote quote = quoteCarts(dto.getMemberId(), carts, dto.getRateCouponIds(), dto.getFixCouponIds());
+        String quoteToken = orderQuoteStore.save(quote);
+        return new OrderQuoteDto(quoteToken, quote.getTotalPrice(), orderQuoteStore.getTtl().getSeconds());
+    }
+
+    // 장바구니 상품 가격, 할인정책, 쿠폰을 조회해서 주문 총 가격 계산
+    private Quote quoteCarts(Long memberId, List<Cart> carts, List<Long> rateCouponIds, List<Long> fixCouponIds) {
+        List<Long> cartProductIds = carts.stream().map(Cart::getProductId).collect(Collectors.toList());
+        Map<Long, OrderProductDto> orderProductDtoMap = hedgedExecutor.call("product.cart-order-product",
+            () -> productServiceClient.getCartOrderProduct(cartProductIds));
+
+        List<OrderProduct> orderProducts = carts.stream()
+            .map((cart) -> OrderProduct.createOrderProduct(cart, orderProductDtoMap.get(cart.getProductId())))
+            .collect(Collectors.toList());
+
+        Map<Long, Long> productSellerMap = orderProductDtoMap.values().stream()
+            .collect(Collectors.toMap(OrderProductDto::getId, OrderProductDto::getSellerId, (product1, product2) -> product1));
+        List<Long> productIds = new ArrayList<>();
+        List<Long> sellerIds = new ArrayList<>();
+        productSellerMap.keySet().forEach((productId) -> {
+            productIds.add(productId);
+            sellerIds.add(productSellerMap.get(productId));
+        });
+
+        // 비율할인정책, 고정할인정책: 로컬 복제본
+        // [promotion-service feign] 비율쿠폰, 고정쿠폰 조회
+        Map<Long, RateDiscountPolicyDto> rateDiscountPolicyMap = promotionPolicyReplica.getRateDiscountPolicy(productIds);
+        Map<Long, Boolean> fixDiscountPolicySellerMap = promotionPolicyReplica.getFixDiscountPolicyStatus(productIds, sellerIds);
+        Map<Long, RateCouponDto> rateCouponMap = promotionServiceClient.findRateCouponByCouponIdList(rateCouponIds);
+        List<Long> fixCouponSellerIds = promotionServiceClient.findFixCouponByCouponIdList(fixCouponIds);
+
+        // 주문 총 가격 계산
+        Integer totalPrice = productPriceCalculator.calcTotalPrice(orderProducts, productSellerMap, rateDiscountPolicyMap, fixDiscountPolicySellerMap, rateCouponMap, fixCouponSellerIds);
+
+        return new Quote(memberId, carts, rateCouponIds, fixCouponIds, orderProductDtoMap, rateCouponMap, fixCouponSellerIds, totalPrice);
+    }
+
+    // 쿠폰을 사용하지 않은 주문은 조회 없이 그대로 사용
+    private boolean couponsUnchanged(Quote quote, List<Long> rateCouponIds, List<Long> fixCouponIds) {
+        Map<Long, RateCouponDto> rateCouponMap = rateCouponIds.isEmpty()
+            ? Map.of() : promotionServiceClient.findRateCouponByCouponIdList(rateCouponIds);
+        List<Long> fixCouponSellerIds = fixCouponIds.isEmpty()
+            ? List.of() : promotionServiceClient.findFixCouponByCouponIdList(fixCouponIds);
+        return OrderQuoteStore.couponsUnchanged(quote, rateCouponMap, fixCouponSellerIds);
+    }
+
     // 쿠폰 아이디 NULL 체크
     // 쿠폰 아이디 리스트 NULL 체크
     public CouponNameDto getValidCouponNameDto(Long memberId,
@@ -239,140 +364,135 @@ public class OrderServiceImpl implements OrderService {
 
     }
 
-    @Transactional(readOnly = false)
+    @Transactional(readOnly = true)
     @Override
     public PagingOrderInformationDto getOrderList(Long memberId, int page) {
-        Page<Order> orderPage = orderRepository.findAllByMemberId(memberId, PageRequest.of(page,5));
-        List<Order> orderList = orderPage.get().collect(Collectors.toList());
-
-        List<OrderProductThumbnailDto> orderProductThumbnailDtoList = orderProductRepository.findAllByOrderIdIn(
-                orderList.stream()
-                        .map(Order::getId)
-                        .collect(Collectors.toList()
-                        )
-        );
-
-        List<Long> productIdList = orderProductThumbnailDtoList.stream()
-                .map(OrderProductThumbnailDto::getProductId)
-                .collect(Collectors.toList());
-
-        CircuitBreaker circuitBreaker = circuitBreakerFactory.create("circuitbreaker");
-        Map<Long, ProductThumbnailDto> productList = circuitBreaker.run(
-                () -> productServiceClient.getProductListMap(productIdList),
-                throwable -> new HashMap<Long, ProductThumbnailDto>()
-        );
-
-        List<OrderInformationDto> response = new ArrayList<>();
-        for (int i=0;i< orderProductThumbnailDtoList.size();i++) {
-            Long productId = productIdList.get(i);
-            ProductThumbnailDto product = productList.get(productId);
-
-            String name = "";
-            if(orderProductThumbnailDtoList.get(i).getCount() == 1) name = product.getName();
-            else name = product.getName() + " 외 " + orderProductThumbnailDtoList.get(i).getCount() + "건";
-
-            if(product != null) {
-                if(orderProductThumbnailDtoList.get(i).getCount() == 1) name = product.getName();
-                else name = product.getName() + " 외 " + (orderProductThumbnailDtoList.get(i).getCount() - 1) + "건";
-
-                response.add(OrderInformationDto.builder()
-                        .orderId(orderList.get(i).getId())
-                        .name(name)
-                        .orderStatus(orderList.get(i).getOrderStatus())
-                        .price(orderList.get(i).getTotalPrice())
-                        .thumbnail(product.getThumbnail())
-                        .orderDate(orderList.get(i).getOrderDate())
-                        .build()
-                );
-            }
-        }
-        log.info("response : " + response);
-
-        return PagingOrderInformationDto.builder()
-                .orderInformationDtoList(response)
-                .totalCount(orderPage.getTotalElements())
-                .build();
+        return getOrderInformationPage(memberId, page);
     }
 
-    @Transactional(readOnly = false)
+    @Transactional(readOnly = true)
     @Override
     public PagingOrderInformationDto getOrderListDsl(Long memberId, int page) {
-        Page<Order> orderPage = orderRepository.findAllByMemberId(memberId, PageRequest.of(page,5));
-        List<Order> orderList = orderPage.get().collect(Collectors.toList());
+        return getOrderInformationPage(memberId, page);
+    }
 
-        List<Long> orderIdList = orderList.stream()
-                .map(Order::getId)
-                .collect(Collectors.toList());
+    // 주문 요약 컬럼(lineCount, leadProductId)으로 "대표상품 외 N건" 을 만든다. (주문상품 GROUP BY 없음)
+    private PagingOrderInformationDto getOrderInformationPage(Long memberId, int page) {
+        Page<OrderHistory> orderPage = findOrderHistoryPage(memberId, page);
+        List<OrderHistory> orderList = orderPage.getContent();
 
-        List<OrderProductDslDto> orderProductDtoListDsl = findAllByOrderIdInDsl(orderIdList);
+        // 요약 컬럼이 아직 채워지지 않은 주문만 주문상품에서 계산
+        Map<Long, List<Long>> pendingOrderLines = findPendingOrderLines(orderList);
 
-        List<Long> productIdList = orderProductDtoListDsl.stream()
-                .map(OrderProductDslDto::getProductId)
+        List<Long> productIdList = orderList.stream()
+                .map(order -> leadProductIdOf(order, pendingOrderLines))
+                .filter(Objects::nonNull)
+                .distinct()
                 .collect(Collectors.toList());
 
-        CircuitBreaker circuitBreaker = circuitBreakerFactory.create("circuitbreaker");
-        Map<Long, ProductThumbnailDto> productList = circuitBreaker.run(
-                () -> productServiceClient.getProductListMap(productIdList),
-                throwable -> new HashMap<Long, ProductThumbnailDto>()
-        );
+        // 상품 서비스 장애 시 마지막으로 조회한 상품 정보 사용 (stale 표시)
+        Snapshot<Map<Long, ProductThumbnailDto>> products = productLastKnownGood.getProductListMap(productIdList);
+        Map<Long, ProductThumbnailDto> productList = products.getValue();
 
         List<OrderInformationDto> response = new ArrayList<>();
-        for (int i=0;i<orderProductDtoListDsl.size();i++) {
-            Long productId = productIdList.get(i);
-            ProductThumbnailDto product = productList.get(productId);
-
-            String name = "";
-            if(orderProductDtoListDsl.get(i).getCount() == 1) name = product.getName();
-            else name = product.getName() + " 외 " + orderProductDtoListDsl.get(i).getCount() + "건";
-
-            if(product != null) {
-                response.add(OrderInformationDto.builder()
-                        .orderId(orderList.get(i).getId())
-                        .name(product.getName() + " 외 " + orderProductDtoListDsl.get(i).getCount() + "건")
-                        .orderStatus(orderList.get(i).getOrderStatus())
-                        .price(orderList.get(i).getTotalPrice())
-                        .thumbnail(product.getThumbnail())
-                        .orderDate(orderList.get(i).getOrderDate())
-                        .build()
-                );
-            }
+        for (OrderHistory order : orderList) {
+            // 상품 정보가 없어도(상품 서비스 장애 + 캐시 없음) 주문은 이름/썸네일 없이 보여준다.
+            Optional<ProductThumbnailDto> product = Optional.ofNullable(productList.get(leadProductIdOf(order, pendingOrderLines)));
+            String productName = product.map(ProductThumbnailDto::getName).orElse(null);
+
+            int lineCount = lineCountOf(order, pendingOrderLines);
+            String name = (lineCount <= 1) ? productName
+                : (productName == null ? "" : productName + " ") + "외 " + (lineCount - 1) + "건";
+            response.add(OrderInformationDto.builder()
+                    .orderId(order.getId())
+                    .name(name)
+                    .orderStatus(order.getOrderStatus())
+                    .price(order.getTotalPrice())
+                    .thumbnail(product.map(ProductThumbnailDto::getThumbnail).orElse(null))
+                    .orderDate(order.getOrderDate())
+                    .build()
+            );
         }
-        log.info("response : " + response);
 
         return PagingOrderInformationDto.builder()
                 .orderInformationDtoList(response)
                 .totalCount(orderPage.getTotalElements())
+                .stale(products.isStale())
                 .build();
     }
 
+    /**
+     * 요약 컬럼 추가 이전 주문의 주문상품 (채우기 작업이 끝나면 조회하지 않는다)
+     * @return [key] 주문아이디 [value] 주문상품 순서의 상품아이디
+     */
+    private Map<Long, List<Long>> findPendingOrderLines(List<OrderHistory> orderList) {
+        List<OrderHistory> pendingOrders = orderList.stream()
+                .filter(order -> order.getLineCount() == null)
+                .collect(Collectors.toList());
+        if (pendingOrders.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        List<OrderLineDto> lines = new ArrayList<>();
+        List<Long> orderIds = getOrderIds(pendingOrders, Order.class);
+        if (!orderIds.isEmpty()) {
+            lines.addAll(orderProductRepository.findLinesByOrderIdIn(orderIds));
+        }
+        List<Long> archivedOrderIds = getOrderIds(pendingOrders, ArchivedOrder.class);
+        if (!archivedOrderIds.isEmpty()) {
+            lines.addAll(archivedOrderProductRepository.findLinesByOrderIdIn(archivedOrderIds));
+        }
+        return lines.stream().collect(Collectors.groupingBy(OrderLineDto::getOrderId,
+                Collectors.mapping(OrderLineDto::getProductId, Collectors.toList())));
+    }
+
+    private Long leadProductIdOf(OrderHistory order, Map<Long, List<Long>> pendingOrderLines) {
+        if (order.getLineCount() != null) {
+            return order.getLeadProductId();
+        }
+        List<Long> productIds = pendingOrderLines.get(order.getId());
+        return (productIds == null) ? null : productIds.get(0);
+    }
 
-    @Transactional(readOnly = false)
+    private int lineCountOf(OrderHistory order, Map<Long, List<Long>> pendingOrderLines) {
+        if (order.getLineCount() != null) {
+            return order.getLineCount();
+        }
+        return pendingOrderLines.getOrDefault(order.getId(), List.of()).size();
+    }
+
+
+    @Transactional(readOnly = true)
     @Override
     public List<OrderDetailInformationDto> getOrderDetailList(Long memberId, Long orderId) {
         log.info("memberID : " + memberId + ", orderId : " + orderId);
         List<OrderProduct> orderProductList = orderProductRepository.findAllByIdAndMemberId(memberId, orderId);
         log.info("orderProductList : " + orderProductList.toString());
+        if (orderProductList.isEmpty()) {
+            return getArchivedOrderDetailList(memberId, orderId);
+        }
 
         List<Long> productIdList = orderProductList.stream()
                 .map(OrderProduct::getProductId)
                 .collect(Collectors.toList());
         log.info("productIdList : " + productIdList.toString());
-        CircuitBreaker circuitBreaker = circuitBreakerFactory.create("circuitbreaker");
-        Map<Long, ProductThumbnailDto> productList = circuitBreaker.run(
-                () -> productServiceClient.getProductListMap(productIdList),
-                throwable -> new HashMap<Long, ProductThumbnailDto>()
-        );
+        // 상품 서비스 장애 시 마지막으로 조회한 상품 정보 사용 (stale 표시)
+        Snapshot<Map<Long, ProductThumbnailDto>> products = productLastKnownGood.getProductListMap(productIdList);
+        Map<Long, ProductThumbnailDto> productList = products.getValue();
 
         List<OrderDetailInformationDto> orderDetailInformationDtoList = new ArrayList<>();
 
         for (int i = 0; i < orderProductList.size(); i++) {
+            // 한 번도 조회되지 않은 상품은 이름/썸네일 없이 응답
+            Optional<ProductThumbnailDto> product = Optional.ofNullable(productList.get(productIdList.get(i)));
             OrderDetailInformationDto orderDetailInformationDto = OrderDetailInformationDto.builder()
                     .id(orderProductList.get(i).getId())
-                    .name(productList.get(productIdList.get(i)).getName())
+                    .name(product.map(ProductThumbnailDto::getName).orElse(null))
                     .price(orderProductList.get(i).getUnitPrice())
                     .qty(orderProductList.get(i).getQty())
-                    .thumbnail(productList.get(productIdList.get(i)).getThumbnail())
+                    .thumbnail(product.map(ProductThumbnailDto::getThumbnail).orElse(null))
                     .orderStatus(orderProductList.get(i).getOrder().getOrderStatus())
+                    .stale(products.isStale())
                     .build();
             orderDetailInformationDtoList.add(orderDetailInformationDto);
         }
@@ -380,72 +500,164 @@ public class OrderServiceImpl implements OrderService {
         return orderDetailInformationDtoList;
     }
 
+    // 주문 상태 변경 이력 (보관된 주문도 이력은 남아 있다)
     @Transactional(readOnly = true)
+    @Override
+    public List<OrderStatusHistoryDto> getOrderStatusHistory(Long memberId, Long orderId) {
+        return orderStatusEventRepository.findAllByOrderIdAndMemberIdOrderByIdAsc(orderId, memberId).stream()
+            .map(OrderStatusHistoryDto::from)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public Map<Long, List<Integer>> getProductAllPrice(List<Long> productIdList) {
 
-        Calendar cal = Calendar.getInstance(Locale.KOREA);
+        // [key] 상품아이디 [value] (평균 단가, 판매 수량 합계)
+        Map<Long, List<Integer>> result = new HashMap<>();
+        for (ProductSalesDto productSales : getWeeklyProductSales(productIdList)) {
+            long totalQty = productSales.getTotalQty();
+            int unitPrice = totalQty == 0 ? 0 : (int) (productSales.getTotalPrice() / totalQty);
+            result.put(productSales.getProductId(), List.of(unitPrice, (int) totalQty));
+        }
+
+        return result;
+    }
+
+    @Override
+    public List<ProductSalesDto> getWeeklyProductSales(List<Long> productIdList) {
         LocalDateTime startDate = getDate("start");
         LocalDateTime endDate = getDate("end");
 
-        List<OrderProduct> orderPriceDtoList = orderProductRepository.findByProductIdListAndSellerId(productIdList, startDate, endDate);
-        Map<Long, List<Integer>> result = new HashMap<>();
-        for(OrderProduct orderProduct : orderPriceDtoList) {
-            List<Integer> list = new ArrayList<>();
-            list.add(orderProduct.getUnitPrice());
-            list.add(orderProduct.getQty());
-            result.put(orderProduct.getProductId(), list);
+        // 샤드 번호가 정해진 뒤에 커넥션을 얻도록 트랜잭션은 샤드별 작업 안에서 시작한다. (읽기 전용 -> 레플리카)
+        List<List<ProductSalesDto>> shardSales = shardTemplate.scatter(
+            () -> readOnlyTransaction.execute(status -> inQueryTemplate.query(productIdList,
+                productIds -> orderProductRepository.findProductSalesByProductIdIn(productIds, startDate, endDate))));
+        if (shardSales.size() == 1) {
+            return shardSales.get(0);
         }
 
-        return result;
+        // 주문은 한 샤드에만 저장되므로 주문 건수도 그대로 더할 수 있다.
+        return new ArrayList<>(shardSales.stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toMap(ProductSalesDto::getProductId, sales -> sales,
+                (sales1, sales2) -> new ProductSalesDto(sales1.getProductId(),
+                    sales1.getTotalQty() + sales2.getTotalQty(),
+                    sales1.getTotalPrice() + sales2.getTotalPrice(),
+                    sales1.getOrderCount() + sales2.getOrderCount()),
+                LinkedHashMap::new))
+            .values());
     }
 
-    @Transactional(readOnly = true)
+    // 캐시 적중 시 트랜잭션/커넥션 없이 응답하도록 트랜잭션은 리포지토리 조회에만 건다.
     @Override
     public Boolean findByMemberIdAndProductId(Long memberId, Long productId) {
-        List<OrderProduct> orderDto = orderProductRepository.findByMemberIdAndProductId(memberId, productId);
-        return !orderDto.isEmpty();
+        String key = memberId + ":" + productId;
+        if (purchasedCache.get(key) != null) {
+            return true;
+        }
+
+        boolean purchased = readYourWritesWindow.isRecentWriter(memberId)
+            ? ReplicationRoutingDataSource.onPrimary(() -> orderProductRepository.existsByMemberIdAndProductId(memberId, productId))
+            : orderProductRepository.existsByMemberIdAndProductId(memberId, productId);
+        if (!purchased) {
+            purchased = archivedOrderProductRepository.existsByMemberIdAndProductId(memberId, productId);
+        }
+        if (purchased) {
+            purchasedCache.put(key, Boolean.TRUE);
+        }
+        return purchased;
     }
 
     LocalDateTime getDate(String flag) {
-        Calendar cal = Calendar.getInstance(Locale.KOREA);
-        //금주 시작 날짜
+        LocalDate today = LocalDate.now(reportZoneId);
+        //금주 시작 날짜 (월요일 00:00:00)
         if(flag.equals("start")) {
-            cal.add(Calendar.DATE, 2 - cal.get(Calendar.DAY_OF_WEEK));
-            cal.set(Calendar.HOUR_OF_DAY, 0);
-            cal.set(Calendar.MINUTE, 0);
-            cal.set(Calendar.SECOND, 0);
+            return today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
         }
-        //금주 종료 날짜
-        else if(flag.equals("end")){
-            cal.add(Calendar.DATE, 8 - cal.get(Calendar.DAY_OF_WEEK));
-            cal.set(Calendar.HOUR_OF_DAY, 23);
-            cal.set(Calendar.MINUTE, 59);
-            cal.set(Calendar.SECOND, 59);
+        //금주 종료 날짜 (일요일 23:59:59)
+        else if(flag.equals("end")) {
+            return today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)).atTime(LocalTime.of(23, 59, 59));
         }
-        TimeZone tz = cal.getTimeZone();
-        ZoneId zoneId = tz.toZoneId();
+        throw new IllegalArgumentException("유효하지 않은 날짜 구분: " + flag);
+    }
+
+    /**
+     * 주문 내역 페이지
+     * 운영 테이블(hot)부터 채우고, 페이지가 운영 주문 수를 넘어가는 지점부터 보관 테이블(archive)을 이어서 읽는다.
+     */
+    private Page<OrderHistory> findOrderHistoryPage(Long memberId, int page) {
+        Pageable pageable = PageRequest.of(page, ORDER_PAGE_SIZE);
+        Page<Order> hotPage = orderRepository.findAllByMemberIdOrderByOrderDateDesc(memberId, pageable);
+        long hotCount = hotPage.getTotalElements();
+
+        // 운영 주문으로 채워진 페이지는 보관 주문의 개수만 필요하다.
+        List<OrderHistory> content = new ArrayList<>(hotPage.getContent());
+        if (content.size() == ORDER_PAGE_SIZE) {
+            return new PageImpl<>(content, pageable, hotCount + countArchivedOrders(memberId));
+        }
+
+        long archiveOffset = Math.max(0, pageable.getOffset() - hotCount);
+        int limit = ORDER_PAGE_SIZE - content.size();
+        List<ArchivedOrder> archivedOrders = jpaQueryFactory.selectFrom(archivedOrder)
+                .where(archivedOrder.memberId.eq(memberId))
+                .orderBy(archivedOrder.orderDate.desc())
+                .offset(archiveOffset)
+                .limit(limit)
+                .fetch();
+        content.addAll(archivedOrders);
+
+        // 덜 채워진 페이지는 마지막 페이지이므로 조회 결과로 보관 주문 개수를 알 수 있다.
+        if (archivedOrders.size() < limit && (archiveOffset == 0 || !archivedOrders.isEmpty())) {
+            long archivedCount = archiveOffset + archivedOrders.size();
+            archivedCountCache.put(memberId, archivedCount);
+            return new PageImpl<>(content, pageable, hotCount + archivedCount);
+        }
+        return new PageImpl<>(content, pageable, hotCount + countArchivedOrders(memberId));
+    }
 
-        return LocalDateTime.ofInstant(cal.toInstant(), zoneId);
+    private long countArchivedOrders(Long memberId) {
+        Long archivedCount = archivedCountCache.get(memberId);
+        if (archivedCount == null) {
+            archivedCount = archivedOrderRepository.countByMemberId(memberId);
+            archivedCountCache.put(memberId, archivedCount);
+        }
+        return archivedCount;
     }
 
-    private List<OrderProductDslDto> findAllByOrderIdInDsl(List<Long> orderIdList) {
-        orderProduct = QOrderProduct.orderProduct;
-        QueryResults<Tuple> results = jpaQueryFactory.select(orderProduct.productId, orderProduct.count(), orderProduct.order.id)
-                .from(orderProduct)
-                .where(orderProduct.order.id.in(orderIdList))
-                .groupBy(orderProduct.order.id)
-                .fetchResults();
-
-        List<OrderProductDslDto> result = new ArrayList<>();
-        results.getResults().stream().forEach(tuple -> result.add(
-                OrderProductDslDto.builder()
-                        .productId(tuple.get(0, Long.class))
-                        .count(tuple.get(1, Long.class))
-                        .orderId(tuple.get(2, Long.class))
-                        .build()
-                )
-        );
-        return result;
+    private List<Long> getOrderIds(List<OrderHistory> orderList, Class<? extends OrderHistory> type) {
+        return orderList.stream()
+                .filter(type::isInstance)
+                .map(OrderHistory::getId)
+                .collect(Collectors.toList());
+    }
+
+    private List<OrderDetailInformationDto> getArchivedOrderDetailList(Long memberId, Long orderId) {
+        List<ArchivedOrderProduct> archivedOrderProducts = archivedOrderProductRepository.findAllByOrderIdAndMemberId(orderId, memberId);
+        if (archivedOrderProducts.isEmpty()) {
+            return new ArrayList<>();
+        }
+        ArchivedOrder order = archivedOrderRepository.findById(orderId).orElse(null);
+
+        List<Long> productIdList = archivedOrderProducts.stream()
+                .map(ArchivedOrderProduct::getProductId)
+                .collect(Collectors.toList());
+        // 상품 서비스 장애 시 마지막으로 조회한 상품 정보 사용 (stale 표시)
+        Snapshot<Map<Long, ProductThumbnailDto>> products = productLastKnownGood.getProductListMap(productIdList);
+        Map<Long, ProductThumbnailDto> productList = products.getValue();
+
+        return archivedOrderProducts.stream()
+                .map(archived -> {
+                    Optional<ProductThumbnailDto> product = Optional.ofNullable(productList.get(archived.getProductId()));
+                    return OrderDetailInformationDto.builder()
+                        .id(archived.getId())
+                        .name(product.map(ProductThumbnailDto::getName).orElse(null))
+                        .price(archived.getUnitPrice())
+                        .qty(archived.getQty())
+                        .thumbnail(product.map(ProductThumbnailDto::getThumbnail).orElse(null))
+                        .orderStatus(order == null ? null : order.getOrderStatus())
+                        .stale(products.isStale())
+                        .build();
+                })
+                .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,102 @@
+package shop.kokodo.orderservice.service;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.kokodo.orderservice.datasource.ShardTemplate;
+import shop.kokodo.orderservice.entity.Order;
+import shop.kokodo.orderservice.entity.OrderStatusEvent;
+import shop.kokodo.orderservice.kafka.KafkaProducer;
+import shop.kokodo.orderservice.repository.interfaces.OrderRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderStatusEventRepository;
+import shop.kokodo.orderservice.service.interfaces.OrderStatusReplayService;
+
+/**
+ * 주문 상태 이력 재생
+ * 샤드마다 이력을 아이디(발생) 순서로 청크 단위로 읽어서
+ * - 주문별 마지막 상태와 다른 스냅샷(orders.order_status)을 고치고
+ *   (주문의 이력이 여러 청크에 걸치면 주문의 마지막 이력이 든 청크에서만 고친다)
+ * - 주문별 마지막 상태를 changelog 토픽으로 다시 발행한다. (컴팩션으로 주문별 마지막 값만 남는다)
+ * 보관된 주문은 스냅샷이 없으므로 changelog 만 발행한다.
+ */
+@Service
+@Slf4j
+public class OrderStatusReplayServiceImpl implements OrderStatusReplayService {
+
+    private final OrderStatusEventRepository orderStatusEventRepository;
+    private final OrderRepository orderRepository;
+    private final KafkaProducer kafkaProducer;
+    private final ShardTemplate shardTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public OrderStatusReplayServiceImpl(OrderStatusEventRepository orderStatusEventRepository,
+        OrderRepository orderRepository,
+        KafkaProducer kafkaProducer,
+        ShardTemplate shardTemplate,
+        TransactionTemplate transactionTemplate) {
+        this.orderStatusEventRepository = orderStatusEventRepository;
+        this.orderRepository = orderRepository;
+        this.kafkaProducer = kafkaProducer;
+        this.shardTemplate = shardTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public long replay(int batchSize) {
+        long replayed = 0;
+        for (int shard = 0; shard < shardTemplate.getShardCount(); shard++) {
+            long cursor = 0;
+            while (true) {
+                long from = cursor;
+                List<OrderStatusEvent> events = shardTemplate.callOnShard(shard,
+                    () -> transactionTemplate.execute(status -> replayChunk(from, batchSize)));
+                if (events.isEmpty()) {
+                    break;
+                }
+                latestByOrder(events).values().forEach(kafkaProducer::sendOrderStatusChangelog);
+                cursor = events.get(events.size() - 1).getId();
+                replayed += events.size();
+            }
+        }
+        log.info("[OrderStatusReplayServiceImpl] 주문 상태 이력 재생 완료: events={}", replayed);
+        return replayed;
+    }
+
+    private List<OrderStatusEvent> replayChunk(long cursor, int batchSize) {
+        List<OrderStatusEvent> events = orderStatusEventRepository.findAllByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, batchSize));
+        Map<Long, OrderStatusEvent> latest = latestByOrder(events);
+        if (latest.isEmpty()) {
+            return events;
+        }
+        // 청크 안의 마지막 이력이 주문 전체의 마지막 이력이 아니면 중간 상태이므로 고치지 않는다.
+        Set<Long> latestIds = new HashSet<>(orderStatusEventRepository.findLatestIdsByOrderIdIn(latest.keySet()));
+
+        int restored = 0;
+        for (Order order : orderRepository.findAllById(latest.keySet())) {
+            OrderStatusEvent event = latest.get(order.getId());
+            if (latestIds.contains(event.getId()) && order.getOrderStatus() != event.getToStatus()) {
+                order.changeOrderState(event.getToStatus()); // 복구라서 새 이력은 남기지 않는다.
+                restored++;
+            }
+        }
+        if (restored > 0) {
+            log.warn("[OrderStatusReplayServiceImpl] 이력과 다른 주문 상태 복구: orders={}", restored);
+        }
+        return events;
+    }
+
+    private static Map<Long, OrderStatusEvent> latestByOrder(List<OrderStatusEvent> events) {
+        return events.stream()
+            .collect(Collectors.toMap(OrderStatusEvent::getOrderId, Function.identity(), (before, after) -> after, LinkedHashMap::new));
+    }
+}
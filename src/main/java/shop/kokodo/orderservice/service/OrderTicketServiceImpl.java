@@ -0,0 +1,278 @@
+package shop.kokodo.orderservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.kokodo.orderservice.datasource.ReadYourWritesWindow;
+import shop.kokodo.orderservice.datasource.ShardTemplate;
+import shop.kokodo.orderservice.dto.request.CartOrderDto;
+import shop.kokodo.orderservice.dto.request.SingleProductOrderDto;
+import shop.kokodo.orderservice.dto.response.OrderTicketDto;
+import shop.kokodo.orderservice.entity.IdempotencyKey;
+import shop.kokodo.orderservice.entity.Order;
+import shop.kokodo.orderservice.entity.OrderTicket;
+import shop.kokodo.orderservice.entity.enums.status.OrderTicketStatus;
+import shop.kokodo.orderservice.entity.enums.status.OrderTicketType;
+import shop.kokodo.orderservice.exception.api.ApiRequestException;
+import shop.kokodo.orderservice.message.ExceptionMessage;
+import shop.kokodo.orderservice.repository.interfaces.OrderTicketRepository;
+import shop.kokodo.orderservice.service.interfaces.IdempotencyService;
+import shop.kokodo.orderservice.service.interfaces.OrderService;
+import shop.kokodo.orderservice.service.interfaces.OrderTicketService;
+
+/**
+ * 비동기 주문 (order.async-checkout.enabled=true 일 때만 사용)
+ * - 접수: 요청 검증 후 order_ticket 에 저장하고 바로 티켓을 반환한다. (외부 호출 없음)
+ * - 처리: poll-interval-ms 마다 샤드별로 batch-size 개 티켓을 선점해서 workers 개 스레드로 기존 주문 경로를 실행한다.
+ *   한 번에 처리하는 양이 정해져 있으므로 몰려도 하위 서비스/DB 에는 일정한 속도로만 부하가 간다.
+ *   폴링은 전용 스레드에서 돌아서 다른 @Scheduled 작업(보관, 요약 채우기)이 길어져도 접수 처리가 멈추지 않는다.
+ * - 처리 중 인스턴스가 죽으면 claim-timeout-ms 뒤 다른 인스턴스가 다시 선점한다.
+ *   선점마다 토큰을 새로 발급하고 주문 트랜잭션 안에서 토큰이 그대로일 때만 티켓을 완료하므로,
+ *   늦게 끝난 이전 워커의 주문은 롤백된다. 주문은 Idempotency-Key(없으면 "ticket-{티켓 아이디}")로도 한 번만 만들어진다.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "order.async-checkout.enabled", havingValue = "true")
+public class OrderTicketServiceImpl implements OrderTicketService, DisposableBean {
+
+    private final OrderTicketRepository orderTicketRepository;
+    private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final ShardTemplate shardTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService poller;
+
+    private final int batchSize;
+    private final long claimTimeoutMillis;
+    private final long pollIntervalMillis;
+
+    @Autowired
+    public OrderTicketServiceImpl(OrderTicketRepository orderTicketRepository,
+        OrderService orderService,
+        IdempotencyService idempotencyService,
+        ReadYourWritesWindow readYourWritesWindow,
+        ShardTemplate shardTemplate,
+        TransactionTemplate transactionTemplate,
+        ObjectMapper objectMapper,
+        @Value("${order.async-checkout.workers:4}") int workerCount,
+        @Value("${order.async-checkout.batch-size:20}") int batchSize,
+        @Value("${order.async-checkout.claim-timeout-ms:60000}") long claimTimeoutMillis,
+        @Value("${order.async-checkout.poll-interval-ms:200}") long pollIntervalMillis) {
+        this.orderTicketRepository = orderTicketRepository;
+        this.orderService = orderService;
+        this.idempotencyService = idempotencyService;
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.shardTemplate = shardTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "order-ticket-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-ticket-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSize = batchSize;
+        this.claimTimeoutMillis = claimTimeoutMillis;
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+
+    @Override
+    public OrderTicketDto enqueueSingleProduct(String idempotencyKey, SingleProductOrderDto dto) {
+        return enqueue(idempotencyKey, dto.getMemberId(), OrderTicketType.SINGLE_PRODUCT, dto);
+    }
+
+    @Override
+    public OrderTicketDto enqueueCartProducts(String idempotencyKey, CartOrderDto dto) {
+        return enqueue(idempotencyKey, dto.getMemberId(), OrderTicketType.CART, dto);
+    }
+
+    @Override
+    public OrderTicketDto getTicket(Long memberId, Long ticketId) {
+        return orderTicketRepository.findByIdAndMemberId(ticketId, memberId)
+            .map(OrderTicketDto::from)
+            .orElseThrow(() -> new ApiRequestException(ExceptionMessage.ORDER_TICKET_NOT_FOUNDED));
+    }
+
+    private OrderTicketDto enqueue(String idempotencyKey, Long memberId, OrderTicketType type, Object dto) {
+        boolean hasKey = idempotencyKey != null && !idempotencyKey.isBlank();
+        if (hasKey && idempotencyKey.length() > IdempotencyKey.MAX_KEY_LENGTH) {
+            throw new ApiRequestException(ExceptionMessage.INVALID_IDEMPOTENCY_KEY);
+        }
+        // 같은 키로 다시 접수하면 기존 티켓 반환
+        if (hasKey) {
+            OrderTicket existing = orderTicketRepository.findFirstByMemberIdAndIdempotencyKey(memberId, idempotencyKey).orElse(null);
+            if (existing != null) {
+                return OrderTicketDto.from(existing);
+            }
+        }
+
+        OrderTicket ticket;
+        try {
+            ticket = OrderTicket.create(memberId, hasKey ? idempotencyKey : null, type, objectMapper.writeValueAsString(dto));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("주문 요청 직렬화 실패", e);
+        }
+        try {
+            return OrderTicketDto.from(orderTicketRepository.saveAndFlush(ticket));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키로 동시에 접수된 경우 (회원 아이디, 키 유니크)
+            return orderTicketRepository.findFirstByMemberIdAndIdempotencyKey(memberId, idempotencyKey)
+                .map(OrderTicketDto::from)
+                .orElseThrow(() -> e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPolling() {
+        poller.scheduleWithFixedDelay(() -> {
+            try {
+                processTickets();
+            } catch (RuntimeException e) {
+                log.error("[OrderTicketServiceImpl] 티켓 폴링 오류", e);
+            }
+        }, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int processTickets() {
+        int processed = 0;
+        for (int shard = 0; shard < shardTemplate.getShardCount(); shard++) {
+            int current = shard;
+            Map<Long, String> claimedTickets = shardTemplate.callOnShard(shard, this::claimTickets);
+
+            List<Callable<Object>> tasks = new ArrayList<>();
+            claimedTickets.forEach((ticketId, claimToken) ->
+                tasks.add(() -> shardTemplate.callOnShard(current, () -> process(ticketId, claimToken))));
+            try {
+                for (Future<Object> future : workers.invokeAll(tasks)) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return processed;
+            } catch (ExecutionException e) {
+                log.error("[OrderTicketServiceImpl] 티켓 처리 오류", e);
+            }
+            processed += claimedTickets.size();
+        }
+        return processed;
+    }
+
+    /**
+     * @return [key] 선점한 티켓 아이디 [value] 선점 토큰
+     */
+    private Map<Long, String> claimTickets() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minusNanos(TimeUnit.MILLISECONDS.toNanos(claimTimeoutMillis));
+        List<Long> candidates = orderTicketRepository.findClaimableIds(
+            OrderTicketStatus.PENDING, OrderTicketStatus.PROCESSING, staleBefore, PageRequest.of(0, batchSize));
+
+        Map<Long, String> claimed = new LinkedHashMap<>();
+        for (Long ticketId : candidates) {
+            String claimToken = UUID.randomUUID().toString();
+            Integer updated = transactionTemplate.execute(status -> orderTicketRepository.claim(
+                ticketId, OrderTicketStatus.PENDING, OrderTicketStatus.PROCESSING, claimToken, now, staleBefore));
+            if (updated != null && updated == 1) {
+                claimed.put(ticketId, claimToken);
+            }
+        }
+        return claimed;
+    }
+
+    private Object process(Long ticketId, String claimToken) {
+        try {
+            Long memberId = transactionTemplate.execute(status -> {
+                OrderTicket ticket = orderTicketRepository.findById(ticketId).orElseThrow();
+                boolean[] placed = new boolean[1];
+                Order order = idempotencyService.execute(ticket.getOrderIdempotencyKey(), ticket.getMemberId(), () -> {
+                    Order created = placeOrder(ticket);
+                    // 주문과 같은 트랜잭션에서 완료 기록 (선점을 빼앗겼으면 주문까지 롤백)
+                    completeTicket(ticketId, claimToken, created.getId());
+                    placed[0] = true;
+                    return created;
+                });
+                // 같은 키로 이미 만들어진 주문이 있으면 그 주문으로 완료
+                if (!placed[0]) {
+                    completeTicket(ticketId, claimToken, order.getId());
+                }
+                return ticket.getMemberId();
+            });
+            readYourWritesWindow.recordWrite(memberId);
+        } catch (ApiRequestException e) {
+            if (ExceptionMessage.IDEMPOTENCY_KEY_IN_PROGRESS.equals(e.getMessage())) {
+                // 이전 워커가 아직 주문 중 (그 워커는 완료 기록에 실패해서 롤백된다), 선점 시간이 지나면 다시 처리
+                log.info("[OrderTicketServiceImpl] 다른 워커가 처리 중인 티켓: ticket_id={}", ticketId);
+                return null;
+            }
+            fail(ticketId, claimToken, e);
+        } catch (RuntimeException e) {
+            fail(ticketId, claimToken, e);
+        }
+        return null;
+    }
+
+    private void completeTicket(Long ticketId, String claimToken, Long orderId) {
+        int completed = orderTicketRepository.complete(ticketId, OrderTicketStatus.PROCESSING, claimToken,
+            OrderTicketStatus.SUCCESS, orderId, null);
+        if (completed == 0) {
+            throw new IllegalStateException("티켓 선점 만료: ticket_id=" + ticketId);
+        }
+    }
+
+    private void fail(Long ticketId, String claimToken, RuntimeException e) {
+        log.warn("[OrderTicketServiceImpl] 주문 실패: ticket_id={}", ticketId, e);
+        Integer updated = transactionTemplate.execute(status -> orderTicketRepository.complete(ticketId,
+            OrderTicketStatus.PROCESSING, claimToken, OrderTicketStatus.FAILED, null, OrderTicket.truncateError(e.getMessage())));
+        if (updated == null || updated == 0) {
+            log.info("[OrderTicketServiceImpl] 선점이 만료되어 결과를 기록하지 않음: ticket_id={}", ticketId);
+        }
+    }
+
+    private Order placeOrder(OrderTicket ticket) {
+        try {
+            if (ticket.getType() == OrderTicketType.SINGLE_PRODUCT) {
+                return orderService.orderSingleProduct(objectMapper.readValue(ticket.getPayload(), SingleProductOrderDto.class));
+            }
+            return orderService.orderCartProducts(objectMapper.readValue(ticket.getPayload(), CartOrderDto.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("주문 요청 형식 오류: ticket_id=" + ticket.getId(), e);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        poller.shutdownNow();
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,10 @@
+package shop.kokodo.orderservice.service.interfaces;
+
+import java.util.function.Supplier;
+import shop.kokodo.orderservice.entity.Order;
+
+public interface IdempotencyService {
+
+    /* Idempotency-Key 기반 주문 생성 (재요청 시 최초 주문 반환) */
+    Order execute(String idempotencyKey, Long memberId, Supplier<Order> orderSupplier);
+}
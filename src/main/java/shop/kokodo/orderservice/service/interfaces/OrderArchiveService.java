@@ -0,0 +1,7 @@
+package shop.kokodo.orderservice.service.interfaces;
+
+public interface OrderArchiveService {
+
+    /* 보관 기간이 지난 주문을 보관 테이블로 이동 (이동한 주문 수 반환) */
+    long archiveOrders();
+}
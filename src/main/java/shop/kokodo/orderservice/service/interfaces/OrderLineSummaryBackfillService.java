@@ -0,0 +1,7 @@
+package shop.kokodo.orderservice.service.interfaces;
+
+public interface OrderLineSummaryBackfillService {
+
+    /* 요약 컬럼(lineCount, leadProductId)이 비어 있는 주문/보관 주문 채우기 (채운 주문 수 반환) */
+    long backfill();
+}
@@ -5,7 +5,10 @@ import shop.kokodo.orderservice.dto.request.CartOrderDto;
 import shop.kokodo.orderservice.dto.request.SingleProductOrderDto;
 import shop.kokodo.orderservice.dto.response.OrderDetailInformationDto;
 import shop.kokodo.orderservice.dto.response.OrderInformationDto;
+import shop.kokodo.orderservice.dto.response.OrderQuoteDto;
+import shop.kokodo.orderservice.dto.response.OrderStatusHistoryDto;
 import shop.kokodo.orderservice.dto.response.PagingOrderInformationDto;
+import shop.kokodo.orderservice.dto.response.ProductSalesDto;
 import shop.kokodo.orderservice.entity.Order;
 
 import java.util.List;
@@ -19,6 +22,9 @@ public interface OrderService {
     /* 장바구니 상품 주문 */
     Order orderCartProducts(CartOrderDto dto);
 
+    /* 장바구니 상품 주문 견적 */
+    OrderQuoteDto quoteCartProducts(CartOrderDto dto);
+
     /* 주문 조회 */
     PagingOrderInformationDto getOrderList(Long memberId, int page);
 
@@ -27,8 +33,14 @@ public interface OrderService {
     /* 주문 상세 조회 */
     List<OrderDetailInformationDto> getOrderDetailList(Long memberId, Long orderId);
 
+    /* 주문 상태 변경 이력 조회 */
+    List<OrderStatusHistoryDto> getOrderStatusHistory(Long memberId, Long orderId);
+
     /* 주문 금액 조회 */
     Map<Long, List<Integer>> getProductAllPrice(List<Long> productIdList);
 
+    /* 금주 상품별 판매 집계 조회 */
+    List<ProductSalesDto> getWeeklyProductSales(List<Long> productIdList);
+
     Boolean findByMemberIdAndProductId(Long memberId, Long productId);
 }
@@ -0,0 +1,7 @@
+package shop.kokodo.orderservice.service.interfaces;
+
+public interface OrderStatusReplayService {
+
+    /* 상태 변경 이력을 처음부터 재생해서 상태 스냅샷 복구 및 changelog 재발행 (재생한 이력 수 반환) */
+    long replay(int batchSize);
+}
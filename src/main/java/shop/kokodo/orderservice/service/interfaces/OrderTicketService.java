@@ -0,0 +1,20 @@
+package shop.kokodo.orderservice.service.interfaces;
+
+import shop.kokodo.orderservice.dto.request.CartOrderDto;
+import shop.kokodo.orderservice.dto.request.SingleProductOrderDto;
+import shop.kokodo.orderservice.dto.response.OrderTicketDto;
+
+public interface OrderTicketService {
+
+    /* 개별 상품 주문 접수 */
+    OrderTicketDto enqueueSingleProduct(String idempotencyKey, SingleProductOrderDto dto);
+
+    /* 장바구니 상품 주문 접수 */
+    OrderTicketDto enqueueCartProducts(String idempotencyKey, CartOrderDto dto);
+
+    /* 주문 접수 결과 조회 */
+    OrderTicketDto getTicket(Long memberId, Long ticketId);
+
+    /* 대기 중인 주문 처리 (처리한 티켓 수 반환) */
+    int processTickets();
+}
@@ -0,0 +1,69 @@
+package shop.kokodo.orderservice.service.utils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최근 접근 순서 기반 LRU 캐시
+ * 최대 크기를 넘으면 가장 오래 접근하지 않은 항목부터 제거한다.
+ * 만료 시간을 지정하면 저장 후 만료 시간이 지난 항목은 없는 것으로 취급한다.
+ */
+public class LruCache<K, V> {
+
+    private final Map<K, CacheEntry<V>> entries;
+    private final long ttlNanos;
+
+    public LruCache(int maxSize) {
+        this(maxSize, null);
+    }
+
+    public LruCache(int maxSize, Duration ttl) {
+        this.ttlNanos = (ttl == null) ? 0 : ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        long expiresAt = (ttlNanos == 0) ? 0 : System.nanoTime() + ttlNanos;
+        entries.put(key, new CacheEntry<>(value, expiresAt));
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static class CacheEntry<V> {
+        private final V value;
+        private final long expiresAt; // 0 이면 만료 없음
+
+        private CacheEntry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt != 0 && now - expiresAt > 0;
+        }
+    }
+}
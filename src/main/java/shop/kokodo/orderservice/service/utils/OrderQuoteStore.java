@@ -0,0 +1,165 @@
+package shop.kokodo.orderservice.service.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import shop.kokodo.orderservice.entity.Cart;
+import shop.kokodo.orderservice.feign.response.OrderProductDto;
+import shop.kokodo.orderservice.feign.response.RateCouponDto;
+
+/**
+ * 장바구니 주문 견적 저장소
+ * 견적 조회 시 계산한 상품 정보, 쿠폰, 총액을 저장하고 서명된 견적 토큰을 발급한다.
+ * 주문 시 토큰이 유효하고 장바구니(상품, 수량)와 쿠폰이 견적 당시와 같으면 저장된 견적을 그대로 사용한다.
+ * 견적 이후 쿠폰이 사용/만료될 수 있으므로 쿠폰은 주문 시 다시 조회해서 견적 당시와 같은지 확인한다. (couponsUnchanged)
+ * 최대 크기를 넘으면 오래 사용하지 않은 견적부터 제거하고, ttl 이 지난 견적은 없는 것으로 취급한다.
+ * 서명 키와 저장소는 인스턴스마다 따로라서 다른 인스턴스에서 받은 토큰은 견적 없음으로 처리한다. (다시 조회)
+ */
+@Component
+public class OrderQuoteStore {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final LruCache<String, Quote> quotes;
+    private final SecretKeySpec signingKey;
+    private final SecureRandom random = new SecureRandom();
+    @Getter
+    private final Duration ttl;
+
+    @Autowired
+    public OrderQuoteStore(
+        @Value("${order.quote.cache-size:10000}") int cacheSize,
+        @Value("${order.quote.ttl-seconds:300}") long ttlSeconds) {
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.quotes = new LruCache<>(cacheSize, ttl);
+        byte[] key = new byte[32];
+        random.nextBytes(key);
+        this.signingKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    /**
+     * @return 견적 토큰
+     */
+    public String save(Quote quote) {
+        byte[] id = new byte[16];
+        random.nextBytes(id);
+        String quoteId = Base64.getUrlEncoder().withoutPadding().encodeToString(id);
+        quotes.put(quoteId, quote);
+        return quoteId + "." + sign(quoteId, quote.memberId);
+    }
+
+    /**
+     * 견적을 꺼낸다. (한 번만 사용)
+     * @return 토큰이 유효하고 회원, 장바구니, 쿠폰이 견적 당시와 같으면 견적, 아니면 null
+     */
+    public Quote take(String token, Long memberId, List<Cart> carts,
+        List<Long> rateCouponIds, List<Long> fixCouponIds) {
+        if (token == null) {
+            return null;
+        }
+        int separator = token.indexOf('.');
+        if (separator <= 0) {
+            return null;
+        }
+        String quoteId = token.substring(0, separator);
+        byte[] expected = sign(quoteId, memberId).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(separator + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return null;
+        }
+
+        Quote quote = quotes.get(quoteId);
+        if (quote == null) {
+            return null;
+        }
+        quotes.remove(quoteId);
+
+        boolean unchanged = quote.memberId.equals(memberId)
+            && quote.cartFingerprint.equals(fingerprintOf(carts))
+            && quote.rateCouponIds.equals(rateCouponIds)
+            && quote.fixCouponIds.equals(fixCouponIds);
+        return unchanged ? quote : null;
+    }
+
+    /**
+     * 주문 시 다시 조회한 쿠폰이 견적 당시와 같은지 확인
+     * 사용/만료된 쿠폰은 promotion-service 조회 결과에서 빠지므로 아이디, 할인율, 적용 판매자가 모두 같아야 한다.
+     */
+    public static boolean couponsUnchanged(Quote quote, Map<Long, RateCouponDto> rateCouponMap, List<Long> fixCouponSellerIds) {
+        if (!quote.rateCouponMap.keySet().equals(rateCouponMap.keySet())) {
+            return false;
+        }
+        for (Map.Entry<Long, RateCouponDto> entry : rateCouponMap.entrySet()) {
+            RateCouponDto quoted = quote.rateCouponMap.get(entry.getKey());
+            RateCouponDto current = entry.getValue();
+            if (!Objects.equals(quoted.getRate(), current.getRate())
+                || !Objects.equals(quoted.getMinPrice(), current.getMinPrice())
+                || !Objects.equals(quoted.getProductId(), current.getProductId())) {
+                return false;
+            }
+        }
+        return new HashSet<>(quote.fixCouponSellerIds).equals(new HashSet<>(fixCouponSellerIds));
+    }
+
+    /* 장바구니 아이디 순서로 정렬한 (장바구니, 상품, 수량) 목록 */
+    static String fingerprintOf(List<Cart> carts) {
+        return carts.stream()
+            .sorted(Comparator.comparing(Cart::getId))
+            .map(cart -> cart.getId() + ":" + cart.getProductId() + ":" + cart.getQty())
+            .collect(Collectors.joining(","));
+    }
+
+    private String sign(String quoteId, Long memberId) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            byte[] signature = mac.doFinal((quoteId + ":" + memberId).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    public static class Quote {
+        private final Long memberId;
+        private final String cartFingerprint;
+        private final List<Long> rateCouponIds;
+        private final List<Long> fixCouponIds;
+
+        private final Map<Long, OrderProductDto> orderProductDtoMap;
+        private final Map<Long, RateCouponDto> rateCouponMap;
+        private final List<Long> fixCouponSellerIds;
+        private final Integer totalPrice;
+
+        public Quote(Long memberId, List<Cart> carts, List<Long> rateCouponIds, List<Long> fixCouponIds,
+            Map<Long, OrderProductDto> orderProductDtoMap, Map<Long, RateCouponDto> rateCouponMap,
+            List<Long> fixCouponSellerIds, Integer totalPrice) {
+            this.memberId = memberId;
+            this.cartFingerprint = fingerprintOf(carts);
+            this.rateCouponIds = new ArrayList<>(rateCouponIds);
+            this.fixCouponIds = new ArrayList<>(fixCouponIds);
+            this.orderProductDtoMap = new HashMap<>(orderProductDtoMap);
+            this.rateCouponMap = new HashMap<>(rateCouponMap);
+            this.fixCouponSellerIds = new ArrayList<>(fixCouponSellerIds);
+            this.totalPrice = totalPrice;
+        }
+    }
+}
@@ -52,4 +52,4 @@ INSERT INTO cart(cart_id, created_date, last_modified_date, cart_status, member_
 INSERT INTO cart(cart_id, created_date, last_modified_date, cart_status, member_id, product_id, qty) VALUES(2, '2022-10-20 00:00:00', '2022-10-20 00:00:00', 'IN_CART', 1, 40, 1);
 
 INSERT INTO cart(cart_id, created_date, last_modified_date, cart_status, member_id, product_id, qty) VALUES(3, '2022-10-20 00:00:00', '2022-10-20 00:00:00', 'IN_CART', 1, 1, 1);
-INSERT INTO cart(cart_id, created_date, last_modified_date, cart_status, member_id, product_id, qty) VALUES(4, '2022-10-20 00:00:00', '2022-10-20 00:00:00', 'IN_CART', 1, 2, 1);
\ No newline at end of file
+INSERT INTO cart(cart_id, created_date, last_modified_date, cart_status, member_id, product_id, qty) VALUES(4, '2022-10-20 00:00:00', '2022-10-20 00:00:00', 'IN_CART', 1, 2, 1);
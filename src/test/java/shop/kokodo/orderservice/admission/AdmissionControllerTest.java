@@ -0,0 +1,160 @@
+package shop.kokodo.orderservice.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import shop.kokodo.orderservice.admission.AdmissionController.Permit;
+
+@DisplayName("[입장 제어]")
+class AdmissionControllerTest {
+
+    static final String NAME = "order-single-product";
+
+    AtomicLong nanos = new AtomicLong(0);
+    AdmissionController admissionController;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("order.admission." + NAME + ".rate-per-second", "10")
+            .withProperty("order.admission." + NAME + ".burst", "10")
+            .withProperty("order.admission." + NAME + ".max-concurrent", "5");
+        admissionController = new AdmissionController(environment, new SimpleMeterRegistry(), nanos::get, 2, 2, 30);
+    }
+
+    @Test
+    @DisplayName("초당 처리량을 넘으면 대기실 토큰과 함께 거절하고, 차례가 되면 토큰으로 입장")
+    void Input_OverRate_Output_QueuedThenAdmitted() {
+        for (int i = 0; i < 10; i++) {
+            admissionController.admit(NAME, null, null).close();
+        }
+
+        AdmissionRejectedException rejected = Assertions.assertThrows(AdmissionRejectedException.class,
+            () -> admissionController.admit(NAME, null, null));
+        String token = rejected.getWaitingRoomToken();
+        Assertions.assertNotNull(token);
+        Assertions.assertTrue(rejected.getRetryAfterSeconds() >= 1);
+
+        // 차례 전에는 같은 토큰으로 계속 대기
+        AdmissionRejectedException early = Assertions.assertThrows(AdmissionRejectedException.class,
+            () -> admissionController.admit(NAME, null, token));
+        Assertions.assertEquals(token, early.getWaitingRoomToken());
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        admissionController.admit(NAME, null, token).close();
+    }
+
+    @Test
+    @DisplayName("이미 입장한 대기실 토큰을 다시 쓰면 새 요청으로 취급")
+    void Input_ReusedToken_Output_NewArrival() {
+        for (int i = 0; i < 10; i++) {
+            admissionController.admit(NAME, null, null).close();
+        }
+        String token = Assertions.assertThrows(AdmissionRejectedException.class,
+            () -> admissionController.admit(NAME, null, null)).getWaitingRoomToken();
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        admissionController.admit(NAME, null, token).close();
+        for (int i = 0; i < 10; i++) {
+            admissionController.admit(NAME, null, null).close();
+        }
+
+        AdmissionRejectedException reused = Assertions.assertThrows(AdmissionRejectedException.class,
+            () -> admissionController.admit(NAME, null, token));
+        Assertions.assertNotEquals(token, reused.getWaitingRoomToken());
+    }
+
+    @Test
+    @DisplayName("대기자가 있으면 새 요청은 먼저 온 대기자보다 뒤에 섬")
+    void Input_NewRequestWhileQueued_Output_BehindQueue() {
+        for (int i = 0; i < 10; i++) {
+            admissionController.admit(NAME, null, null).close();
+        }
+        String first = Assertions.assertThrows(AdmissionRejectedException.class,
+            () -> admissionController.admit(NAME, null, null)).getWaitingRoomToken();
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        String second = Assertions.assertThrows(AdmissionRejectedException.class,
+            () -> admissionController.admit(NAME, null, null)).getWaitingRoomToken();
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        admissionController.admit(NAME, null, first).close();
+        Assertions.assertThrows(AdmissionRejectedException.class, () -> admissionController.admit(NAME, null, second));
+    }
+
+    @Test
+    @DisplayName("위조한 토큰은 새 요청으로 취급")
+    void Input_ForgedToken_Output_NewPosition() {
+        for (int i = 0; i < 10; i++) {
+            admissionController.admit(NAME, null, null).close();
+        }
+
+        AdmissionRejectedException rejected = Assertions.assertThrows(AdmissionRejectedException.class,
+            () -> admissionController.admit(NAME, null, "1.forged"));
+
+        Assertions.assertNotEquals("1.forged", rejected.getWaitingRoomToken());
+    }
+
+    @Test
+    @DisplayName("동시 처리 수를 넘으면 거절")
+    void Input_OverConcurrency_Output_Rejected() {
+        for (int i = 0; i < 5; i++) {
+            admissionController.admit(NAME, null, null); // 처리 중 (닫지 않음)
+        }
+
+        Assertions.assertThrows(AdmissionRejectedException.class, () -> admissionController.admit(NAME, null, null));
+    }
+
+    @Test
+    @DisplayName("인기 상품은 상품별 제한으로 대기실 없이 거절")
+    void Input_HotProduct_Output_RejectedWithoutToken() {
+        admissionController.admit(NAME, 1L, null).close();
+        admissionController.admit(NAME, 1L, null).close();
+
+        AdmissionRejectedException rejected = Assertions.assertThrows(AdmissionRejectedException.class,
+            () -> admissionController.admit(NAME, 1L, null));
+
+        Assertions.assertNull(rejected.getWaitingRoomToken());
+        admissionController.admit(NAME, 2L, null).close();
+    }
+
+    @Test
+    @DisplayName("처리량의 10배 요청이 몰려도 초당 처리량만큼은 계속 입장")
+    void Input_TenTimesOverload_Output_SteadyGoodput() {
+        // 10ms 마다 새 요청 1건 (초당 100건), 거절된 요청은 Retry-After 뒤 토큰을 들고 다시 요청
+        List<long[]> retries = new ArrayList<>(); // [재요청 시각]
+        List<String> tokens = new ArrayList<>();
+        int admitted = 0;
+        for (int tick = 0; tick < 1000; tick++) {
+            long now = nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+            List<String> requests = new ArrayList<>();
+            requests.add(null);
+            for (int i = retries.size() - 1; i >= 0; i--) {
+                if (retries.get(i)[0] <= now) {
+                    requests.add(tokens.remove(i));
+                    retries.remove(i);
+                }
+            }
+
+            for (String token : requests) {
+                try (Permit permit = admissionController.admit(NAME, null, token)) {
+                    admitted++;
+                } catch (AdmissionRejectedException e) {
+                    retries.add(new long[]{now + TimeUnit.SECONDS.toNanos(e.getRetryAfterSeconds())});
+                    tokens.add(e.getWaitingRoomToken());
+                }
+            }
+        }
+
+        // 10초 동안 초당 10건 + burst 10 을 넘지 않고, 대부분의 처리량을 유지
+        Assertions.assertTrue(admitted <= 110, "admitted=" + admitted);
+        Assertions.assertTrue(admitted >= 80, "admitted=" + admitted);
+    }
+}
@@ -0,0 +1,102 @@
+package shop.kokodo.orderservice.config;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.kokodo.orderservice.entity.Cart;
+import shop.kokodo.orderservice.entity.Order;
+import shop.kokodo.orderservice.entity.OrderProduct;
+import shop.kokodo.orderservice.entity.enums.status.CartStatus;
+import shop.kokodo.orderservice.feign.response.OrderProductDto;
+
+@SpringBootTest(classes = JpaBatchConfigTest.JpaConfig.class, properties = {
+    "spring.datasource.url=jdbc:h2:mem:jpa-batch;DB_CLOSE_DELAY=-1",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "order.jpa.batch-size=100"
+})
+@DisplayName("[주문] 주문/주문상품 INSERT 배치")
+class JpaBatchConfigTest {
+
+    private static final int LINE_COUNT = 20;
+
+    @Configuration
+    @EntityScan(basePackageClasses = Order.class)
+    @Import(JpaBatchConfig.class)
+    @ImportAutoConfiguration({
+        DataSourceAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        TransactionAutoConfiguration.class
+    })
+    static class JpaConfig {
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("주문상품 20개 주문은 테이블마다 INSERT 문 하나로 묶여서 전송")
+    void Input_OrderWithTwentyLines_Output_OneStatementPerTable() {
+        List<OrderProduct> orderProducts = LongStream.rangeClosed(1, LINE_COUNT)
+            .mapToObj(productId -> OrderProduct.createOrderProduct(
+                Cart.create(productId, 1L, productId, 1, CartStatus.IN_CART), new OrderProductDto(productId, 1000, 100L)))
+            .collect(Collectors.toList());
+
+        transactionTemplate.executeWithoutResult(status ->
+            entityManager.persist(Order.createOrder(1L, "회원", "서울", 20000, orderProducts)));
+
+        // 배치가 꺼져 있거나 IDENTITY 아이디라면 행마다 INSERT 문을 준비한다. (21개)
+        Assertions.assertEquals(1 + LINE_COUNT, statistics.getEntityInsertCount());
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("여러 주문을 한 트랜잭션에서 저장해도 INSERT 문은 테이블별로 정렬되어 묶임")
+    void Input_SeveralOrders_Output_InsertsOrderedByTable() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (long memberId = 1; memberId <= 3; memberId++) {
+                List<OrderProduct> orderProducts = List.of(
+                    OrderProduct.createOrderProduct(Cart.create(memberId, memberId, 11L, 1, CartStatus.IN_CART), new OrderProductDto(11L, 1000, 100L)),
+                    OrderProduct.createOrderProduct(Cart.create(memberId + 10, memberId, 12L, 1, CartStatus.IN_CART), new OrderProductDto(12L, 2000, 100L)));
+                entityManager.persist(Order.createOrder(memberId, "회원", "서울", 3000, orderProducts));
+            }
+        });
+
+        // hibernate.order_inserts 가 없으면 주문, 주문상품이 번갈아 나와서 주문마다 배치가 끊긴다.
+        Assertions.assertEquals(3 + 6, statistics.getEntityInsertCount());
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,93 @@
+package shop.kokodo.orderservice.datasource;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("[DataSource] IN 조회 분할 실행")
+class InQueryTemplateTest {
+
+    InQueryTemplate inQueryTemplate;
+
+    @BeforeEach
+    void setUp() {
+        inQueryTemplate = new InQueryTemplate(100, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        inQueryTemplate.destroy();
+        ShardContext.clear();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    private static List<Long> ids(int count) {
+        return LongStream.rangeClosed(1, count).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("묶음 크기는 2의 거듭제곱으로 내림")
+    void Input_ChunkSize100_Output_64() {
+        Assertions.assertEquals(64, inQueryTemplate.getChunkSize());
+    }
+
+    @Test
+    @DisplayName("중복을 제거하고 묶음 크기만큼 분할")
+    void Input_DuplicatedIds_Output_DistinctChunks() {
+        List<List<Long>> chunks = InQueryTemplate.partition(List.of(1L, 2L, 2L, 3L, 4L, 5L, 1L), 2);
+
+        Assertions.assertEquals(List.of(List.of(1L, 2L), List.of(3L, 4L), List.of(5L)), chunks);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 묶음을 병렬 실행하고 샤드 지정을 전달, 결과는 묶음 순서대로")
+    void Input_LargeIdsOutsideTransaction_Output_ParallelInOrder() {
+        ShardContext.set(1);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        Set<Integer> shards = ConcurrentHashMap.newKeySet();
+
+        List<Long> result = inQueryTemplate.query(ids(1000), chunk -> {
+            threads.add(Thread.currentThread().getName());
+            shards.add(ShardContext.current());
+            Assertions.assertTrue(chunk.size() <= 64);
+            return chunk;
+        });
+
+        Assertions.assertEquals(ids(1000), result);
+        Assertions.assertEquals(Set.of(1), shards);
+        Assertions.assertFalse(threads.contains(Thread.currentThread().getName()));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 호출 스레드에서 순서대로 실행")
+    void Input_LargeIdsInTransaction_Output_CallerThread() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        List<Long> result = inQueryTemplate.query(ids(1000), chunk -> {
+            threads.add(Thread.currentThread().getName());
+            return chunk;
+        });
+
+        Assertions.assertEquals(ids(1000), result);
+        Assertions.assertEquals(Set.of(Thread.currentThread().getName()), threads);
+    }
+
+    @Test
+    @DisplayName("빈 리스트는 조회하지 않음")
+    void Input_EmptyIds_Output_NoQuery() {
+        List<Long> result = inQueryTemplate.query(List.<Long>of(), chunk -> {
+            throw new AssertionError("조회하면 안 됨");
+        });
+
+        Assertions.assertTrue(result.isEmpty());
+    }
+}
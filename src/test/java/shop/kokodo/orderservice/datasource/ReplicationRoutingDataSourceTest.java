@@ -0,0 +1,73 @@
+package shop.kokodo.orderservice.datasource;
+
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("[DataSource] 프라이머리/레플리카 라우팅")
+class ReplicationRoutingDataSourceTest {
+
+    static final String NODE_QUERY = "SELECT name FROM node";
+
+    JdbcTemplate jdbcTemplate;
+    TransactionTemplate writeTransaction;
+    TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(primary, replica));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 레플리카에서 조회")
+    void Input_ReadOnlyTransaction_Output_Replica() {
+        String node = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+
+        Assertions.assertEquals("replica", node);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖의 조회는 프라이머리에서 처리")
+    void Input_WriteTransaction_Output_Primary() {
+        String node = writeTransaction.execute(status -> jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+
+        Assertions.assertEquals("primary", node);
+        Assertions.assertEquals("primary", jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+    }
+
+    @Test
+    @DisplayName("프라이머리 고정 시 readOnly 트랜잭션도 프라이머리에서 조회")
+    void Input_PrimaryForced_Output_Primary() {
+        String node = ReplicationRoutingDataSource.onPrimary(
+            () -> readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(NODE_QUERY, String.class)));
+
+        Assertions.assertEquals("primary", node);
+        Assertions.assertFalse(ReplicationRoutingDataSource.isPrimaryForced());
+    }
+
+    private DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("DROP TABLE IF EXISTS node");
+        template.execute("CREATE TABLE node (name VARCHAR(20))");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
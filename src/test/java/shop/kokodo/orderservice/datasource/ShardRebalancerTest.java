@@ -0,0 +1,130 @@
+package shop.kokodo.orderservice.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@DisplayName("[DataSource] 회원 샤딩")
+class ShardRebalancerTest {
+
+    static final int SHARD_COUNT = 3;
+    static final int MEMBER_COUNT = 30;
+
+    ShardTemplate shardTemplate;
+    JdbcTemplate jdbcTemplate;
+    ShardRebalancer shardRebalancer;
+
+    @BeforeEach
+    void setUp() {
+        List<DataSource> shards = new ArrayList<>();
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            shards.add(h2("shard" + shard));
+        }
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ShardRoutingDataSource(shards));
+
+        shardTemplate = new ShardTemplate(SHARD_COUNT);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        shardRebalancer = new ShardRebalancer(shardTemplate, dataSource, new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        shardTemplate.destroy();
+    }
+
+    @Test
+    @DisplayName("샤드를 늘려도 기존 회원은 기존 샤드나 새 샤드로만 이동")
+    void Input_ShardCountIncreased_Output_MovesOnlyToNewShard() {
+        int moved = 0;
+        for (long memberId = 1; memberId <= 10_000; memberId++) {
+            int before = ShardTemplate.shardOf(memberId, 4);
+            int after = ShardTemplate.shardOf(memberId, 5);
+            if (before != after) {
+                Assertions.assertEquals(4, after);
+                moved++;
+            }
+        }
+
+        // 약 1/5 만 이동
+        Assertions.assertTrue(moved > 1_500 && moved < 2_500);
+    }
+
+    @Test
+    @DisplayName("샤드 지정 실행과 전체 샤드 조회는 각 샤드 DB 로 라우팅")
+    void Input_Shard_Output_RoutedDatabase() {
+        shardTemplate.callOnShard(2, () -> jdbcTemplate.update("INSERT INTO orders (order_id, member_id) VALUES (1, 1)"));
+
+        List<Integer> counts = shardTemplate.scatter(
+            () -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class));
+
+        Assertions.assertEquals(List.of(0, 0, 1), counts);
+        Assertions.assertNull(ShardContext.current());
+    }
+
+    @Test
+    @DisplayName("재분배 후 모든 회원 데이터가 회원 샤드로 이동")
+    void Input_AllDataOnDefaultShard_Output_MembersOnOwnShard() {
+        // 샤드 1개일 때 저장된 데이터
+        shardTemplate.callOnShard(0, () -> {
+            for (long memberId = 1; memberId <= MEMBER_COUNT; memberId++) {
+                jdbcTemplate.update("INSERT INTO orders (order_id, member_id) VALUES (?, ?)", memberId * 10, memberId);
+                jdbcTemplate.update("INSERT INTO order_product (order_product_id, order_id, member_id) VALUES (?, ?, ?)",
+                    memberId * 100, memberId * 10, memberId);
+                jdbcTemplate.update("INSERT INTO cart (cart_id, member_id) VALUES (?, ?)", memberId, memberId);
+            }
+            return null;
+        });
+
+        int moved = shardRebalancer.rebalance();
+
+        Assertions.assertTrue(moved > 0);
+        for (long memberId = 1; memberId <= MEMBER_COUNT; memberId++) {
+            long member = memberId;
+            int owner = shardTemplate.shardOf(member);
+            List<Integer> orderCounts = shardTemplate.scatter(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM orders WHERE member_id = ?", Integer.class, member));
+            List<Integer> orderProductCounts = shardTemplate.scatter(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM order_product WHERE member_id = ?", Integer.class, member));
+
+            for (int shard = 0; shard < SHARD_COUNT; shard++) {
+                int expected = (shard == owner) ? 1 : 0;
+                Assertions.assertEquals(expected, orderCounts.get(shard));
+                Assertions.assertEquals(expected, orderProductCounts.get(shard));
+            }
+        }
+
+        // 다시 실행해도 이동할 회원 없음
+        Assertions.assertEquals(0, shardRebalancer.rebalance());
+    }
+
+    private DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("DROP TABLE IF EXISTS order_product");
+        template.execute("DROP TABLE IF EXISTS orders");
+        template.execute("DROP TABLE IF EXISTS cart");
+        template.execute("DROP TABLE IF EXISTS idempotency_key");
+        template.execute("DROP TABLE IF EXISTS order_product_archive");
+        template.execute("DROP TABLE IF EXISTS orders_archive");
+        template.execute("CREATE TABLE orders (order_id BIGINT PRIMARY KEY, member_id BIGINT)");
+        template.execute("CREATE TABLE order_product (order_product_id BIGINT PRIMARY KEY, order_id BIGINT, member_id BIGINT)");
+        template.execute("CREATE TABLE orders_archive (order_id BIGINT PRIMARY KEY, member_id BIGINT)");
+        template.execute("CREATE TABLE order_product_archive (order_product_id BIGINT PRIMARY KEY, order_id BIGINT, member_id BIGINT)");
+        template.execute("CREATE TABLE cart (cart_id BIGINT PRIMARY KEY, member_id BIGINT)");
+        template.execute("CREATE TABLE idempotency_key (idempotency_key VARCHAR(64) PRIMARY KEY, member_id BIGINT)");
+        template.execute("CREATE TABLE order_status_event (order_status_event_id BIGINT PRIMARY KEY, order_id BIGINT, member_id BIGINT)");
+        template.execute("CREATE TABLE order_ticket (order_ticket_id BIGINT PRIMARY KEY, member_id BIGINT)");
+        return dataSource;
+    }
+}
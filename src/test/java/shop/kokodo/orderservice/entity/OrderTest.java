@@ -0,0 +1,35 @@
+package shop.kokodo.orderservice.entity;
+
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import shop.kokodo.orderservice.entity.enums.status.CartStatus;
+import shop.kokodo.orderservice.feign.response.OrderProductDto;
+
+@DisplayName("[주문] 주문 생성")
+class OrderTest {
+
+    @Test
+    @DisplayName("주문 생성 시 주문상품 개수와 첫 번째 주문상품을 대표상품으로 저장")
+    void Input_OrderProducts_Output_LineSummary() {
+        List<OrderProduct> orderProducts = List.of(
+            OrderProduct.createOrderProduct(Cart.create(1L, 1L, 12L, 1, CartStatus.IN_CART), new OrderProductDto(12L, 5000, 100L)),
+            OrderProduct.createOrderProduct(Cart.create(2L, 1L, 11L, 2, CartStatus.IN_CART), new OrderProductDto(11L, 10000, 100L)));
+
+        Order order = Order.createOrder(1L, "회원", "서울", 25000, orderProducts);
+
+        Assertions.assertEquals(2, order.getLineCount());
+        Assertions.assertEquals(12L, order.getLeadProductId());
+        orderProducts.forEach(orderProduct -> Assertions.assertSame(order, orderProduct.getOrder()));
+    }
+
+    @Test
+    @DisplayName("주문상품이 없는 주문은 개수 0, 대표상품 없음")
+    void Input_NoOrderProducts_Output_EmptyLineSummary() {
+        Order order = Order.createOrder(1L, "회원", "서울", 0, List.of());
+
+        Assertions.assertEquals(0, order.getLineCount());
+        Assertions.assertNull(order.getLeadProductId());
+    }
+}
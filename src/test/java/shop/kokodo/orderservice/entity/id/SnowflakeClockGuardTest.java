@@ -0,0 +1,43 @@
+package shop.kokodo.orderservice.entity.id;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[아이디 생성] 기동 시 시계 역행 확인")
+class SnowflakeClockGuardTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH + 60_000;
+
+    // 시계가 앞서 있던 이전 실행에서 발급한 아이디
+    private static long issuedAt(long nodeId, long timestamp) {
+        return new SnowflakeIdGenerator(nodeId, new AtomicLong(timestamp)::get).nextId();
+    }
+
+    @Test
+    @DisplayName("이 노드가 현재 시각 이후로 발급한 아이디가 있으면 기동 실패")
+    void Input_IdIssuedInFuture_Output_Exception() {
+        long futureId = issuedAt(3, NOW + 5_000);
+        SnowflakeClockGuard guard = new SnowflakeClockGuard(3, () -> NOW,
+            (sql, lowerBound) -> futureId >= lowerBound ? List.of(futureId) : List.of());
+
+        IllegalStateException e = Assertions.assertThrows(IllegalStateException.class, guard::afterPropertiesSet);
+        Assertions.assertTrue(e.getMessage().contains("node_id=3"));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 아이디이거나 지난 시각의 아이디만 있으면 기동")
+    void Input_PastOrOtherNodeIds_Output_Started() {
+        long otherNodeId = issuedAt(4, NOW + 5_000);
+        long pastId = issuedAt(3, NOW - 5_000);
+        SnowflakeClockGuard guard = new SnowflakeClockGuard(3, () -> NOW,
+            (sql, lowerBound) -> List.of(otherNodeId, pastId).stream()
+                .filter(id -> id >= lowerBound)
+                .collect(Collectors.toList()));
+
+        Assertions.assertDoesNotThrow(guard::afterPropertiesSet);
+    }
+}
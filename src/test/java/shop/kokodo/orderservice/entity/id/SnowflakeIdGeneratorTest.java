@@ -0,0 +1,97 @@
+package shop.kokodo.orderservice.entity.id;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[아이디 생성] Snowflake")
+class SnowflakeIdGeneratorTest {
+
+    static final int THREAD_COUNT = 16;
+    static final int ID_COUNT_PER_THREAD = 50_000;
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 발급해도 중복 없이 스레드별로 증가")
+    void Input_ConcurrentThreads_Output_UniqueIds() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            Callable<Boolean> task = () -> {
+                start.await();
+                long previous = -1;
+                boolean increasing = true;
+                for (int j = 0; j < ID_COUNT_PER_THREAD; j++) {
+                    long id = generator.nextId();
+                    increasing &= id > previous;
+                    previous = id;
+                    ids.add(id);
+                }
+                return increasing;
+            };
+            results.add(executor.submit(task));
+        }
+        start.countDown();
+
+        for (Future<Boolean> result : results) {
+            Assertions.assertTrue(result.get());
+        }
+        executor.shutdown();
+
+        Assertions.assertEquals(THREAD_COUNT * ID_COUNT_PER_THREAD, ids.size());
+        ids.forEach(id -> {
+            Assertions.assertEquals(3, SnowflakeIdGenerator.extractNodeId(id));
+            Assertions.assertTrue(id < (1L << 53));
+        });
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 마지막 시각에 이어서 증가")
+    void Input_ClockMovedBackwards_Output_IncreasingIds() {
+        AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH + 10_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+
+        long before = generator.nextId();
+        clock.addAndGet(-5_000);
+        long after = generator.nextId();
+
+        Assertions.assertTrue(after > before);
+        Assertions.assertEquals(SnowflakeIdGenerator.EPOCH + 10_000, SnowflakeIdGenerator.extractTimestamp(after));
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 시퀀스를 다 쓰면 다음 밀리초를 당겨서 발급")
+    void Input_SequenceOverflow_Output_NextMillisecond() {
+        AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH + 10_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+
+        long last = 0;
+        for (int i = 0; i <= SnowflakeIdGenerator.MAX_SEQUENCE + 1; i++) {
+            long id = generator.nextId();
+            Assertions.assertTrue(id > last);
+            last = id;
+        }
+
+        Assertions.assertEquals(SnowflakeIdGenerator.EPOCH + 10_001, SnowflakeIdGenerator.extractTimestamp(last));
+    }
+
+    @Test
+    @DisplayName("노드 아이디 범위를 벗어나면 예외")
+    void Input_InvalidNodeId_Output_Exception() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+    }
+}
@@ -0,0 +1,112 @@
+package shop.kokodo.orderservice.feign.hedge;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HedgedExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HedgedExecutor hedgedExecutor;
+
+    @AfterEach
+    void tearDown() {
+        hedgedExecutor.destroy();
+    }
+
+    /**
+     * 라운드로빈으로 번갈아 호출되는 스텁 인스턴스 2개
+     * 첫 번째 인스턴스만 slowMillis 만큼 지연된다.
+     */
+    private static Supplier<String> twoInstances(long slowMillis) {
+        AtomicInteger next = new AtomicInteger();
+        return () -> {
+            if (next.getAndIncrement() % 2 == 0) {
+                sleep(slowMillis);
+                return "slow";
+            }
+            sleep(1);
+            return "fast";
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("order.hedge", "target", "product", "result", result).count();
+    }
+
+    @Test
+    @DisplayName("p95 안에 응답이 없으면 다른 인스턴스로 헤지 요청, 먼저 온 응답 사용")
+    void Input_SlowInstance_Output_HedgeWins() {
+        hedgedExecutor = new HedgedExecutor(meterRegistry, true, 1.0, 10, 5, 20, 8);
+
+        long start = System.nanoTime();
+        String result = hedgedExecutor.call("product", twoInstances(1000));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assertions.assertEquals("fast", result);
+        Assertions.assertTrue(elapsedMillis < 500, "elapsed=" + elapsedMillis);
+        Assertions.assertEquals(1, count("hedge_won"));
+    }
+
+    @Test
+    @DisplayName("예산이 없으면 헤지 없이 첫 요청 응답을 기다림")
+    void Input_NoBudget_Output_WaitPrimary() {
+        hedgedExecutor = new HedgedExecutor(meterRegistry, true, 0.0, 10, 5, 20, 8);
+
+        String result = hedgedExecutor.call("product", twoInstances(100));
+
+        Assertions.assertEquals("slow", result);
+        Assertions.assertEquals(1, count("budget_exhausted"));
+        Assertions.assertEquals(0, count("hedged"));
+    }
+
+    @Test
+    @DisplayName("헤지 요청 수는 예산 비율을 넘지 않음")
+    void Input_AllSlow_Output_HedgesWithinBudget() {
+        hedgedExecutor = new HedgedExecutor(meterRegistry, true, 0.1, 1, 5, 5, 8);
+        Supplier<String> slow = () -> {
+            sleep(20);
+            return "slow";
+        };
+
+        for (int i = 0; i < 50; i++) {
+            hedgedExecutor.call("product", slow);
+        }
+
+        Assertions.assertTrue(count("hedged") <= 5, "hedged=" + count("hedged"));
+    }
+
+    @Test
+    @DisplayName("두 요청이 모두 실패하면 예외 전달")
+    void Input_BothFail_Output_Exception() {
+        hedgedExecutor = new HedgedExecutor(meterRegistry, true, 1.0, 10, 5, 5, 8);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> hedgedExecutor.call("product", () -> {
+            sleep(20);
+            throw new IllegalArgumentException("down");
+        }));
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 호출한 스레드에서 그대로 실행")
+    void Input_Disabled_Output_CallerThread() {
+        hedgedExecutor = HedgedExecutor.direct();
+
+        String thread = hedgedExecutor.call("product", () -> Thread.currentThread().getName());
+
+        Assertions.assertEquals(Thread.currentThread().getName(), thread);
+    }
+}
@@ -0,0 +1,179 @@
+package shop.kokodo.orderservice.feign.hedge;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.discovery.simple.SimpleDiscoveryClientAutoConfiguration;
+import org.springframework.cloud.commons.util.UtilAutoConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
+import org.springframework.cloud.loadbalancer.config.BlockingLoadBalancerClientAutoConfiguration;
+import org.springframework.cloud.loadbalancer.config.LoadBalancerAutoConfiguration;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.cloud.openfeign.loadbalancer.FeignLoadBalancerAutoConfiguration;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.bind.annotation.GetMapping;
+import shop.kokodo.orderservice.feign.loadbalancer.InstanceStats;
+import shop.kokodo.orderservice.feign.loadbalancer.InstanceStatsRegistry;
+import shop.kokodo.orderservice.feign.loadbalancer.LatencyAwareLoadBalancerConfiguration;
+
+/**
+ * 실제 Feign 클라이언트 + 응답 시간 기반 로드밸런서 + 로컬 스텁 인스턴스 2개로 헤지 요청 확인
+ * 스텁 a 는 평소에는 빠르지만 멈출 수 있고, 스텁 b 는 항상 50ms 걸린다.
+ */
+@SpringBootTest(classes = HedgedFeignClientTest.StubClientConfig.class, properties = {
+    "spring.cloud.discovery.client.simple.instances.stub-service[0].service-id=stub-service",
+    "spring.cloud.discovery.client.simple.instances.stub-service[1].service-id=stub-service"
+})
+@DisplayName("[헤지 요청] Feign + 로드밸런서")
+class HedgedFeignClientTest {
+
+    private static final AtomicBoolean stubAStuck = new AtomicBoolean();
+    private static final AtomicInteger stubAHits = new AtomicInteger();
+    private static final AtomicInteger stubBHits = new AtomicInteger();
+    private static final HttpServer stubA = stub("a", () -> {
+        stubAHits.incrementAndGet();
+        sleep(stubAStuck.get() ? 1_000 : 5);
+    });
+    private static final HttpServer stubB = stub("b", () -> {
+        stubBHits.incrementAndGet();
+        sleep(50);
+    });
+
+    @FeignClient(name = "stub-service")
+    interface StubClient {
+        @GetMapping("/whoami")
+        String whoami();
+    }
+
+    @Configuration
+    @EnableFeignClients(clients = StubClient.class)
+    @LoadBalancerClient(name = "stub-service", configuration = LatencyAwareLoadBalancerConfiguration.class)
+    @Import(InstanceStatsRegistry.class)
+    @ImportAutoConfiguration({
+        UtilAutoConfiguration.class,
+        SimpleDiscoveryClientAutoConfiguration.class,
+        LoadBalancerAutoConfiguration.class,
+        BlockingLoadBalancerClientAutoConfiguration.class,
+        JacksonAutoConfiguration.class,
+        HttpMessageConvertersAutoConfiguration.class,
+        FeignLoadBalancerAutoConfiguration.class,
+        FeignAutoConfiguration.class
+    })
+    static class StubClientConfig {
+    }
+
+    @DynamicPropertySource
+    static void stubInstances(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.discovery.client.simple.instances.stub-service[0].uri",
+            () -> "http://localhost:" + stubA.getAddress().getPort());
+        registry.add("spring.cloud.discovery.client.simple.instances.stub-service[1].uri",
+            () -> "http://localhost:" + stubB.getAddress().getPort());
+    }
+
+    @Autowired
+    StubClient stubClient;
+
+    @Autowired
+    InstanceStatsRegistry instanceStatsRegistry;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 표본이 모이기 전에는 100ms 가 지나면 헤지
+    private final HedgedExecutor hedgedExecutor = new HedgedExecutor(meterRegistry, true, 1.0, 10, 5, 100, 8);
+
+    @AfterEach
+    void tearDown() {
+        hedgedExecutor.destroy();
+    }
+
+    @AfterAll
+    static void stopStubs() {
+        stubA.stop(0);
+        stubB.stop(0);
+    }
+
+    @Test
+    @DisplayName("첫 요청이 간 인스턴스가 멈추면 헤지 요청은 다른 인스턴스로 가서 응답")
+    void Input_StuckInstance_Output_HedgeRoutedToOtherInstance() {
+        // 로드밸런서가 a 를 빠른 인스턴스로 알고 있는 상태에서 시작
+        recordLatency(stubA, 5);
+        recordLatency(stubB, 200);
+
+        // a 가 빠르게 응답하는 동안은 로드밸런서가 a 를 고르고 헤지하지 않는다.
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals("a", hedgedExecutor.call("stub", stubClient::whoami));
+        }
+        Assertions.assertEquals(0, stubBHits.get());
+        Assertions.assertEquals(0, meterRegistry.counter("order.hedge", "target", "stub", "result", "hedged").count());
+
+        // a 가 멈추면 첫 요청은 여전히 점수가 낮은 a 로 가고, 헤지 요청은 a 를 빼고 b 로 간다.
+        stubAStuck.set(true);
+        int stubAHitsBefore = stubAHits.get();
+        long start = System.nanoTime();
+        String result = hedgedExecutor.call("stub", stubClient::whoami);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assertions.assertEquals("b", result);
+        Assertions.assertTrue(elapsedMillis < 500, "elapsed=" + elapsedMillis);
+        Assertions.assertEquals(stubAHitsBefore + 1, stubAHits.get());
+        Assertions.assertEquals(1, stubBHits.get());
+        Assertions.assertEquals(1, meterRegistry.counter("order.hedge", "target", "stub", "result", "hedge_won").count());
+    }
+
+    private void recordLatency(HttpServer stub, long latencyMillis) {
+        InstanceStats stats = instanceStatsRegistry.get("stub-service",
+            new DefaultServiceInstance(null, "stub-service", "localhost", stub.getAddress().getPort(), false));
+        stats.start();
+        instanceStatsRegistry.complete(stats, TimeUnit.MILLISECONDS.toNanos(latencyMillis), false);
+    }
+
+    private static HttpServer stub(String name, Runnable behavior) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/whoami", exchange -> {
+                behavior.run();
+                byte[] body = name.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "text/plain");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package shop.kokodo.orderservice.feign.loadbalancer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+class PeakEwmaLoadBalancerTest {
+
+    private static final String SERVICE = "product-service";
+    private static final long ARRIVAL_INTERVAL = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final int REQUESTS = 10_000;
+
+    private final long[] clock = new long[1];
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InstanceStatsRegistry registry =
+        new InstanceStatsRegistry(meterRegistry, () -> clock[0], 10_000, 100, 30_000, 5, 5, 20);
+    private final PeakEwmaLoadBalancer loadBalancer = new PeakEwmaLoadBalancer(SERVICE, emptyProvider(), registry);
+
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectProvider<T> emptyProvider() {
+        return (ObjectProvider<T>) Mockito.mock(ObjectProvider.class);
+    }
+
+    private static ServiceInstance instance(int port) {
+        return new DefaultServiceInstance(SERVICE + "-" + port, SERVICE, "localhost", port, false);
+    }
+
+    /* 스텁 인스턴스 5개 중 1개만 느리다 (빠른 인스턴스 10ms, 느린 인스턴스 300ms) */
+    private static final List<ServiceInstance> INSTANCES = List.of(
+        instance(8001), instance(8002), instance(8003), instance(8004), instance(8005));
+
+    private static long latencyOf(ServiceInstance instance) {
+        return TimeUnit.MILLISECONDS.toNanos(instance.getPort() == 8005 ? 300 : 10);
+    }
+
+    /**
+     * 가상 시계로 요청 도착/완료를 시뮬레이션 하고 응답 시간 p99 를 반환
+     * 완료 시각이 된 요청은 다음 요청을 고르기 전에 통계에 반영한다.
+     */
+    private long simulateP99(Function<Integer, ServiceInstance> chooser) {
+        PriorityQueue<long[]> inFlight = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        Map<Integer, InstanceStats> statsByIndex = new HashMap<>();
+        long[] latencies = new long[REQUESTS];
+
+        for (int i = 0; i < REQUESTS; i++) {
+            long arrival = i * ARRIVAL_INTERVAL;
+            while (!inFlight.isEmpty() && inFlight.peek()[0] <= arrival) {
+                long[] done = inFlight.poll();
+                clock[0] = done[0];
+                registry.complete(statsByIndex.get((int) done[1]), done[2], false);
+            }
+            clock[0] = arrival;
+
+            ServiceInstance chosen = chooser.apply(i);
+            int index = INSTANCES.indexOf(chosen);
+            InstanceStats stats = registry.get(SERVICE, chosen);
+            statsByIndex.put(index, stats);
+            stats.start();
+
+            long latency = latencyOf(chosen);
+            latencies[i] = latency;
+            inFlight.add(new long[]{arrival + latency, index, latency});
+        }
+
+        Arrays.sort(latencies);
+        return TimeUnit.NANOSECONDS.toMillis(latencies[(int) (REQUESTS * 0.99)]);
+    }
+
+    @Test
+    @DisplayName("느린 인스턴스가 섞여 있으면 라운드로빈보다 p99 응답 시간이 낮다")
+    void Input_HeterogeneousInstances_Output_LowerTailLatencyThanRoundRobin() {
+        long roundRobinP99 = simulateP99(i -> INSTANCES.get(i % INSTANCES.size()));
+        long peakEwmaP99 = simulateP99(i -> loadBalancer.choose(INSTANCES).getServer());
+
+        Assertions.assertEquals(300, roundRobinP99);
+        Assertions.assertTrue(peakEwmaP99 < roundRobinP99,
+            "roundRobin=" + roundRobinP99 + "ms, peakEwma=" + peakEwmaP99 + "ms");
+        Assertions.assertEquals(10, peakEwmaP99);
+    }
+
+    @Test
+    @DisplayName("연속 실패한 인스턴스는 제외 기간 동안 선택되지 않는다")
+    void Input_ConsecutiveFailures_Output_InstanceEjected() {
+        ServiceInstance failing = INSTANCES.get(0);
+        InstanceStats stats = registry.get(SERVICE, failing);
+        for (int i = 0; i < 5; i++) {
+            stats.start();
+            registry.complete(stats, 0, true);
+        }
+
+        List<ServiceInstance> chosen = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            chosen.add(loadBalancer.choose(INSTANCES).getServer());
+        }
+        Assertions.assertFalse(chosen.contains(failing));
+        Assertions.assertEquals(1.0, meterRegistry.get("order.loadbalancer.instance.ejected")
+            .tag("instance", "localhost:8001").gauge().value());
+
+        // 제외 기간이 지나면 다시 선택 대상
+        clock[0] += TimeUnit.SECONDS.toNanos(31);
+        Assertions.assertFalse(stats.isEjected(clock[0]));
+    }
+
+    @Test
+    @DisplayName("모든 인스턴스가 제외되면 제외 여부와 관계없이 선택")
+    void Input_AllEjected_Output_StillChooses() {
+        for (ServiceInstance instance : INSTANCES) {
+            registry.eject(registry.get(SERVICE, instance));
+        }
+
+        Assertions.assertNotNull(loadBalancer.choose(INSTANCES).getServer());
+    }
+
+    @Test
+    @DisplayName("한 번 느렸던 인스턴스도 요청이 없는 동안 점수가 내려가서 다시 선택된다")
+    void Input_IdleOnceSlowInstance_Output_ChosenAgain() {
+        ServiceInstance onceSlow = instance(8001);
+        ServiceInstance fast = instance(8002);
+        List<ServiceInstance> instances = List.of(onceSlow, fast);
+        record(onceSlow, 1, 1_000);
+        record(fast, 1, 10);
+        Assertions.assertEquals(fast, loadBalancer.choose(instances).getServer());
+
+        // 60초 동안 느린 인스턴스는 요청을 받지 않고, 빠른 인스턴스는 계속 10ms 로 응답
+        clock[0] += TimeUnit.SECONDS.toNanos(60);
+        record(fast, 1, 10);
+
+        Assertions.assertEquals(onceSlow, loadBalancer.choose(instances).getServer());
+    }
+
+    @Test
+    @DisplayName("표본이 충분하고 중앙값보다 크게 느린 인스턴스는 제외된다")
+    void Input_SlowOutlier_Output_Ejected() {
+        List<ServiceInstance> instances = INSTANCES.subList(0, 4);
+        ServiceInstance slow = instances.get(3);
+        instances.forEach(instance -> record(instance, 20, instance == slow ? 200 : 10));
+
+        List<ServiceInstance> chosen = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            chosen.add(loadBalancer.choose(instances).getServer());
+        }
+
+        Assertions.assertTrue(registry.get(SERVICE, slow).isEjected(clock[0]));
+        Assertions.assertFalse(chosen.contains(slow));
+    }
+
+    @Test
+    @DisplayName("표본이 부족하면 느려도 제외하지 않는다")
+    void Input_SlowWithFewSamples_Output_NotEjected() {
+        List<ServiceInstance> instances = INSTANCES.subList(0, 4);
+        ServiceInstance slow = instances.get(3);
+        instances.forEach(instance -> record(instance, 5, instance == slow ? 200 : 10));
+
+        loadBalancer.choose(instances);
+
+        Assertions.assertFalse(registry.get(SERVICE, slow).isEjected(clock[0]));
+    }
+
+    @Test
+    @DisplayName("인스턴스 목록에서 빠진 인스턴스의 통계와 게이지를 지운다")
+    void Input_InstanceRemoved_Output_StatsAndGaugesRemoved() {
+        loadBalancer.choose(INSTANCES);
+        InstanceStats retained = registry.get(SERVICE, INSTANCES.get(0));
+
+        // 재배포로 8004, 8005 가 8006 으로 교체됨
+        loadBalancer.choose(List.of(INSTANCES.get(0), INSTANCES.get(1), INSTANCES.get(2), instance(8006)));
+
+        Assertions.assertNull(meterRegistry.find("order.loadbalancer.instance.latency").tag("instance", "localhost:8005").gauge());
+        Assertions.assertNull(meterRegistry.find("order.loadbalancer.instance.ejected").tag("instance", "localhost:8004").gauge());
+        Assertions.assertNotNull(meterRegistry.find("order.loadbalancer.instance.latency").tag("instance", "localhost:8006").gauge());
+        Assertions.assertSame(retained, registry.get(SERVICE, INSTANCES.get(0)));
+    }
+
+    private void record(ServiceInstance instance, int samples, long latencyMillis) {
+        InstanceStats stats = registry.get(SERVICE, instance);
+        for (int i = 0; i < samples; i++) {
+            stats.start();
+            registry.complete(stats, TimeUnit.MILLISECONDS.toNanos(latencyMillis), false);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package shop.kokodo.orderservice.feign.replica;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LastKnownGoodCacheTest {
+
+    private LastKnownGoodCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LastKnownGoodCache<>(100, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("성공 응답은 그대로 (stale 아님)")
+    void Input_Fresh_Output_NotStale() {
+        Snapshot<Map<Long, String>> snapshot = cache.refresh(Map.of(1L, "상품1"));
+
+        Assertions.assertFalse(snapshot.isStale());
+        Assertions.assertEquals(Map.of(1L, "상품1"), snapshot.getValue());
+    }
+
+    @Test
+    @DisplayName("장애 시 마지막 성공 응답을 stale 로 반환, 처음 보는 상품은 제외")
+    void Input_Fallback_Output_LastKnownGood() {
+        cache.refresh(Map.of(1L, "상품1", 2L, "상품2"));
+
+        Snapshot<Map<Long, String>> snapshot = cache.fallback(List.of(1L, 3L));
+
+        Assertions.assertTrue(snapshot.isStale());
+        Assertions.assertEquals(Map.of(1L, "상품1"), snapshot.getValue());
+    }
+
+    @Test
+    @DisplayName("fallback 으로 응답한 상품은 재검증 대상, 다시 성공하면 제외")
+    void Input_FallbackThenRefresh_Output_StaleIdsCleared() {
+        cache.fallback(List.of(1L, 2L));
+        Assertions.assertEquals(2, cache.staleIds(10).size());
+        Assertions.assertEquals(1, cache.staleIds(1).size());
+
+        cache.refresh(Map.of(1L, "상품1", 2L, "상품2"));
+
+        Assertions.assertTrue(cache.staleIds(10).isEmpty());
+    }
+}
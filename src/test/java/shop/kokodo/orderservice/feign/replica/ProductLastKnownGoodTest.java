@@ -0,0 +1,136 @@
+package shop.kokodo.orderservice.feign.replica;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreaker;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
+import shop.kokodo.orderservice.feign.client.ProductServiceClient;
+import shop.kokodo.orderservice.feign.hedge.HedgedExecutor;
+import shop.kokodo.orderservice.feign.response.CartProductDto;
+
+@DisplayName("[상품 조회 last-known-good]")
+class ProductLastKnownGoodTest {
+
+    private final ProductServiceClient productServiceClient = mock(ProductServiceClient.class);
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+
+    private ProductLastKnownGood productLastKnownGood;
+
+    @BeforeEach
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void setUp() {
+        // 서킷브레이커는 호출이 실패하면 fallback 으로 응답
+        CircuitBreaker circuitBreaker = mock(CircuitBreaker.class);
+        when(circuitBreaker.run(any(Supplier.class), any(Function.class))).thenAnswer(invocation -> {
+            try {
+                return invocation.<Supplier<Object>>getArgument(0).get();
+            } catch (RuntimeException e) {
+                return invocation.<Function<Throwable, Object>>getArgument(1).apply(e);
+            }
+        });
+        CircuitBreakerFactory circuitBreakerFactory = mock(CircuitBreakerFactory.class);
+        when(circuitBreakerFactory.create(anyString())).thenReturn(circuitBreaker);
+
+        ObjectProvider<CircuitBreakerRegistry> registryProvider = mock(ObjectProvider.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<CircuitBreakerRegistry>>getArgument(0).accept(circuitBreakerRegistry);
+            return null;
+        }).when(registryProvider).ifAvailable(any());
+
+        productLastKnownGood = new ProductLastKnownGood(productServiceClient, HedgedExecutor.direct(), circuitBreakerFactory,
+            registryProvider, 100, 24, 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productLastKnownGood.destroy();
+    }
+
+    @Test
+    @DisplayName("조회에 성공하면 stale 아님")
+    void Input_ProductServiceUp_Output_Fresh() {
+        when(productServiceClient.getOrderProducts(List.of(1L))).thenReturn(Map.of(1L, product(1L, "상품1")));
+
+        Snapshot<Map<Long, CartProductDto>> snapshot = productLastKnownGood.getOrderProducts(List.of(1L));
+
+        Assertions.assertFalse(snapshot.isStale());
+        Assertions.assertEquals("상품1", snapshot.getValue().get(1L).getName());
+    }
+
+    @Test
+    @DisplayName("장애 시 마지막으로 성공한 상품 정보를 stale 로 반환, 처음 보는 상품은 제외")
+    void Input_ProductServiceDown_Output_StaleLastKnownGood() {
+        when(productServiceClient.getOrderProducts(List.of(1L))).thenReturn(Map.of(1L, product(1L, "상품1")));
+        productLastKnownGood.getOrderProducts(List.of(1L));
+        when(productServiceClient.getOrderProducts(List.of(1L, 2L))).thenThrow(new IllegalStateException("timeout"));
+
+        Snapshot<Map<Long, CartProductDto>> snapshot = productLastKnownGood.getOrderProducts(List.of(1L, 2L));
+
+        Assertions.assertTrue(snapshot.isStale());
+        Assertions.assertEquals("상품1", snapshot.getValue().get(1L).getName());
+        Assertions.assertFalse(snapshot.getValue().containsKey(2L));
+    }
+
+    @Test
+    @DisplayName("서킷이 HALF_OPEN 이 되면 fallback 으로 응답한 상품을 다시 조회해서 갱신")
+    void Input_HalfOpen_Output_StaleProductsRevalidated() throws InterruptedException {
+        when(productServiceClient.getOrderProducts(List.of(1L)))
+            .thenReturn(Map.of(1L, product(1L, "상품1")))
+            .thenThrow(new IllegalStateException("timeout"))
+            .thenReturn(Map.of(1L, product(1L, "상품1 (변경)")))
+            .thenThrow(new IllegalStateException("timeout"));
+        productLastKnownGood.getOrderProducts(List.of(1L));
+        productLastKnownGood.getOrderProducts(List.of(1L)); // fallback → 재검증 대상
+
+        io.github.resilience4j.circuitbreaker.CircuitBreaker circuitBreaker =
+            circuitBreakerRegistry.circuitBreaker(ProductLastKnownGood.CART_PRODUCT_CIRCUIT_BREAKER);
+        circuitBreaker.transitionToOpenState();
+        circuitBreaker.transitionToHalfOpenState();
+
+        verify(productServiceClient, timeout(2_000).times(3)).getOrderProducts(List.of(1L));
+        // 재검증으로 받은 값이 다음 fallback 에 쓰인다. (재검증은 백그라운드 스레드에서 저장된다)
+        Snapshot<Map<Long, CartProductDto>> snapshot = awaitFallback("상품1 (변경)");
+        Assertions.assertTrue(snapshot.isStale());
+        Assertions.assertEquals("상품1 (변경)", snapshot.getValue().get(1L).getName());
+    }
+
+    private Snapshot<Map<Long, CartProductDto>> awaitFallback(String expectedName) throws InterruptedException {
+        Snapshot<Map<Long, CartProductDto>> snapshot = productLastKnownGood.getOrderProducts(List.of(1L));
+        for (int i = 0; i < 100 && !expectedName.equals(snapshot.getValue().get(1L).getName()); i++) {
+            Thread.sleep(20);
+            snapshot = productLastKnownGood.getOrderProducts(List.of(1L));
+        }
+        return snapshot;
+    }
+
+    @Test
+    @DisplayName("fallback 으로 응답한 적이 없으면 HALF_OPEN 에서도 다시 조회하지 않음")
+    void Input_HalfOpenWithoutStale_Output_NoCall() {
+        productLastKnownGood.revalidate(ProductLastKnownGood.CART_PRODUCT_CIRCUIT_BREAKER);
+
+        verify(productServiceClient, times(0)).getOrderProducts(any());
+    }
+
+    private CartProductDto product(Long id, String name) {
+        return CartProductDto.create(id, "thumbnail-" + id, name, 1000, 10L);
+    }
+}
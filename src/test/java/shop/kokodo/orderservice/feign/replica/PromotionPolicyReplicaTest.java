@@ -0,0 +1,147 @@
+package shop.kokodo.orderservice.feign.replica;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import shop.kokodo.orderservice.feign.client.PromotionServiceClient;
+import shop.kokodo.orderservice.feign.response.RateDiscountPolicyDto;
+
+@DisplayName("[할인 정책 복제본]")
+class PromotionPolicyReplicaTest {
+
+    PromotionServiceClient promotionServiceClient;
+    AtomicLong now = new AtomicLong(0);
+    PromotionPolicyReplica replica;
+
+    @BeforeEach
+    void setUp() {
+        promotionServiceClient = mock(PromotionServiceClient.class);
+        // 백그라운드 갱신도 호출한 스레드에서 바로 실행
+        replica = new PromotionPolicyReplica(promotionServiceClient, now::get, Runnable::run, 1_000, 10_000);
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 정책은 promotion-service 를 다시 호출하지 않음 (정책 없음 포함)")
+    void Input_SameProducts_Output_NoNetworkCall() {
+        when(promotionServiceClient.getRateDiscountPolicy(anyList())).thenReturn(Map.of(1L, ratePolicy(1L, 10)));
+
+        replica.getRateDiscountPolicy(List.of(1L, 2L));
+        Map<Long, RateDiscountPolicyDto> policies = replica.getRateDiscountPolicy(List.of(1L, 2L));
+
+        verify(promotionServiceClient, times(1)).getRateDiscountPolicy(anyList());
+        Assertions.assertEquals(10, policies.get(1L).getRate());
+        Assertions.assertFalse(policies.containsKey(2L));
+    }
+
+    @Test
+    @DisplayName("changelog 로 받은 변경과 삭제가 바로 반영됨")
+    void Input_Changelog_Output_Applied() {
+        replica.applyRatePolicyChanges(Map.of(1L, ratePolicy(1L, 10), 2L, ratePolicy(2L, 20)));
+        Map<Long, RateDiscountPolicyDto> deleted = new HashMap<>();
+        deleted.put(2L, null);
+        replica.applyRatePolicyChanges(deleted);
+
+        Map<Long, RateDiscountPolicyDto> policies = replica.getRateDiscountPolicy(List.of(1L, 2L));
+
+        verify(promotionServiceClient, times(0)).getRateDiscountPolicy(anyList());
+        Assertions.assertEquals(10, policies.get(1L).getRate());
+        Assertions.assertFalse(policies.containsKey(2L));
+    }
+
+    @Test
+    @DisplayName("갱신 시점이 지난 정책은 조회가 실패해도 기존 값으로 응답")
+    void Input_StaleAndServiceDown_Output_PreviousValue() {
+        replica.applyFixPolicyChanges(Map.of(100L, true));
+        when(promotionServiceClient.getFixDiscountPolicyStatusForFeign(anyList(), anyList()))
+            .thenThrow(new IllegalStateException("timeout"));
+        now.set(5_000);
+
+        Map<Long, Boolean> policies = replica.getFixDiscountPolicyStatus(List.of(1L), List.of(100L));
+
+        Assertions.assertTrue(policies.get(100L));
+    }
+
+    @Test
+    @DisplayName("최대 허용 시간이 지난 정책은 다시 조회해야 사용")
+    void Input_OverMaxStaleness_Output_Reload() {
+        replica.applyFixPolicyChanges(Map.of(100L, true));
+        when(promotionServiceClient.getFixDiscountPolicyStatusForFeign(anyList(), anyList())).thenReturn(Map.of(100L, false));
+        now.set(20_000);
+
+        Map<Long, Boolean> policies = replica.getFixDiscountPolicyStatus(List.of(1L), List.of(100L));
+
+        Assertions.assertFalse(policies.get(100L));
+    }
+
+    @Test
+    @DisplayName("changelog 를 계속 따라잡고 있으면 오래전에 받은 정책도 다시 조회하지 않음")
+    void Input_OldEntryAndChangelogCaughtUp_Output_NoNetworkCall() {
+        replica.applyRatePolicyChanges(Map.of(1L, ratePolicy(1L, 10)));
+        now.set(60_000);
+        replica.markChangelogCaughtUp();
+        now.set(60_500);
+
+        Map<Long, RateDiscountPolicyDto> policies = replica.getRateDiscountPolicy(List.of(1L));
+
+        verify(promotionServiceClient, times(0)).getRateDiscountPolicy(anyList());
+        Assertions.assertEquals(10, policies.get(1L).getRate());
+    }
+
+    @Test
+    @DisplayName("changelog 가 멈추면 마지막으로 따라잡은 시점부터 신선도를 계산")
+    void Input_ChangelogStalled_Output_ReloadAfterMaxStaleness() {
+        replica.applyRatePolicyChanges(Map.of(1L, ratePolicy(1L, 10)));
+        now.set(60_000);
+        replica.markChangelogCaughtUp();
+        when(promotionServiceClient.getRateDiscountPolicy(anyList())).thenReturn(Map.of(1L, ratePolicy(1L, 30)));
+
+        // 갱신 시점(1초)만 지남 → 기존 값 응답 + 백그라운드 갱신
+        now.set(62_000);
+        replica.getRateDiscountPolicy(List.of(1L));
+        verify(promotionServiceClient, times(1)).getRateDiscountPolicy(anyList());
+
+        // 백그라운드로 다시 받은 값도 최대 허용 시간(10초)이 지나면 다시 조회
+        now.set(73_000);
+        Map<Long, RateDiscountPolicyDto> policies = replica.getRateDiscountPolicy(List.of(1L));
+
+        verify(promotionServiceClient, times(2)).getRateDiscountPolicy(anyList());
+        Assertions.assertEquals(30, policies.get(1L).getRate());
+    }
+
+    @Test
+    @DisplayName("백그라운드 조회 중에 changelog 로 바뀐 정책은 조회 결과로 덮어쓰지 않음")
+    void Input_ChangelogDuringSlowRefresh_Output_ChangelogValueKept() {
+        replica.applyRatePolicyChanges(Map.of(1L, ratePolicy(1L, 10)));
+        // 조회가 느린 사이 changelog 로 새 정책이 들어오고, 조회는 그 전 값을 돌려줌
+        when(promotionServiceClient.getRateDiscountPolicy(anyList())).thenAnswer(invocation -> {
+            now.set(2_500);
+            replica.applyRatePolicyChanges(Map.of(1L, ratePolicy(1L, 20)));
+            return Map.of(1L, ratePolicy(1L, 10));
+        });
+        now.set(2_000);
+
+        replica.getRateDiscountPolicy(List.of(1L));
+        Map<Long, RateDiscountPolicyDto> policies = replica.getRateDiscountPolicy(List.of(1L));
+
+        verify(promotionServiceClient, times(1)).getRateDiscountPolicy(anyList());
+        Assertions.assertEquals(20, policies.get(1L).getRate());
+    }
+
+    private RateDiscountPolicyDto ratePolicy(Long productId, int rate) {
+        RateDiscountPolicyDto dto = new RateDiscountPolicyDto();
+        dto.setProductId(productId);
+        dto.setRate(rate);
+        return dto;
+    }
+}
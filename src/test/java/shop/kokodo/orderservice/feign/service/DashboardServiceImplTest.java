@@ -0,0 +1,104 @@
+package shop.kokodo.orderservice.feign.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import shop.kokodo.orderservice.datasource.InQueryTemplate;
+import shop.kokodo.orderservice.datasource.ReplicationRoutingDataSource;
+import shop.kokodo.orderservice.datasource.ShardTemplate;
+import shop.kokodo.orderservice.feign.client.ProductServiceClient;
+import shop.kokodo.orderservice.feign.repository.DashboardRepository;
+import shop.kokodo.orderservice.feign.request.OrderCountRequestDto;
+import shop.kokodo.orderservice.feign.response.ProductIdResponseDto;
+
+@DisplayName("[대시보드] 샤드 분산 집계 레플리카 조회")
+class DashboardServiceImplTest {
+
+    static final String NODE_QUERY = "SELECT name FROM node";
+
+    private final DashboardRepository dashboardRepository = mock(DashboardRepository.class);
+    private final ProductServiceClient productServiceClient = mock(ProductServiceClient.class);
+    private final InQueryTemplate inQueryTemplate = new InQueryTemplate(512, 1);
+    private final List<String> queriedNodes = new ArrayList<>();
+
+    private DashboardServiceImpl dashboardService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(h2("primary"), h2("replica")));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // 집계 쿼리 대신 어느 노드에서 실행됐는지 기록
+        when(dashboardRepository.findTodayOrderProductCountMap(any())).thenAnswer(invocation -> {
+            queriedNodes.add(jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+            return new ArrayList<>();
+        });
+        when(dashboardRepository.findYesterdayOrderProductCountMap(any(), any(), any())).thenAnswer(invocation -> {
+            queriedNodes.add(jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+            return new ArrayList<>();
+        });
+        when(dashboardRepository.findMonthlyOrderCount(anyList(), any())).thenAnswer(invocation -> {
+            queriedNodes.add(jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+            return new ArrayList<>();
+        });
+        when(dashboardRepository.findArchivedMonthlyOrderCount(anyList(), any())).thenAnswer(invocation -> {
+            queriedNodes.add(jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+            return new ArrayList<>();
+        });
+        when(productServiceClient.getOrderCount(any(OrderCountRequestDto.class)))
+            .thenReturn(new ProductIdResponseDto(List.of(), List.of()));
+        when(productServiceClient.getSellerProductIds(anyLong())).thenReturn(List.of(1L, 2L));
+
+        dashboardService = new DashboardServiceImpl(dashboardRepository, productServiceClient,
+            new ShardTemplate(mock(ObjectProvider.class)), inQueryTemplate, new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        inQueryTemplate.destroy();
+    }
+
+    @Test
+    @DisplayName("오늘/어제 주문 집계는 레플리카에서 조회")
+    void Input_OrderCount_Output_Replica() {
+        dashboardService.getOrderCount(1L);
+
+        Assertions.assertEquals(List.of("replica", "replica"), queriedNodes);
+    }
+
+    @Test
+    @DisplayName("월별 주문 집계는 운영/보관 테이블 모두 레플리카에서 조회")
+    void Input_MonthlyOrderCount_Output_Replica() {
+        dashboardService.getMonthlyOrderCount(1L);
+
+        Assertions.assertEquals(List.of("replica", "replica"), queriedNodes);
+    }
+
+    private DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:dashboard-" + name + ";DB_CLOSE_DELAY=-1");
+
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("DROP TABLE IF EXISTS node");
+        template.execute("CREATE TABLE node (name VARCHAR(20))");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
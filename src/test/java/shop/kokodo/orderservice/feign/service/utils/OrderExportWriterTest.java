@@ -0,0 +1,116 @@
+package shop.kokodo.orderservice.feign.service.utils;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import shop.kokodo.orderservice.dto.response.OrderProductExportDto;
+import shop.kokodo.orderservice.feign.dto.ExportFormat;
+
+@DisplayName("[주문상품 내보내기] Writer")
+class OrderExportWriterTest {
+
+    static final LocalDateTime ORDER_DATE = LocalDateTime.of(2022, 11, 18, 12, 30, 48);
+
+    @Test
+    @DisplayName("CSV 형식으로 헤더와 행을 기록")
+    void Input_Rows_Output_Csv() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        long count = OrderExportWriter.write(rows(2), ExportFormat.CSV, writer);
+
+        Assertions.assertEquals(2, count);
+        Assertions.assertEquals(
+            "orderId,orderProductId,productId,memberId,qty,unitPrice,orderDate\n"
+                + "1,1,1,1,1,1000,2022-11-18T12:30:48\n"
+                + "2,2,2,1,2,1000,2022-11-18T12:30:48\n",
+            writer.toString());
+    }
+
+    @Test
+    @DisplayName("NDJSON 형식으로 한 줄에 한 행 기록")
+    void Input_Rows_Output_Ndjson() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        OrderExportWriter.write(rows(1), ExportFormat.NDJSON, writer);
+
+        Assertions.assertEquals(
+            "{\"orderId\":1,\"orderProductId\":1,\"productId\":1,\"memberId\":1,\"qty\":1,\"unitPrice\":1000,\"orderDate\":\"2022-11-18T12:30:48\"}\n",
+            writer.toString());
+    }
+
+    @Test
+    @DisplayName("100만 행을 내보내도 힙 사용량이 행 수에 비례해 늘지 않음")
+    void Input_MillionRows_Output_ConstantHeap() throws IOException {
+        int rowCount = 1_000_000;
+        CountingWriter writer = new CountingWriter();
+
+        long before = usedHeap();
+        long count = OrderExportWriter.write(rows(rowCount), ExportFormat.CSV, writer);
+        long after = usedHeap();
+
+        Assertions.assertEquals(rowCount, count);
+        Assertions.assertEquals(rowCount + 1, writer.lines);
+        // 결과를 모아뒀다면 수십 MB 가 필요하다.
+        Assertions.assertTrue(after - before < 16 * 1024 * 1024,
+            "heap grew by " + (after - before) + " bytes");
+    }
+
+    private static Stream<OrderProductExportDto> rows(int size) {
+        return LongStream.rangeClosed(1, size).mapToObj(OrderExportWriterTest::row);
+    }
+
+    private static OrderProductExportDto row(long id) {
+        return new OrderProductExportDto() {
+            public Long getOrderId() { return id; }
+            public Long getOrderProductId() { return id; }
+            public Long getProductId() { return id; }
+            public Long getMemberId() { return 1L; }
+            public Integer getQty() { return (int) id; }
+            public Integer getUnitPrice() { return 1000; }
+            public LocalDateTime getOrderDate() { return ORDER_DATE; }
+        };
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // 기록된 내용은 버리고 줄 수만 센다.
+    static class CountingWriter extends Writer {
+        long lines;
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                if (cbuf[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+
+        @Override
+        public void write(String str) {
+            for (int i = 0; i < str.length(); i++) {
+                if (str.charAt(i) == '\n') {
+                    lines++;
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
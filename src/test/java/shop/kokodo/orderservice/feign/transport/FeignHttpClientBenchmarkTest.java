@@ -0,0 +1,232 @@
+package shop.kokodo.orderservice.feign.transport;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import feign.Util;
+import feign.httpclient.ApacheHttpClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+
+/**
+ * 로컬 스텁 서버로 기본 클라이언트(HttpURLConnection)와 커넥션 풀 클라이언트 비교
+ * 스텁이 받은 TCP 연결 수 = 클라이언트가 새로 맺은 연결 수 (끊은 연결은 클라이언트 쪽 TIME_WAIT 로 남는다)
+ */
+@Slf4j
+class FeignHttpClientBenchmarkTest {
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 200;
+    private static final byte[] BODY = "{\"productId\":1,\"price\":1000}".getBytes(StandardCharsets.UTF_8);
+
+    private final FeignHttpClientConfig config = new FeignHttpClientConfig();
+    private StubServer stubServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = new StubServer();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        stubServer.close();
+    }
+
+    private PoolingHttpClientConnectionManager connectionManager() {
+        return config.feignConnectionManager(new FeignHttpClientProperties(), 2000);
+    }
+
+    @Test
+    @DisplayName("커넥션 풀 클라이언트는 동시 호출에서도 연결을 재사용한다")
+    void Input_ConcurrentCalls_Output_PooledClientReusesConnections() throws Exception {
+        Result defaultResult = run(new Client.Default(null, null));
+        int defaultConnections = stubServer.resetConnections();
+
+        PoolingHttpClientConnectionManager connectionManager = connectionManager();
+        Result pooledResult;
+        try (CloseableHttpClient httpClient = config.feignHttpClient(connectionManager, 15, 10, 1000)) {
+            pooledResult = run(new ApacheHttpClient(httpClient));
+        }
+        int pooledConnections = stubServer.resetConnections();
+
+        log.info("[FeignHttpClientBenchmarkTest] default: {} req/s, {} connections / pooled: {} req/s, {} connections",
+            defaultResult.throughput(), defaultConnections, pooledResult.throughput(), pooledConnections);
+
+        Assertions.assertEquals(THREADS * REQUESTS_PER_THREAD, defaultResult.ok);
+        Assertions.assertEquals(THREADS * REQUESTS_PER_THREAD, pooledResult.ok);
+        Assertions.assertTrue(pooledConnections <= THREADS, "pooled connections=" + pooledConnections);
+        Assertions.assertTrue(pooledConnections < defaultConnections,
+            "default=" + defaultConnections + ", pooled=" + pooledConnections);
+    }
+
+    @Test
+    @DisplayName("gzip 응답은 풀어서 전달")
+    void Input_GzipResponse_Output_Decoded() throws Exception {
+        stubServer.gzip = true;
+        try (CloseableHttpClient httpClient = config.feignHttpClient(connectionManager(), 15, 10, 1000)) {
+            Assertions.assertArrayEquals(BODY, call(new ApacheHttpClient(httpClient)));
+        }
+    }
+
+    @Test
+    @DisplayName("커넥션 풀 상태를 메트릭으로 노출")
+    void Input_ConnectionManager_Output_PoolMetrics() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        config.feignConnectionPoolMetrics(connectionManager()).bindTo(meterRegistry);
+
+        Assertions.assertEquals(200.0, meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+            .tag("httpclient", "feign").gauge().value());
+    }
+
+    private byte[] call(Client client) throws IOException {
+        Request request = Request.create(HttpMethod.GET, stubServer.url(), Collections.emptyMap(), null,
+            StandardCharsets.UTF_8, null);
+        try (Response response = client.execute(request, new Request.Options())) {
+            Assertions.assertEquals(200, response.status());
+            return Util.toByteArray(response.body().asInputStream());
+        }
+    }
+
+    private Result run(Client client) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger ok = new AtomicInteger();
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < REQUESTS_PER_THREAD; j++) {
+                        call(client);
+                        ok.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Result(ok.get(), System.nanoTime() - start);
+    }
+
+    private static class Result {
+        private final int ok;
+        private final long elapsedNanos;
+
+        private Result(int ok, long elapsedNanos) {
+            this.ok = ok;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        private long throughput() {
+            return ok * TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedNanos);
+        }
+    }
+
+    /**
+     * HTTP/1.1 keep-alive 스텁 서버 (요청 본문 없는 GET 만 처리)
+     * 받아들인 연결 수를 센다.
+     */
+    private static class StubServer implements AutoCloseable {
+        private final ServerSocket serverSocket = new ServerSocket(0, 512);
+        private final ExecutorService executor = Executors.newCachedThreadPool();
+        private final AtomicInteger connections = new AtomicInteger();
+        private volatile boolean gzip;
+
+        private StubServer() throws IOException {
+            executor.submit(this::acceptLoop);
+        }
+
+        private String url() {
+            return "http://localhost:" + serverSocket.getLocalPort() + "/products/feign/cartOrderProduct";
+        }
+
+        private int resetConnections() {
+            return connections.getAndSet(0);
+        }
+
+        private void acceptLoop() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    connections.incrementAndGet();
+                    executor.submit(() -> serve(socket));
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void serve(Socket socket) {
+            try (socket;
+                 BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1))) {
+                OutputStream out = socket.getOutputStream();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    boolean acceptsGzip = false;
+                    while (!line.isEmpty()) {
+                        acceptsGzip |= line.toLowerCase().startsWith("accept-encoding:") && line.contains("gzip");
+                        line = reader.readLine();
+                    }
+                    writeResponse(out, gzip && acceptsGzip);
+                }
+            } catch (IOException e) {
+                // 클라이언트가 연결을 끊음
+            }
+        }
+
+        private void writeResponse(OutputStream out, boolean compress) throws IOException {
+            byte[] body = compress ? gzip(BODY) : BODY;
+            String headers = "HTTP/1.1 200 OK\r\n"
+                + "Content-Type: application/json\r\n"
+                + (compress ? "Content-Encoding: gzip\r\n" : "")
+                + "Content-Length: " + body.length + "\r\n\r\n";
+            out.write(headers.getBytes(StandardCharsets.ISO_8859_1));
+            out.write(body);
+            out.flush();
+        }
+
+        private static byte[] gzip(byte[] body) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(bytes)) {
+                gzipOut.write(body);
+            }
+            return bytes.toByteArray();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+            executor.shutdownNow();
+        }
+    }
+}
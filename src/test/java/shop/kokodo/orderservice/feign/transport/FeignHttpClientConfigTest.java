@@ -0,0 +1,48 @@
+package shop.kokodo.orderservice.feign.transport;
+
+import java.util.Map;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+
+@DisplayName("[Feign] 커넥션 풀 설정")
+class FeignHttpClientConfigTest {
+
+    private final FeignHttpClientConfig config = new FeignHttpClientConfig();
+
+    @Test
+    @DisplayName("feign.httpclient.* 설정으로 풀 크기를 정함")
+    void Input_FeignHttpClientProperties_Output_PoolLimits() {
+        FeignHttpClientProperties properties = bind(Map.of(
+            "feign.httpclient.max-connections", "64",
+            "feign.httpclient.max-connections-per-route", "16",
+            "feign.httpclient.time-to-live", "60"));
+
+        PoolingHttpClientConnectionManager connectionManager = config.feignConnectionManager(properties, 2000);
+
+        Assertions.assertEquals(64, connectionManager.getMaxTotal());
+        Assertions.assertEquals(16, connectionManager.getDefaultMaxPerRoute());
+        connectionManager.close();
+    }
+
+    @Test
+    @DisplayName("설정이 없으면 Spring Cloud OpenFeign 기본값 사용")
+    void Input_NoProperties_Output_DefaultPoolLimits() {
+        PoolingHttpClientConnectionManager connectionManager = config.feignConnectionManager(bind(Map.of()), 2000);
+
+        Assertions.assertEquals(FeignHttpClientProperties.DEFAULT_MAX_CONNECTIONS, connectionManager.getMaxTotal());
+        Assertions.assertEquals(FeignHttpClientProperties.DEFAULT_MAX_CONNECTIONS_PER_ROUTE, connectionManager.getDefaultMaxPerRoute());
+        connectionManager.close();
+    }
+
+    private FeignHttpClientProperties bind(Map<String, String> properties) {
+        return new Binder(new MapConfigurationPropertySource(properties))
+            .bind("feign.httpclient", Bindable.of(FeignHttpClientProperties.class))
+            .orElseGet(FeignHttpClientProperties::new);
+    }
+}
@@ -0,0 +1,76 @@
+package shop.kokodo.orderservice.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[Kafka] 인기 키 분산 파티셔너")
+class HotKeyPartitionerTest {
+
+    static final String TOPIC = KafkaTopic.PRODUCT_DECREASE_STOCK;
+    static final String OTHER_TOPIC = KafkaTopic.ORDER_STATUS_CHANGELOG;
+    static final int PARTITION_COUNT = 12;
+
+    HotKeyPartitioner partitioner;
+    Cluster cluster;
+
+    @BeforeEach
+    void setUp() {
+        Node node = new Node(0, "localhost", 9092);
+        List<PartitionInfo> partitions = Stream.of(TOPIC, OTHER_TOPIC)
+            .flatMap(topic -> IntStream.range(0, PARTITION_COUNT)
+                .mapToObj(partition -> new PartitionInfo(topic, partition, node, new Node[]{node}, new Node[]{node})))
+            .collect(Collectors.toList());
+        cluster = new Cluster("cluster", List.of(node), partitions, Set.of(), Set.of());
+
+        partitioner = new HotKeyPartitioner();
+        partitioner.configure(Map.of(
+            HotKeyPartitioner.HOT_KEYS_CONFIG, "7, 8",
+            HotKeyPartitioner.HOT_KEY_SPREAD_CONFIG, 4));
+    }
+
+    @Test
+    @DisplayName("일반 키는 항상 같은 파티션")
+    void Input_NormalKey_Output_SamePartition() {
+        Set<Integer> partitions = partitionsOf(TOPIC, "1", 100);
+
+        Assertions.assertEquals(1, partitions.size());
+    }
+
+    @Test
+    @DisplayName("인기 키는 spread 개 파티션에 나눠 보냄")
+    void Input_HotKey_Output_SpreadPartitions() {
+        Set<Integer> partitions = partitionsOf(TOPIC, "7", 100);
+
+        Assertions.assertEquals(4, partitions.size());
+    }
+
+    @Test
+    @DisplayName("재고 감소 외 토픽은 인기 키와 같은 키라도 항상 같은 파티션")
+    void Input_HotKeyOnOtherTopic_Output_SamePartition() {
+        Set<Integer> partitions = partitionsOf(OTHER_TOPIC, "7", 100);
+
+        Assertions.assertEquals(1, partitions.size());
+    }
+
+    private Set<Integer> partitionsOf(String topic, String key, int count) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        Set<Integer> partitions = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            partitions.add(partitioner.partition(topic, key, keyBytes, null, null, cluster));
+        }
+        return partitions;
+    }
+}
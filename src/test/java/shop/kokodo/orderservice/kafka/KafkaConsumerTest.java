@@ -0,0 +1,161 @@
+package shop.kokodo.orderservice.kafka;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import shop.kokodo.orderservice.kafka.handler.OrderStatusHandler;
+
+@DisplayName("[Kafka] 주문 상태 이벤트 소비 실패 처리")
+class KafkaConsumerTest {
+
+    private static final long INITIAL_DELAY_MS = 1000;
+
+    KafkaTemplate<String, byte[]> kafkaTemplate;
+    OrderStatusHandler orderStatusHandler;
+    KeyOrderedExecutor keyOrderedExecutor;
+    KafkaConsumer kafkaConsumer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        SettableListenableFuture<SendResult<String, byte[]>> future = new SettableListenableFuture<>();
+        future.set(null);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(future);
+
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        KafkaRetryRouter router = new KafkaRetryRouter(kafkaTemplate, mock(KafkaDeadLetterRecorder.class), meterRegistry, INITIAL_DELAY_MS, 4);
+
+        orderStatusHandler = mock(OrderStatusHandler.class);
+        keyOrderedExecutor = new KeyOrderedExecutor(1, 10, new SimpleMeterRegistry());
+        kafkaConsumer = new KafkaConsumer(orderStatusHandler, keyOrderedExecutor, router);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        keyOrderedExecutor.destroy();
+    }
+
+    @Test
+    @DisplayName("처리에 실패한 메시지는 첫 재시도 토픽으로 보내고 ack")
+    void Input_HandlerFailure_Output_FirstRetryTopic() {
+        doThrow(new IllegalArgumentException("유효하지 않은 주문 아이디 1")).when(orderStatusHandler).handle("1");
+        Acknowledgment ack = mock(Acknowledgment.class);
+        long before = System.currentTimeMillis();
+
+        kafkaConsumer.decreaseStock(new ConsumerRecord<>(KafkaTopic.ORDER_ID, 0, 0, null, "1"), ack);
+
+        verify(ack, timeout(1000)).acknowledge();
+        ProducerRecord<String, byte[]> sent = sentRecord();
+        Assertions.assertEquals(KafkaTopic.ORDER_ID_RETRY_0, sent.topic());
+        Assertions.assertTrue(dueAtOf(sent) >= before + INITIAL_DELAY_MS);
+    }
+
+    @Test
+    @DisplayName("형식 오류 메시지는 재시도 토픽을 거치지 않고 DLT 로 보냄")
+    void Input_PoisonPill_Output_Dlt() {
+        doThrow(new PoisonPillException("메시지 형식 오류", null)).when(orderStatusHandler).handle("abc");
+        Acknowledgment ack = mock(Acknowledgment.class);
+
+        kafkaConsumer.decreaseStock(new ConsumerRecord<>(KafkaTopic.ORDER_ID, 0, 0, null, "abc"), ack);
+
+        verify(ack, timeout(1000)).acknowledge();
+        ProducerRecord<String, byte[]> sent = sentRecord();
+        Assertions.assertEquals(KafkaTopic.ORDER_ID_DLT, sent.topic());
+        Assertions.assertNull(sent.headers().lastHeader(KafkaRetryRouter.DUE_AT_HEADER));
+    }
+
+    @Test
+    @DisplayName("처리 시각 전인 재시도 메시지는 남은 시간만큼 nack 하고 처리하지 않음")
+    void Input_RetryBeforeDue_Output_NackWithRemainingDelay() {
+        Acknowledgment ack = mock(Acknowledgment.class);
+
+        kafkaConsumer.retryOrderStatus(retryRecord(KafkaTopic.ORDER_ID_RETRY_0, 1, System.currentTimeMillis() + 3000), ack);
+
+        ArgumentCaptor<Long> sleep = ArgumentCaptor.forClass(Long.class);
+        verify(ack).nack(sleep.capture());
+        Assertions.assertTrue(sleep.getValue() > 2000 && sleep.getValue() <= 3000);
+        verify(ack, never()).acknowledge();
+        verify(orderStatusHandler, never()).handle(any());
+    }
+
+    @Test
+    @DisplayName("처리 시각이 먼 재시도 메시지는 최대 정지 시간까지만 nack")
+    void Input_RetryFarBeforeDue_Output_NackCapped() {
+        Acknowledgment ack = mock(Acknowledgment.class);
+
+        kafkaConsumer.retryOrderStatus(retryRecord(KafkaTopic.ORDER_ID_RETRY_2, 3, System.currentTimeMillis() + 60_000), ack);
+
+        verify(ack).nack(10_000L);
+    }
+
+    @Test
+    @DisplayName("재시도에서 다시 실패하면 다음 재시도 토픽으로 더 긴 대기 시간과 함께 보냄")
+    void Input_RetryFailure_Output_NextRetryTopicWithLongerDelay() {
+        doThrow(new IllegalArgumentException("유효하지 않은 주문 아이디 1")).when(orderStatusHandler).handle("1");
+        Acknowledgment ack = mock(Acknowledgment.class);
+        long before = System.currentTimeMillis();
+
+        kafkaConsumer.retryOrderStatus(retryRecord(KafkaTopic.ORDER_ID_RETRY_0, 1, before - 1), ack);
+
+        verify(ack).acknowledge();
+        verify(ack, never()).nack(anyLong());
+        ProducerRecord<String, byte[]> sent = sentRecord();
+        Assertions.assertEquals(KafkaTopic.ORDER_ID_RETRY_1, sent.topic());
+        Assertions.assertEquals(2, ByteBuffer.wrap(sent.headers().lastHeader(KafkaRetryRouter.ATTEMPT_HEADER).value()).getInt());
+        Assertions.assertTrue(dueAtOf(sent) >= before + INITIAL_DELAY_MS * 4);
+    }
+
+    @Test
+    @DisplayName("마지막 재시도에서도 실패하면 DLT 로 보냄")
+    void Input_LastRetryFailure_Output_Dlt() {
+        doThrow(new IllegalArgumentException("유효하지 않은 주문 아이디 1")).when(orderStatusHandler).handle("1");
+        Acknowledgment ack = mock(Acknowledgment.class);
+
+        kafkaConsumer.retryOrderStatus(retryRecord(KafkaTopic.ORDER_ID_RETRY_2, 3, System.currentTimeMillis() - 1), ack);
+
+        verify(ack).acknowledge();
+        Assertions.assertEquals(KafkaTopic.ORDER_ID_DLT, sentRecord().topic());
+    }
+
+    private ConsumerRecord<String, String> retryRecord(String topic, int attempt, long dueAt) {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>(topic, 0, 0, null, "1");
+        record.headers().add(KafkaRetryRouter.ATTEMPT_HEADER, ByteBuffer.allocate(Integer.BYTES).putInt(attempt).array());
+        record.headers().add(KafkaRetryRouter.DUE_AT_HEADER, ByteBuffer.allocate(Long.BYTES).putLong(dueAt).array());
+        return record;
+    }
+
+    private long dueAtOf(ProducerRecord<String, byte[]> record) {
+        return ByteBuffer.wrap(record.headers().lastHeader(KafkaRetryRouter.DUE_AT_HEADER).value()).getLong();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ProducerRecord<String, byte[]> sentRecord() {
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,155 @@
+package shop.kokodo.orderservice.kafka;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+@DisplayName("[Kafka] DLT 재처리")
+class KafkaDltReplayEndpointTest {
+
+    private static final TopicPartition DLT_0 = new TopicPartition(KafkaTopic.ORDER_ID_DLT, 0);
+
+    KafkaTemplate<String, byte[]> kafkaTemplate;
+    RecordingConsumer consumer;
+    KafkaDltReplayEndpoint endpoint;
+
+    List<ProducerRecord<String, byte[]>> sent = new ArrayList<>();
+    boolean sendFails;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(0));
+            SettableListenableFuture<SendResult<String, byte[]>> future = new SettableListenableFuture<>();
+            if (sendFails) {
+                future.setException(new IllegalStateException("브로커 연결 실패"));
+            } else {
+                future.set(null);
+            }
+            return future;
+        });
+
+        consumer = new RecordingConsumer();
+        consumer.updatePartitions(KafkaTopic.ORDER_ID_DLT, List.of(new PartitionInfo(KafkaTopic.ORDER_ID_DLT, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(DLT_0, 0L));
+
+        ConsumerFactory<String, String> consumerFactory = mock(ConsumerFactory.class);
+        when(consumerFactory.createConsumer(eq(KafkaDltReplayEndpoint.REPLAY_GROUP_ID), anyString(), isNull(), any(Properties.class)))
+            .thenReturn(consumer);
+
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        endpoint = new KafkaDltReplayEndpoint(consumerFactory, kafkaTemplate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("DLT 메시지를 원래 토픽으로 재시도 헤더 없이 다시 보내고 끝까지 커밋")
+    void Input_DltRecords_Output_ReplayedToOriginalTopic() {
+        addDltRecords(3);
+
+        Map<String, Object> result = endpoint.replay(100, 10);
+
+        Assertions.assertEquals(3L, result.get("replayed"));
+        Assertions.assertEquals(3, sent.size());
+        for (int i = 0; i < sent.size(); i++) {
+            ProducerRecord<String, byte[]> record = sent.get(i);
+            Assertions.assertEquals(KafkaTopic.ORDER_ID, record.topic());
+            Assertions.assertEquals(String.valueOf(i + 1), new String(record.value(), StandardCharsets.UTF_8));
+            Assertions.assertNull(record.headers().lastHeader(KafkaRetryRouter.ATTEMPT_HEADER));
+        }
+        Assertions.assertEquals(3, consumer.lastCommitted(DLT_0));
+    }
+
+    @Test
+    @DisplayName("최대 건수까지만 보내고 보낸 메시지 다음 오프셋까지만 커밋")
+    void Input_MaxRecords_Output_CommittedUpToLastReplayed() {
+        addDltRecords(5);
+
+        Map<String, Object> result = endpoint.replay(2, 10);
+
+        Assertions.assertEquals(2L, result.get("replayed"));
+        Assertions.assertEquals(2, sent.size());
+        // 다음 실행은 오프셋 2 (세 번째 메시지) 부터 이어서 재처리
+        Assertions.assertEquals(2, consumer.lastCommitted(DLT_0));
+    }
+
+    @Test
+    @DisplayName("발행에 실패하면 오프셋을 커밋하지 않아서 다음 실행 때 다시 재처리")
+    void Input_SendFailure_Output_NotCommitted() {
+        addDltRecords(2);
+        sendFails = true;
+
+        Map<String, Object> result = endpoint.replay(100, 10);
+
+        Assertions.assertEquals(0L, result.get("replayed"));
+        Assertions.assertNull(consumer.committedOffsets.get(DLT_0));
+    }
+
+    @Test
+    @DisplayName("DLT 가 비어 있으면 아무것도 보내지 않음")
+    void Input_EmptyDlt_Output_NothingReplayed() {
+        Map<String, Object> result = endpoint.replay(100, 10);
+
+        Assertions.assertEquals(0L, result.get("replayed"));
+        Assertions.assertTrue(sent.isEmpty());
+    }
+
+    // 파티션은 replay 안에서 할당되므로 첫 poll 때 메시지를 넣는다.
+    private void addDltRecords(int count) {
+        consumer.schedulePollTask(() -> {
+            for (int offset = 0; offset < count; offset++) {
+                consumer.addRecord(new ConsumerRecord<>(KafkaTopic.ORDER_ID_DLT, 0, offset, null, String.valueOf(offset + 1)));
+            }
+        });
+    }
+
+    /* 닫힌 뒤에도 커밋한 오프셋을 확인할 수 있는 MockConsumer */
+    static class RecordingConsumer extends MockConsumer<String, String> {
+
+        final Map<TopicPartition, OffsetAndMetadata> committedOffsets = new HashMap<>();
+
+        RecordingConsumer() {
+            super(OffsetResetStrategy.EARLIEST);
+        }
+
+        @Override
+        public synchronized void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+            committedOffsets.putAll(offsets);
+            super.commitSync(offsets);
+        }
+
+        long lastCommitted(TopicPartition partition) {
+            return committedOffsets.get(partition).offset();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package shop.kokodo.orderservice.kafka;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import shop.kokodo.orderservice.entity.Order;
+import shop.kokodo.orderservice.entity.OrderStatusEvent;
+import shop.kokodo.orderservice.entity.enums.status.OrderStatus;
+
+@DisplayName("[Kafka] 이벤트 발행")
+class KafkaProducerTest {
+
+    KafkaTemplate<String, byte[]> kafkaTemplate;
+    KafkaProducer kafkaProducer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        SettableListenableFuture<SendResult<String, byte[]>> future = new SettableListenableFuture<>();
+        future.set(null);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(future);
+
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        kafkaProducer = new KafkaProducer(kafkaTemplate, new ObjectMapper().findAndRegisterModules(),
+            mock(KafkaDeadLetterRecorder.class), meterRegistry, "json");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 발행한 주문 상태 변경 이력은 커밋 후에 나감")
+    void Input_InTransaction_Output_SentAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        kafkaProducer.sendOrderStatusChangelog(statusEvent());
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(kafkaTemplate, times(1)).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 주문 상태 변경 이력은 발행하지 않음")
+    void Input_Rollback_Output_NotSent() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        kafkaProducer.sendOrderStatusChangelog(statusEvent());
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 바로 발행")
+    void Input_NoTransaction_Output_SentImmediately() {
+        kafkaProducer.sendOrderStatusChangelog(statusEvent());
+
+        verify(kafkaTemplate, times(1)).send(any(ProducerRecord.class));
+    }
+
+    private OrderStatusEvent statusEvent() {
+        Order order = Order.builder()
+            .memberId(1L)
+            .orderStatus(OrderStatus.ORDER_SUCCESS)
+            .orderDate(LocalDateTime.now())
+            .build();
+        ReflectionTestUtils.setField(order, "id", 100L);
+        OrderStatusEvent event = OrderStatusEvent.create(order, null);
+        ReflectionTestUtils.setField(event, "id", 1000L);
+        return event;
+    }
+}
@@ -0,0 +1,93 @@
+package shop.kokodo.orderservice.kafka;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+@DisplayName("[Kafka] 재시도 토픽 라우팅")
+class KafkaRetryRouterTest {
+
+    KafkaTemplate<String, byte[]> kafkaTemplate;
+    KafkaRetryRouter router;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        SettableListenableFuture<SendResult<String, byte[]>> future = new SettableListenableFuture<>();
+        future.set(null);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(future);
+
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        router = new KafkaRetryRouter(kafkaTemplate, mock(KafkaDeadLetterRecorder.class), meterRegistry, 1000, 4);
+    }
+
+    @Test
+    @DisplayName("첫 실패는 첫 재시도 토픽으로 처리 시각과 함께 보냄")
+    void Input_FirstFailure_Output_FirstRetryTopic() {
+        long before = System.currentTimeMillis();
+
+        router.route(record(KafkaTopic.ORDER_ID, 0), new IllegalArgumentException("유효하지 않은 주문 아이디 1"));
+
+        ProducerRecord<String, byte[]> sent = sentRecord();
+        Assertions.assertEquals(KafkaTopic.ORDER_ID_RETRY_0, sent.topic());
+        Assertions.assertEquals(1, ByteBuffer.wrap(sent.headers().lastHeader(KafkaRetryRouter.ATTEMPT_HEADER).value()).getInt());
+        Assertions.assertTrue(ByteBuffer.wrap(sent.headers().lastHeader(KafkaRetryRouter.DUE_AT_HEADER).value()).getLong() >= before + 1000);
+    }
+
+    @Test
+    @DisplayName("재시도 단계마다 대기 시간이 늘어남")
+    void Input_Attempt_Output_ExponentialDelay() {
+        Assertions.assertEquals(1000, router.delayOf(0));
+        Assertions.assertEquals(4000, router.delayOf(1));
+        Assertions.assertEquals(16000, router.delayOf(2));
+    }
+
+    @Test
+    @DisplayName("재시도를 모두 실패하면 DLT 로 보냄")
+    void Input_LastAttemptFailure_Output_Dlt() {
+        router.route(record(KafkaTopic.ORDER_ID_RETRY_2, 3), new IllegalArgumentException("유효하지 않은 주문 아이디 1"));
+
+        Assertions.assertEquals(KafkaTopic.ORDER_ID_DLT, sentRecord().topic());
+    }
+
+    @Test
+    @DisplayName("형식 오류 메시지는 재시도 없이 DLT 로 보냄")
+    void Input_PoisonPill_Output_Dlt() {
+        router.route(record(KafkaTopic.ORDER_ID, 0), new PoisonPillException("메시지 형식 오류", null));
+
+        Assertions.assertEquals(KafkaTopic.ORDER_ID_DLT, sentRecord().topic());
+    }
+
+    private ConsumerRecord<String, String> record(String topic, int attempt) {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>(topic, 0, 0, null, "1");
+        if (attempt > 0) {
+            record.headers().add(KafkaRetryRouter.ATTEMPT_HEADER, ByteBuffer.allocate(Integer.BYTES).putInt(attempt).array());
+        }
+        return record;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ProducerRecord<String, byte[]> sentRecord() {
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,62 @@
+package shop.kokodo.orderservice.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[Kafka] 키 순서 보장 병렬 실행기")
+class KeyOrderedExecutorTest {
+
+    KeyOrderedExecutor executor = new KeyOrderedExecutor(4, 10, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("같은 키는 받은 순서대로 처리")
+    void Input_SameKey_Output_InOrder() throws InterruptedException {
+        List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(100);
+
+        for (int i = 0; i < 100; i++) {
+            int sequence = i;
+            executor.execute(1L, () -> {
+                processed.add(sequence);
+                done.countDown();
+            });
+        }
+
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toList()), processed);
+    }
+
+    @Test
+    @DisplayName("다른 레인의 키는 앞 키가 막혀 있어도 처리")
+    void Input_BlockedKey_Output_OtherKeyProcessed() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch other = new CountDownLatch(1);
+
+        executor.execute(0L, () -> {
+            try {
+                blocked.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(1L, other::countDown);
+
+        Assertions.assertTrue(other.await(5, TimeUnit.SECONDS));
+        blocked.countDown();
+    }
+}
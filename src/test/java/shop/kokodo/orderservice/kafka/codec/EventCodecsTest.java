@@ -0,0 +1,59 @@
+package shop.kokodo.orderservice.kafka.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import shop.kokodo.orderservice.kafka.KafkaTopic;
+import shop.kokodo.orderservice.kafka.dto.CouponNameDto;
+
+@DisplayName("[Kafka] 바이너리 이벤트 코덱")
+class EventCodecsTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("재고 감소 이벤트를 원래 값으로 복원하고 JSON 보다 작게 인코딩")
+    void Input_StockDecreaseEvent_Output_RoundTripAndSmallerThanJson() throws JsonProcessingException {
+        Map<Long, Integer> event = new LinkedHashMap<>();
+        for (long productId = 1; productId <= 5; productId++) {
+            event.put(productId * 1_000, (int) productId);
+        }
+        EventCodec<Map<Long, Integer>> codec = EventCodecs.forTopic(KafkaTopic.PRODUCT_DECREASE_STOCK);
+
+        byte[] binary = codec.encode(event);
+        byte[] json = objectMapper.writeValueAsBytes(event);
+
+        Assertions.assertEquals(event, codec.decode(binary));
+        Assertions.assertTrue(binary.length * 2 < json.length);
+    }
+
+    @Test
+    @DisplayName("쿠폰 상태 이벤트를 원래 값으로 복원하고 JSON 보다 작게 인코딩")
+    void Input_CouponStatusEvent_Output_RoundTripAndSmallerThanJson() throws JsonProcessingException {
+        CouponNameDto event = new CouponNameDto(1L, List.of(10L, 11L), List.of("신규회원 10% 할인", "주말 5% 할인"));
+        EventCodec<CouponNameDto> codec = EventCodecs.forTopic(KafkaTopic.PROMOTION_COUPON_STATUS);
+
+        byte[] binary = codec.encode(event);
+        byte[] json = objectMapper.writeValueAsBytes(event);
+        CouponNameDto decoded = codec.decode(binary);
+
+        Assertions.assertEquals(event.getMemberId(), decoded.getMemberId());
+        Assertions.assertEquals(event.getFixCouponIdList(), decoded.getFixCouponIdList());
+        Assertions.assertEquals(event.getRateCouponNames(), decoded.getRateCouponNames());
+        Assertions.assertTrue(binary.length < json.length);
+    }
+
+    @Test
+    @DisplayName("다른 스키마의 메시지는 읽지 않음")
+    void Input_OtherSchema_Output_Exception() {
+        byte[] stockEvent = EventCodecs.<Map<Long, Integer>>forTopic(KafkaTopic.PRODUCT_DECREASE_STOCK).encode(Map.of(1L, 1));
+        EventCodec<CouponNameDto> couponCodec = EventCodecs.forTopic(KafkaTopic.PROMOTION_COUPON_STATUS);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> couponCodec.decode(stockEvent));
+    }
+}
@@ -0,0 +1,138 @@
+package shop.kokodo.orderservice.kafka.handler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.kokodo.orderservice.datasource.ShardTemplate;
+import shop.kokodo.orderservice.entity.Order;
+import shop.kokodo.orderservice.entity.OrderStatusEvent;
+import shop.kokodo.orderservice.entity.enums.status.OrderStatus;
+import shop.kokodo.orderservice.kafka.KafkaProducer;
+import shop.kokodo.orderservice.repository.interfaces.OrderRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderStatusEventRepository;
+
+@DisplayName("[주문 상태 변경 묶음 처리]")
+class OrderStatusTransitionBatcherTest {
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderStatusEventRepository orderStatusEventRepository = mock(OrderStatusEventRepository.class);
+    private final KafkaProducer kafkaProducer = mock(KafkaProducer.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final AtomicLong eventSequence = new AtomicLong(1);
+
+    private Map<Long, Order> orders;
+    private OrderStatusTransitionBatcher batcher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        orders = Map.of(
+            1L, order(1L, OrderStatus.ORDER_SUCCESS),
+            2L, order(2L, OrderStatus.ORDER_SUCCESS),
+            3L, order(3L, OrderStatus.PURCHASE_CONFIRM));
+        when(orderRepository.findAllById(anyIterable())).thenAnswer(invocation ->
+            StreamSupport.stream(invocation.<Iterable<Long>>getArgument(0).spliterator(), false)
+                .filter(orders::containsKey)
+                .map(orders::get)
+                .collect(Collectors.toList()));
+        when(orderStatusEventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<OrderStatusEvent> events = invocation.getArgument(0);
+            events.forEach(event -> ReflectionTestUtils.setField(event, "id", eventSequence.getAndIncrement()));
+            return events;
+        });
+
+        ShardTemplate shardTemplate = new ShardTemplate(mock(ObjectProvider.class));
+        // 4건이 모이면 바로 처리, 모자라면 1초까지 기다림
+        batcher = new OrderStatusTransitionBatcher(orderRepository, orderStatusEventRepository, kafkaProducer,
+            shardTemplate, new TransactionTemplate(transactionManager), 4, 1_000);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        batcher.destroy();
+    }
+
+    @Test
+    @DisplayName("여러 주문의 상태 변경을 한 트랜잭션으로 처리하고 커밋 후 이력을 발행")
+    void Input_Transitions_Output_OneTransactionAndChangelogAfterCommit() throws Exception {
+        CompletableFuture<Void> first = batcher.submit(0, 1L, OrderStatus.PURCHASE_CONFIRM);
+        CompletableFuture<Void> second = batcher.submit(0, 2L, OrderStatus.REFUND_PROCESS);
+        CompletableFuture<Void> unchanged = batcher.submit(0, 3L, OrderStatus.PURCHASE_CONFIRM);
+        CompletableFuture<Void> missing = batcher.submit(0, 404L, OrderStatus.PURCHASE_CONFIRM);
+
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        unchanged.get(5, TimeUnit.SECONDS);
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> missing.get(5, TimeUnit.SECONDS));
+
+        Assertions.assertTrue(exception.getCause() instanceof IllegalArgumentException);
+        Assertions.assertEquals(OrderStatus.PURCHASE_CONFIRM, orders.get(1L).getOrderStatus());
+        Assertions.assertEquals(OrderStatus.REFUND_PROCESS, orders.get(2L).getOrderStatus());
+        verify(orderRepository, times(1)).findAllById(anyIterable());
+        verify(orderStatusEventRepository, times(1)).saveAll(anyList());
+
+        // 같은 상태로 바꾸는 요청과 없는 주문은 이력을 남기지 않는다.
+        InOrder inOrder = inOrder(transactionManager, kafkaProducer);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(kafkaProducer, times(2)).sendOrderStatusChangelog(any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 실패하면 묶음 전체를 실패로 알리고 이력을 발행하지 않음")
+    void Input_TransactionFailure_Output_AllFailedAndNoChangelog() {
+        when(orderStatusEventRepository.saveAll(anyList())).thenThrow(new IllegalStateException("DB 오류"));
+
+        CompletableFuture<Void> first = batcher.submit(0, 1L, OrderStatus.PURCHASE_CONFIRM);
+        CompletableFuture<Void> second = batcher.submit(0, 2L, OrderStatus.PURCHASE_CONFIRM);
+
+        Assertions.assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        Assertions.assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        verify(kafkaProducer, never()).sendOrderStatusChangelog(any());
+    }
+
+    @Test
+    @DisplayName("종료 중에는 새 요청을 받지 않음")
+    void Input_AfterDestroy_Output_Rejected() throws InterruptedException {
+        batcher.destroy();
+
+        CompletableFuture<Void> result = batcher.submit(0, 1L, OrderStatus.PURCHASE_CONFIRM);
+
+        Assertions.assertTrue(result.isCompletedExceptionally());
+    }
+
+    private Order order(Long id, OrderStatus orderStatus) {
+        Order order = Order.builder()
+            .memberId(10L)
+            .orderStatus(orderStatus)
+            .orderDate(LocalDateTime.now())
+            .build();
+        ReflectionTestUtils.setField(order, "id", id);
+        return order;
+    }
+}
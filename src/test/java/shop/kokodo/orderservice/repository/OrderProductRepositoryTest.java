@@ -0,0 +1,146 @@
+package shop.kokodo.orderservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.kokodo.orderservice.config.JpaBatchConfig;
+import shop.kokodo.orderservice.dto.response.ProductSalesDto;
+import shop.kokodo.orderservice.entity.Order;
+import shop.kokodo.orderservice.entity.OrderProduct;
+import shop.kokodo.orderservice.entity.enums.status.OrderStatus;
+import shop.kokodo.orderservice.repository.interfaces.OrderProductRepository;
+
+@SpringBootTest(classes = OrderProductRepositoryTest.JpaConfig.class, properties = {
+    "spring.datasource.url=jdbc:h2:mem:order-product-sales;DB_CLOSE_DELAY=-1",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@DisplayName("[주문상품] 상품별 판매 집계 조회")
+class OrderProductRepositoryTest {
+
+    // 금주 (월요일 00:00:00 ~ 일요일 23:59:59)
+    static final LocalDateTime WEEK_START = LocalDateTime.of(2022, 11, 7, 0, 0, 0);
+    static final LocalDateTime WEEK_END = LocalDateTime.of(2022, 11, 13, 23, 59, 59);
+
+    @Configuration
+    @EntityScan(basePackageClasses = Order.class)
+    @EnableJpaRepositories(basePackageClasses = OrderProductRepository.class, includeFilters =
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = OrderProductRepository.class))
+    @Import(JpaBatchConfig.class)
+    @ImportAutoConfiguration({
+        DataSourceAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        TransactionAutoConfiguration.class
+    })
+    static class JpaConfig {
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM OrderProduct op").executeUpdate();
+            entityManager.createQuery("DELETE FROM Order o").executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("상품별로 수량, 금액(수량 * 단가), 주문 건수를 합산")
+    void Input_SeveralOrders_Output_SumsPerProduct() {
+        saveOrder(WEEK_START.plusDays(1), line(1L, 2, 1000), line(2L, 1, 5000));
+        saveOrder(WEEK_START.plusDays(2), line(1L, 3, 2000));
+
+        Map<Long, ProductSalesDto> sales = findSales(List.of(1L, 2L));
+
+        Assertions.assertEquals(5, sales.get(1L).getTotalQty());
+        Assertions.assertEquals(2 * 1000 + 3 * 2000, sales.get(1L).getTotalPrice());
+        Assertions.assertEquals(2, sales.get(1L).getOrderCount());
+        Assertions.assertEquals(1, sales.get(2L).getTotalQty());
+        Assertions.assertEquals(5000, sales.get(2L).getTotalPrice());
+        Assertions.assertEquals(1, sales.get(2L).getOrderCount());
+    }
+
+    @Test
+    @DisplayName("주 경계(월요일 00:00:00, 일요일 23:59:59)의 주문은 포함하고 바깥 주문은 제외")
+    void Input_OrdersAroundWeekBoundary_Output_OnlyThisWeek() {
+        saveOrder(WEEK_START.minusSeconds(1), line(1L, 100, 1000));
+        saveOrder(WEEK_START, line(1L, 1, 1000));
+        saveOrder(WEEK_END, line(1L, 2, 1000));
+        saveOrder(WEEK_END.plusSeconds(1), line(1L, 100, 1000));
+
+        Map<Long, ProductSalesDto> sales = findSales(List.of(1L));
+
+        Assertions.assertEquals(3, sales.get(1L).getTotalQty());
+        Assertions.assertEquals(2, sales.get(1L).getOrderCount());
+    }
+
+    @Test
+    @DisplayName("요청하지 않았거나 금주 판매가 없는 상품은 결과에 없음")
+    void Input_ProductWithoutSales_Output_Absent() {
+        saveOrder(WEEK_START.plusDays(1), line(1L, 1, 1000), line(3L, 1, 1000));
+
+        Map<Long, ProductSalesDto> sales = findSales(List.of(1L, 2L));
+
+        Assertions.assertEquals(1, sales.size());
+        Assertions.assertTrue(sales.containsKey(1L));
+    }
+
+    private Map<Long, ProductSalesDto> findSales(List<Long> productIds) {
+        return orderProductRepository.findProductSalesByProductIdIn(productIds, WEEK_START, WEEK_END).stream()
+            .collect(Collectors.toMap(ProductSalesDto::getProductId, Function.identity()));
+    }
+
+    private void saveOrder(LocalDateTime orderDate, OrderProduct... lines) {
+        List<OrderProduct> orderProducts = List.of(lines);
+        Order order = Order.builder()
+            .memberId(1L)
+            .deliveryMemberName("회원")
+            .deliveryMemberAddress("서울")
+            .totalPrice(orderProducts.stream().mapToInt(line -> line.getQty() * line.getUnitPrice()).sum())
+            .orderDate(orderDate)
+            .orderStatus(OrderStatus.ORDER_SUCCESS)
+            .orderProducts(orderProducts)
+            .lineCount(orderProducts.size())
+            .leadProductId(orderProducts.get(0).getProductId())
+            .build();
+        orderProducts.forEach(orderProduct -> orderProduct.setOrder(order));
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(order));
+    }
+
+    private OrderProduct line(Long productId, int qty, int unitPrice) {
+        return OrderProduct.builder()
+            .memberId(1L)
+            .productId(productId)
+            .qty(qty)
+            .unitPrice(unitPrice)
+            .build();
+    }
+}
@@ -0,0 +1,166 @@
+package shop.kokodo.orderservice.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.kokodo.orderservice.entity.IdempotencyKey;
+import shop.kokodo.orderservice.entity.Order;
+import shop.kokodo.orderservice.exception.api.ApiRequestException;
+import shop.kokodo.orderservice.message.ExceptionMessage;
+import shop.kokodo.orderservice.repository.interfaces.IdempotencyKeyRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderRepository;
+
+class IdempotencyServiceImplTest {
+
+    private static final String KEY = "checkout-1";
+    private static final Long MEMBER_ID = 1L;
+    private static final Long ORDER_ID = 100L;
+
+    // idempotency_key 테이블 (기본키 중복이면 DataIntegrityViolationException)
+    private final Map<String, IdempotencyKey> table = new ConcurrentHashMap<>();
+    private final IdempotencyKeyRepository idempotencyKeyRepository = mock(IdempotencyKeyRepository.class);
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final Order order = mock(Order.class);
+
+    @BeforeEach
+    void setUp() {
+        when(idempotencyKeyRepository.saveAndFlush(any())).thenAnswer(invocation -> {
+            IdempotencyKey key = invocation.getArgument(0);
+            if (table.putIfAbsent(key.getId(), key) != null) {
+                throw new DataIntegrityViolationException("duplicate key: " + key.getId());
+            }
+            return key;
+        });
+        when(idempotencyKeyRepository.findForUpdate(anyString()))
+            .thenAnswer(invocation -> Optional.ofNullable(table.get(invocation.<String>getArgument(0))));
+        doAnswer(invocation -> table.remove(invocation.<IdempotencyKey>getArgument(0).getId()))
+            .when(idempotencyKeyRepository).delete(any());
+
+        when(order.getId()).thenReturn(ORDER_ID);
+        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(order));
+    }
+
+    // 인스턴스마다 서비스 객체가 따로 있고 테이블만 공유한다.
+    private IdempotencyServiceImpl newInstance() {
+        return new IdempotencyServiceImpl(idempotencyKeyRepository, orderRepository,
+            new TransactionTemplate(transactionManager), transactionManager, 100, 60);
+    }
+
+    @Test
+    @DisplayName("같은 키 동시 요청은 여러 인스턴스에서 와도 한 요청만 주문 생성, 나머지는 처리 중 오류")
+    void Input_ConcurrentDuplicateKeys_Output_SingleOrder() throws Exception {
+        int requests = 8;
+        AtomicInteger created = new AtomicInteger();
+        CountDownLatch rejected = new CountDownLatch(requests - 1);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // 선점한 요청은 나머지 요청이 모두 거절될 때까지 주문 처리 중으로 머문다.
+        Supplier<Order> orderSupplier = () -> {
+            created.incrementAndGet();
+            try {
+                rejected.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return order;
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        List<Future<Order>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            IdempotencyServiceImpl instance = newInstance();
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    return instance.execute(KEY, MEMBER_ID, orderSupplier);
+                } catch (ApiRequestException e) {
+                    rejected.countDown();
+                    throw e;
+                }
+            }));
+        }
+        start.countDown();
+
+        int succeeded = 0;
+        int inProgress = 0;
+        for (Future<Order> future : futures) {
+            try {
+                Assertions.assertSame(order, future.get(10, TimeUnit.SECONDS));
+                succeeded++;
+            } catch (ExecutionException e) {
+                Assertions.assertEquals(ExceptionMessage.IDEMPOTENCY_KEY_IN_PROGRESS, e.getCause().getMessage());
+                inProgress++;
+            }
+        }
+        executor.shutdownNow();
+
+        Assertions.assertEquals(1, created.get());
+        Assertions.assertEquals(1, succeeded);
+        Assertions.assertEquals(requests - 1, inProgress);
+        Assertions.assertTrue(table.get(KEY).isCompleted());
+        Assertions.assertEquals(ORDER_ID, table.get(KEY).getOrderId());
+    }
+
+    @Test
+    @DisplayName("완료된 키로 재요청하면 주문을 다시 만들지 않고 최초 주문 반환 (다른 인스턴스 포함)")
+    void Input_CompletedKey_Output_ReplayedOrder() {
+        AtomicInteger created = new AtomicInteger();
+        Supplier<Order> orderSupplier = () -> {
+            created.incrementAndGet();
+            return order;
+        };
+
+        IdempotencyServiceImpl instance = newInstance();
+        Assertions.assertSame(order, instance.execute(KEY, MEMBER_ID, orderSupplier));
+        Assertions.assertSame(order, instance.execute(KEY, MEMBER_ID, orderSupplier));
+        Assertions.assertSame(order, newInstance().execute(KEY, MEMBER_ID, orderSupplier));
+
+        Assertions.assertEquals(1, created.get());
+    }
+
+    @Test
+    @DisplayName("다른 회원이 같은 키를 사용하면 오류")
+    void Input_OtherMembersKey_Output_Conflict() {
+        newInstance().execute(KEY, MEMBER_ID, () -> order);
+
+        ApiRequestException e = Assertions.assertThrows(ApiRequestException.class,
+            () -> newInstance().execute(KEY, 2L, () -> order));
+        Assertions.assertEquals(ExceptionMessage.IDEMPOTENCY_KEY_CONFLICT, e.getMessage());
+    }
+
+    @Test
+    @DisplayName("주문이 실패하면 선점을 풀어서 같은 키로 다시 주문 가능")
+    void Input_FailedOrder_Output_KeyReleased() {
+        IdempotencyServiceImpl instance = newInstance();
+        Assertions.assertThrows(IllegalStateException.class, () -> instance.execute(KEY, MEMBER_ID, () -> {
+            throw new IllegalStateException("product-service 장애");
+        }));
+        Assertions.assertFalse(table.containsKey(KEY));
+
+        Assertions.assertSame(order, instance.execute(KEY, MEMBER_ID, () -> order));
+    }
+}
@@ -0,0 +1,81 @@
+package shop.kokodo.orderservice.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.kokodo.orderservice.datasource.ShardTemplate;
+import shop.kokodo.orderservice.repository.interfaces.ArchivedOrderProductRepository;
+import shop.kokodo.orderservice.repository.interfaces.ArchivedOrderRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderProductRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderRepository;
+
+@DisplayName("[주문] 오래된 주문 보관 작업")
+class OrderArchiveServiceImplTest {
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderProductRepository orderProductRepository = mock(OrderProductRepository.class);
+    private final ArchivedOrderRepository archivedOrderRepository = mock(ArchivedOrderRepository.class);
+    private final ArchivedOrderProductRepository archivedOrderProductRepository = mock(ArchivedOrderProductRepository.class);
+
+    @SuppressWarnings("unchecked")
+    private final OrderArchiveServiceImpl orderArchiveService = new OrderArchiveServiceImpl(orderRepository,
+        orderProductRepository, archivedOrderRepository, archivedOrderProductRepository,
+        new ShardTemplate(mock(ObjectProvider.class)), new TransactionTemplate(mock(PlatformTransactionManager.class)),
+        180, 2, 0);
+
+    @Test
+    @DisplayName("청크 크기보다 적게 조회될 때까지 청크 단위로 보관")
+    void Input_ThreeOldOrders_Output_ArchivedInTwoChunks() {
+        when(orderRepository.findIdsByOrderDateBefore(any(), any()))
+            .thenReturn(List.of(1L, 2L))
+            .thenReturn(List.of(3L));
+
+        long archived = orderArchiveService.archiveOrders();
+
+        Assertions.assertEquals(3, archived);
+        verify(orderRepository, times(2)).findIdsByOrderDateBefore(any(), any());
+        verify(archivedOrderRepository).archiveAllByIdIn(List.of(1L, 2L));
+        verify(archivedOrderRepository).archiveAllByIdIn(List.of(3L));
+        verify(orderRepository).deleteAllByIdIn(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("보관 테이블에 복사한 뒤 주문상품, 주문 순서로 삭제")
+    void Input_OldOrders_Output_CopiedBeforeDeleted() {
+        when(orderRepository.findIdsByOrderDateBefore(any(), any())).thenReturn(List.of(1L));
+
+        orderArchiveService.archiveOrders();
+
+        InOrder inOrder = inOrder(archivedOrderRepository, archivedOrderProductRepository, orderProductRepository, orderRepository);
+        inOrder.verify(archivedOrderRepository).archiveAllByIdIn(List.of(1L));
+        inOrder.verify(archivedOrderProductRepository).archiveAllByOrderIdIn(List.of(1L));
+        inOrder.verify(orderProductRepository).deleteAllByOrderIdIn(List.of(1L));
+        inOrder.verify(orderRepository).deleteAllByIdIn(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("보관할 주문이 없으면 아무것도 옮기지 않음")
+    void Input_NoOldOrders_Output_NothingArchived() {
+        when(orderRepository.findIdsByOrderDateBefore(any(), any())).thenReturn(List.of());
+
+        long archived = orderArchiveService.archiveOrders();
+
+        Assertions.assertEquals(0, archived);
+        verify(archivedOrderRepository, never()).archiveAllByIdIn(anyList());
+        verify(orderRepository, never()).deleteAllByIdIn(anyList());
+    }
+}
@@ -0,0 +1,132 @@
+package shop.kokodo.orderservice.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.kokodo.orderservice.datasource.ShardTemplate;
+import shop.kokodo.orderservice.dto.response.OrderLineDto;
+import shop.kokodo.orderservice.entity.ArchivedOrder;
+import shop.kokodo.orderservice.entity.Order;
+import shop.kokodo.orderservice.entity.enums.status.OrderStatus;
+import shop.kokodo.orderservice.repository.interfaces.ArchivedOrderProductRepository;
+import shop.kokodo.orderservice.repository.interfaces.ArchivedOrderRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderProductRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderRepository;
+
+@DisplayName("[주문] 주문 요약 컬럼 채우기")
+class OrderLineSummaryBackfillServiceImplTest {
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderProductRepository orderProductRepository = mock(OrderProductRepository.class);
+    private final ArchivedOrderRepository archivedOrderRepository = mock(ArchivedOrderRepository.class);
+    private final ArchivedOrderProductRepository archivedOrderProductRepository = mock(ArchivedOrderProductRepository.class);
+
+    @SuppressWarnings("unchecked")
+    private final OrderLineSummaryBackfillServiceImpl backfillService = new OrderLineSummaryBackfillServiceImpl(
+        orderRepository, orderProductRepository, archivedOrderRepository, archivedOrderProductRepository,
+        new ShardTemplate(mock(ObjectProvider.class)), new TransactionTemplate(mock(PlatformTransactionManager.class)),
+        2, 0);
+
+    @BeforeEach
+    void setUp() {
+        when(orderRepository.findIdsByLineCountIsNull(any())).thenReturn(List.of());
+        when(archivedOrderRepository.findIdsByLineCountIsNull(any())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("주문상품 아이디 순서의 첫 상품을 대표상품으로, 주문상품 수를 개수로 채움")
+    void Input_OrderWithLines_Output_LineCountAndLeadProduct() {
+        Order order = order(1L);
+        when(orderRepository.findIdsByLineCountIsNull(any())).thenReturn(List.of(1L));
+        when(orderProductRepository.findLinesByOrderIdIn(List.of(1L)))
+            .thenReturn(List.of(line(1L, 12L), line(1L, 11L), line(1L, 13L)));
+        when(orderRepository.findAllById(List.of(1L))).thenReturn(List.of(order));
+
+        long filled = backfillService.backfill();
+
+        Assertions.assertEquals(1, filled);
+        Assertions.assertEquals(3, order.getLineCount());
+        Assertions.assertEquals(12L, order.getLeadProductId());
+    }
+
+    @Test
+    @DisplayName("주문상품이 없는 주문은 개수 0 으로 채워서 다시 고르지 않음")
+    void Input_OrderWithoutLines_Output_ZeroLineCount() {
+        Order order = order(1L);
+        when(orderRepository.findIdsByLineCountIsNull(any())).thenReturn(List.of(1L));
+        when(orderProductRepository.findLinesByOrderIdIn(List.of(1L))).thenReturn(List.of());
+        when(orderRepository.findAllById(List.of(1L))).thenReturn(List.of(order));
+
+        backfillService.backfill();
+
+        Assertions.assertEquals(0, order.getLineCount());
+        Assertions.assertNull(order.getLeadProductId());
+    }
+
+    @Test
+    @DisplayName("보관 주문도 보관 주문상품으로 채움")
+    void Input_ArchivedOrder_Output_FilledFromArchivedLines() {
+        ArchivedOrder archivedOrder = new ArchivedOrder();
+        ReflectionTestUtils.setField(archivedOrder, "id", 5L);
+        when(archivedOrderRepository.findIdsByLineCountIsNull(any())).thenReturn(List.of(5L));
+        when(archivedOrderProductRepository.findLinesByOrderIdIn(List.of(5L))).thenReturn(List.of(line(5L, 21L), line(5L, 22L)));
+        when(archivedOrderRepository.findAllById(List.of(5L))).thenReturn(List.of(archivedOrder));
+
+        long filled = backfillService.backfill();
+
+        Assertions.assertEquals(1, filled);
+        Assertions.assertEquals(2, archivedOrder.getLineCount());
+        Assertions.assertEquals(21L, archivedOrder.getLeadProductId());
+        verify(orderProductRepository, never()).findLinesByOrderIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("청크 크기보다 적게 조회될 때까지 청크 단위로 채움")
+    void Input_ThreePendingOrders_Output_FilledInTwoChunks() {
+        when(orderRepository.findIdsByLineCountIsNull(any()))
+            .thenReturn(List.of(1L, 2L))
+            .thenReturn(List.of(3L));
+        when(orderProductRepository.findLinesByOrderIdIn(anyList())).thenReturn(List.of());
+        when(orderRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(order(1L), order(2L)));
+        when(orderRepository.findAllById(List.of(3L))).thenReturn(List.of(order(3L)));
+
+        long filled = backfillService.backfill();
+
+        Assertions.assertEquals(3, filled);
+        verify(orderRepository, times(2)).findIdsByLineCountIsNull(any());
+    }
+
+    private Order order(Long id) {
+        Order order = Order.builder().memberId(1L).orderStatus(OrderStatus.ORDER_SUCCESS).build();
+        ReflectionTestUtils.setField(order, "id", id);
+        return order;
+    }
+
+    private OrderLineDto line(Long orderId, Long productId) {
+        return new OrderLineDto() {
+            @Override
+            public Long getOrderId() {
+                return orderId;
+            }
+
+            @Override
+            public Long getProductId() {
+                return productId;
+            }
+        };
+    }
+}
@@ -0,0 +1,215 @@
+package shop.kokodo.orderservice.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import shop.kokodo.orderservice.datasource.InQueryTemplate;
+import shop.kokodo.orderservice.datasource.ReadYourWritesWindow;
+import shop.kokodo.orderservice.datasource.ShardTemplate;
+import shop.kokodo.orderservice.dto.response.OrderInformationDto;
+import shop.kokodo.orderservice.dto.response.PagingOrderInformationDto;
+import shop.kokodo.orderservice.entity.ArchivedOrder;
+import shop.kokodo.orderservice.entity.Order;
+import shop.kokodo.orderservice.entity.QArchivedOrder;
+import shop.kokodo.orderservice.entity.enums.status.OrderStatus;
+import shop.kokodo.orderservice.feign.client.MemberServiceClient;
+import shop.kokodo.orderservice.feign.client.ProductServiceClient;
+import shop.kokodo.orderservice.feign.client.PromotionServiceClient;
+import shop.kokodo.orderservice.feign.hedge.HedgedExecutor;
+import shop.kokodo.orderservice.feign.response.ProductThumbnailDto;
+import shop.kokodo.orderservice.feign.replica.ProductLastKnownGood;
+import shop.kokodo.orderservice.feign.replica.PromotionPolicyReplica;
+import shop.kokodo.orderservice.feign.replica.Snapshot;
+import shop.kokodo.orderservice.kafka.KafkaProducer;
+import shop.kokodo.orderservice.repository.interfaces.ArchivedOrderProductRepository;
+import shop.kokodo.orderservice.repository.interfaces.ArchivedOrderRepository;
+import shop.kokodo.orderservice.repository.interfaces.CartRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderProductRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderStatusEventRepository;
+import shop.kokodo.orderservice.service.utils.OrderQuoteStore;
+import shop.kokodo.orderservice.service.utils.ProductPriceCalculator;
+
+@DisplayName("[주문] 운영/보관 주문 목록 페이징")
+class OrderServiceImplHistoryTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final int PAGE_SIZE = 5;
+    private static final long HOT_COUNT = 7;
+    private static final long ARCHIVED_COUNT = 10;
+    // 주문상품이 3개인 운영 주문 (나머지는 1개)
+    private static final long MULTI_LINE_ORDER_INDEX = 1;
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final ArchivedOrderRepository archivedOrderRepository = mock(ArchivedOrderRepository.class);
+    private final ProductLastKnownGood productLastKnownGood = mock(ProductLastKnownGood.class);
+    private final JPAQueryFactory jpaQueryFactory = mock(JPAQueryFactory.class);
+    private final InQueryTemplate inQueryTemplate = new InQueryTemplate(512, 1);
+
+    @SuppressWarnings("unchecked")
+    private final JPAQuery<ArchivedOrder> archiveQuery = mock(JPAQuery.class, RETURNS_SELF);
+
+    private OrderServiceImpl orderService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(orderRepository.findAllByMemberIdOrderByOrderDateDesc(eq(MEMBER_ID), any())).thenAnswer(invocation -> {
+            PageRequest pageable = invocation.getArgument(1);
+            long from = Math.min(HOT_COUNT, pageable.getOffset());
+            long to = Math.min(HOT_COUNT, pageable.getOffset() + pageable.getPageSize());
+            List<Order> content = LongStream.range(from, to).mapToObj(this::order).collect(Collectors.toList());
+            return new PageImpl<>(content, pageable, HOT_COUNT);
+        });
+        when(archivedOrderRepository.countByMemberId(MEMBER_ID)).thenReturn(ARCHIVED_COUNT);
+        when(jpaQueryFactory.selectFrom(QArchivedOrder.archivedOrder)).thenReturn(archiveQuery);
+        when(productLastKnownGood.getProductListMap(anyList())).thenReturn(Snapshot.fresh(Map.of()));
+
+        orderService = new OrderServiceImpl(orderRepository, mock(CartRepository.class), mock(ProductServiceClient.class),
+            mock(MemberServiceClient.class), mock(OrderProductRepository.class), archivedOrderRepository,
+            mock(ArchivedOrderProductRepository.class), mock(OrderStatusEventRepository.class), mock(PromotionServiceClient.class),
+            mock(PromotionPolicyReplica.class), productLastKnownGood, HedgedExecutor.direct(), new ProductPriceCalculator(),
+            new OrderQuoteStore(100, 300), jpaQueryFactory, mock(KafkaProducer.class), new ReadYourWritesWindow(5000, 100),
+            new ShardTemplate(mock(ObjectProvider.class)), inQueryTemplate, mock(PlatformTransactionManager.class), ZoneId.of("Asia/Seoul"), 100, 600, 100, 600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        inQueryTemplate.destroy();
+    }
+
+    @Test
+    @DisplayName("운영 주문으로 채워진 페이지는 보관 주문을 조회하지 않고 개수만 캐시해서 사용")
+    void Input_HotPage_Output_ArchivedCountCached() {
+        PagingOrderInformationDto first = orderService.getOrderList(MEMBER_ID, 0);
+        PagingOrderInformationDto second = orderService.getOrderList(MEMBER_ID, 0);
+
+        Assertions.assertEquals(HOT_COUNT + ARCHIVED_COUNT, first.getTotalCount());
+        Assertions.assertEquals(HOT_COUNT + ARCHIVED_COUNT, second.getTotalCount());
+        verify(archivedOrderRepository, times(1)).countByMemberId(MEMBER_ID);
+        verify(jpaQueryFactory, never()).selectFrom(any());
+    }
+
+    @Test
+    @DisplayName("운영/보관 경계 페이지가 마지막 페이지면 보관 주문 개수를 세지 않음")
+    void Input_LastBoundaryPage_Output_CountFromContent() {
+        when(archiveQuery.fetch()).thenReturn(archivedOrders(100, 2));
+
+        PagingOrderInformationDto boundary = orderService.getOrderList(MEMBER_ID, 1);
+        PagingOrderInformationDto first = orderService.getOrderList(MEMBER_ID, 0);
+
+        Assertions.assertEquals(HOT_COUNT + 2, boundary.getTotalCount());
+        Assertions.assertEquals(HOT_COUNT + 2, first.getTotalCount());
+        verify(archiveQuery).offset(0L);
+        verify(archiveQuery).limit(3L);
+        verify(archivedOrderRepository, never()).countByMemberId(anyLong());
+    }
+
+    @Test
+    @DisplayName("운영/보관 경계 페이지 뒤에 보관 주문이 더 있으면 개수를 셈")
+    void Input_FullBoundaryPage_Output_ArchivedCounted() {
+        when(archiveQuery.fetch()).thenReturn(archivedOrders(100, 3));
+
+        PagingOrderInformationDto boundary = orderService.getOrderList(MEMBER_ID, 1);
+
+        Assertions.assertEquals(HOT_COUNT + ARCHIVED_COUNT, boundary.getTotalCount());
+        verify(archivedOrderRepository, times(1)).countByMemberId(MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("보관 주문만 있는 페이지는 운영 주문 수를 뺀 위치부터 조회")
+    void Input_ArchivePage_Output_OffsetShiftedByHotCount() {
+        when(archiveQuery.fetch()).thenReturn(archivedOrders(100, 2));
+
+        PagingOrderInformationDto archivePage = orderService.getOrderList(MEMBER_ID, 3);
+
+        // 15 - 7 = 8 번째 보관 주문부터 2건 (마지막 페이지)
+        Assertions.assertEquals(HOT_COUNT + 8 + 2, archivePage.getTotalCount());
+        verify(archiveQuery).offset(8L);
+        verify(archiveQuery).limit((long) PAGE_SIZE);
+        verify(archivedOrderRepository, never()).countByMemberId(anyLong());
+    }
+
+    @Test
+    @DisplayName("마지막 페이지를 넘어서면 보관 주문 개수를 셈")
+    void Input_PageBeyondEnd_Output_ArchivedCounted() {
+        when(archiveQuery.fetch()).thenReturn(List.of());
+
+        PagingOrderInformationDto beyond = orderService.getOrderList(MEMBER_ID, 10);
+
+        Assertions.assertEquals(HOT_COUNT + ARCHIVED_COUNT, beyond.getTotalCount());
+        Assertions.assertTrue(beyond.getOrderInformationDtoList().isEmpty());
+        verify(archivedOrderRepository, times(1)).countByMemberId(MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("상품 서비스 장애로 캐시에도 없는 상품의 주문은 이름/썸네일 없이 stale 로 표시")
+    void Input_StaleSnapshotWithUnknownProducts_Output_AllOrdersListed() {
+        when(productLastKnownGood.getProductListMap(anyList()))
+            .thenReturn(Snapshot.stale(Map.of(0L, new ProductThumbnailDto(0L, "상품0", null, "thumbnail0"))));
+
+        PagingOrderInformationDto page = orderService.getOrderList(MEMBER_ID, 0);
+
+        List<OrderInformationDto> orders = page.getOrderInformationDtoList();
+        Assertions.assertTrue(page.isStale());
+        Assertions.assertEquals(PAGE_SIZE, orders.size());
+        Assertions.assertEquals("상품0", orders.get(0).getName());
+        Assertions.assertEquals("thumbnail0", orders.get(0).getThumbnail());
+        Assertions.assertEquals("외 2건", orders.get((int) MULTI_LINE_ORDER_INDEX).getName());
+        Assertions.assertNull(orders.get((int) MULTI_LINE_ORDER_INDEX).getThumbnail());
+        Assertions.assertNull(orders.get(2).getName());
+        Assertions.assertEquals(3L, orders.get(2).getOrderId());
+    }
+
+    private Order order(long index) {
+        Order order = Order.builder()
+            .memberId(MEMBER_ID)
+            .orderStatus(OrderStatus.ORDER_SUCCESS)
+            .orderDate(LocalDateTime.now().minusDays(index))
+            .totalPrice(10000)
+            .lineCount(index == MULTI_LINE_ORDER_INDEX ? 3 : 1)
+            .leadProductId(index)
+            .build();
+        ReflectionTestUtils.setField(order, "id", index + 1);
+        return order;
+    }
+
+    private List<ArchivedOrder> archivedOrders(long firstId, int size) {
+        List<ArchivedOrder> archivedOrders = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            ArchivedOrder archivedOrder = new ArchivedOrder();
+            ReflectionTestUtils.setField(archivedOrder, "id", firstId + i);
+            ReflectionTestUtils.setField(archivedOrder, "totalPrice", 10000);
+            archivedOrder.summarizeLines(1, firstId + i);
+            archivedOrders.add(archivedOrder);
+        }
+        return archivedOrders;
+    }
+}
@@ -0,0 +1,174 @@
+package shop.kokodo.orderservice.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import shop.kokodo.orderservice.datasource.InQueryTemplate;
+import shop.kokodo.orderservice.datasource.ReadYourWritesWindow;
+import shop.kokodo.orderservice.datasource.ShardTemplate;
+import shop.kokodo.orderservice.dto.request.CartOrderDto;
+import shop.kokodo.orderservice.entity.Cart;
+import shop.kokodo.orderservice.entity.Order;
+import shop.kokodo.orderservice.entity.enums.status.CartStatus;
+import shop.kokodo.orderservice.feign.client.MemberServiceClient;
+import shop.kokodo.orderservice.feign.client.ProductServiceClient;
+import shop.kokodo.orderservice.feign.client.PromotionServiceClient;
+import shop.kokodo.orderservice.feign.hedge.HedgedExecutor;
+import shop.kokodo.orderservice.feign.replica.ProductLastKnownGood;
+import shop.kokodo.orderservice.feign.replica.PromotionPolicyReplica;
+import shop.kokodo.orderservice.feign.response.OrderMemberDto;
+import shop.kokodo.orderservice.feign.response.OrderProductDto;
+import shop.kokodo.orderservice.feign.response.RateCouponDto;
+import shop.kokodo.orderservice.kafka.KafkaProducer;
+import shop.kokodo.orderservice.repository.interfaces.ArchivedOrderProductRepository;
+import shop.kokodo.orderservice.repository.interfaces.ArchivedOrderRepository;
+import shop.kokodo.orderservice.repository.interfaces.CartRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderProductRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderStatusEventRepository;
+import shop.kokodo.orderservice.service.utils.OrderQuoteStore;
+import shop.kokodo.orderservice.service.utils.ProductPriceCalculator;
+
+@DisplayName("[주문] 장바구니 견적 재사용")
+class OrderServiceImplQuoteTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long RATE_COUPON_ID = 7L;
+    // 상품 11: 10000원 x 2, 상품 12: 5000원 x 1, 판매자별 배송비 3000원, 상품 11 에 10% 쿠폰
+    private static final int QUOTED_TOTAL_PRICE = 25000 - 2000 + 6000;
+    private static final int TOTAL_PRICE_WITHOUT_COUPON = 25000 + 6000;
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final CartRepository cartRepository = mock(CartRepository.class);
+    private final ProductServiceClient productServiceClient = mock(ProductServiceClient.class);
+    private final MemberServiceClient memberServiceClient = mock(MemberServiceClient.class);
+    private final PromotionServiceClient promotionServiceClient = mock(PromotionServiceClient.class);
+    private final PromotionPolicyReplica promotionPolicyReplica = mock(PromotionPolicyReplica.class);
+    private final OrderStatusEventRepository orderStatusEventRepository = mock(OrderStatusEventRepository.class);
+    private final InQueryTemplate inQueryTemplate = new InQueryTemplate(512, 1);
+
+    private List<Cart> carts;
+    private OrderServiceImpl orderService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        carts = List.of(
+            Cart.create(1L, MEMBER_ID, 11L, 2, CartStatus.IN_CART),
+            Cart.create(2L, MEMBER_ID, 12L, 1, CartStatus.IN_CART));
+        when(cartRepository.findByIdIn(anyList())).thenAnswer(invocation -> carts);
+        when(productServiceClient.getCartOrderProduct(anyList())).thenReturn(Map.of(
+            11L, new OrderProductDto(11L, 10000, 100L),
+            12L, new OrderProductDto(12L, 5000, 200L)));
+        when(promotionPolicyReplica.getRateDiscountPolicy(anyList())).thenReturn(Map.of());
+        when(promotionPolicyReplica.getFixDiscountPolicyStatus(anyList(), anyList())).thenReturn(Map.of(100L, false, 200L, false));
+        when(promotionServiceClient.findRateCouponByCouponIdList(List.of(RATE_COUPON_ID))).thenReturn(Map.of(11L, rateCoupon(10)));
+        when(promotionServiceClient.findFixCouponByCouponIdList(anyList())).thenReturn(List.of());
+        when(memberServiceClient.getOrderMember(anyLong())).thenReturn(new OrderMemberDto("서울", "회원"));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderStatusEventRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        orderService = new OrderServiceImpl(orderRepository, cartRepository, productServiceClient, memberServiceClient,
+            mock(OrderProductRepository.class), mock(ArchivedOrderRepository.class), mock(ArchivedOrderProductRepository.class),
+            orderStatusEventRepository, promotionServiceClient, promotionPolicyReplica, mock(ProductLastKnownGood.class),
+            HedgedExecutor.direct(), new ProductPriceCalculator(), new OrderQuoteStore(100, 300), mock(JPAQueryFactory.class),
+            mock(KafkaProducer.class), new ReadYourWritesWindow(5000, 100), new ShardTemplate(mock(ObjectProvider.class)),
+            inQueryTemplate, mock(PlatformTransactionManager.class), ZoneId.of("Asia/Seoul"), 100, 600, 100, 600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        inQueryTemplate.destroy();
+    }
+
+    @Test
+    @DisplayName("장바구니와 쿠폰이 견적 당시와 같으면 상품을 다시 조회하지 않고 견적 금액으로 주문")
+    void Input_UnchangedQuote_Output_QuoteReused() {
+        String quoteToken = orderService.quoteCartProducts(order(List.of(RATE_COUPON_ID), null)).getQuoteToken();
+
+        Order order = orderService.orderCartProducts(order(List.of(RATE_COUPON_ID), quoteToken));
+
+        Assertions.assertEquals(QUOTED_TOTAL_PRICE, order.getTotalPrice());
+        verify(productServiceClient, times(1)).getCartOrderProduct(anyList());
+        // 쿠폰만 다시 확인 (견적 1번 + 주문 1번)
+        verify(promotionServiceClient, times(2)).findRateCouponByCouponIdList(List.of(RATE_COUPON_ID));
+    }
+
+    @Test
+    @DisplayName("견적 이후 쿠폰이 사용되면 견적을 버리고 쿠폰 없이 다시 계산")
+    void Input_CouponUsedAfterQuote_Output_Recalculated() {
+        String quoteToken = orderService.quoteCartProducts(order(List.of(RATE_COUPON_ID), null)).getQuoteToken();
+        // 사용한 쿠폰은 조회 결과에서 빠진다.
+        when(promotionServiceClient.findRateCouponByCouponIdList(List.of(RATE_COUPON_ID))).thenReturn(Map.of());
+
+        Order order = orderService.orderCartProducts(order(List.of(RATE_COUPON_ID), quoteToken));
+
+        Assertions.assertEquals(TOTAL_PRICE_WITHOUT_COUPON, order.getTotalPrice());
+        verify(productServiceClient, times(2)).getCartOrderProduct(anyList());
+    }
+
+    @Test
+    @DisplayName("견적 이후 쿠폰 할인율이 바뀌면 다시 계산")
+    void Input_CouponRateChanged_Output_Recalculated() {
+        String quoteToken = orderService.quoteCartProducts(order(List.of(RATE_COUPON_ID), null)).getQuoteToken();
+        when(promotionServiceClient.findRateCouponByCouponIdList(List.of(RATE_COUPON_ID))).thenReturn(Map.of(11L, rateCoupon(20)));
+
+        Order order = orderService.orderCartProducts(order(List.of(RATE_COUPON_ID), quoteToken));
+
+        Assertions.assertEquals(25000 - 4000 + 6000, order.getTotalPrice());
+        verify(productServiceClient, times(2)).getCartOrderProduct(anyList());
+    }
+
+    @Test
+    @DisplayName("견적 이후 장바구니 수량이 바뀌면 다시 계산")
+    void Input_CartChanged_Output_Recalculated() {
+        String quoteToken = orderService.quoteCartProducts(order(List.of(RATE_COUPON_ID), null)).getQuoteToken();
+        carts = List.of(
+            Cart.create(1L, MEMBER_ID, 11L, 3, CartStatus.IN_CART),
+            Cart.create(2L, MEMBER_ID, 12L, 1, CartStatus.IN_CART));
+
+        Order order = orderService.orderCartProducts(order(List.of(RATE_COUPON_ID), quoteToken));
+
+        Assertions.assertEquals(35000 - 3000 + 6000, order.getTotalPrice());
+        verify(productServiceClient, times(2)).getCartOrderProduct(anyList());
+    }
+
+    @Test
+    @DisplayName("견적과 다른 쿠폰 목록으로 주문하면 다시 계산")
+    void Input_DifferentCoupons_Output_Recalculated() {
+        String quoteToken = orderService.quoteCartProducts(order(List.of(RATE_COUPON_ID), null)).getQuoteToken();
+        when(promotionServiceClient.findRateCouponByCouponIdList(List.of())).thenReturn(Map.of());
+
+        Order order = orderService.orderCartProducts(order(List.of(), quoteToken));
+
+        Assertions.assertEquals(TOTAL_PRICE_WITHOUT_COUPON, order.getTotalPrice());
+        verify(productServiceClient, times(2)).getCartOrderProduct(anyList());
+    }
+
+    private CartOrderDto order(List<Long> rateCouponIds, String quoteToken) {
+        return new CartOrderDto(MEMBER_ID, List.of(1L, 2L), rateCouponIds, List.of(), quoteToken);
+    }
+
+    private RateCouponDto rateCoupon(int rate) {
+        RateCouponDto rateCoupon = new RateCouponDto(RATE_COUPON_ID, "10% 쿠폰");
+        rateCoupon.setRate(rate);
+        rateCoupon.setProductId(11L);
+        return rateCoupon;
+    }
+}
@@ -0,0 +1,133 @@
+package shop.kokodo.orderservice.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import shop.kokodo.orderservice.datasource.InQueryTemplate;
+import shop.kokodo.orderservice.datasource.ReadYourWritesWindow;
+import shop.kokodo.orderservice.datasource.ReplicationRoutingDataSource;
+import shop.kokodo.orderservice.datasource.ShardTemplate;
+import shop.kokodo.orderservice.dto.response.ProductSalesDto;
+import shop.kokodo.orderservice.feign.client.MemberServiceClient;
+import shop.kokodo.orderservice.feign.client.ProductServiceClient;
+import shop.kokodo.orderservice.feign.client.PromotionServiceClient;
+import shop.kokodo.orderservice.feign.hedge.HedgedExecutor;
+import shop.kokodo.orderservice.feign.replica.ProductLastKnownGood;
+import shop.kokodo.orderservice.feign.replica.PromotionPolicyReplica;
+import shop.kokodo.orderservice.kafka.KafkaProducer;
+import shop.kokodo.orderservice.repository.interfaces.ArchivedOrderProductRepository;
+import shop.kokodo.orderservice.repository.interfaces.ArchivedOrderRepository;
+import shop.kokodo.orderservice.repository.interfaces.CartRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderProductRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderStatusEventRepository;
+import shop.kokodo.orderservice.service.utils.OrderQuoteStore;
+import shop.kokodo.orderservice.service.utils.ProductPriceCalculator;
+
+@DisplayName("[주문] 주간 상품 판매 집계")
+class OrderServiceImplReportTest {
+
+    static final String NODE_QUERY = "SELECT name FROM node";
+
+    private final OrderProductRepository orderProductRepository = mock(OrderProductRepository.class);
+    private final InQueryTemplate inQueryTemplate = new InQueryTemplate(512, 1);
+    private final List<String> queriedNodes = new ArrayList<>();
+    private List<ProductSalesDto> sales = new ArrayList<>();
+
+    private OrderServiceImpl orderService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(h2("primary"), h2("replica")));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // 집계 쿼리 대신 어느 노드에서 실행됐는지 기록
+        when(orderProductRepository.findProductSalesByProductIdIn(anyList(), any(), any())).thenAnswer(invocation -> {
+            queriedNodes.add(jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+            return sales;
+        });
+
+        orderService = new OrderServiceImpl(mock(OrderRepository.class), mock(CartRepository.class), mock(ProductServiceClient.class),
+            mock(MemberServiceClient.class), orderProductRepository, mock(ArchivedOrderRepository.class),
+            mock(ArchivedOrderProductRepository.class), mock(OrderStatusEventRepository.class), mock(PromotionServiceClient.class),
+            mock(PromotionPolicyReplica.class), mock(ProductLastKnownGood.class), HedgedExecutor.direct(), new ProductPriceCalculator(),
+            new OrderQuoteStore(100, 300), mock(JPAQueryFactory.class), mock(KafkaProducer.class), new ReadYourWritesWindow(5000, 100),
+            new ShardTemplate(mock(ObjectProvider.class)), inQueryTemplate, new DataSourceTransactionManager(dataSource),
+            ZoneId.of("Asia/Seoul"), 100, 600, 100, 600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        inQueryTemplate.destroy();
+    }
+
+    @Test
+    @DisplayName("주간 판매 집계는 레플리카에서 조회")
+    void Input_WeeklyProductSales_Output_Replica() {
+        orderService.getWeeklyProductSales(List.of(1L, 2L));
+        orderService.getProductAllPrice(List.of(1L, 2L));
+
+        Assertions.assertEquals(List.of("replica", "replica"), queriedNodes);
+    }
+
+    @Test
+    @DisplayName("평균 단가는 판매 금액 합계 / 판매 수량 합계, 판매 수량이 0 이면 0")
+    void Input_ProductSales_Output_WeightedAverageUnitPrice() {
+        sales = List.of(
+            new ProductSalesDto(1L, 5L, 2 * 1000L + 3 * 2000L, 2L),
+            new ProductSalesDto(2L, 0L, 0L, 0L));
+
+        Map<Long, List<Integer>> prices = orderService.getProductAllPrice(List.of(1L, 2L));
+
+        Assertions.assertEquals(List.of(1600, 5), prices.get(1L));
+        Assertions.assertEquals(List.of(0, 0), prices.get(2L));
+    }
+
+    @Test
+    @DisplayName("금주는 order.report.zone-id 기준 월요일 00:00:00 ~ 일요일 23:59:59")
+    void Input_ReportZone_Output_MondayToSunday() {
+        LocalDateTime start = orderService.getDate("start");
+        LocalDateTime end = orderService.getDate("end");
+
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        Assertions.assertEquals(DayOfWeek.MONDAY, start.getDayOfWeek());
+        Assertions.assertEquals(LocalTime.MIDNIGHT, start.toLocalTime());
+        Assertions.assertEquals(start.plusDays(7).minusSeconds(1), end);
+        Assertions.assertFalse(today.isBefore(start.toLocalDate()));
+        Assertions.assertFalse(today.isAfter(end.toLocalDate()));
+    }
+
+    private DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:report-" + name + ";DB_CLOSE_DELAY=-1");
+
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("DROP TABLE IF EXISTS node");
+        template.execute("CREATE TABLE node (name VARCHAR(20))");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,158 @@
+package shop.kokodo.orderservice.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.kokodo.orderservice.datasource.ShardTemplate;
+import shop.kokodo.orderservice.entity.Order;
+import shop.kokodo.orderservice.entity.OrderStatusEvent;
+import shop.kokodo.orderservice.entity.enums.status.OrderStatus;
+import shop.kokodo.orderservice.kafka.KafkaProducer;
+import shop.kokodo.orderservice.repository.interfaces.OrderRepository;
+import shop.kokodo.orderservice.repository.interfaces.OrderStatusEventRepository;
+
+@DisplayName("[주문 상태 이력 재생]")
+class OrderStatusReplayServiceImplTest {
+
+    private final OrderStatusEventRepository orderStatusEventRepository = mock(OrderStatusEventRepository.class);
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final KafkaProducer kafkaProducer = mock(KafkaProducer.class);
+
+    private Map<Long, Order> orders;
+    private List<OrderStatusEvent> events;
+    private OrderStatusReplayServiceImpl orderStatusReplayService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // 1번 주문은 스냅샷이 이력보다 뒤처져 있고, 3번 주문은 보관되어 스냅샷이 없다.
+        orders = Map.of(
+            1L, order(1L, OrderStatus.ORDER_SUCCESS),
+            2L, order(2L, OrderStatus.ORDER_SUCCESS));
+        events = List.of(
+            event(11L, 1L, OrderStatus.ORDER_SUCCESS),
+            event(12L, 1L, OrderStatus.PURCHASE_CONFIRM),
+            event(13L, 2L, OrderStatus.ORDER_SUCCESS),
+            event(14L, 3L, OrderStatus.REFUND_PROCESS));
+
+        when(orderStatusEventRepository.findAllByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long cursor = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            return events.stream()
+                .filter(event -> event.getId() > cursor)
+                .limit(pageable.getPageSize())
+                .collect(Collectors.toList());
+        });
+        when(orderStatusEventRepository.findLatestIdsByOrderIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> orderIds = invocation.getArgument(0);
+            return events.stream()
+                .filter(event -> orderIds.contains(event.getOrderId()))
+                .collect(Collectors.toMap(OrderStatusEvent::getOrderId, OrderStatusEvent::getId, Math::max))
+                .values().stream()
+                .collect(Collectors.toList());
+        });
+        when(orderRepository.findAllById(anyIterable())).thenAnswer(invocation ->
+            StreamSupport.stream(invocation.<Iterable<Long>>getArgument(0).spliterator(), false)
+                .filter(orders::containsKey)
+                .map(orders::get)
+                .collect(Collectors.toList()));
+
+        orderStatusReplayService = new OrderStatusReplayServiceImpl(orderStatusEventRepository, orderRepository, kafkaProducer,
+            new ShardTemplate(mock(ObjectProvider.class)), new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    @DisplayName("청크마다 주문별 마지막 상태만 발행하고 이력 전체를 읽음")
+    void Input_Events_Output_LatestPerOrderPublished() {
+        long replayed = orderStatusReplayService.replay(2);
+
+        Assertions.assertEquals(4, replayed);
+        ArgumentCaptor<OrderStatusEvent> captor = ArgumentCaptor.forClass(OrderStatusEvent.class);
+        verify(kafkaProducer, times(3)).sendOrderStatusChangelog(captor.capture());
+        Assertions.assertEquals(List.of(12L, 13L, 14L),
+            captor.getAllValues().stream().map(OrderStatusEvent::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("이력과 다른 주문 상태 스냅샷을 새 이력 없이 복구")
+    void Input_DriftedSnapshot_Output_Restored() {
+        orderStatusReplayService.replay(10);
+
+        Assertions.assertEquals(OrderStatus.PURCHASE_CONFIRM, orders.get(1L).getOrderStatus());
+        Assertions.assertEquals(OrderStatus.ORDER_SUCCESS, orders.get(2L).getOrderStatus());
+        verify(orderStatusEventRepository, never()).save(any());
+        verify(orderStatusEventRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("한 주문의 이력이 두 청크에 걸치면 중간 상태로 고치지 않고 마지막 상태로 복구")
+    void Input_EventsSpanningChunks_Output_RestoredToGlobalLatest() {
+        // 1번 주문은 이미 마지막 상태(PURCHASE_CONFIRM)이고, 이력은 11~12 / 13 두 청크에 나뉜다.
+        orders = Map.of(1L, order(1L, OrderStatus.PURCHASE_CONFIRM));
+        events = List.of(
+            event(11L, 1L, OrderStatus.ORDER_SUCCESS),
+            event(12L, 1L, OrderStatus.PURCHASE_CONFIRM),
+            event(13L, 2L, OrderStatus.ORDER_SUCCESS));
+        Order order = orders.get(1L);
+        // 청크 트랜잭션이 끝날 때마다 (changelog 발행 시점) 커밋된 스냅샷 상태를 기록
+        List<OrderStatus> committed = new ArrayList<>();
+        doAnswer(invocation -> committed.add(order.getOrderStatus()))
+            .when(kafkaProducer).sendOrderStatusChangelog(any());
+
+        orderStatusReplayService.replay(1);
+
+        Assertions.assertEquals(List.of(OrderStatus.PURCHASE_CONFIRM, OrderStatus.PURCHASE_CONFIRM, OrderStatus.PURCHASE_CONFIRM),
+            committed);
+        Assertions.assertEquals(OrderStatus.PURCHASE_CONFIRM, order.getOrderStatus());
+    }
+
+    @Test
+    @DisplayName("이력이 없으면 아무것도 발행하지 않음")
+    void Input_NoEvents_Output_NothingPublished() {
+        events = List.of();
+
+        Assertions.assertEquals(0, orderStatusReplayService.replay(10));
+        verify(kafkaProducer, never()).sendOrderStatusChangelog(any());
+    }
+
+    private Order order(Long id, OrderStatus orderStatus) {
+        Order order = Order.builder()
+            .memberId(10L)
+            .orderStatus(orderStatus)
+            .orderDate(LocalDateTime.now())
+            .build();
+        ReflectionTestUtils.setField(order, "id", id);
+        return order;
+    }
+
+    private OrderStatusEvent event(Long id, Long orderId, OrderStatus toStatus) {
+        OrderStatusEvent event = OrderStatusEvent.create(order(orderId, toStatus), null);
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
@@ -0,0 +1,230 @@
+package shop.kokodo.orderservice.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.kokodo.orderservice.datasource.ReadYourWritesWindow;
+import shop.kokodo.orderservice.datasource.ShardTemplate;
+import shop.kokodo.orderservice.dto.request.SingleProductOrderDto;
+import shop.kokodo.orderservice.dto.response.OrderTicketDto;
+import shop.kokodo.orderservice.entity.Order;
+import shop.kokodo.orderservice.entity.OrderTicket;
+import shop.kokodo.orderservice.entity.enums.status.OrderTicketStatus;
+import shop.kokodo.orderservice.exception.api.ApiRequestException;
+import shop.kokodo.orderservice.message.ExceptionMessage;
+import shop.kokodo.orderservice.repository.interfaces.OrderTicketRepository;
+import shop.kokodo.orderservice.service.interfaces.IdempotencyService;
+import shop.kokodo.orderservice.service.interfaces.OrderService;
+
+class OrderTicketServiceImplTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long ORDER_ID = 100L;
+
+    // order_ticket 테이블 (조건부 UPDATE 는 쿼리와 같은 조건으로 필드를 바꾼다)
+    private final Map<Long, OrderTicket> table = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong(1);
+    private final OrderTicketRepository orderTicketRepository = mock(OrderTicketRepository.class);
+    private final OrderService orderService = mock(OrderService.class);
+    private final IdempotencyService idempotencyService = mock(IdempotencyService.class);
+    private final List<String> idempotencyKeys = new ArrayList<>();
+    private final Order order = mock(Order.class);
+
+    private OrderTicketServiceImpl orderTicketService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(orderTicketRepository.saveAndFlush(any())).thenAnswer(invocation -> {
+            OrderTicket ticket = invocation.getArgument(0);
+            boolean duplicate = ticket.getIdempotencyKey() != null && table.values().stream()
+                .anyMatch(saved -> saved.getMemberId().equals(ticket.getMemberId())
+                    && ticket.getIdempotencyKey().equals(saved.getIdempotencyKey()));
+            if (duplicate) {
+                throw new DataIntegrityViolationException("uk_order_ticket_member_id_idempotency_key");
+            }
+            ReflectionTestUtils.setField(ticket, "id", sequence.getAndIncrement());
+            table.put(ticket.getId(), ticket);
+            return ticket;
+        });
+        when(orderTicketRepository.findById(anyLong()))
+            .thenAnswer(invocation -> Optional.ofNullable(table.get(invocation.<Long>getArgument(0))));
+        when(orderTicketRepository.findByIdAndMemberId(anyLong(), anyLong())).thenAnswer(invocation ->
+            Optional.ofNullable(table.get(invocation.<Long>getArgument(0)))
+                .filter(ticket -> ticket.getMemberId().equals(invocation.getArgument(1))));
+        when(orderTicketRepository.findFirstByMemberIdAndIdempotencyKey(anyLong(), anyString())).thenAnswer(invocation ->
+            table.values().stream()
+                .filter(ticket -> ticket.getMemberId().equals(invocation.getArgument(0))
+                    && invocation.getArgument(1).equals(ticket.getIdempotencyKey()))
+                .findFirst());
+        when(orderTicketRepository.findClaimableIds(any(), any(), any(), any(Pageable.class))).thenAnswer(invocation ->
+            table.values().stream()
+                .filter(ticket -> isClaimable(ticket, invocation.getArgument(2)))
+                .map(OrderTicket::getId)
+                .sorted()
+                .collect(Collectors.toList()));
+        when(orderTicketRepository.claim(anyLong(), any(), any(), anyString(), any(), any())).thenAnswer(invocation -> {
+            OrderTicket ticket = table.get(invocation.<Long>getArgument(0));
+            if (ticket == null || !isClaimable(ticket, invocation.getArgument(5))) {
+                return 0;
+            }
+            ReflectionTestUtils.setField(ticket, "status", OrderTicketStatus.PROCESSING);
+            ReflectionTestUtils.setField(ticket, "claimToken", invocation.getArgument(3));
+            ReflectionTestUtils.setField(ticket, "claimedAt", invocation.getArgument(4));
+            return 1;
+        });
+        when(orderTicketRepository.complete(anyLong(), any(), anyString(), any(), any(), any())).thenAnswer(invocation -> {
+            OrderTicket ticket = table.get(invocation.<Long>getArgument(0));
+            if (ticket == null || ticket.getStatus() != OrderTicketStatus.PROCESSING
+                || !Objects.equals(ticket.getClaimToken(), invocation.getArgument(2))) {
+                return 0;
+            }
+            ReflectionTestUtils.setField(ticket, "status", invocation.getArgument(3));
+            ReflectionTestUtils.setField(ticket, "orderId", invocation.getArgument(4));
+            ReflectionTestUtils.setField(ticket, "error", invocation.getArgument(5));
+            return 1;
+        });
+
+        when(idempotencyService.execute(anyString(), anyLong(), any())).thenAnswer(invocation -> {
+            idempotencyKeys.add(invocation.getArgument(0));
+            return invocation.<Supplier<Order>>getArgument(2).get();
+        });
+        when(order.getId()).thenReturn(ORDER_ID);
+        when(orderService.orderSingleProduct(any())).thenReturn(order);
+
+        orderTicketService = new OrderTicketServiceImpl(orderTicketRepository, orderService, idempotencyService,
+            new ReadYourWritesWindow(5000, 100), new ShardTemplate(mock(ObjectProvider.class)),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), new ObjectMapper(),
+            2, 20, 60_000, 200);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        orderTicketService.destroy();
+    }
+
+    private static boolean isClaimable(OrderTicket ticket, LocalDateTime staleBefore) {
+        return ticket.getStatus() == OrderTicketStatus.PENDING
+            || (ticket.getStatus() == OrderTicketStatus.PROCESSING && ticket.getClaimedAt().isBefore(staleBefore));
+    }
+
+    private static SingleProductOrderDto singleProductOrder() {
+        return new SingleProductOrderDto(MEMBER_ID, 10L, 20L, 1, null, null);
+    }
+
+    @Test
+    @DisplayName("접수 후 처리되면 티켓 상태가 PENDING -> SUCCESS, 조회 시 주문 아이디 반환")
+    void Input_EnqueuedTicket_Output_SuccessWithOrderId() {
+        OrderTicketDto ticket = orderTicketService.enqueueSingleProduct(null, singleProductOrder());
+        Assertions.assertEquals(OrderTicketStatus.PENDING, orderTicketService.getTicket(MEMBER_ID, ticket.getTicketId()).getStatus());
+
+        Assertions.assertEquals(1, orderTicketService.processTickets());
+
+        OrderTicketDto polled = orderTicketService.getTicket(MEMBER_ID, ticket.getTicketId());
+        Assertions.assertEquals(OrderTicketStatus.SUCCESS, polled.getStatus());
+        Assertions.assertEquals(ORDER_ID, polled.getOrderId());
+        // 클라이언트 키가 없으면 티켓 아이디로 주문 중복을 막는다.
+        Assertions.assertEquals(List.of("ticket-" + ticket.getTicketId()), idempotencyKeys);
+        Assertions.assertEquals(0, orderTicketService.processTickets());
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key 로 다시 접수하면 기존 티켓 반환, 다른 회원은 티켓 조회 불가")
+    void Input_DuplicateEnqueue_Output_SameTicket() {
+        OrderTicketDto first = orderTicketService.enqueueSingleProduct("checkout-1", singleProductOrder());
+        OrderTicketDto second = orderTicketService.enqueueSingleProduct("checkout-1", singleProductOrder());
+
+        Assertions.assertEquals(first.getTicketId(), second.getTicketId());
+        Assertions.assertEquals(1, table.size());
+        ApiRequestException e = Assertions.assertThrows(ApiRequestException.class,
+            () -> orderTicketService.getTicket(2L, first.getTicketId()));
+        Assertions.assertEquals(ExceptionMessage.ORDER_TICKET_NOT_FOUNDED, e.getMessage());
+    }
+
+    @Test
+    @DisplayName("주문이 실패하면 FAILED 와 실패 사유 기록")
+    void Input_OrderFailure_Output_Failed() {
+        when(orderService.orderSingleProduct(any())).thenThrow(new ApiRequestException(ExceptionMessage.OUT_OF_STOCK));
+        OrderTicketDto ticket = orderTicketService.enqueueSingleProduct(null, singleProductOrder());
+
+        orderTicketService.processTickets();
+
+        OrderTicketDto polled = orderTicketService.getTicket(MEMBER_ID, ticket.getTicketId());
+        Assertions.assertEquals(OrderTicketStatus.FAILED, polled.getStatus());
+        Assertions.assertEquals(ExceptionMessage.OUT_OF_STOCK, polled.getError());
+    }
+
+    @Test
+    @DisplayName("처리 중 선점 시간이 지나 다른 워커가 다시 선점하면 이전 워커는 완료를 기록하지 못한다")
+    void Input_ReclaimedWhileProcessing_Output_StaleWorkerFenced() {
+        OrderTicketDto ticket = orderTicketService.enqueueSingleProduct(null, singleProductOrder());
+        LocalDateTime future = LocalDateTime.now().plusHours(1);
+        when(orderService.orderSingleProduct(any())).thenAnswer(invocation -> {
+            // 이전 워커가 주문하는 동안 다른 인스턴스가 재선점
+            orderTicketRepository.claim(ticket.getTicketId(), OrderTicketStatus.PENDING, OrderTicketStatus.PROCESSING,
+                "other-worker", LocalDateTime.now(), future);
+            return order;
+        });
+
+        orderTicketService.processTickets();
+
+        OrderTicket stored = table.get(ticket.getTicketId());
+        Assertions.assertEquals(OrderTicketStatus.PROCESSING, stored.getStatus());
+        Assertions.assertEquals("other-worker", stored.getClaimToken());
+        Assertions.assertNull(stored.getOrderId());
+        Assertions.assertNull(stored.getError());
+    }
+
+    @Test
+    @DisplayName("처리 중으로 멈춘 티켓은 선점 시간이 지나면 다시 처리")
+    void Input_StaleProcessingTicket_Output_Reclaimed() {
+        OrderTicketDto ticket = orderTicketService.enqueueSingleProduct(null, singleProductOrder());
+        OrderTicket stored = table.get(ticket.getTicketId());
+        ReflectionTestUtils.setField(stored, "status", OrderTicketStatus.PROCESSING);
+        ReflectionTestUtils.setField(stored, "claimToken", "dead-worker");
+        ReflectionTestUtils.setField(stored, "claimedAt", LocalDateTime.now().minusMinutes(5));
+
+        Assertions.assertEquals(1, orderTicketService.processTickets());
+
+        Assertions.assertEquals(OrderTicketStatus.SUCCESS, stored.getStatus());
+        Assertions.assertNotEquals("dead-worker", stored.getClaimToken());
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 워커가 아직 주문 중이면 실패로 기록하지 않고 처리 중으로 둔다")
+    void Input_IdempotencyKeyInProgress_Output_LeftProcessing() {
+        when(idempotencyService.execute(anyString(), anyLong(), any()))
+            .thenThrow(new ApiRequestException(ExceptionMessage.IDEMPOTENCY_KEY_IN_PROGRESS));
+        OrderTicketDto ticket = orderTicketService.enqueueSingleProduct(null, singleProductOrder());
+
+        orderTicketService.processTickets();
+
+        Assertions.assertEquals(OrderTicketStatus.PROCESSING, table.get(ticket.getTicketId()).getStatus());
+        Assertions.assertNull(table.get(ticket.getTicketId()).getError());
+    }
+}
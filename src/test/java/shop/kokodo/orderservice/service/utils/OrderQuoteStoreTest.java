@@ -0,0 +1,73 @@
+package shop.kokodo.orderservice.service.utils;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import shop.kokodo.orderservice.entity.Cart;
+import shop.kokodo.orderservice.entity.enums.status.CartStatus;
+import shop.kokodo.orderservice.service.utils.OrderQuoteStore.Quote;
+
+class OrderQuoteStoreTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final List<Long> RATE_COUPON_IDS = List.of(10L);
+    private static final List<Long> FIX_COUPON_IDS = List.of();
+
+    private OrderQuoteStore orderQuoteStore;
+    private List<Cart> carts;
+
+    @BeforeEach
+    void setUp() {
+        orderQuoteStore = new OrderQuoteStore(100, 300);
+        carts = List.of(
+            Cart.create(1L, MEMBER_ID, 100L, 2, CartStatus.IN_CART),
+            Cart.create(2L, MEMBER_ID, 200L, 1, CartStatus.IN_CART));
+    }
+
+    private String saveQuote() {
+        return orderQuoteStore.save(new Quote(MEMBER_ID, carts, RATE_COUPON_IDS, FIX_COUPON_IDS, Map.of(), Map.of(), List.of(), 25000));
+    }
+
+    @Test
+    @DisplayName("장바구니와 쿠폰이 그대로면 견적 재사용 (한 번만)")
+    void Input_UnchangedCart_Output_Quote() {
+        String token = saveQuote();
+
+        Quote quote = orderQuoteStore.take(token, MEMBER_ID, List.of(carts.get(1), carts.get(0)), RATE_COUPON_IDS, FIX_COUPON_IDS);
+
+        Assertions.assertNotNull(quote);
+        Assertions.assertEquals(25000, quote.getTotalPrice());
+        Assertions.assertNull(orderQuoteStore.take(token, MEMBER_ID, carts, RATE_COUPON_IDS, FIX_COUPON_IDS));
+    }
+
+    @Test
+    @DisplayName("견적 이후 수량이 바뀌면 견적 무효")
+    void Input_ChangedQty_Output_Null() {
+        String token = saveQuote();
+        carts.get(0).changeQty(3);
+
+        Assertions.assertNull(orderQuoteStore.take(token, MEMBER_ID, carts, RATE_COUPON_IDS, FIX_COUPON_IDS));
+    }
+
+    @Test
+    @DisplayName("쿠폰이 바뀌면 견적 무효")
+    void Input_ChangedCoupon_Output_Null() {
+        String token = saveQuote();
+
+        Assertions.assertNull(orderQuoteStore.take(token, MEMBER_ID, carts, List.of(), FIX_COUPON_IDS));
+    }
+
+    @Test
+    @DisplayName("다른 회원이거나 위조된 토큰이면 견적 무효")
+    void Input_OtherMemberOrForgedToken_Output_Null() {
+        String token = saveQuote();
+        String forged = token.substring(0, token.indexOf('.')) + ".forged";
+
+        Assertions.assertNull(orderQuoteStore.take(token, 2L, carts, RATE_COUPON_IDS, FIX_COUPON_IDS));
+        Assertions.assertNull(orderQuoteStore.take(forged, MEMBER_ID, carts, RATE_COUPON_IDS, FIX_COUPON_IDS));
+        Assertions.assertNull(orderQuoteStore.take(null, MEMBER_ID, carts, RATE_COUPON_IDS, FIX_COUPON_IDS));
+    }
+}